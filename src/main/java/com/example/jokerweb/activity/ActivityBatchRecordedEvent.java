@@ -0,0 +1,9 @@
+package com.example.jokerweb.activity;
+
+import java.util.List;
+
+/**
+ * 관리자 일괄 조치처럼 한 번에 여러 건을 남기는 활동 이벤트 (커밋 후 배치 INSERT 1번으로 기록)
+ */
+public record ActivityBatchRecordedEvent(List<ActivityRecordedEvent> events) {
+}
@@ -0,0 +1,49 @@
+package com.example.jokerweb.activity;
+
+import com.example.jokerweb.community.BarracksReport;
+import com.example.jokerweb.community.Comment;
+import com.example.jokerweb.community.Post;
+import com.example.jokerweb.member.Member;
+import jakarta.persistence.PostPersist;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 가입/게시글/댓글/신고 저장 시 활동 이벤트 발행
+ * 실제 기록은 커밋 이후에 일어나므로 롤백된 저장은 피드에 남지 않는다.
+ */
+public class ActivityEntityListener {
+
+    private static final String ANONYMOUS = "익명";
+
+    private final ObjectProvider<ActivityFeedService> activityFeedService;
+
+    public ActivityEntityListener(ObjectProvider<ActivityFeedService> activityFeedService) {
+        this.activityFeedService = activityFeedService;
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        activityFeedService.ifAvailable(service -> {
+            switch (entity) {
+                case Member member -> service.record(ActivityType.SIGNUP, member.getId(), member.getNickname(),
+                        member.getId(), null);
+                case Post post -> service.record(ActivityType.POST, memberId(post.getAuthor()),
+                        nickname(post.getAuthor()), post.getId(), post.getTitle());
+                case Comment comment -> service.record(ActivityType.COMMENT, memberId(comment.getAuthor()),
+                        nickname(comment.getAuthor()), comment.getId(), null);
+                case BarracksReport report -> service.record(ActivityType.REPORT, memberId(report.getReporter()),
+                        nickname(report.getReporter()), report.getId(), report.getTargetNickname());
+                default -> {
+                }
+            }
+        });
+    }
+
+    private static Long memberId(Member member) {
+        return member != null ? member.getId() : null;
+    }
+
+    private static String nickname(Member member) {
+        return member != null && member.getNickname() != null ? member.getNickname() : ANONYMOUS;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.jokerweb.activity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 항목 (ActivityEvent의 불변 사본, 링 버퍼와 응답 변환에 사용)
+ */
+public record ActivityEntry(long id, ActivityType type, String actorName, Long targetId,
+                            String summary, LocalDateTime createdAt) {
+
+    static ActivityEntry of(ActivityEvent event) {
+        return new ActivityEntry(event.getId(), ActivityType.fromCode(event.getType()), event.getActorName(),
+                event.getTargetId(), event.getSummary(), event.getCreatedAt());
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.jokerweb.activity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 활동 피드 이벤트 (가입/게시글/댓글/신고/관리자 조치)
+ * 피드는 id 내림차순 키셋으로 읽는다. id는 INSERT 순서라서 여러 스레드/서버가 동시에 기록하면
+ * created_at 순서와 조금 어긋날 수 있다 (피드 표시 순서는 기록 순서 기준).
+ */
+@Entity
+@Table(name = "activity_event", indexes = {
+        @Index(name = "idx_activity_event_type_id", columnList = "type, id"),
+        @Index(name = "idx_activity_event_created", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActivityEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 32)
+    private String type;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Column(name = "actor_name", length = 100)
+    private String actorName;
+
+    @Column(name = "target_id")
+    private Long targetId;
+
+    @Column(length = 255)
+    private String summary;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
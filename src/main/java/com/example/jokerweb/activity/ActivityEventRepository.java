@@ -0,0 +1,28 @@
+package com.example.jokerweb.activity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ActivityEventRepository extends JpaRepository<ActivityEvent, Long> {
+
+    // 키셋 페이지: id < :before (첫 페이지는 Long.MAX_VALUE)
+    @Query("SELECT e FROM ActivityEvent e WHERE e.id < :before ORDER BY e.id DESC")
+    List<ActivityEvent> findBefore(@Param("before") long before, Pageable pageable);
+
+    @Query("SELECT e FROM ActivityEvent e WHERE e.type IN :types AND e.id < :before ORDER BY e.id DESC")
+    List<ActivityEvent> findByTypeInBefore(@Param("types") Collection<String> types,
+                                           @Param("before") long before,
+                                           Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ActivityEvent e WHERE e.createdAt < :cutoff")
+    int deleteByCreatedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,95 @@
+package com.example.jokerweb.activity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 최근 활동 이벤트 링 (id 기준 최신 capacity개)
+ * DB에서 최신 구간을 한 번 읽어 채운(prime) 뒤 이 서버에서 기록한 이벤트를 덧붙인다.
+ * 요청한 페이지를 링 안에서 모두 채울 수 있을 때만 응답하고, 아니면 null을 돌려 DB 조회로 넘긴다.
+ * 다른 서버 인스턴스가 기록한 이벤트는 다음 prime 때 들어온다.
+ */
+final class ActivityFeedRing {
+
+    private final int capacity;
+    private final TreeMap<Long, ActivityEntry> entries = new TreeMap<>();
+    private long primedAtNanos;
+    private boolean primed;
+    // 마지막 prime 시점에 DB 전체가 링 안에 들어왔는지 (더 오래된 이벤트가 없음)
+    private boolean exhaustive;
+
+    ActivityFeedRing(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    synchronized boolean isFresh(long maxAgeNanos, long nowNanos) {
+        return primed && nowNanos - primedAtNanos < maxAgeNanos;
+    }
+
+    /**
+     * DB 최신 구간으로 교체 (읽는 동안 이 서버에서 기록된 더 최신 이벤트는 유지)
+     */
+    synchronized void prime(Collection<ActivityEntry> latest, long nowNanos) {
+        long loadedMax = latest.stream().mapToLong(ActivityEntry::id).max().orElse(0L);
+        TreeMap<Long, ActivityEntry> recent = new TreeMap<>(entries.tailMap(loadedMax, false));
+        entries.clear();
+        latest.forEach(entry -> entries.put(entry.id(), entry));
+        entries.putAll(recent);
+        exhaustive = latest.size() < capacity;
+        trim();
+        primed = true;
+        primedAtNanos = nowNanos;
+    }
+
+    /**
+     * 다음 조회 때 DB에서 다시 채우도록 표시 (id를 모르는 일괄 기록 후)
+     */
+    synchronized void invalidate() {
+        primed = false;
+    }
+
+    synchronized void add(ActivityEntry entry) {
+        if (!primed) {
+            return; // 첫 조회 때 DB에서 함께 읽힌다
+        }
+        entries.put(entry.id(), entry);
+        trim();
+    }
+
+    /**
+     * before보다 작은 id 중 types에 해당하는 최신 limit개, 링으로 답할 수 없으면 null
+     */
+    synchronized List<ActivityEntry> page(Set<ActivityType> types, long before, int limit) {
+        if (!primed) {
+            return null;
+        }
+        List<ActivityEntry> page = new ArrayList<>(limit);
+        for (Map.Entry<Long, ActivityEntry> e : entries.headMap(before, false).descendingMap().entrySet()) {
+            if (types.contains(e.getValue().type())) {
+                page.add(e.getValue());
+                if (page.size() == limit) {
+                    return page;
+                }
+            }
+        }
+        return exhaustive ? page : null;
+    }
+
+    private void trim() {
+        while (entries.size() > capacity) {
+            entries.pollFirstEntry();
+            exhaustive = false;
+        }
+    }
+}
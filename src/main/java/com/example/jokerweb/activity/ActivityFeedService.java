@@ -0,0 +1,219 @@
+package com.example.jokerweb.activity;
+
+import com.example.jokerweb.admin.service.AuthorizationService;
+import com.example.jokerweb.member.Member;
+import com.example.jokerweb.member.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 관리자 대시보드 활동 피드
+ * 도메인 쓰기(가입/게시글/댓글/신고/관리자 조치)가 ActivityRecordedEvent를 발행하면 커밋 후 activity_event에 한 행을 남긴다.
+ * 기록은 전용 activityFeedExecutor에서 하며, 큐가 차면 호출 스레드가 직접 기록해 이벤트를 버리지 않는다.
+ * 피드는 id 내림차순 키셋 페이지로 읽으며, 최신 구간은 메모리 링(ActivityFeedRing)에서 쿼리 없이 답한다.
+ * 링은 ring-refresh-ms마다 DB 최신 구간으로 다시 채워 다른 서버 인스턴스의 이벤트도 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityFeedService {
+
+    private static final int SUMMARY_MAX_LENGTH = 255;
+    private static final String INSERT = """
+            INSERT INTO activity_event (type, actor_id, actor_name, target_id, summary, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final ActivityEventRepository activityEventRepository;
+    private final MemberRepository memberRepository;
+    private final AuthorizationService authorizationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${activity.feed.ring-capacity:500}")
+    private int ringCapacity;
+
+    @Value("${activity.feed.ring-refresh-ms:10000}")
+    private long ringRefreshMs;
+
+    @Value("${activity.feed.retention-days:90}")
+    private int retentionDays;
+
+    private final ReentrantLock primeLock = new ReentrantLock();
+    private ActivityFeedRing ring;
+
+    public record Page(List<ActivityEntry> items, Long nextBefore) {
+    }
+
+    /**
+     * 일괄 조치 기록 1건 (대상 id, 요약)
+     */
+    public record Moderation(Long targetId, String summary) {
+    }
+
+    @PostConstruct
+    void init() {
+        ring = new ActivityFeedRing(ringCapacity);
+    }
+
+    /**
+     * 활동 기록 요청 (트랜잭션 안이면 커밋 후, 밖이면 즉시 기록)
+     */
+    public void record(ActivityType type, Long actorId, String actorName, Long targetId, String summary) {
+        eventPublisher.publishEvent(new ActivityRecordedEvent(type, actorId, actorName, targetId,
+                truncate(summary), LocalDateTime.now()));
+    }
+
+    /**
+     * 현재 로그인한 관리자의 조치 기록
+     */
+    public void recordModeration(String summary, Long targetId) {
+        record(ActivityType.MODERATION, authorizationService.getCurrentUserId(), null, targetId, summary);
+    }
+
+    /**
+     * 현재 로그인한 관리자의 일괄 조치 기록 (건수와 상관없이 이벤트 1개, 커밋 후 배치 INSERT 1번)
+     */
+    public void recordModerations(List<Moderation> moderations) {
+        if (moderations.isEmpty()) {
+            return;
+        }
+        Long actorId = authorizationService.getCurrentUserId();
+        LocalDateTime now = LocalDateTime.now();
+        eventPublisher.publishEvent(new ActivityBatchRecordedEvent(moderations.stream()
+                .map(m -> new ActivityRecordedEvent(ActivityType.MODERATION, actorId, null, m.targetId(),
+                        truncate(m.summary()), now))
+                .toList()));
+    }
+
+    @Async("activityFeedExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBatchRecorded(ActivityBatchRecordedEvent batch) {
+        try {
+            List<Long> actorIds = batch.events().stream()
+                    .filter(event -> event.actorName() == null)
+                    .map(ActivityRecordedEvent::actorId)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+            Map<Long, String> names = new HashMap<>();
+            if (!actorIds.isEmpty()) {
+                memberRepository.findAllById(actorIds).forEach(member -> names.put(member.getId(), member.getNickname()));
+            }
+            List<Object[]> rows = new ArrayList<>(batch.events().size());
+            for (ActivityRecordedEvent event : batch.events()) {
+                String actorName = event.actorName() != null ? event.actorName() : names.get(event.actorId());
+                rows.add(new Object[]{event.type().code(), event.actorId(), actorName, event.targetId(),
+                        event.summary(), Timestamp.valueOf(event.occurredAt())});
+            }
+            jdbcTemplate.batchUpdate(INSERT, rows);
+            // 배치 INSERT는 생성된 id를 돌려받지 않으므로 링은 다음 조회 때 DB에서 다시 채운다
+            ring.invalidate();
+        } catch (Exception e) {
+            log.warn("활동 이벤트 일괄 기록 실패: size={}, error={}", batch.events().size(), e.getMessage());
+        }
+    }
+
+    @Async("activityFeedExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecorded(ActivityRecordedEvent event) {
+        try {
+            String actorName = event.actorName();
+            if (actorName == null && event.actorId() != null) {
+                actorName = memberRepository.findById(event.actorId()).map(Member::getNickname).orElse(null);
+            }
+            ActivityEvent saved = activityEventRepository.save(ActivityEvent.builder()
+                    .type(event.type().code())
+                    .actorId(event.actorId())
+                    .actorName(actorName)
+                    .targetId(event.targetId())
+                    .summary(event.summary())
+                    .createdAt(event.occurredAt())
+                    .build());
+            ring.add(ActivityEntry.of(saved));
+        } catch (Exception e) {
+            // 피드는 부가 기능이므로 기록 실패가 원래 요청에 영향을 주지 않게 한다
+            log.warn("활동 이벤트 기록 실패: type={}, targetId={}, error={}", event.type(), event.targetId(), e.getMessage());
+        }
+    }
+
+    /**
+     * before(id)보다 오래된 이벤트 중 types에 해당하는 최신 size개 (before가 null이면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public Page feed(Set<ActivityType> types, Long before, int size) {
+        Set<ActivityType> filter = types == null || types.isEmpty() ? EnumSet.allOf(ActivityType.class) : types;
+        long cursor = before != null ? before : Long.MAX_VALUE;
+        int limit = size + 1; // 다음 페이지 존재 여부 확인용 1건 더
+
+        List<ActivityEntry> rows = fromRing(filter, cursor, limit);
+        if (rows == null) {
+            rows = query(filter, cursor, limit);
+        }
+        boolean hasMore = rows.size() > size;
+        List<ActivityEntry> items = hasMore ? List.copyOf(rows.subList(0, size)) : List.copyOf(rows);
+        return new Page(items, hasMore ? items.get(items.size() - 1).id() : null);
+    }
+
+    // 매일 새벽 4시 40분: 보관 기간이 지난 이벤트 삭제
+    @Scheduled(cron = "0 40 4 * * *")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = activityEventRepository.deleteByCreatedAtBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("만료된 활동 이벤트 삭제: {}건", deleted);
+        }
+    }
+
+    private List<ActivityEntry> fromRing(Set<ActivityType> types, long cursor, int limit) {
+        long now = System.nanoTime();
+        long maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(ringRefreshMs);
+        if (!ring.isFresh(maxAgeNanos, now)) {
+            primeLock.lock();
+            try {
+                if (!ring.isFresh(maxAgeNanos, now)) {
+                    ring.prime(query(EnumSet.allOf(ActivityType.class), Long.MAX_VALUE, ring.capacity()), System.nanoTime());
+                }
+            } finally {
+                primeLock.unlock();
+            }
+        }
+        return ring.page(types, cursor, limit);
+    }
+
+    private List<ActivityEntry> query(Set<ActivityType> types, long cursor, int limit) {
+        PageRequest page = PageRequest.ofSize(limit);
+        List<ActivityEvent> events = types.size() == ActivityType.values().length
+                ? activityEventRepository.findBefore(cursor, page)
+                : activityEventRepository.findByTypeInBefore(types.stream().map(ActivityType::code).toList(), cursor, page);
+        return events.stream().map(ActivityEntry::of).toList();
+    }
+
+    private static String truncate(String summary) {
+        if (summary == null || summary.length() <= SUMMARY_MAX_LENGTH) {
+            return summary;
+        }
+        return summary.substring(0, SUMMARY_MAX_LENGTH);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.jokerweb.activity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 쓰기에서 발행하는 활동 이벤트 (커밋 후 ActivityFeedService가 activity_event에 기록)
+ * actorName이 없고 actorId가 있으면 기록 시 회원 닉네임으로 채운다.
+ */
+public record ActivityRecordedEvent(ActivityType type, Long actorId, String actorName, Long targetId,
+                                    String summary, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,64 @@
+package com.example.jokerweb.activity;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 활동 피드 이벤트 종류 (activity_event.type 값은 code)
+ */
+public enum ActivityType {
+    SIGNUP("member", "새 회원 가입", "emerald"),
+    POST("post", "새 게시글 작성", "blue"),
+    COMMENT("comment", "새 댓글 작성", "sky"),
+    REPORT("report", "병영신고 접수", "red"),
+    MODERATION("moderation", "관리자 조치", "amber");
+
+    private final String code;
+    private final String title;
+    private final String color;
+
+    ActivityType(String code, String title, String color) {
+        this.code = code;
+        this.title = title;
+        this.color = color;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public String title() {
+        return title;
+    }
+
+    public String color() {
+        return color;
+    }
+
+    public static ActivityType fromCode(String code) {
+        String normalized = code == null ? "" : code.trim().toLowerCase(Locale.ROOT);
+        for (ActivityType type : values()) {
+            if (type.code.equals(normalized)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 활동 종류입니다: " + code);
+    }
+
+    /**
+     * 쉼표로 구분된 종류 목록 (비어 있으면 전체)
+     */
+    public static Set<ActivityType> parse(String codes) {
+        if (codes == null || codes.isBlank()) {
+            return EnumSet.allOf(ActivityType.class);
+        }
+        Set<ActivityType> types = EnumSet.noneOf(ActivityType.class);
+        for (String code : codes.split(",")) {
+            if (!code.isBlank()) {
+                types.add(fromCode(code));
+            }
+        }
+        return types.isEmpty() ? EnumSet.allOf(ActivityType.class) : types;
+    }
+}
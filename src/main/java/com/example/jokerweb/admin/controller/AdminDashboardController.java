@@ -97,7 +97,7 @@ public class AdminDashboardController {
             @RequestParam(defaultValue = "10") int limit
     ) {
         try {
-            List<RecentActivity> activities = dashboardService.getRecentActivities(limit);
+            List<RecentActivity> activities = dashboardService.getRecentActivities(Math.min(Math.max(limit, 1), 50));
             return ResponseEntity.ok(activities);
         } catch (Exception e) {
             // 예외 발생 시 빈 리스트 반환하여 다른 기능은 정상 작동하도록
@@ -105,4 +105,14 @@ public class AdminDashboardController {
             return ResponseEntity.ok(java.util.Collections.emptyList());
         }
     }
+    
+    // 활동 피드 키셋 페이지 (types 예: post,comment / before: 이전 응답의 nextBefore)
+    @GetMapping("/activities/feed")
+    public ResponseEntity<ActivityFeedResponse> getActivityFeed(
+            @RequestParam(required = false) String types,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(dashboardService.getActivityFeed(types, before, Math.min(Math.max(size, 1), 50)));
+    }
 }
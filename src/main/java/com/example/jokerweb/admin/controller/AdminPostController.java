@@ -1,5 +1,7 @@
 package com.example.jokerweb.admin.controller;
 
+import com.example.jokerweb.admin.dto.BulkModerationRequest;
+import com.example.jokerweb.admin.dto.BulkModerationResponse;
 import com.example.jokerweb.admin.dto.PostDetailResponse;
 import com.example.jokerweb.admin.dto.PostListResponse;
 import com.example.jokerweb.admin.service.AdminPostService;
@@ -32,6 +34,12 @@ public class AdminPostController {
         return ResponseEntity.ok(posts);
     }
     
+    @PostMapping("/search-index/rebuild")
+    public ResponseEntity<Void> rebuildSearchIndex() {
+        postService.rebuildSearchIndex();
+        return ResponseEntity.accepted().build();
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<PostDetailResponse> getPostDetail(@PathVariable Long id) {
         PostDetailResponse post = postService.getPostDetail(id);
@@ -53,6 +61,12 @@ public class AdminPostController {
         return ResponseEntity.ok().build();
     }
     
+    // 여러 게시글 일괄 삭제 (action: delete)
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkModerationResponse> bulkModerate(@RequestBody BulkModerationRequest request) {
+        return ResponseEntity.ok(postService.bulkModerate(request));
+    }
+    
     @PostMapping("/{id}/restore")
     public ResponseEntity<Void> restorePost(@PathVariable Long id) {
         postService.restorePost(id);
@@ -1,5 +1,7 @@
 package com.example.jokerweb.admin.controller;
 
+import com.example.jokerweb.admin.dto.BulkModerationRequest;
+import com.example.jokerweb.admin.dto.BulkModerationResponse;
 import com.example.jokerweb.admin.dto.ContentReportDetailResponse;
 import com.example.jokerweb.admin.dto.ContentReportListResponse;
 import com.example.jokerweb.admin.dto.ProcessContentReportRequest;
@@ -69,4 +71,10 @@ public class AdminReportController {
         reportService.rejectReport(id, request);
         return ResponseEntity.ok().build();
     }
+    
+    // 여러 신고 일괄 승인/반려 (action: approve, reject)
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkModerationResponse> bulkProcessReports(@RequestBody BulkModerationRequest request) {
+        return ResponseEntity.ok(reportService.bulkProcessReports(request));
+    }
 }
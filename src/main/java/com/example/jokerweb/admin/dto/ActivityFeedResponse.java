@@ -0,0 +1,17 @@
+package com.example.jokerweb.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityFeedResponse {
+    private List<RecentActivity> items;
+    private Long nextBefore; // 다음 페이지 요청 시 before로 전달 (없으면 마지막 페이지)
+}
@@ -0,0 +1,18 @@
+package com.example.jokerweb.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkModerationRequest {
+    private List<Long> ids; // 신고 id 또는 게시글 id
+    private String action; // 신고: approve, reject / 게시글: delete
+    private String reason; // 처리 사유
+    private String adminNotes; // 관리자 메모
+}
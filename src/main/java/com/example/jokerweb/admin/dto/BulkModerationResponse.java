@@ -0,0 +1,17 @@
+package com.example.jokerweb.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkModerationResponse {
+    private int requested; // 요청한 id 수 (중복 제외)
+    private int processed; // 실제로 처리된 수
+    private List<Long> skippedIds; // 없거나 이미 처리된 id
+}
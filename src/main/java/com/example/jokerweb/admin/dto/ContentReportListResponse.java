@@ -14,6 +14,8 @@ public class ContentReportListResponse {
     private Long id;
     private String targetType; // post, comment
     private Long targetId;
+    private String targetTitle;
+    private String targetAuthor;
     private String reportReason; // spam, abuse, harassment, illegal, inappropriate, other
     private String reporter;
     private LocalDateTime reportedAt;
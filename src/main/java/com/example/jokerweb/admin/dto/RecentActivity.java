@@ -5,14 +5,20 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class RecentActivity {
+    private Long id;
     private String type;
     private String title;
     private String user;
+    private String summary;
+    private Long targetId;
+    private LocalDateTime createdAt;
     private String time;
     private String color;
 }
@@ -4,6 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +26,15 @@ public interface MemberRoleRepository extends JpaRepository<MemberRole, Long> {
            "JOIN MemberRole mr ON rp.roleId = mr.roleId " +
            "WHERE mr.memberId = :memberId AND mr.isActive = true")
     List<Permission> findPermissionsByMemberId(@Param("memberId") Long memberId);
+    
+    // 여러 회원의 역할을 한 번에 조회 (권한 스냅샷 일괄 로딩용)
+    @Query("SELECT mr FROM MemberRole mr LEFT JOIN FETCH mr.roleEntity WHERE mr.memberId IN :memberIds AND mr.isActive = true ORDER BY mr.id")
+    List<MemberRole> findActiveRolesByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+    
+    // 여러 회원의 권한을 (memberId, resource, action) 행으로 한 번에 조회
+    @Query("SELECT mr.memberId, p.resource, p.action FROM Permission p " +
+           "JOIN RolePermission rp ON p.id = rp.permissionId " +
+           "JOIN MemberRole mr ON rp.roleId = mr.roleId " +
+           "WHERE mr.memberId IN :memberIds AND mr.isActive = true")
+    List<Object[]> findPermissionsByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
 }
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +18,9 @@ public interface MemberSuspensionRepository extends JpaRepository<MemberSuspensi
     Optional<MemberSuspension> findActiveSuspension(@Param("memberId") Long memberId, @Param("now") LocalDateTime now);
     
     List<MemberSuspension> findByMemberIdOrderBySuspendedAtDesc(Long memberId);
+    
+    @Query("SELECT ms FROM MemberSuspension ms WHERE ms.memberId IN :memberIds " +
+           "AND ms.releasedAt IS NULL " +
+           "AND (ms.expiresAt IS NULL OR ms.expiresAt > :now)")
+    List<MemberSuspension> findActiveSuspensions(@Param("memberIds") Collection<Long> memberIds, @Param("now") LocalDateTime now);
 }
@@ -1,5 +1,6 @@
 package com.example.jokerweb.admin.service;
 
+import com.example.jokerweb.activity.ActivityFeedService;
 import com.example.jokerweb.admin.dto.BarracksReportDetailResponse;
 import com.example.jokerweb.admin.dto.BarracksReportListResponse;
 import com.example.jokerweb.admin.dto.ProcessBarracksReportRequest;
@@ -21,6 +22,7 @@ public class AdminBarracksReportService {
     private final BarracksReportRepository reportRepository;
     private final MemberRepository memberRepository;
     private final AuthorizationService authorizationService;
+    private final ActivityFeedService activityFeedService;
     
     public Page<BarracksReportListResponse> getReports(
             String reportType,
@@ -103,6 +105,8 @@ public class AdminBarracksReportService {
         report.setProcessedBy(admin);
         
         reportRepository.save(report);
+        activityFeedService.recordModeration(
+                "병영신고 처리 (" + request.getStatus() + "): " + report.getTargetNickname(), reportId);
         
         // 조치 처리 (warning, suspend 등)
         if ("suspend".equals(request.getAction()) && report.getReporter() != null) {
@@ -5,11 +5,19 @@ import com.example.jokerweb.admin.dto.CreateCategoryRequest;
 import com.example.jokerweb.admin.dto.ReorderCategoriesRequest;
 import com.example.jokerweb.admin.dto.UpdateCategoryRequest;
 import com.example.jokerweb.community.Category;
+import com.example.jokerweb.community.CategoryChangedEvent;
 import com.example.jokerweb.community.CategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,6 +27,8 @@ public class AdminCategoryService {
     
     private final CategoryRepository categoryRepository;
     private final AuthorizationService authorizationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
     
     public List<CategoryListResponse> getAllCategories() {
         List<Category> categories = categoryRepository.findAllByOrderByDisplayOrderAsc();
@@ -76,6 +86,7 @@ public class AdminCategoryService {
                 .build();
         
         Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(saved.getId()));
         
         return CategoryListResponse.builder()
                 .id(saved.getId())
@@ -122,6 +133,7 @@ public class AdminCategoryService {
         }
         
         Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(saved.getId()));
         
         return CategoryListResponse.builder()
                 .id(saved.getId())
@@ -147,6 +159,7 @@ public class AdminCategoryService {
         // 여기서는 단순히 삭제
         
         categoryRepository.delete(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
     }
     
     @Transactional
@@ -161,21 +174,29 @@ public class AdminCategoryService {
             throw new RuntimeException("카테고리 ID 목록이 필요합니다");
         }
         
+        if (new HashSet<>(categoryIds).size() != categoryIds.size()) {
+            throw new RuntimeException("중복된 카테고리 ID가 있습니다");
+        }
+        
         // 모든 카테고리가 존재하는지 확인
-        List<Category> categories = categoryRepository.findAllById(categoryIds);
-        if (categories.size() != categoryIds.size()) {
+        if (categoryRepository.countByIdIn(categoryIds) != categoryIds.size()) {
             throw new RuntimeException("일부 카테고리를 찾을 수 없습니다");
         }
         
-        // 순서대로 displayOrder 업데이트
+        // 순서대로 displayOrder 업데이트 (CASE 식으로 한 번에)
+        StringBuilder sql = new StringBuilder("UPDATE category SET display_order = CASE id");
+        List<Object> args = new ArrayList<>(categoryIds.size() * 3 + 1);
         for (int i = 0; i < categoryIds.size(); i++) {
-            Long categoryId = categoryIds.get(i);
-            Category category = categories.stream()
-                    .filter(c -> c.getId().equals(categoryId))
-                    .findFirst()
-                    .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다: " + categoryId));
-            category.setDisplayOrder(i + 1);
-            categoryRepository.save(category);
+            sql.append(" WHEN ? THEN ?");
+            args.add(categoryIds.get(i));
+            args.add(i + 1);
         }
+        sql.append(" END, updated_at = ? WHERE id IN (")
+                .append(String.join(", ", Collections.nCopies(categoryIds.size(), "?")))
+                .append(")");
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        args.addAll(categoryIds);
+        jdbcTemplate.update(sql.toString(), args.toArray());
+        eventPublisher.publishEvent(CategoryChangedEvent.all());
     }
 }
@@ -5,9 +5,11 @@ import com.example.jokerweb.admin.dto.ClanDetailResponse;
 import com.example.jokerweb.admin.dto.ClanListResponse;
 import com.example.jokerweb.admin.dto.SuspendClanRequest;
 import com.example.jokerweb.clan.Clan;
+import com.example.jokerweb.clan.ClanDirectoryService;
 import com.example.jokerweb.clan.ClanRepository;
 import com.example.jokerweb.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -85,6 +87,7 @@ public class AdminClanService {
     }
     
     @Transactional
+    @CacheEvict(cacheNames = ClanDirectoryService.CACHE, allEntries = true)
     public void suspendClan(Long clanId, SuspendClanRequest request) {
         Clan clan = clanRepository.findById(clanId)
                 .orElseThrow(() -> new RuntimeException("클랜을 찾을 수 없습니다: " + clanId));
@@ -105,6 +108,7 @@ public class AdminClanService {
     }
     
     @Transactional
+    @CacheEvict(cacheNames = ClanDirectoryService.CACHE, allEntries = true)
     public void releaseClan(Long clanId) {
         Clan clan = clanRepository.findById(clanId)
                 .orElseThrow(() -> new RuntimeException("클랜을 찾을 수 없습니다: " + clanId));
@@ -122,6 +126,7 @@ public class AdminClanService {
     }
     
     @Transactional
+    @CacheEvict(cacheNames = ClanDirectoryService.CACHE, allEntries = true)
     public void deleteClan(Long clanId, String reason) {
         Clan clan = clanRepository.findById(clanId)
                 .orElseThrow(() -> new RuntimeException("클랜을 찾을 수 없습니다: " + clanId));
@@ -139,6 +144,7 @@ public class AdminClanService {
     }
     
     @Transactional
+    @CacheEvict(cacheNames = ClanDirectoryService.CACHE, allEntries = true)
     public void changeMaster(Long clanId, ChangeClanMasterRequest request) {
         Clan clan = clanRepository.findById(clanId)
                 .orElseThrow(() -> new RuntimeException("클랜을 찾을 수 없습니다: " + clanId));
@@ -1,11 +1,14 @@
 package com.example.jokerweb.admin.service;
 
+import com.example.jokerweb.activity.ActivityFeedService;
+import com.example.jokerweb.activity.ActivityType;
 import com.example.jokerweb.admin.dto.*;
 import com.example.jokerweb.community.BarracksReportRepository;
-import com.example.jokerweb.community.CommentRepository;
 import com.example.jokerweb.community.PostRepository;
-import com.example.jokerweb.logging.AccessLogRepository;
-import com.example.jokerweb.member.MemberRepository;
+import com.example.jokerweb.stats.TrafficGranularity;
+import com.example.jokerweb.stats.TrafficMetric;
+import com.example.jokerweb.stats.TrafficRollupService;
+import com.example.jokerweb.stats.TrafficRollupService.UniqueKind;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,37 +18,38 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdminDashboardService {
     
-    private final MemberRepository memberRepository;
-    private final AccessLogRepository accessLogRepository;
     private final BarracksReportRepository barracksReportRepository;
     private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
+    private final TrafficRollupService trafficRollupService;
+    private final ActivityFeedService activityFeedService;
     
     public DashboardStatsResponse getStats(String period) {
         try {
             LocalDateTime startDate = getStartDate(period);
             LocalDateTime endDate = LocalDateTime.now();
+            // 기간 시작은 항상 자정이므로 일 단위 롤업으로 집계 (오늘 버킷까지 포함)
+            LocalDateTime rollupEnd = TrafficGranularity.DAY.next(TrafficGranularity.DAY.bucketOf(endDate));
             
-            Long newMembers = safeCount(() -> memberRepository.countByCreatedAtBetween(startDate, endDate));
-            Long activeUsers = safeCount(() -> getActiveUsersCount(startDate, endDate));
-            Long posts = safeCount(() -> getPostsCount(startDate, endDate));
-            Long comments = safeCount(() -> getCommentsCount(startDate, endDate));
-            Long barracksReports = safeCount(() -> barracksReportRepository.countByCreatedAtBetween(startDate, endDate));
+            Long newMembers = safeCount(() -> dailySum(TrafficMetric.SIGNUP, startDate, rollupEnd));
+            Long activeUsers = safeCount(() -> dailyUniques(UniqueKind.MEMBER, startDate, rollupEnd));
+            Long posts = safeCount(() -> dailySum(TrafficMetric.POST, startDate, rollupEnd));
+            Long comments = safeCount(() -> dailySum(TrafficMetric.COMMENT, startDate, rollupEnd));
+            Long barracksReports = safeCount(() -> dailySum(TrafficMetric.REPORT, startDate, rollupEnd));
             Long processedReports = safeCount(() -> barracksReportRepository.countByStatusAndProcessedAtBetween("completed", startDate, endDate));
             
             // 방문자 통계 (PV/UV)
-            Long visitorsPv = safeCount(() -> getPageViews(startDate, endDate));
-            Long visitorsUv = safeCount(() -> getUniqueVisitors(startDate, endDate));
+            Long visitorsPv = safeCount(() -> dailySum(TrafficMetric.PAGE_VIEW, startDate, rollupEnd));
+            Long visitorsUv = safeCount(() -> dailyUniques(UniqueKind.VISITOR, startDate, rollupEnd));
             
             // 가입률 계산
-            Double signupRate = safeCalculate(() -> calculateSignupRate(startDate, endDate));
+            Double signupRate = safeCalculate(() -> calculateSignupRate(newMembers, visitorsUv));
             
             // 처리 대기 중인 신고 수
             Long pendingReports = safeCount(() -> barracksReportRepository.countByStatusAndIsDeletedFalse("pending"));
@@ -108,20 +112,15 @@ public class AdminDashboardService {
     
     public List<HourlyAccessData> getHourlyAccessData() {
         try {
-            LocalDateTime now = LocalDateTime.now();
-            LocalDateTime startOfDay = now.with(LocalTime.MIN);
+            LocalDateTime startOfDay = LocalDateTime.now().with(LocalTime.MIN);
+            Map<LocalDateTime, Long> hourly = trafficRollupService.series(
+                    TrafficMetric.PAGE_VIEW, TrafficGranularity.HOUR, startOfDay, startOfDay.plusDays(1));
             
             List<HourlyAccessData> data = new ArrayList<>();
-            for (int hour = 0; hour < 24; hour++) {
-                LocalDateTime hourStart = startOfDay.plusHours(hour);
-                LocalDateTime hourEnd = hourStart.plusHours(1);
-                
-                Long count = getAccessCountByHour(hourStart, hourEnd);
-                data.add(HourlyAccessData.builder()
-                        .time(String.format("%02d", hour))
-                        .users(count != null ? count : 0L)
-                        .build());
-            }
+            hourly.forEach((hourStart, count) -> data.add(HourlyAccessData.builder()
+                    .time(String.format("%02d", hourStart.getHour()))
+                    .users(count)
+                    .build()));
             return data;
         } catch (Exception e) {
             log.error("Failed to get hourly access data", e);
@@ -141,20 +140,14 @@ public class AdminDashboardService {
         try {
             LocalDate endDate = LocalDate.now();
             LocalDate startDate = endDate.minusDays(days - 1);
+            Map<LocalDateTime, Long> daily = trafficRollupService.series(
+                    TrafficMetric.SIGNUP, TrafficGranularity.DAY, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
             
             List<DailySignupData> data = new ArrayList<>();
-            LocalDate current = startDate;
-            while (!current.isAfter(endDate)) {
-                LocalDateTime dayStart = current.atStartOfDay();
-                LocalDateTime dayEnd = current.plusDays(1).atStartOfDay();
-                
-                Long count = memberRepository.countByCreatedAtBetween(dayStart, dayEnd);
-                data.add(DailySignupData.builder()
-                        .date(current.format(DateTimeFormatter.ofPattern("M일")))
-                        .count(count != null ? count : 0L)
-                        .build());
-                current = current.plusDays(1);
-            }
+            daily.forEach((dayStart, count) -> data.add(DailySignupData.builder()
+                    .date(dayStart.format(DateTimeFormatter.ofPattern("M일")))
+                    .count(count)
+                    .build()));
             return data;
         } catch (Exception e) {
             log.error("Failed to get daily signup data", e);
@@ -254,80 +247,35 @@ public class AdminDashboardService {
         }
     }
     
+    /**
+     * 최근 활동 (활동 피드 첫 페이지, 최신순)
+     */
     public List<RecentActivity> getRecentActivities(int limit) {
-        // 최근 활동 조회 (가입, 게시글, 댓글, 신고 등)
-        List<RecentActivity> activities = new ArrayList<>();
-        
-        try {
-            // 최근 가입 회원
-            int itemsPerType = Math.max(1, limit / 3); // 각 타입별로 균등 분배
-            List<Object[]> recentMembers = getRecentMembers(itemsPerType);
-            for (Object[] member : recentMembers) {
-                if (member != null && member.length >= 2 && member[0] != null) {
-                    activities.add(RecentActivity.builder()
-                            .type("member")
-                            .title("새 회원 가입")
-                            .user((String) member[0])
-                            .time(formatTimeAgo((LocalDateTime) member[1]))
-                            .color("emerald")
-                            .build());
-                }
-            }
-        } catch (Exception e) {
-            // 에러 발생 시 해당 타입만 제외하고 계속 진행
-            log.warn("Failed to fetch recent members: {}", e.getMessage());
-        }
-        
-        try {
-            // 최근 게시글
-            int itemsPerType = Math.max(1, limit / 3);
-            List<Object[]> recentPosts = getRecentPosts(itemsPerType);
-            for (Object[] post : recentPosts) {
-                if (post != null && post.length >= 2 && post[0] != null) {
-                    activities.add(RecentActivity.builder()
-                            .type("post")
-                            .title("새 게시글 작성")
-                            .user((String) post[0])
-                            .time(formatTimeAgo((LocalDateTime) post[1]))
-                            .color("blue")
-                            .build());
-                }
-            }
-        } catch (Exception e) {
-            log.warn("Failed to fetch recent posts: {}", e.getMessage());
-        }
-        
-        try {
-            // 최근 신고
-            int itemsPerType = Math.max(1, limit / 3);
-            List<Object[]> recentReports = getRecentReports(itemsPerType);
-            for (Object[] report : recentReports) {
-                if (report != null && report.length >= 2 && report[0] != null) {
-                    activities.add(RecentActivity.builder()
-                            .type("report")
-                            .title("병영신고 접수")
-                            .user((String) report[0])
-                            .time(formatTimeAgo((LocalDateTime) report[1]))
-                            .color("red")
-                            .build());
-                }
-            }
-        } catch (Exception e) {
-            log.warn("Failed to fetch recent reports: {}", e.getMessage());
-        }
-        
-        // 빈 리스트일 경우 정렬하지 않고 바로 반환
-        if (activities.isEmpty()) {
-            log.debug("No recent activities found");
-            return activities;
-        }
-        
-        // 시간 순으로 정렬하여 최신순으로 반환
-        // formatTimeAgo는 "방금 전", "N분 전", "N시간 전", "N일 전" 형식
-        // 간단한 정렬을 위해 생성된 순서대로 반환 (이미 시간 순서대로 조회됨)
-        return activities.stream()
-                .limit(limit)
-                .collect(Collectors.toList());
+        return getActivityFeed(null, null, limit).getItems();
+    }
+    
+    /**
+     * 활동 피드 키셋 페이지 (types: 쉼표 구분 종류 코드, before: 이전 페이지의 nextBefore)
+     */
+    public ActivityFeedResponse getActivityFeed(String types, Long before, int size) {
+        ActivityFeedService.Page page = activityFeedService.feed(ActivityType.parse(types), before, size);
+        LocalDateTime now = LocalDateTime.now();
+        return ActivityFeedResponse.builder()
+                .items(page.items().stream()
+                        .map(entry -> RecentActivity.builder()
+                                .id(entry.id())
+                                .type(entry.type().code())
+                                .title(entry.type().title())
+                                .user(entry.actorName())
+                                .summary(entry.summary())
+                                .targetId(entry.targetId())
+                                .createdAt(entry.createdAt())
+                                .time(formatTimeAgo(entry.createdAt(), now))
+                                .color(entry.type().color())
+                                .build())
+                        .toList())
+                .nextBefore(page.nextBefore())
+                .build();
     }
     
     private LocalDateTime getStartDate(String period) {
@@ -340,60 +288,27 @@ public class AdminDashboardService {
         };
     }
     
-    private Long getActiveUsersCount(LocalDateTime start, LocalDateTime end) {
-        // 최근 접속한 사용자 수 (AccessLog 기반)
-        return accessLogRepository.countDistinctMemberIdByCreatedAtBetween(start, end);
-    }
-    
-    private Long getPostsCount(LocalDateTime start, LocalDateTime end) {
-        return postRepository.countByCreatedAtBetween(start, end);
-    }
-    
-    private Long getCommentsCount(LocalDateTime start, LocalDateTime end) {
-        return commentRepository.countByCreatedAtBetween(start, end);
+    private Long dailySum(TrafficMetric metric, LocalDateTime start, LocalDateTime end) {
+        return trafficRollupService.sum(metric, TrafficGranularity.DAY, start, end);
     }
     
-    private Long getPageViews(LocalDateTime start, LocalDateTime end) {
-        return accessLogRepository.countByCreatedAtBetween(start, end);
+    private Long dailyUniques(UniqueKind kind, LocalDateTime start, LocalDateTime end) {
+        // 최근 접속한 사용자/방문자 수 (일별 HyperLogLog 합집합 추정치)
+        return trafficRollupService.uniques(kind, TrafficGranularity.DAY, start, end);
     }
     
-    private Long getUniqueVisitors(LocalDateTime start, LocalDateTime end) {
-        return accessLogRepository.countDistinctIpAddressByCreatedAtBetween(start, end);
-    }
-    
-    private Double calculateSignupRate(LocalDateTime start, LocalDateTime end) {
-        Long newMembers = memberRepository.countByCreatedAtBetween(start, end);
-        Long totalVisitors = getUniqueVisitors(start, end);
+    private Double calculateSignupRate(Long newMembers, Long totalVisitors) {
         if (totalVisitors == 0) {
             return 0.0;
         }
         return (newMembers.doubleValue() / totalVisitors.doubleValue()) * 100;
     }
     
-    private Long getAccessCountByHour(LocalDateTime start, LocalDateTime end) {
-        // 시간대별 접속 수는 occurredAt 기반으로 조회 (AccessLog의 occurredAt 필드 사용)
-        return accessLogRepository.countByOccurredAtBetween(start, end);
-    }
-    
     private List<Object[]> getPostsByCategory() {
         return postRepository.countByCategory();
     }
     
-    private List<Object[]> getRecentMembers(int limit) {
-        return memberRepository.findRecentMembers(limit);
-    }
-    
-    private List<Object[]> getRecentPosts(int limit) {
-        return postRepository.findRecentPosts(limit);
-    }
-    
-    private List<Object[]> getRecentReports(int limit) {
-        // 최근 신고 조회
-        return barracksReportRepository.findRecentReports(limit);
-    }
-    
-    private String formatTimeAgo(LocalDateTime dateTime) {
-        LocalDateTime now = LocalDateTime.now();
+    private String formatTimeAgo(LocalDateTime dateTime, LocalDateTime now) {
         long minutes = java.time.Duration.between(dateTime, now).toMinutes();
         
         if (minutes < 1) {
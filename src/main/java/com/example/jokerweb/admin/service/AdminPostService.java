@@ -1,17 +1,24 @@
 package com.example.jokerweb.admin.service;
 
+import com.example.jokerweb.activity.ActivityFeedService;
+import com.example.jokerweb.admin.dto.BulkModerationRequest;
+import com.example.jokerweb.admin.dto.BulkModerationResponse;
 import com.example.jokerweb.admin.dto.PostDetailResponse;
 import com.example.jokerweb.admin.dto.PostListResponse;
 import com.example.jokerweb.community.CommentRepository;
 import com.example.jokerweb.community.ContentReportRepository;
+import com.example.jokerweb.community.PopularPostService;
 import com.example.jokerweb.community.Post;
 import com.example.jokerweb.community.PostRepository;
+import com.example.jokerweb.community.PostSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +27,10 @@ public class AdminPostService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final ContentReportRepository contentReportRepository;
+    private final PostSearchService postSearchService;
+    private final PopularPostService popularPostService;
+    private final ModerationLookup moderationLookup;
+    private final ActivityFeedService activityFeedService;
     
     public Page<PostListResponse> getPosts(
             String category,
@@ -30,19 +41,24 @@ public class AdminPostService {
         Page<Post> posts;
         
         if (search != null && !search.isEmpty()) {
-            posts = postRepository.searchPostsWithAuthor(category, search, pageable);
+            posts = postSearchService.search(search, category, pageable);
         } else if (category != null && !category.isEmpty()) {
             posts = postRepository.findByCategoryAndIsDeletedFalseWithAuthor(category, pageable);
         } else {
             posts = postRepository.findByIsDeletedFalseWithAuthor(pageable);
         }
         
+        // 페이지 내 게시글의 댓글/신고 수를 한 번에 조회
+        List<Long> postIds = posts.getContent().stream().map(Post::getId).toList();
+        Map<Long, Long> commentCounts = moderationLookup.commentCounts(postIds);
+        Map<Long, Long> reportCounts = moderationLookup.reportCounts("post", postIds);
+        
         return posts.map(post -> {
             String postStatus = post.getIsDeleted() ? "삭제" :
                                (post.getIsNotice() ? "공지" : "정상");
 
-            Long commentCount = commentRepository.countByPostIdAndIsDeletedFalse(post.getId());
-            long reportCount = contentReportRepository.findByTargetTypeAndTargetId("post", post.getId()).size();
+            Long commentCount = commentCounts.getOrDefault(post.getId(), 0L);
+            long reportCount = reportCounts.getOrDefault(post.getId(), 0L);
 
             // 작성자 정보가 null 인 게시글 방어 처리 (탈퇴 회원/익명 등)
             String authorName = "(알 수 없음)";
@@ -73,7 +89,7 @@ public class AdminPostService {
                        (post.getIsNotice() ? "공지" : "정상");
         
         Long commentCount = commentRepository.countByPostIdAndIsDeletedFalse(postId);
-        long reportCount = contentReportRepository.findByTargetTypeAndTargetId("post", postId).size();
+        long reportCount = contentReportRepository.countByTargetTypeAndTargetId("post", postId);
 
         String authorName = "(알 수 없음)";
         if (post.getAuthor() != null && post.getAuthor().getNickname() != null) {
@@ -111,6 +127,34 @@ public class AdminPostService {
         post.setIsDeleted(true);
         post.setDeletedAt(LocalDateTime.now());
         postRepository.save(post);
+        postSearchService.remove(postId);
+        popularPostService.remove(postId);
+        activityFeedService.recordModeration("게시글 삭제: " + post.getTitle(), postId);
+    }
+    
+    /**
+     * 게시글 일괄 삭제 (action: delete)
+     * 숨김은 단건(hidePost)에서도 아직 상태를 바꾸지 않으므로 일괄로는 받지 않는다.
+     * 대상 조회, UPDATE ... WHERE id IN, 검색 색인 제거를 건수와 상관없이 각 1번씩 하고,
+     * 인기글 제거와 활동 기록은 커밋 후에 반영된다.
+     */
+    @Transactional
+    public BulkModerationResponse bulkModerate(BulkModerationRequest request) {
+        List<Long> ids = BulkModeration.ids(request.getIds());
+        if (!"delete".equals(request.getAction())) {
+            throw new IllegalArgumentException("지원하지 않는 일괄 조치입니다: " + request.getAction());
+        }
+        List<Object[]> targets = postRepository.findActiveTitlesByIdIn(ids);
+        List<Long> targetIds = targets.stream().map(row -> (Long) row[0]).toList();
+        if (!targetIds.isEmpty()) {
+            postRepository.softDeleteByIdIn(targetIds, LocalDateTime.now());
+            postSearchService.removeAll(targetIds);
+            targetIds.forEach(popularPostService::remove);
+            activityFeedService.recordModerations(targets.stream()
+                    .map(row -> new ActivityFeedService.Moderation((Long) row[0], "게시글 삭제: " + row[1]))
+                    .toList());
+        }
+        return BulkModeration.response(ids, targetIds);
     }
     
     @Transactional
@@ -120,6 +164,9 @@ public class AdminPostService {
         post.setIsDeleted(false);
         post.setDeletedAt(null);
         postRepository.save(post);
+        postSearchService.index(post);
+        popularPostService.refresh(post);
+        activityFeedService.recordModeration("게시글 복구: " + post.getTitle(), postId);
     }
     
     @Transactional
@@ -128,6 +175,12 @@ public class AdminPostService {
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다: " + postId));
         post.setCategory(newCategory);
         postRepository.save(post);
+        postSearchService.updateCategory(postId, newCategory);
+        popularPostService.refresh(post);
+    }
+    
+    public void rebuildSearchIndex() {
+        postSearchService.rebuildIndex();
     }
     
     @Transactional
@@ -1,5 +1,8 @@
 package com.example.jokerweb.admin.service;
 
+import com.example.jokerweb.activity.ActivityFeedService;
+import com.example.jokerweb.admin.dto.BulkModerationRequest;
+import com.example.jokerweb.admin.dto.BulkModerationResponse;
 import com.example.jokerweb.admin.dto.ContentReportDetailResponse;
 import com.example.jokerweb.admin.dto.ContentReportListResponse;
 import com.example.jokerweb.admin.dto.ProcessContentReportRequest;
@@ -7,8 +10,10 @@ import com.example.jokerweb.community.Comment;
 import com.example.jokerweb.community.CommentRepository;
 import com.example.jokerweb.community.ContentReport;
 import com.example.jokerweb.community.ContentReportRepository;
+import com.example.jokerweb.community.PopularPostService;
 import com.example.jokerweb.community.Post;
 import com.example.jokerweb.community.PostRepository;
+import com.example.jokerweb.community.PostSearchService;
 import com.example.jokerweb.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -17,6 +22,9 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +35,10 @@ public class AdminReportService {
     private final CommentRepository commentRepository;
     private final MemberRepository memberRepository;
     private final AuthorizationService authorizationService;
+    private final ModerationLookup moderationLookup;
+    private final ActivityFeedService activityFeedService;
+    private final PostSearchService postSearchService;
+    private final PopularPostService popularPostService;
     
     public Page<ContentReportListResponse> getReports(
             String targetType, // post, comment
@@ -62,18 +74,26 @@ public class AdminReportService {
         }
         
         Page<ContentReport> reports = reportRepository.findAll(spec, pageable);
+        // 페이지 내 신고 대상(게시글/댓글)을 종류별로 한 번에 조회
+        Map<String, ModerationLookup.ReportTarget> targets = moderationLookup.targets(reports.getContent());
         
-        return reports.map(report -> ContentReportListResponse.builder()
+        return reports.map(report -> {
+            ModerationLookup.ReportTarget target = targets.get(
+                    ModerationLookup.targetKey(report.getTargetType(), report.getTargetId()));
+            return ContentReportListResponse.builder()
                 .id(report.getId())
                 .targetType(report.getTargetType())
                 .targetId(report.getTargetId())
+                .targetTitle(target != null ? target.title() : null)
+                .targetAuthor(target != null ? target.author() : null)
                 .reportReason(report.getReportReason())
                 .reporter(report.getReporter() != null ? report.getReporter().getNickname() : "익명")
                 .reportedAt(report.getCreatedAt())
                 .status(report.getStatus())
                 .processor(report.getProcessedBy() != null ? report.getProcessedBy().getNickname() : null)
                 .processedAt(report.getProcessedAt())
-                .build());
+                .build();
+        });
     }
     
     public ContentReportDetailResponse getReportDetail(Long reportId) {
@@ -93,26 +113,13 @@ public class AdminReportService {
                 .processedAt(report.getProcessedAt())
                 .adminNotes(report.getAdminNotes());
         
-        // 대상 정보 조회
-        if ("post".equals(report.getTargetType())) {
-            Post post = postRepository.findById(report.getTargetId()).orElse(null);
-            if (post != null) {
-                builder.targetTitle(post.getTitle())
-                        .targetAuthor(post.getAuthor() != null ? post.getAuthor().getNickname() : "알 수 없음")
-                        .targetContent(post.getContent());
-            }
-        } else if ("comment".equals(report.getTargetType())) {
-            Comment comment = commentRepository.findById(report.getTargetId()).orElse(null);
-            if (comment != null) {
-                builder.targetTitle("댓글")
-                        .targetAuthor(comment.getAuthor() != null ? comment.getAuthor().getNickname() : "알 수 없음")
-                        .targetContent(comment.getContent());
-                
-                // 댓글이 속한 게시글 정보도 포함
-                if (comment.getPost() != null) {
-                    builder.targetTitle("댓글 (게시글: " + comment.getPost().getTitle() + ")");
-                }
-            }
+        // 대상 정보 조회 (목록과 같은 경로, author/post를 함께 로딩)
+        ModerationLookup.ReportTarget target = moderationLookup.targets(List.of(report))
+                .get(ModerationLookup.targetKey(report.getTargetType(), report.getTargetId()));
+        if (target != null) {
+            builder.targetTitle(target.title())
+                    .targetAuthor(target.author())
+                    .targetContent(target.content());
         }
         
         return builder.build();
@@ -146,6 +153,9 @@ public class AdminReportService {
                 post.setIsDeleted(true);
                 post.setDeletedAt(LocalDateTime.now());
                 postRepository.save(post);
+                // 삭제된 게시글이 검색 결과 건수/인기글에 남지 않도록 함께 제거 (AdminPostService.deletePost와 동일)
+                postSearchService.remove(post.getId());
+                popularPostService.remove(post.getId());
             }
         } else if ("comment".equals(report.getTargetType())) {
             Comment comment = commentRepository.findById(report.getTargetId()).orElse(null);
@@ -155,6 +165,7 @@ public class AdminReportService {
                 commentRepository.save(comment);
             }
         }
+        activityFeedService.recordModeration("신고 승인 (" + report.getTargetType() + ")", reportId);
     }
     
     @Transactional
@@ -177,5 +188,67 @@ public class AdminReportService {
         report.setProcessedBy(admin);
         
         reportRepository.save(report);
+        activityFeedService.recordModeration("신고 반려 (" + report.getTargetType() + ")", reportId);
+    }
+    
+    /**
+     * 신고 일괄 승인/반려 (한 트랜잭션)
+     * 미처리 신고만 대상이며, 건수와 상관없이 신고 조회 1번, 신고 UPDATE 1번,
+     * 승인 시 대상 종류별 소프트 삭제 UPDATE 1번씩으로 처리한다. 활동 기록은 커밋 후 배치로 남긴다.
+     */
+    @Transactional
+    public BulkModerationResponse bulkProcessReports(BulkModerationRequest request) {
+        List<Long> ids = BulkModeration.ids(request.getIds());
+        boolean approve = "approve".equals(request.getAction());
+        if (!approve && !"reject".equals(request.getAction())) {
+            throw new IllegalArgumentException("지원하지 않는 일괄 조치입니다: " + request.getAction());
+        }
+        
+        Long adminId = authorizationService.getCurrentUserId();
+        if (adminId == null) {
+            throw new RuntimeException("관리자 인증이 필요합니다");
+        }
+        
+        List<Object[]> open = reportRepository.findOpenTargetsByIdIn(ids);
+        if (open.isEmpty()) {
+            return BulkModeration.response(ids, List.of());
+        }
+        List<Long> reportIds = new ArrayList<>(open.size());
+        List<Long> postIds = new ArrayList<>();
+        List<Long> commentIds = new ArrayList<>();
+        List<ActivityFeedService.Moderation> moderations = new ArrayList<>(open.size());
+        for (Object[] row : open) {
+            Long reportId = (Long) row[0];
+            String targetType = (String) row[1];
+            reportIds.add(reportId);
+            if ("post".equals(targetType)) {
+                postIds.add((Long) row[2]);
+            } else if ("comment".equals(targetType)) {
+                commentIds.add((Long) row[2]);
+            }
+            moderations.add(new ActivityFeedService.Moderation(reportId,
+                    (approve ? "신고 승인 (" : "신고 반려 (") + targetType + ")"));
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        // processedBy는 참조만 걸어 관리자 조회 쿼리 없이 FK만 기록
+        reportRepository.processOpenByIdIn(reportIds, approve ? "resolved" : "rejected",
+                memberRepository.getReferenceById(adminId),
+                request.getAdminNotes() != null ? request.getAdminNotes() : request.getReason(), now);
+        
+        // 신고 승인 시 대상 게시글/댓글 삭제 처리 (단건 승인과 같이 게시글은 검색 색인/인기글에서도 제거)
+        if (approve) {
+            List<Long> distinctPostIds = postIds.stream().distinct().toList();
+            if (!distinctPostIds.isEmpty()) {
+                postRepository.softDeleteByIdIn(distinctPostIds, now);
+                postSearchService.removeAll(distinctPostIds);
+                distinctPostIds.forEach(popularPostService::remove);
+            }
+            if (!commentIds.isEmpty()) {
+                commentRepository.softDeleteByIdIn(commentIds.stream().distinct().toList(), now);
+            }
+        }
+        activityFeedService.recordModerations(moderations);
+        return BulkModeration.response(ids, reportIds);
     }
 }
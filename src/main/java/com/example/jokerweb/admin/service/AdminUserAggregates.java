@@ -0,0 +1,57 @@
+package com.example.jokerweb.admin.service;
+
+import com.example.jokerweb.common.CountRows;
+import com.example.jokerweb.community.BarracksReportRepository;
+import com.example.jokerweb.community.CommentRepository;
+import com.example.jokerweb.community.PostRepository;
+import com.example.jokerweb.logging.AccessLogRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자 회원 목록용 회원별 집계 (게시글/댓글/신고 수, 마지막 접속)
+ * 페이지 크기와 상관없이 집계 종류마다 member_id IN (...) GROUP BY 쿼리 1번으로 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminUserAggregates {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final BarracksReportRepository barracksReportRepository;
+    private final AccessLogRepository accessLogRepository;
+
+    public record Row(long postCount, long commentCount, long reportCount, LocalDateTime lastAccess) {
+        public static final Row EMPTY = new Row(0, 0, 0, null);
+    }
+
+    public Map<Long, Row> load(Collection<Long> memberIds) {
+        List<Long> ids = memberIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Long> posts = CountRows.toCountMap(postRepository.countByAuthorIdIn(ids));
+        Map<Long, Long> comments = CountRows.toCountMap(commentRepository.countByAuthorIdIn(ids));
+        Map<Long, Long> reports = CountRows.toCountMap(barracksReportRepository.countByReporterIdIn(ids));
+        Map<Long, LocalDateTime> lastAccess = new HashMap<>();
+        for (Object[] row : accessLogRepository.findLastAccessByMemberIdIn(ids)) {
+            lastAccess.put((Long) row[0], (LocalDateTime) row[1]);
+        }
+
+        Map<Long, Row> rows = new HashMap<>(ids.size() * 2);
+        for (Long id : ids) {
+            rows.put(id, new Row(
+                    posts.getOrDefault(id, 0L),
+                    comments.getOrDefault(id, 0L),
+                    reports.getOrDefault(id, 0L),
+                    lastAccess.get(id)));
+        }
+        return rows;
+    }
+}
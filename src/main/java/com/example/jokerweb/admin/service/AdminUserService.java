@@ -1,5 +1,6 @@
 package com.example.jokerweb.admin.service;
 
+import com.example.jokerweb.activity.ActivityFeedService;
 import com.example.jokerweb.admin.dto.*;
 import com.example.jokerweb.admin.role.*;
 import com.example.jokerweb.community.BarracksReportRepository;
@@ -9,6 +10,7 @@ import com.example.jokerweb.logging.AccessLogRepository;
 import com.example.jokerweb.member.Member;
 import com.example.jokerweb.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -16,7 +18,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -29,8 +31,10 @@ public class AdminUserService {
     private final AccessLogRepository accessLogRepository;
     private final MemberSuspensionRepository suspensionRepository;
     private final MemberGradeHistoryRepository gradeHistoryRepository;
-    private final MemberRoleRepository memberRoleRepository;
     private final AuthorizationService authorizationService;
+    private final AdminUserAggregates adminUserAggregates;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ActivityFeedService activityFeedService;
     
     public Page<UserListResponse> getUsers(
             String status,
@@ -92,30 +96,29 @@ public class AdminUserService {
         
         Page<Member> members = memberRepository.findAll(spec, pageable);
         
+        // 페이지 내 회원의 역할/정지 상태와 집계를 한 번에 조회 (페이지 크기와 무관하게 쿼리 수 고정)
+        List<Long> memberIds = members.getContent().stream().map(Member::getId).toList();
+        Map<Long, MemberPermissionSnapshot> snapshots = authorizationService.snapshots(memberIds);
+        Map<Long, AdminUserAggregates.Row> aggregates = adminUserAggregates.load(memberIds);
+        LocalDateTime now = LocalDateTime.now();
+        
         return members.map(member -> {
-            boolean isSuspended = isSuspended(member.getId());
-            String memberStatus = isSuspended ? "정지" : "정상";
-            
-            List<Role> roles = memberRoleRepository.findRolesByMemberId(member.getId());
-            String memberGrade = roles.isEmpty() ? "일반" : roles.get(0).getDisplayName();
-            
-            Long postCount = postRepository.countByAuthorId(member.getId());
-            Long commentCount = commentRepository.countByAuthorId(member.getId());
-            Long reportCount = barracksReportRepository.countByReporterId(member.getId());
-            
-            LocalDateTime lastAccess = getLastAccessTime(member.getId());
+            MemberPermissionSnapshot snapshot = snapshots.getOrDefault(member.getId(), MemberPermissionSnapshot.EMPTY);
+            String memberStatus = snapshot.isSuspended(now) ? "정지" : "정상";
+            String memberGrade = snapshot.gradeName() != null ? snapshot.gradeName() : "일반";
+            AdminUserAggregates.Row row = aggregates.getOrDefault(member.getId(), AdminUserAggregates.Row.EMPTY);
             
             return UserListResponse.builder()
                     .id(member.getId())
                     .nickname(member.getNickname())
                     .email(member.getEmail())
                     .joinDate(member.getCreatedAt())
-                    .lastAccess(lastAccess)
+                    .lastAccess(row.lastAccess())
                     .status(memberStatus)
                     .grade(memberGrade)
-                    .postCount(postCount)
-                    .commentCount(commentCount)
-                    .reportCount(reportCount)
+                    .postCount(row.postCount())
+                    .commentCount(row.commentCount())
+                    .reportCount(row.reportCount())
                     .build();
         });
     }
@@ -124,11 +127,9 @@ public class AdminUserService {
         Member member = memberRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다: " + userId));
         
-        boolean isSuspended = isSuspended(member.getId());
-        String status = isSuspended ? "정지" : "정상";
-        
-        List<Role> roles = memberRoleRepository.findRolesByMemberId(member.getId());
-        String grade = roles.isEmpty() ? "일반" : roles.get(0).getDisplayName();
+        MemberPermissionSnapshot snapshot = authorizationService.snapshot(member.getId());
+        String status = snapshot.isSuspended(LocalDateTime.now()) ? "정지" : "정상";
+        String grade = snapshot.roles().isEmpty() ? "일반" : snapshot.gradeName();
         
         Long postCount = postRepository.countByAuthorId(member.getId());
         Long commentCount = commentRepository.countByAuthorId(member.getId());
@@ -146,9 +147,7 @@ public class AdminUserService {
                 .reportedCount(reportedCount)
                 .build();
         
-        List<String> roleNames = roles.stream()
-                .map(Role::getName)
-                .collect(Collectors.toList());
+        List<String> roleNames = List.copyOf(snapshot.roles());
         
         return UserDetailResponse.builder()
                 .id(member.getId())
@@ -183,6 +182,8 @@ public class AdminUserService {
                 .build();
         
         suspensionRepository.save(suspension);
+        eventPublisher.publishEvent(new MemberPermissionChangedEvent(userId));
+        activityFeedService.recordModeration("회원 정지: " + member.getNickname(), userId);
     }
     
     @Transactional
@@ -198,6 +199,8 @@ public class AdminUserService {
         suspension.setReleasedAt(LocalDateTime.now());
         suspension.setReleasedBy(adminId);
         suspensionRepository.save(suspension);
+        eventPublisher.publishEvent(new MemberPermissionChangedEvent(userId));
+        activityFeedService.recordModeration("회원 정지 해제", userId);
     }
     
     @Transactional
@@ -210,10 +213,8 @@ public class AdminUserService {
             throw new RuntimeException("관리자 인증이 필요합니다");
         }
         
-        String oldGrade = memberRoleRepository.findRolesByMemberId(userId).stream()
-                .findFirst()
-                .map(Role::getDisplayName)
-                .orElse("일반");
+        MemberPermissionSnapshot snapshot = authorizationService.snapshot(userId);
+        String oldGrade = snapshot.roles().isEmpty() ? "일반" : snapshot.gradeName();
         
         MemberGradeHistory history = MemberGradeHistory.builder()
                 .memberId(userId)
@@ -228,10 +229,6 @@ public class AdminUserService {
         // 여기서는 이력만 기록
     }
     
-    private boolean isSuspended(Long memberId) {
-        return suspensionRepository.findActiveSuspension(memberId, LocalDateTime.now()).isPresent();
-    }
-    
     private LocalDateTime calculateExpiresAt(String period) {
         if ("영구".equals(period)) {
             return null;
@@ -1,20 +1,51 @@
 package com.example.jokerweb.admin.service;
 
+import com.example.jokerweb.admin.role.MemberRole;
 import com.example.jokerweb.admin.role.MemberRoleRepository;
-import com.example.jokerweb.admin.role.Permission;
+import com.example.jokerweb.admin.role.MemberSuspension;
+import com.example.jokerweb.admin.role.MemberSuspensionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+/**
+ * 역할/권한 확인 서비스
+ * 회원별 역할·권한·정지 상태를 불변 스냅샷으로 캐시해 요청마다 조회하지 않는다.
+ * 역할 변경/정지 처리 시 MemberPermissionChangedEvent로 무효화되며,
+ * 다른 서버 인스턴스에서 바뀐 내용은 최대 SNAPSHOT_TTL_MINUTES 이후 반영된다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthorizationService {
-    
+
+    private static final long SNAPSHOT_TTL_MINUTES = 5;
+    private static final long SNAPSHOT_MAX_SIZE = 50_000;
+
     private final MemberRoleRepository memberRoleRepository;
-    
+    private final MemberSuspensionRepository memberSuspensionRepository;
+
+    private final Cache<Long, MemberPermissionSnapshot> snapshots = Caffeine.newBuilder()
+            .maximumSize(SNAPSHOT_MAX_SIZE)
+            .expireAfterWrite(SNAPSHOT_TTL_MINUTES, TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+
     public Long getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -26,19 +57,15 @@ public class AuthorizationService {
             return null;
         }
     }
-    
+
     public boolean hasPermission(Long memberId, String resource, String action) {
-        List<Permission> permissions = memberRoleRepository.findPermissionsByMemberId(memberId);
-        return permissions.stream()
-                .anyMatch(p -> p.getResource().equals(resource) && p.getAction().equals(action));
+        return snapshot(memberId).hasPermission(resource, action);
     }
-    
+
     public boolean hasRole(Long memberId, String roleName) {
-        List<com.example.jokerweb.admin.role.Role> roles = memberRoleRepository.findRolesByMemberId(memberId);
-        return roles.stream()
-                .anyMatch(r -> r.getName().equals(roleName));
+        return snapshot(memberId).hasRole(roleName);
     }
-    
+
     public boolean hasCurrentUserPermission(String resource, String action) {
         Long userId = getCurrentUserId();
         if (userId == null) {
@@ -46,7 +73,7 @@ public class AuthorizationService {
         }
         return hasPermission(userId, resource, action);
     }
-    
+
     public boolean hasCurrentUserRole(String roleName) {
         Long userId = getCurrentUserId();
         if (userId == null) {
@@ -54,14 +81,100 @@ public class AuthorizationService {
         }
         return hasRole(userId, roleName);
     }
-    
+
     public List<String> getCurrentUserRoles() {
         Long userId = getCurrentUserId();
         if (userId == null) {
             return List.of();
         }
-        return memberRoleRepository.findRolesByMemberId(userId).stream()
-                .map(com.example.jokerweb.admin.role.Role::getName)
-                .collect(Collectors.toList());
+        return List.copyOf(snapshot(userId).roles());
+    }
+
+    /**
+     * 회원의 역할/권한 스냅샷 (캐시 미스 시 1회 조회)
+     */
+    public MemberPermissionSnapshot snapshot(Long memberId) {
+        if (memberId == null) {
+            return MemberPermissionSnapshot.EMPTY;
+        }
+        return snapshots.get(memberId, id -> load(List.of(id)).getOrDefault(id, MemberPermissionSnapshot.EMPTY));
+    }
+
+    /**
+     * 여러 회원의 스냅샷을 한 번에 조회 (캐시에 없는 회원만 IN 쿼리로 일괄 로딩)
+     */
+    public Map<Long, MemberPermissionSnapshot> snapshots(Collection<Long> memberIds) {
+        Set<Long> ids = memberIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return snapshots.getAll(ids, missing -> {
+            Map<Long, MemberPermissionSnapshot> loaded = new HashMap<>(load(missing));
+            missing.forEach(id -> loaded.putIfAbsent(id, MemberPermissionSnapshot.EMPTY));
+            return loaded;
+        });
+    }
+
+    /**
+     * 여러 회원의 역할 이름 일괄 조회 (목록 화면에서 작성자별 역할 확인용)
+     */
+    public Map<Long, Set<String>> rolesFor(Collection<Long> memberIds) {
+        return snapshots(memberIds).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().roles()));
+    }
+
+    public void invalidate(Long memberId) {
+        if (memberId == null) {
+            snapshots.invalidateAll();
+        } else {
+            snapshots.invalidate(memberId);
+        }
+    }
+
+    // 트랜잭션 커밋 이후에 무효화해야 커밋 전 데이터로 캐시가 다시 채워지지 않는다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPermissionChanged(MemberPermissionChangedEvent event) {
+        invalidate(event.memberId());
+        log.debug("권한 스냅샷 무효화: memberId={}", event.memberId() != null ? event.memberId() : "ALL");
+    }
+
+    private Map<Long, MemberPermissionSnapshot> load(Collection<? extends Long> memberIds) {
+        List<Long> ids = List.copyOf(memberIds);
+        Map<Long, Set<String>> roles = new HashMap<>();
+        Map<Long, Set<String>> legacyRoles = new HashMap<>();
+        Map<Long, String> grades = new HashMap<>();
+        for (MemberRole mr : memberRoleRepository.findActiveRolesByMemberIdIn(ids)) {
+            // hasRole은 role 테이블 기준, 기존 role 컬럼은 인증 권한(authorityNames)에만 반영
+            if (mr.getRoleEntity() != null && mr.getRoleEntity().getName() != null) {
+                roles.computeIfAbsent(mr.getMemberId(), id -> new LinkedHashSet<>()).add(mr.getRoleEntity().getName());
+                grades.putIfAbsent(mr.getMemberId(), mr.getRoleEntity().getDisplayName());
+            }
+            if (mr.getRole() != null && !mr.getRole().isBlank()) {
+                legacyRoles.computeIfAbsent(mr.getMemberId(), id -> new LinkedHashSet<>()).add(mr.getRole());
+            }
+        }
+
+        Map<Long, Set<String>> permissions = new HashMap<>();
+        for (Object[] row : memberRoleRepository.findPermissionsByMemberIdIn(ids)) {
+            permissions.computeIfAbsent((Long) row[0], id -> new LinkedHashSet<>())
+                    .add(MemberPermissionSnapshot.key((String) row[1], (String) row[2]));
+        }
+
+        Map<Long, LocalDateTime> suspendedUntil = new HashMap<>();
+        for (MemberSuspension suspension : memberSuspensionRepository.findActiveSuspensions(ids, LocalDateTime.now())) {
+            LocalDateTime until = suspension.getExpiresAt() != null ? suspension.getExpiresAt() : LocalDateTime.MAX;
+            suspendedUntil.merge(suspension.getMemberId(), until, (a, b) -> a.isAfter(b) ? a : b);
+        }
+
+        Map<Long, MemberPermissionSnapshot> result = new HashMap<>();
+        for (Long id : ids) {
+            result.put(id, new MemberPermissionSnapshot(
+                    roles.getOrDefault(id, Set.of()),
+                    legacyRoles.getOrDefault(id, Set.of()),
+                    permissions.getOrDefault(id, Set.of()),
+                    grades.get(id),
+                    suspendedUntil.get(id)));
+        }
+        return result;
     }
 }
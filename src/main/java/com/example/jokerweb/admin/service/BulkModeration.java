@@ -0,0 +1,43 @@
+package com.example.jokerweb.admin.service;
+
+import com.example.jokerweb.admin.dto.BulkModerationResponse;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 관리자 일괄 조치 공통 처리 (요청 id 정리, 결과 응답)
+ * 한 번에 처리할 수 있는 id 수는 MAX_IDS로 제한한다 (IN 목록과 트랜잭션 크기 제한).
+ */
+final class BulkModeration {
+
+    static final int MAX_IDS = 500;
+
+    private BulkModeration() {
+    }
+
+    static List<Long> ids(List<Long> requested) {
+        if (requested == null || requested.isEmpty()) {
+            throw new IllegalArgumentException("처리할 대상을 선택해주세요.");
+        }
+        List<Long> ids = requested.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("처리할 대상을 선택해주세요.");
+        }
+        if (ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_IDS + "건까지 처리할 수 있습니다.");
+        }
+        return ids;
+    }
+
+    static BulkModerationResponse response(List<Long> ids, Collection<Long> processedIds) {
+        Set<Long> processed = new HashSet<>(processedIds);
+        return BulkModerationResponse.builder()
+                .requested(ids.size())
+                .processed(processed.size())
+                .skippedIds(ids.stream().filter(id -> !processed.contains(id)).toList())
+                .build();
+    }
+}
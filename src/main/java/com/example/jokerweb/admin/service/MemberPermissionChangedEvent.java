@@ -0,0 +1,12 @@
+package com.example.jokerweb.admin.service;
+
+/**
+ * 회원의 역할/권한/정지 상태가 바뀌었음을 알리는 이벤트
+ * memberId가 null이면 역할 정의 자체가 바뀐 것이므로 모든 회원의 스냅샷을 무효화한다.
+ */
+public record MemberPermissionChangedEvent(Long memberId) {
+
+    public static MemberPermissionChangedEvent all() {
+        return new MemberPermissionChangedEvent(null);
+    }
+}
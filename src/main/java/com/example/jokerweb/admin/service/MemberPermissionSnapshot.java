@@ -0,0 +1,60 @@
+package com.example.jokerweb.admin.service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 회원별 역할/권한 스냅샷 (불변)
+ *
+ * @param roles          활성 역할 이름 (role 테이블 이름, 부여 순서)
+ * @param legacyRoles    기존 호환용 member_role.role 컬럼 값 (Spring Security 권한에만 쓰고 hasRole에는 쓰지 않음)
+ * @param permissions    "resource:action" 형식의 권한 목록
+ * @param gradeName      관리자 화면에 표시할 대표 등급 (첫 번째 역할의 표시 이름, 없으면 null)
+ * @param suspendedUntil 정지 만료 시각 (정지가 아니면 null, 영구 정지는 LocalDateTime.MAX)
+ */
+public record MemberPermissionSnapshot(
+        Set<String> roles,
+        Set<String> legacyRoles,
+        Set<String> permissions,
+        String gradeName,
+        LocalDateTime suspendedUntil
+) {
+
+    public static final MemberPermissionSnapshot EMPTY = new MemberPermissionSnapshot(Set.of(), Set.of(), Set.of(), null, null);
+
+    public MemberPermissionSnapshot {
+        roles = Collections.unmodifiableSet(new LinkedHashSet<>(roles));
+        legacyRoles = Set.copyOf(legacyRoles);
+        permissions = Set.copyOf(permissions);
+    }
+
+    /**
+     * Spring Security 권한으로 쓸 역할 이름 (role 테이블 이름 + 기존 role 컬럼 값)
+     */
+    public Set<String> authorityNames() {
+        if (legacyRoles.isEmpty()) {
+            return roles;
+        }
+        Set<String> names = new LinkedHashSet<>(roles);
+        names.addAll(legacyRoles);
+        return Collections.unmodifiableSet(names);
+    }
+
+    public boolean hasRole(String roleName) {
+        return roleName != null && roles.contains(roleName);
+    }
+
+    public boolean hasPermission(String resource, String action) {
+        return permissions.contains(key(resource, action));
+    }
+
+    public boolean isSuspended(LocalDateTime now) {
+        return suspendedUntil != null && suspendedUntil.isAfter(now);
+    }
+
+    static String key(String resource, String action) {
+        return resource + ":" + action;
+    }
+}
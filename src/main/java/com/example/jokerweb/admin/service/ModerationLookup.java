@@ -0,0 +1,104 @@
+package com.example.jokerweb.admin.service;
+
+import com.example.jokerweb.common.CountRows;
+import com.example.jokerweb.community.Comment;
+import com.example.jokerweb.community.CommentRepository;
+import com.example.jokerweb.community.ContentReport;
+import com.example.jokerweb.community.ContentReportRepository;
+import com.example.jokerweb.community.Post;
+import com.example.jokerweb.community.PostRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자 게시글/신고 목록용 일괄 조회
+ * 페이지 단위로 신고 수, 댓글 수, 신고 대상(게시글/댓글)을 IN 쿼리로 한 번에 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ModerationLookup {
+
+    private static final String UNKNOWN_AUTHOR = "알 수 없음";
+
+    private final ContentReportRepository reportRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+
+    /**
+     * 신고 대상 요약 (삭제된 대상은 조회되지 않음)
+     */
+    public record ReportTarget(String title, String author, String content) {
+    }
+
+    /**
+     * 대상별 신고 수 (targetType: post, comment)
+     */
+    public Map<Long, Long> reportCounts(String targetType, Collection<Long> targetIds) {
+        List<Long> ids = distinct(targetIds);
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return CountRows.toCountMap(reportRepository.countByTargetTypeAndTargetIdIn(targetType, ids));
+    }
+
+    /**
+     * 게시글별 댓글 수 (삭제된 댓글 제외)
+     */
+    public Map<Long, Long> commentCounts(Collection<Long> postIds) {
+        List<Long> ids = distinct(postIds);
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return CountRows.toCountMap(commentRepository.countByPostIdIn(ids));
+    }
+
+    /**
+     * 신고 대상 일괄 조회 (대상 종류마다 쿼리 1번), 키는 targetKey(type, id)
+     */
+    public Map<String, ReportTarget> targets(Collection<ContentReport> reports) {
+        List<Long> postIds = targetIds(reports, "post");
+        List<Long> commentIds = targetIds(reports, "comment");
+        Map<String, ReportTarget> targets = new HashMap<>();
+        if (!postIds.isEmpty()) {
+            for (Post post : postRepository.findAllWithAuthorByIdIn(postIds)) {
+                targets.put(targetKey("post", post.getId()), new ReportTarget(post.getTitle(),
+                        post.getAuthor() != null ? post.getAuthor().getNickname() : UNKNOWN_AUTHOR,
+                        post.getContent()));
+            }
+        }
+        if (!commentIds.isEmpty()) {
+            for (Comment comment : commentRepository.findAllWithAuthorAndPostByIdIn(commentIds)) {
+                // 댓글이 속한 게시글 정보도 포함
+                String title = comment.getPost() != null
+                        ? "댓글 (게시글: " + comment.getPost().getTitle() + ")"
+                        : "댓글";
+                targets.put(targetKey("comment", comment.getId()), new ReportTarget(title,
+                        comment.getAuthor() != null ? comment.getAuthor().getNickname() : UNKNOWN_AUTHOR,
+                        comment.getContent()));
+            }
+        }
+        return targets;
+    }
+
+    public static String targetKey(String targetType, Long targetId) {
+        return targetType + ":" + targetId;
+    }
+
+    private static List<Long> targetIds(Collection<ContentReport> reports, String targetType) {
+        return reports.stream()
+                .filter(report -> targetType.equals(report.getTargetType()))
+                .map(ContentReport::getTargetId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    private static List<Long> distinct(Collection<Long> ids) {
+        return ids.stream().filter(Objects::nonNull).distinct().toList();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.jokerweb.admin.service;
 
 import com.example.jokerweb.admin.role.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -14,6 +15,7 @@ public class RoleService {
     private final PermissionRepository permissionRepository;
     private final RolePermissionRepository rolePermissionRepository;
     private final MemberRoleRepository memberRoleRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     public List<Role> getAllRoles() {
         return roleRepository.findAll();
@@ -44,12 +46,15 @@ public class RoleService {
         Role role = getRoleById(id);
         role.setDisplayName(displayName);
         role.setDescription(description);
-        return roleRepository.save(role);
+        Role saved = roleRepository.save(role);
+        eventPublisher.publishEvent(MemberPermissionChangedEvent.all());
+        return saved;
     }
     
     @Transactional
     public void deleteRole(Long id) {
         roleRepository.deleteById(id);
+        eventPublisher.publishEvent(MemberPermissionChangedEvent.all());
     }
     
     public List<Permission> getRolePermissions(Long roleId) {
@@ -65,6 +70,7 @@ public class RoleService {
             rp.setPermissionId(permissionId);
             rolePermissionRepository.save(rp);
         }
+        eventPublisher.publishEvent(MemberPermissionChangedEvent.all());
     }
     
     public List<Permission> getAllPermissions() {
@@ -8,7 +8,11 @@ import com.example.jokerweb.auth.exception.DuplicateEmailException;
 import com.example.jokerweb.auth.exception.DuplicateNicknameException;
 import com.example.jokerweb.auth.exception.DuplicateOuidException;
 import com.example.jokerweb.auth.exception.InvalidNicknameException;
+import com.example.jokerweb.auth.exception.PasswordHashingBusyException;
 import com.example.jokerweb.auth.exception.WeakPasswordException;
+import com.example.jokerweb.auth.password.PasswordHashingService;
+import com.example.jokerweb.auth.service.RegistrationAvailabilityService;
+import com.example.jokerweb.auth.service.RegistrationAvailabilityService.Field;
 import com.example.jokerweb.auth.validation.NicknameValidator;
 import com.example.jokerweb.auth.validation.PasswordValidator;
 import com.example.jokerweb.member.Member;
@@ -17,12 +21,12 @@ import com.example.jokerweb.nexon.NxOpenApiClient;
 import com.example.jokerweb.nexon.dto.IdResponse;
 import com.example.jokerweb.nexon.dto.UserBasicResponse;
 import com.example.jokerweb.security.JwtTokenService;
+import com.example.jokerweb.security.MemberPrincipalCache;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,18 +36,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenService jwtTokenService;
     private final MemberRoleRepository memberRoleRepository;
     private final RoleRepository roleRepository;
     private final NxOpenApiClient nxOpenApiClient;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final RegistrationAvailabilityService availabilityService;
 
     @Transactional(readOnly = true)
     public boolean checkEmailAvailability(String email) {
         if (email == null || email.trim().isEmpty()) {
             return false;
         }
-        return !memberRepository.existsByEmail(email.trim());
+        return !availabilityService.isTaken(Field.EMAIL, email);
     }
 
     @Transactional(readOnly = true)
@@ -53,7 +59,7 @@ public class AuthService {
         }
         try {
             NicknameValidator.validate(nickname);
-            return !memberRepository.existsByNickname(nickname.trim());
+            return !availabilityService.isTaken(Field.NICKNAME, nickname);
         } catch (Exception ex) {
             return false;
         }
@@ -64,7 +70,7 @@ public class AuthService {
         if (ouid == null || ouid.trim().isEmpty()) {
             return true; // OUID는 선택 항목이므로 비어 있어도 사용 가능
         }
-        return !memberRepository.existsByOuid(ouid.trim());
+        return !availabilityService.isTaken(Field.OUID, ouid);
     }
 
     @Transactional
@@ -127,7 +133,7 @@ public class AuthService {
                 .titleName(profile.titleName())
                 .mannerGrade(profile.mannerGrade())
                 .nexonLinked(profile.linked())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
+                .passwordHash(passwordHashingService.encode(request.getPassword()))
                 .build();
         
         member = memberRepository.save(member);
@@ -170,10 +176,19 @@ public class AuthService {
         Member member = memberRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new IllegalArgumentException("�씠硫붿?�� �삉�뒗 ?��꾨��踰?��?��?���? �솗�씤�빐二쇱�?�슂."));
 
-        if (!passwordEncoder.matches(request.getPassword(), member.getPasswordHash())) {
+        if (!passwordHashingService.matches(request.getPassword(), member.getPasswordHash())) {
             throw new IllegalArgumentException("�씠硫붿?�� �삉�뒗 ?��꾨��踰?��?��?���? �솗�씤�빐二쇱�?�슂.");
         }
 
+        // 예전 cost로 만든 해시는 현재 cost로 다시 해시해 아래 save에서 함께 저장 (풀이 바쁘면 다음 로그인으로 미룸)
+        if (passwordHashingService.needsRehash(member.getPasswordHash())) {
+            try {
+                member.setPasswordHash(passwordHashingService.encode(request.getPassword()));
+            } catch (PasswordHashingBusyException ex) {
+                log.debug("비밀번호 재해시 보류 (memberId: {})", member.getId());
+            }
+        }
+
         // 濡쒓?���씤 �씠�젰 �뾽�뜲�씠�듃
         if (clientIp != null && !clientIp.isBlank()) {
             member.updateLoginInfo(clientIp);
@@ -184,6 +199,7 @@ public class AuthService {
 
         // 蹂�寃쎌궗��? ����?��
         memberRepository.save(member);
+        memberPrincipalCache.evict(member.getId());
 
         List<String> roles = getActiveRoleNames(member.getId());
         String token = jwtTokenService.generateToken(member.getId(), member.getEmail(), roles);
@@ -201,7 +217,10 @@ public class AuthService {
         String token = authorizationHeader.substring("Bearer ".length());
         try {
             Long memberId = Long.parseLong(jwtTokenService.parse(token).getSubject());
-            return memberRepository.findById(memberId);
+            // 같은 요청에서 JwtAuthenticationFilter가 이미 확인한 회원이면 그대로 재사용
+            Optional<Member> current = MemberPrincipalCache.current()
+                    .filter(member -> memberId.equals(member.getId()));
+            return current.isPresent() ? current : memberPrincipalCache.find(memberId);
         } catch (Exception ex) {
             return Optional.empty();
         }
@@ -229,7 +248,9 @@ public class AuthService {
 
     @Transactional
     public Optional<MemberResponse> linkNexon(String authorizationHeader, LinkNexonRequest request) {
-        Optional<Member> memberOpt = authenticate(authorizationHeader);
+        // 캐시된 회원은 읽기 전용이므로 수정할 때는 다시 조회
+        Optional<Member> memberOpt = authenticate(authorizationHeader)
+                .flatMap(cached -> memberRepository.findById(cached.getId()));
         if (memberOpt.isEmpty()) {
             return Optional.empty();
         }
@@ -241,6 +262,7 @@ public class AuthService {
         member.setMannerGrade(profile.mannerGrade());
         member.setNexonLinked(profile.linked());
         memberRepository.save(member);
+        memberPrincipalCache.evict(member.getId());
         return Optional.of(MemberResponse.from(member, getActiveRoleNames(member.getId())));
     }
 
@@ -0,0 +1,18 @@
+package com.example.jokerweb.auth.exception;
+
+/**
+ * 비밀번호 해시 풀이 포화되어 로그인/가입을 지금 처리할 수 없음 (503 + Retry-After)
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public PasswordHashingBusyException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
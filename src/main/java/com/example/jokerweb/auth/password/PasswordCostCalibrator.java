@@ -0,0 +1,57 @@
+package com.example.jokerweb.auth.password;
+
+import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * 기동 시 BCrypt cost 보정
+ * min-cost로 몇 번 해시해 중앙값을 재고, cost가 1 오를 때마다 시간이 2배가 되는 점을 이용해
+ * target-latency 안에 드는 가장 높은 cost를 고른다. 측정이 실패하거나 느린 장비에서도 min-cost 아래로는 내리지 않는다.
+ */
+@Slf4j
+public final class PasswordCostCalibrator {
+
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private PasswordCostCalibrator() {
+    }
+
+    public static int calibrate(PasswordHashingProperties properties) {
+        int minCost = properties.getMinCost();
+        if (!properties.isCalibrate()) {
+            return minCost;
+        }
+        try {
+            String salt = BCrypt.gensalt(minCost);
+            BCrypt.hashpw(SAMPLE_PASSWORD, salt); // JIT 예열
+            long[] samples = new long[SAMPLES];
+            for (int i = 0; i < SAMPLES; i++) {
+                long startedAt = System.nanoTime();
+                BCrypt.hashpw(SAMPLE_PASSWORD, salt);
+                samples[i] = System.nanoTime() - startedAt;
+            }
+            Arrays.sort(samples);
+            long measured = samples[SAMPLES / 2];
+            int cost = chooseCost(measured, minCost, properties.getMaxCost(), properties.getTargetLatency().toNanos());
+            log.info("BCrypt cost 보정: cost {} 측정 {}ms, 목표 {}ms → cost {} (예상 {}ms)", minCost,
+                    measured / 1_000_000, properties.getTargetLatency().toMillis(), cost,
+                    (measured << (cost - minCost)) / 1_000_000);
+            return cost;
+        } catch (Exception e) {
+            log.warn("BCrypt cost 보정 실패, cost {} 사용: {}", minCost, e.getMessage());
+            return minCost;
+        }
+    }
+
+    static int chooseCost(long nanosAtMinCost, int minCost, int maxCost, long targetNanos) {
+        int cost = minCost;
+        long expected = nanosAtMinCost;
+        while (cost < maxCost && expected * 2 <= targetNanos) {
+            expected *= 2;
+            cost++;
+        }
+        return cost;
+    }
+}
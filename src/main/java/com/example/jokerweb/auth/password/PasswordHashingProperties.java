@@ -0,0 +1,43 @@
+package com.example.jokerweb.auth.password;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 비밀번호 해시 실행 설정 (auth.password.*)
+ * 로그인/가입의 BCrypt 해시는 Tomcat 요청 스레드가 아닌 전용 CPU 풀(PasswordHashingService)에서 실행한다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.password")
+public class PasswordHashingProperties {
+
+    /** 해시 전용 스레드 수 (0이면 코어 수의 절반, 최소 1) */
+    private int threads = 0;
+
+    /** 스레드가 모두 바쁠 때 대기할 수 있는 해시 작업 수 (초과 시 바로 503) */
+    private int queueCapacity = 8;
+
+    /** 큐에서 이 시간 넘게 기다린 작업은 실행하지 않고 503 (호출자가 이미 오래 기다린 상태) */
+    private Duration queueTimeout = Duration.ofSeconds(1);
+
+    private int retryAfterSeconds = 2;
+
+    /** 기동 시 측정으로 BCrypt cost를 정할지 여부 (false면 min-cost 사용) */
+    private boolean calibrate = true;
+
+    /** 해시 1회 목표 시간: 이 시간을 넘지 않는 가장 높은 cost를 고른다 */
+    private Duration targetLatency = Duration.ofMillis(150);
+
+    private int minCost = 10;
+
+    private int maxCost = 14;
+
+    public int resolveThreads() {
+        return threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
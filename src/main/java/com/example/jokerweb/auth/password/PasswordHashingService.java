@@ -0,0 +1,140 @@
+package com.example.jokerweb.auth.password;
+
+import com.example.jokerweb.auth.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그인/가입 비밀번호 해시 실행기
+ * CPU를 쓰는 BCrypt 해시를 크기가 고정된 전용 풀에서 실행해, 로그인 폭주가 Tomcat 요청 스레드와 CPU를 모두 차지해
+ * 다른 API까지 느려지지 않도록 한다. 큐가 가득 차거나 큐에서 queue-timeout 넘게 기다린 작업은 실행하지 않고 503으로 돌려보낸다.
+ * 가상 스레드 설정과 상관없이 플랫폼 스레드를 쓴다 (CPU 작업이라 동시 실행 수 자체를 제한해야 함).
+ *
+ * 메트릭: auth.password.hash(op 태그, 해시 시간), auth.password.queue.wait(큐 대기), auth.password.rejected(reason 태그),
+ * executor.*(name=password-hash). 보정된 BCrypt cost는 auth.password.cost (SecurityBeans)
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private static final String BUSY_MESSAGE = "로그인 요청이 많아 잠시 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWait;
+    private final Counter queueFull;
+    private final Counter deadlineExceeded;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder, PasswordHashingProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+
+        int threads = properties.resolveThreads();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "password-hash", Tags.empty()).bindTo(meterRegistry);
+
+        this.encodeTimer = Timer.builder("auth.password.hash").tag("op", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash").tag("op", "matches").register(meterRegistry);
+        this.queueWait = Timer.builder("auth.password.queue.wait").register(meterRegistry);
+        this.queueFull = meterRegistry.counter("auth.password.rejected", "reason", "queue_full");
+        this.deadlineExceeded = meterRegistry.counter("auth.password.rejected", "reason", "deadline");
+        log.info("Password hashing pool initialized: threads={}, queue={}, queueTimeout={}ms",
+                threads, properties.getQueueCapacity(), properties.getQueueTimeout().toMillis());
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String passwordHash) {
+        if (passwordHash == null || passwordHash.isEmpty()) {
+            return false;
+        }
+        return run(matchesTimer, () -> passwordEncoder.matches(rawPassword, passwordHash));
+    }
+
+    /**
+     * 현재 cost보다 낮은 cost로 만든(예전) 해시인지 - 로그인 성공 시 다시 해시해 저장한다
+     */
+    public boolean needsRehash(String passwordHash) {
+        try {
+            return passwordHash != null && passwordEncoder.upgradeEncoding(passwordHash);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private <T> T run(Timer timer, Callable<T> hashing) {
+        long submittedAt = System.nanoTime();
+        long deadlineNanos = properties.getQueueTimeout().toNanos();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long waited = System.nanoTime() - submittedAt;
+                queueWait.record(waited, TimeUnit.NANOSECONDS);
+                if (waited > deadlineNanos) {
+                    deadlineExceeded.increment();
+                    throw busy();
+                }
+                return timer.recordCallable(hashing);
+            });
+        } catch (RejectedExecutionException e) {
+            queueFull.increment();
+            log.warn("비밀번호 해시 풀 포화: queued={}", executor.getQueue().size());
+            throw busy();
+        }
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw busy();
+        }
+    }
+
+    private PasswordHashingBusyException busy() {
+        return new PasswordHashingBusyException(BUSY_MESSAGE, properties.getRetryAfterSeconds());
+    }
+
+    int queuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.jokerweb.auth.service;
+
+import com.example.jokerweb.member.Member;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 회원 저장/수정 시 이메일·닉네임·OUID를 가입 중복 확인 필터에 추가
+ */
+public class RegistrationAvailabilityListener {
+
+    private final ObjectProvider<RegistrationAvailabilityService> availabilityService;
+
+    public RegistrationAvailabilityListener(ObjectProvider<RegistrationAvailabilityService> availabilityService) {
+        this.availabilityService = availabilityService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Member member) {
+        availabilityService.ifAvailable(service -> service.add(member.getEmail(), member.getNickname(), member.getOuid()));
+    }
+}
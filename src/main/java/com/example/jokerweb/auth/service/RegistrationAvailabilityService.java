@@ -0,0 +1,200 @@
+package com.example.jokerweb.auth.service;
+
+import com.example.jokerweb.common.BloomFilter;
+import com.example.jokerweb.member.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 회원가입 폼의 이메일/닉네임/OUID 사용 가능 여부 확인
+ * 입력할 때마다 호출되므로 사용 중인 값 전체를 Bloom 필터로 들고 있다가 "확실히 없음"이면 DB 없이 사용 가능으로 답한다.
+ * 필터가 "있을 수도 있음"일 때만 exists 쿼리로 확인하고, 사용 중으로 확인된 값은 잠시 캐시한다.
+ * 필터는 기동 시 member 테이블에서 채우고, 회원 저장 시 RegistrationAvailabilityListener가 추가하며, 매일 다시 만든다(삭제/변경 반영).
+ * 가입 자체(AuthService.register)는 지금처럼 DB로 최종 확인한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegistrationAvailabilityService {
+
+    public enum Field {
+        EMAIL("e:"), NICKNAME("n:"), OUID("o:");
+
+        private final String prefix;
+
+        Field(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    private static final String LOAD_SQL = "SELECT email, nickname, ouid FROM member";
+
+    private final MemberRepository memberRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${registration.availability.expected-members:100000}")
+    private long expectedMembers;
+
+    @Value("${registration.availability.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private final Cache<String, Boolean> takenCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(60, TimeUnit.SECONDS)
+            .build();
+
+    private final AtomicLong fastPathHits = new AtomicLong();
+    private final AtomicLong databaseChecks = new AtomicLong();
+
+    // Collator는 스레드 안전하지 않으므로 스레드마다 하나
+    private static final ThreadLocal<Collator> COLLATOR = ThreadLocal.withInitial(() -> {
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.PRIMARY);
+        collator.setDecomposition(Collator.FULL_DECOMPOSITION);
+        return collator;
+    });
+
+    // 로드가 끝나기 전에는 null (모든 확인을 DB로)
+    private volatile BloomFilter filter;
+    // 재생성 중(COUNT 조회 전부터)에 저장된 회원 값을 놓치지 않도록 새 필터에도 넣는다
+    private volatile Staging staging;
+
+    public boolean isTaken(Field field, String value) {
+        String key = key(field, value);
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(key)) {
+            fastPathHits.incrementAndGet();
+            return false;
+        }
+        if (takenCache.getIfPresent(key) != null) {
+            return true;
+        }
+        databaseChecks.incrementAndGet();
+        String trimmed = value.trim();
+        boolean taken = switch (field) {
+            case EMAIL -> memberRepository.existsByEmail(trimmed);
+            case NICKNAME -> memberRepository.existsByNickname(trimmed);
+            case OUID -> memberRepository.existsByOuid(trimmed);
+        };
+        if (taken) {
+            takenCache.put(key, Boolean.TRUE);
+        }
+        return taken;
+    }
+
+    /**
+     * 저장된 회원 값 추가 (롤백되더라도 오탐이 하나 늘 뿐이므로 커밋을 기다리지 않는다)
+     */
+    public void add(String email, String nickname, String ouid) {
+        List<String> keys = keys(email, nickname, ouid);
+        BloomFilter current = filter;
+        if (current != null) {
+            keys.forEach(current::put);
+        }
+        Staging pending = staging;
+        if (pending != null) {
+            pending.add(keys);
+        }
+    }
+
+    @Async("aggregationExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        rebuild();
+    }
+
+    // 매일 새벽 4시 50분: 탈퇴/닉네임 변경으로 남은 값 정리
+    @Scheduled(cron = "0 50 4 * * *")
+    public void rebuild() {
+        // 필터 크기를 정할 COUNT 조회보다 먼저 열어 두어야 그 사이에 저장된 회원 값도 새 필터에 들어간다
+        Staging pending = new Staging();
+        staging = pending;
+        try {
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member", Long.class);
+            long capacity = Math.max(expectedMembers, (count != null ? count : 0) * 2) * Field.values().length;
+            BloomFilter next = new BloomFilter(capacity, falsePositiveRate);
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                keys(rs.getString(1), rs.getString(2), rs.getString(3)).forEach(next::put);
+            });
+            pending.attach(next);
+            filter = next;
+            log.info("가입 중복 확인 필터 생성: members={}, bits={}, hashes={}", count, next.bitCount(), next.hashCount());
+        } catch (Exception e) {
+            log.warn("가입 중복 확인 필터 생성 실패 (DB 확인으로 진행): {}", e.getMessage());
+        } finally {
+            staging = null;
+        }
+    }
+
+    long fastPathHits() {
+        return fastPathHits.get();
+    }
+
+    long databaseChecks() {
+        return databaseChecks.get();
+    }
+
+    private static List<String> keys(String email, String nickname, String ouid) {
+        List<String> keys = new ArrayList<>(3);
+        if (email != null && !email.isBlank()) {
+            keys.add(key(Field.EMAIL, email));
+        }
+        if (nickname != null && !nickname.isBlank()) {
+            keys.add(key(Field.NICKNAME, nickname));
+        }
+        if (ouid != null && !ouid.isBlank()) {
+            keys.add(key(Field.OUID, ouid));
+        }
+        return keys;
+    }
+
+    /**
+     * 1차 강도(PRIMARY) Collator의 정렬 키로 묶는다. 대소문자, 악센트, 전각/호환 문자, 합자(ﬁ/fi), ß/ss,
+     * 무시 문자(zero-width 등)가 같은 키가 되어 utf8mb4_unicode_ci가 같다고 보는 대부분의 값을 함께 묶는다.
+     * 다만 JDK 규칙과 MariaDB의 UCA 4.0.0 가중치가 완전히 같지는 않아(ø/o, đ/d 등) 드물게 필터가 "없음"이라고 답한
+     * 값이 DB에서는 중복일 수 있다. 이 경우 폼에는 사용 가능으로 보이지만 가입(AuthService.register)의 DB 확인에서 걸러진다.
+     */
+    static String key(Field field, String value) {
+        byte[] collationKey = COLLATOR.get().getCollationKey(value.trim()).toByteArray();
+        return field.prefix + HexFormat.of().formatHex(collationKey);
+    }
+
+    /**
+     * 재생성 중 저장된 회원 키. 새 필터가 준비되기 전에는 모아 두었다가 attach 때 옮기고, 그 뒤로는 바로 넣는다.
+     */
+    private static final class Staging {
+
+        private final List<String> keys = new ArrayList<>();
+        private BloomFilter target;
+
+        synchronized void add(List<String> added) {
+            if (target != null) {
+                added.forEach(target::put);
+            } else {
+                keys.addAll(added);
+            }
+        }
+
+        synchronized void attach(BloomFilter next) {
+            keys.forEach(next::put);
+            keys.clear();
+            target = next;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ValidationService {
 
     private final MemberRepository memberRepository;
+    private final RegistrationAvailabilityService availabilityService;
 
     @Transactional(readOnly = true)
     public void validateEmail(String email) {
@@ -76,7 +77,7 @@ public class ValidationService {
         if (email == null || email.trim().isEmpty()) {
             return false;
         }
-        return !memberRepository.existsByEmail(email.trim());
+        return !availabilityService.isTaken(RegistrationAvailabilityService.Field.EMAIL, email);
     }
 
     @Transactional(readOnly = true)
@@ -86,7 +87,7 @@ public class ValidationService {
         }
         try {
             NicknameValidator.validate(nickname);
-            return !memberRepository.existsByNickname(nickname.trim());
+            return !availabilityService.isTaken(RegistrationAvailabilityService.Field.NICKNAME, nickname);
         } catch (Exception ex) {
             return false;
         }
@@ -97,6 +98,6 @@ public class ValidationService {
         if (ouid == null || ouid.trim().isEmpty()) {
             return true; // OUID는 선택사항이므로 빈 값은 사용 가능
         }
-        return !memberRepository.existsByOuid(ouid.trim());
+        return !availabilityService.isTaken(RegistrationAvailabilityService.Field.OUID, ouid);
     }
 }
@@ -2,7 +2,6 @@ package com.example.jokerweb.clan;
 
 import com.example.jokerweb.security.RequireNexonLinked;
 import jakarta.validation.constraints.NotBlank;
-import java.util.List;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
 public class ClanController {
 
     private final ClanService clanService;
+    private final ClanDirectoryService clanDirectoryService;
 
     @PostMapping
     public ResponseEntity<Clan> create(
@@ -26,9 +26,18 @@ public class ClanController {
         return ResponseEntity.ok(clan);
     }
 
+    /**
+     * 공개 클랜 목록 (sort: recent, members, verified / 다음 페이지는 응답의 nextCursor 전달)
+     */
     @GetMapping
-    public ResponseEntity<List<Clan>> list() {
-        return ResponseEntity.ok(clanService.list());
+    public ResponseEntity<ClanDirectoryPage> list(
+            @RequestParam(defaultValue = "active") String status,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(clanDirectoryService.page(status, ClanDirectoryService.Order.from(sort), cursor,
+                Math.min(Math.max(size, 1), 50)));
     }
 
     @GetMapping("/{id}")
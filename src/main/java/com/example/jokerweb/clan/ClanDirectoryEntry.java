@@ -0,0 +1,21 @@
+package com.example.jokerweb.clan;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 공개 클랜 목록 행 (Member 엔티티를 로딩하지 않도록 마스터 닉네임만 조인해서 가져옴)
+ */
+public record ClanDirectoryEntry(
+        Long id,
+        String clanName,
+        String barracksAddress,
+        String description,
+        String contact,
+        Boolean verified,
+        Integer memberCount,
+        String status,
+        String masterNickname,
+        LocalDateTime createdAt
+) implements Serializable {
+}
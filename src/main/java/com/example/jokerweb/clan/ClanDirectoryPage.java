@@ -0,0 +1,10 @@
+package com.example.jokerweb.clan;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 공개 클랜 목록 한 페이지 (nextCursor가 null이면 마지막 페이지)
+ */
+public record ClanDirectoryPage(List<ClanDirectoryEntry> items, String nextCursor) implements Serializable {
+}
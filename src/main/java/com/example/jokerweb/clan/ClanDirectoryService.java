@@ -0,0 +1,121 @@
+package com.example.jokerweb.clan;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 공개 클랜 목록 (키셋 페이지네이션)
+ * OFFSET 없이 마지막 행의 정렬 키(커서) 다음부터 읽으므로 클랜 수가 늘어도 페이지당 비용이 일정하다.
+ * 커서 없는 첫 페이지는 clanDirectory 캐시(짧은 TTL)에 두고, 생성/인증/삭제/정지 시 비운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClanDirectoryService {
+
+    public static final String CACHE = "clanDirectory";
+
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final List<String> PUBLIC_STATUSES = List.of("active", "suspended");
+
+    private final ClanRepository clanRepository;
+
+    public enum Order {
+        RECENT, MEMBERS, VERIFIED;
+
+        public static Order from(String value) {
+            if (value == null || value.isBlank()) {
+                return RECENT;
+            }
+            try {
+                return Order.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 정렬입니다: " + value);
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CACHE, key = "#order.name() + ':' + #status + ':' + #size", condition = "#cursor == null")
+    public ClanDirectoryPage page(String status, Order order, String cursor, int size) {
+        if (!PUBLIC_STATUSES.contains(status)) {
+            throw new IllegalArgumentException("지원하지 않는 상태입니다: " + status);
+        }
+        String[] key = decode(order, cursor);
+        PageRequest limit = PageRequest.ofSize(size + 1); // 다음 페이지 존재 여부 확인용 1건 더
+        List<ClanDirectoryEntry> rows = switch (order) {
+            case RECENT -> clanRepository.findDirectoryByCreatedAt(status,
+                    key == null ? MAX_CREATED_AT : LocalDateTime.parse(key[0]),
+                    key == null ? Long.MAX_VALUE : Long.parseLong(key[1]), limit);
+            case MEMBERS -> clanRepository.findDirectoryByMemberCount(status,
+                    key == null ? Integer.MAX_VALUE : Integer.parseInt(key[0]),
+                    key == null ? Long.MAX_VALUE : Long.parseLong(key[1]), limit);
+            case VERIFIED -> verifiedFirst(status, key, limit);
+        };
+
+        boolean hasMore = rows.size() > size;
+        List<ClanDirectoryEntry> items = hasMore ? List.copyOf(rows.subList(0, size)) : List.copyOf(rows);
+        return new ClanDirectoryPage(items, hasMore ? encode(order, items.get(items.size() - 1)) : null);
+    }
+
+    /**
+     * 인증 클랜 최신순 → 미인증 클랜 최신순 (인증 여부마다 같은 인덱스 범위를 이어서 읽음)
+     */
+    private List<ClanDirectoryEntry> verifiedFirst(String status, String[] key, PageRequest limit) {
+        List<ClanDirectoryEntry> rows = new ArrayList<>(limit.getPageSize());
+        boolean inVerified = key == null || Boolean.parseBoolean(key[0]);
+        if (inVerified) {
+            rows.addAll(clanRepository.findDirectoryByVerifiedAndCreatedAt(status, true,
+                    key == null ? MAX_CREATED_AT : LocalDateTime.parse(key[1]),
+                    key == null ? Long.MAX_VALUE : Long.parseLong(key[2]), limit));
+        }
+        if (rows.size() < limit.getPageSize()) {
+            boolean continueUnverified = !inVerified;
+            rows.addAll(clanRepository.findDirectoryByVerifiedAndCreatedAt(status, false,
+                    continueUnverified ? LocalDateTime.parse(key[1]) : MAX_CREATED_AT,
+                    continueUnverified ? Long.parseLong(key[2]) : Long.MAX_VALUE,
+                    PageRequest.ofSize(limit.getPageSize() - rows.size())));
+        }
+        return rows;
+    }
+
+    private static String encode(Order order, ClanDirectoryEntry last) {
+        String raw = switch (order) {
+            case RECENT -> last.createdAt() + "|" + last.id();
+            case MEMBERS -> (last.memberCount() != null ? last.memberCount() : 0) + "|" + last.id();
+            case VERIFIED -> Boolean.TRUE.equals(last.verified()) + "|" + last.createdAt() + "|" + last.id();
+        };
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decode(Order order, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != (order == Order.VERIFIED ? 3 : 2)) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            // 형식 검증 (숫자 형식 오류는 IllegalArgumentException)
+            Long.parseLong(parts[parts.length - 1]);
+            switch (order) {
+                case RECENT -> LocalDateTime.parse(parts[0]);
+                case MEMBERS -> Integer.parseInt(parts[0]);
+                case VERIFIED -> LocalDateTime.parse(parts[1]);
+            }
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
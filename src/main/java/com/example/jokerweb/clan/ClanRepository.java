@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -25,4 +27,37 @@ public interface ClanRepository extends JpaRepository<Clan, Long>, JpaSpecificat
 
     @Query("SELECT COUNT(c) FROM Clan c WHERE c.status = :status")
     long countByStatus(@Param("status") String status);
+
+    // 공개 클랜 목록 (키셋 페이지네이션, 첫 페이지는 커서 자리에 최댓값을 넣어 호출)
+    String DIRECTORY_SELECT = "SELECT new com.example.jokerweb.clan.ClanDirectoryEntry(c.id, c.clanName, c.barracksAddress, "
+            + "c.description, c.contact, c.isVerified, c.memberCount, c.status, m.nickname, c.createdAt) "
+            + "FROM Clan c JOIN c.master m ";
+
+    // 최신순 (idx_clan_status: status, created_at)
+    @Query(DIRECTORY_SELECT + "WHERE c.status = :status "
+            + "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ClanDirectoryEntry> findDirectoryByCreatedAt(@Param("status") String status,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
+
+    // 인원순 (idx_clan_status_members: status, member_count)
+    @Query(DIRECTORY_SELECT + "WHERE c.status = :status "
+            + "AND (c.memberCount < :memberCount OR (c.memberCount = :memberCount AND c.id < :id)) "
+            + "ORDER BY c.memberCount DESC, c.id DESC")
+    List<ClanDirectoryEntry> findDirectoryByMemberCount(@Param("status") String status,
+                                                        @Param("memberCount") Integer memberCount,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
+
+    // 인증 여부별 최신순 (idx_clan_status_verified: status, is_verified, created_at)
+    @Query(DIRECTORY_SELECT + "WHERE c.status = :status AND c.isVerified = :verified "
+            + "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ClanDirectoryEntry> findDirectoryByVerifiedAndCreatedAt(@Param("status") String status,
+                                                                 @Param("verified") Boolean verified,
+                                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                                 @Param("id") Long id,
+                                                                 Pageable pageable);
 }
@@ -3,9 +3,8 @@ package com.example.jokerweb.clan;
 import com.example.jokerweb.auth.AuthService;
 import com.example.jokerweb.member.Member;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +18,7 @@ public class ClanService {
     private final AuthService authService;
 
     @Transactional
+    @CacheEvict(cacheNames = ClanDirectoryService.CACHE, allEntries = true)
     public Clan create(String authorization, String clanName, String barracksAddress, String description, String contact) {
         Member master = authService.authenticate(authorization)
                 .orElseThrow(() -> new IllegalArgumentException("로그인이 필요합니다."));
@@ -47,13 +47,6 @@ public class ClanService {
         return saved;
     }
 
-    @Transactional(readOnly = true)
-    public List<Clan> list() {
-        return clanRepository.findAll().stream()
-                .filter(c -> !"deleted".equalsIgnoreCase(c.getStatus()))
-                .collect(Collectors.toList());
-    }
-
     @Transactional(readOnly = true)
     public Clan detail(Long id) {
         return clanRepository.findById(id)
@@ -75,6 +68,7 @@ public class ClanService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = ClanDirectoryService.CACHE, allEntries = true)
     public void approveVerification(Long requestId, Member admin) {
         ClanVerificationRequest req = verificationRepository.findById(requestId)
                 .orElseThrow(() -> new IllegalArgumentException("검증 요청을 찾을 수 없습니다."));
@@ -0,0 +1,106 @@
+package com.example.jokerweb.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 멤버십 Bloom 필터
+ * mightContain이 false면 "확실히 없음", true면 "있을 수도 있음"(오탐률 약 falsePositiveRate)이다.
+ * 삭제는 지원하지 않으며, 비트 배열을 AtomicLongArray로 두어 동기화 없이 여러 스레드가 put/조회할 수 있다.
+ */
+public final class BloomFilter {
+
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLongArray words;
+    private final AtomicLong insertions = new AtomicLong();
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("expectedInsertions는 1 이상이어야 합니다.");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate는 0과 1 사이여야 합니다.");
+        }
+        // m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        long wordCount = Math.max(1, (bits + 63) / 64);
+        if (wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom 필터가 너무 큽니다.");
+        }
+        this.words = new AtomicLongArray((int) wordCount);
+        this.bitCount = wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+        if (value == null) {
+            return;
+        }
+        long hash = hash64(value.getBytes(StandardCharsets.UTF_8));
+        long h1 = hash & 0xffffffffL;
+        long h2 = hash >>> 32;
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+        insertions.incrementAndGet();
+    }
+
+    public boolean mightContain(String value) {
+        if (value == null) {
+            return false;
+        }
+        long hash = hash64(value.getBytes(StandardCharsets.UTF_8));
+        long h1 = hash & 0xffffffffL;
+        long h2 = hash >>> 32;
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * put 호출 횟수 (중복 포함, 용량 초과 판단용)
+     */
+    public long insertions() {
+        return insertions.get();
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    // Kirsch-Mitzenmacher 이중 해싱: i번째 해시 = h1 + i * h2
+    private long index(long combined) {
+        return (combined & Long.MAX_VALUE) % bitCount;
+    }
+
+    // FNV-1a 64 + murmur3 fmix64 (HyperLogLog와 같은 해시)
+    private static long hash64(byte[] bytes) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.jokerweb.common;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GROUP BY 집계 쿼리 결과 변환
+ */
+public final class CountRows {
+
+    private CountRows() {
+    }
+
+    /**
+     * (id, COUNT(*)) 행 목록을 id별 건수로 변환 (행이 없는 id는 호출하는 쪽에서 0으로 취급)
+     */
+    public static Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>(Math.max(16, rows.size() * 2));
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+}
@@ -4,6 +4,7 @@ import com.example.jokerweb.auth.exception.DuplicateEmailException;
 import com.example.jokerweb.auth.exception.DuplicateNicknameException;
 import com.example.jokerweb.auth.exception.DuplicateOuidException;
 import com.example.jokerweb.auth.exception.InvalidNicknameException;
+import com.example.jokerweb.auth.exception.PasswordHashingBusyException;
 import com.example.jokerweb.auth.exception.WeakPasswordException;
 import com.example.jokerweb.nexon.NexonApiRateLimitException;
 import java.time.LocalDateTime;
@@ -96,6 +97,18 @@ public class GlobalExceptionHandler {
                         .build());
     }
 
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingBusy(PasswordHashingBusyException ex) {
+        log.warn("비밀번호 해시 풀 포화로 요청 거절");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ErrorResponse.builder()
+                        .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        .message(ex.getMessage())
+                        .timestamp(LocalDateTime.now())
+                        .build());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex) {
         Map<String, String> errors = ex.getBindingResult()
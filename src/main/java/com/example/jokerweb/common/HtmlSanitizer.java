@@ -0,0 +1,497 @@
+package com.example.jokerweb.common;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 HTML 정제기
+ *
+ * 본문을 한 번만 순회하면서 허용된 태그/속성만 남기고, 같은 순회에서 이미지·동영상·링크·표 개수와
+ * 태그를 제외한 본문 길이를 함께 계산한다. 게시판 규칙 검증은 결과의 카운터로 처리하므로
+ * 정규식으로 본문을 여러 번 다시 훑지 않는다.
+ *
+ * 허용 목록은 에디터(TipTap)가 만드는 마크업 기준이며, 목록에 없는 태그는 태그만 제거하고 텍스트는 남긴다.
+ * script/style 등 내용 자체가 위험한 태그는 내용까지 제거한다.
+ */
+public final class HtmlSanitizer {
+
+    /**
+     * 정제 결과
+     *
+     * @param html         정제된 HTML (저장/응답에 그대로 사용)
+     * @param textLength   태그를 제외한 본문 길이 (앞뒤 공백 제외)
+     * @param imageCount   이미지 수
+     * @param videoCount   삽입된 동영상(iframe) 수
+     * @param linkCount    링크 수
+     * @param youtubeCount 유튜브 동영상/링크 수
+     * @param tableCount   표 수
+     */
+    public record Result(String html, int textLength, int imageCount, int videoCount,
+                         int linkCount, int youtubeCount, int tableCount) {
+
+        public int mediaCount() {
+            return imageCount + videoCount;
+        }
+    }
+
+    private static final Set<String> GLOBAL_ATTRIBUTES = Set.of("class", "style");
+
+    private static final Map<String, Set<String>> ALLOWED_TAGS = Map.ofEntries(
+            Map.entry("p", Set.of()), Map.entry("br", Set.of()), Map.entry("hr", Set.of()),
+            Map.entry("span", Set.of()), Map.entry("div", Set.of("data-youtube-video")),
+            Map.entry("strong", Set.of()), Map.entry("b", Set.of()), Map.entry("em", Set.of()),
+            Map.entry("i", Set.of()), Map.entry("u", Set.of()), Map.entry("s", Set.of()),
+            Map.entry("mark", Set.of()), Map.entry("sub", Set.of()), Map.entry("sup", Set.of()),
+            Map.entry("code", Set.of()), Map.entry("pre", Set.of()), Map.entry("blockquote", Set.of()),
+            Map.entry("h1", Set.of()), Map.entry("h2", Set.of()), Map.entry("h3", Set.of()),
+            Map.entry("h4", Set.of()), Map.entry("h5", Set.of()), Map.entry("h6", Set.of()),
+            Map.entry("ul", Set.of()), Map.entry("ol", Set.of("start")), Map.entry("li", Set.of()),
+            Map.entry("a", Set.of("href", "target", "rel", "title")),
+            Map.entry("img", Set.of("src", "alt", "title", "width", "height")),
+            Map.entry("iframe", Set.of("src", "width", "height", "allowfullscreen", "frameborder", "allow")),
+            Map.entry("table", Set.of()), Map.entry("colgroup", Set.of()), Map.entry("col", Set.of("span")),
+            Map.entry("thead", Set.of()), Map.entry("tbody", Set.of()), Map.entry("tr", Set.of()),
+            Map.entry("th", Set.of("colspan", "rowspan", "colwidth")),
+            Map.entry("td", Set.of("colspan", "rowspan", "colwidth"))
+    );
+
+    private static final Set<String> VOID_TAGS = Set.of("br", "hr", "img", "col");
+
+    /** 내용까지 제거하는 태그 */
+    private static final Set<String> DROP_CONTENT_TAGS = Set.of(
+            "script", "style", "noscript", "template", "textarea", "select", "object", "embed",
+            "svg", "math", "title", "head", "iframe");
+
+    private static final String[] YOUTUBE_EMBED_PREFIXES = {
+            "https://www.youtube.com/embed/", "https://youtube.com/embed/", "https://www.youtube-nocookie.com/embed/"
+    };
+
+    private static final String[] DATA_IMAGE_PREFIXES = {
+            "data:image/png", "data:image/jpeg", "data:image/jpg", "data:image/gif", "data:image/webp"
+    };
+
+    private static final String[] UNSAFE_STYLE_TOKENS = {"expression", "url(", "javascript", "@import", "behavior", "<"};
+
+    private HtmlSanitizer() {
+    }
+
+    public static Result sanitize(String input) {
+        if (input == null || input.isEmpty()) {
+            return new Result(input == null ? "" : input, 0, 0, 0, 0, 0, 0);
+        }
+        return new Pass(input).run();
+    }
+
+    /**
+     * 한 번의 정제 순회 상태
+     */
+    private static final class Pass {
+        private final String in;
+        private final int len;
+        private final StringBuilder out;
+        private final Deque<String> open = new ArrayDeque<>();
+        private int pos;
+
+        private int textChars;
+        private int firstText = -1;
+        private int lastText = -1;
+        private int images;
+        private int videos;
+        private int links;
+        private int youtube;
+        private int tables;
+
+        Pass(String in) {
+            this.in = in;
+            this.len = in.length();
+            this.out = new StringBuilder(len);
+        }
+
+        Result run() {
+            while (pos < len) {
+                char c = in.charAt(pos);
+                if (c == '<') {
+                    tag();
+                } else {
+                    text(c);
+                    pos++;
+                }
+            }
+            while (!open.isEmpty()) {
+                out.append("</").append(open.pop()).append('>');
+            }
+            int textLength = firstText < 0 ? 0 : lastText - firstText + 1;
+            return new Result(out.toString(), textLength, images, videos, links, youtube, tables);
+        }
+
+        private void text(char c) {
+            if (c == '<') {
+                out.append("&lt;");
+            } else if (c == '>') {
+                out.append("&gt;");
+            } else {
+                out.append(c);
+            }
+            if (c > ' ') {
+                if (firstText < 0) {
+                    firstText = textChars;
+                }
+                lastText = textChars;
+            }
+            textChars++;
+        }
+
+        private void tag() {
+            if (in.startsWith("<!--", pos)) {
+                int end = in.indexOf("-->", pos + 4);
+                pos = end < 0 ? len : end + 3;
+                return;
+            }
+            char next = pos + 1 < len ? in.charAt(pos + 1) : 0;
+            if (next == '/' && pos + 2 < len && isAsciiLetter(in.charAt(pos + 2))) {
+                endTag();
+            } else if (isAsciiLetter(next)) {
+                startTag();
+            } else if (next == '!' || next == '?') {
+                int end = in.indexOf('>', pos);
+                pos = end < 0 ? len : end + 1;
+            } else {
+                text('<');
+                pos++;
+            }
+        }
+
+        private void endTag() {
+            int nameStart = pos + 2;
+            int nameEnd = scanName(nameStart);
+            String name = in.substring(nameStart, nameEnd).toLowerCase(Locale.ROOT);
+            int end = in.indexOf('>', nameEnd);
+            pos = end < 0 ? len : end + 1;
+            if (open.contains(name)) {
+                // 중간에 닫히지 않은 태그까지 함께 닫아 중첩 구조를 유지
+                String top;
+                do {
+                    top = open.pop();
+                    out.append("</").append(top).append('>');
+                } while (!top.equals(name));
+            }
+        }
+
+        private void startTag() {
+            int nameStart = pos + 1;
+            int nameEnd = scanName(nameStart);
+            String name = in.substring(nameStart, nameEnd).toLowerCase(Locale.ROOT);
+            Set<String> allowed = ALLOWED_TAGS.get(name);
+
+            StringBuilder attrs = new StringBuilder();
+            String src = null;
+            String href = null;
+            boolean selfClosing = false;
+            int i = nameEnd;
+            while (true) {
+                while (i < len && isSpace(in.charAt(i))) {
+                    i++;
+                }
+                if (i >= len) {
+                    // 닫히지 않은 태그는 나머지 입력과 함께 버린다
+                    pos = len;
+                    return;
+                }
+                char c = in.charAt(i);
+                if (c == '>') {
+                    i++;
+                    break;
+                }
+                if (c == '/') {
+                    selfClosing = true;
+                    i++;
+                    continue;
+                }
+                int attrStart = i;
+                while (i < len && !isSpace(in.charAt(i)) && in.charAt(i) != '>' && in.charAt(i) != '/'
+                        && in.charAt(i) != '=') {
+                    i++;
+                }
+                String attrName = in.substring(attrStart, i).toLowerCase(Locale.ROOT);
+                String value = null;
+                while (i < len && isSpace(in.charAt(i))) {
+                    i++;
+                }
+                if (i < len && in.charAt(i) == '=') {
+                    i++;
+                    while (i < len && isSpace(in.charAt(i))) {
+                        i++;
+                    }
+                    if (i < len && (in.charAt(i) == '"' || in.charAt(i) == '\'')) {
+                        char quote = in.charAt(i);
+                        int close = in.indexOf(quote, i + 1);
+                        if (close < 0) {
+                            pos = len;
+                            return;
+                        }
+                        value = in.substring(i + 1, close);
+                        i = close + 1;
+                    } else {
+                        int valueStart = i;
+                        while (i < len && !isSpace(in.charAt(i)) && in.charAt(i) != '>') {
+                            i++;
+                        }
+                        value = in.substring(valueStart, i);
+                    }
+                }
+                if (allowed == null || attrName.isEmpty()) {
+                    continue;
+                }
+                if (!allowed.contains(attrName) && !GLOBAL_ATTRIBUTES.contains(attrName)) {
+                    continue;
+                }
+                if ("src".equals(attrName)) {
+                    if (!isSafeSource(name, value)) {
+                        continue;
+                    }
+                    src = value;
+                } else if ("href".equals(attrName)) {
+                    if (!isSafeLink(value)) {
+                        continue;
+                    }
+                    href = value;
+                } else if ("style".equals(attrName) && !isSafeStyle(value)) {
+                    continue;
+                }
+                appendAttribute(attrs, attrName, value);
+            }
+            pos = i;
+
+            if (allowed == null || ("iframe".equals(name) && src == null) || ("img".equals(name) && src == null)) {
+                if (DROP_CONTENT_TAGS.contains(name) && !selfClosing) {
+                    skipContent(name);
+                }
+                return;
+            }
+
+            out.append('<').append(name).append(attrs).append('>');
+            switch (name) {
+                case "img" -> images++;
+                case "iframe" -> {
+                    videos++;
+                    youtube++;
+                }
+                case "a" -> {
+                    links++;
+                    if (href != null && isYoutubeUrl(href)) {
+                        youtube++;
+                    }
+                }
+                case "table" -> tables++;
+                default -> {
+                }
+            }
+
+            if ("iframe".equals(name)) {
+                // iframe 내용은 대체 텍스트뿐이므로 버리고 바로 닫는다
+                if (!selfClosing) {
+                    skipContent(name);
+                }
+                out.append("</iframe>");
+            } else if (!VOID_TAGS.contains(name)) {
+                if (selfClosing) {
+                    out.append("</").append(name).append('>');
+                } else {
+                    open.push(name);
+                }
+            }
+        }
+
+        // </name> 까지 입력을 건너뜀 (없으면 끝까지)
+        private void skipContent(String name) {
+            int i = pos;
+            while (true) {
+                int lt = in.indexOf("</", i);
+                if (lt < 0) {
+                    pos = len;
+                    return;
+                }
+                int nameEnd = lt + 2 + name.length();
+                if (nameEnd <= len && in.regionMatches(true, lt + 2, name, 0, name.length())
+                        && (nameEnd == len || !isNameChar(in.charAt(nameEnd)))) {
+                    int end = in.indexOf('>', nameEnd);
+                    pos = end < 0 ? len : end + 1;
+                    return;
+                }
+                i = lt + 2;
+            }
+        }
+
+        private int scanName(int start) {
+            int i = start;
+            while (i < len && isNameChar(in.charAt(i))) {
+                i++;
+            }
+            return i;
+        }
+    }
+
+    private static void appendAttribute(StringBuilder attrs, String name, String value) {
+        attrs.append(' ').append(name);
+        if (value == null) {
+            return;
+        }
+        attrs.append("=\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> attrs.append("&quot;");
+                case '<' -> attrs.append("&lt;");
+                case '>' -> attrs.append("&gt;");
+                default -> attrs.append(c);
+            }
+        }
+        attrs.append('"');
+    }
+
+    private static boolean isSafeSource(String tag, String value) {
+        if (value == null) {
+            return false;
+        }
+        String url = normalizeUrl(value);
+        if ("iframe".equals(tag)) {
+            for (String prefix : YOUTUBE_EMBED_PREFIXES) {
+                if (url.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (url.startsWith("data:")) {
+            for (String prefix : DATA_IMAGE_PREFIXES) {
+                if (url.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return isAllowedScheme(url, false);
+    }
+
+    private static boolean isSafeLink(String value) {
+        return value != null && isAllowedScheme(normalizeUrl(value), true);
+    }
+
+    // 스킴이 없으면 상대 경로로 허용, 있으면 http/https(/mailto)만 허용
+    private static boolean isAllowedScheme(String url, boolean allowMailto) {
+        for (int i = 0; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if (c == ':') {
+                String scheme = url.substring(0, i);
+                return "http".equals(scheme) || "https".equals(scheme) || (allowMailto && "mailto".equals(scheme));
+            }
+            if (c == '/' || c == '?' || c == '#') {
+                return true;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSafeStyle(String value) {
+        if (value == null) {
+            return true;
+        }
+        String style = decodeEntities(value).toLowerCase(Locale.ROOT).replace("\\", "");
+        for (String token : UNSAFE_STYLE_TOKENS) {
+            if (style.contains(token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isYoutubeUrl(String value) {
+        String url = normalizeUrl(value);
+        return url.contains("youtube.com/") || url.contains("youtu.be/") || url.contains("youtube-nocookie.com/");
+    }
+
+    // 브라우저와 같은 방식으로 엔티티를 풀고 공백/제어 문자를 제거해 스킴 우회(java&#x09;script: 등)를 막는다
+    private static String normalizeUrl(String value) {
+        String decoded = decodeEntities(value);
+        StringBuilder sb = new StringBuilder(decoded.length());
+        for (int i = 0; i < decoded.length(); i++) {
+            char c = decoded.charAt(i);
+            if (c > ' ') {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static String decodeEntities(String value) {
+        if (value.indexOf('&') < 0) {
+            return value;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        int i = 0;
+        while (i < value.length()) {
+            char c = value.charAt(i);
+            if (c != '&') {
+                sb.append(c);
+                i++;
+                continue;
+            }
+            int semi = value.indexOf(';', i);
+            int end = semi < 0 ? -1 : semi;
+            if (i + 1 < value.length() && value.charAt(i + 1) == '#') {
+                int j = i + 2;
+                boolean hex = j < value.length() && (value.charAt(j) == 'x' || value.charAt(j) == 'X');
+                if (hex) {
+                    j++;
+                }
+                int digitsStart = j;
+                while (j < value.length() && Character.digit(value.charAt(j), hex ? 16 : 10) >= 0) {
+                    j++;
+                }
+                if (j > digitsStart && j - digitsStart <= 7) {
+                    int cp = Integer.parseInt(value.substring(digitsStart, j), hex ? 16 : 10);
+                    if (Character.isValidCodePoint(cp)) {
+                        sb.appendCodePoint(cp);
+                    }
+                    i = j < value.length() && value.charAt(j) == ';' ? j + 1 : j;
+                    continue;
+                }
+            } else if (end > i) {
+                String named = value.substring(i + 1, end).toLowerCase(Locale.ROOT);
+                String replacement = switch (named) {
+                    case "colon" -> ":";
+                    case "tab" -> "\t";
+                    case "newline" -> "\n";
+                    case "lpar" -> "(";
+                    case "rpar" -> ")";
+                    case "bsol" -> "\\";
+                    case "amp" -> "&";
+                    default -> null;
+                };
+                if (replacement != null) {
+                    sb.append(replacement);
+                    i = end + 1;
+                    continue;
+                }
+            }
+            sb.append(c);
+            i++;
+        }
+        return sb.toString();
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isNameChar(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9') || c == '-';
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+    }
+}
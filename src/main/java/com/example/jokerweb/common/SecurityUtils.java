@@ -30,6 +30,7 @@ public class SecurityUtils {
     
     /**
      * 위험한 스크립트 태그 제거
+     * 게시글 본문과 같은 허용 목록 정제(HtmlSanitizer)를 사용한다.
      * 
      * @param input 입력 문자열
      * @return 정제된 문자열
@@ -38,15 +39,7 @@ public class SecurityUtils {
         if (!StringUtils.hasText(input)) {
             return input;
         }
-        
-        // 위험한 스크립트 태그 패턴 제거
-        return input
-                .replaceAll("(?i)<script[^>]*>.*?</script>", "")
-                .replaceAll("(?i)javascript:", "")
-                .replaceAll("(?i)onerror\\s*=", "")
-                .replaceAll("(?i)onclick\\s*=", "")
-                .replaceAll("(?i)onload\\s*=", "")
-                .replaceAll("(?i)onmouseover\\s*=", "");
+        return HtmlSanitizer.sanitize(input).html();
     }
     
     /**
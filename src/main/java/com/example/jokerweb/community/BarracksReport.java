@@ -1,6 +1,8 @@
 package com.example.jokerweb.community;
 
+import com.example.jokerweb.activity.ActivityEntityListener;
 import com.example.jokerweb.member.Member;
+import com.example.jokerweb.stats.TrafficRollupEntityListener;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -10,6 +12,8 @@ import lombok.*;
 @Getter
 @Setter
 @Entity
+@EntityListeners({TrafficRollupEntityListener.class, BarracksReportStatsListener.class,
+        ActivityEntityListener.class})
 @Table(name = "barracks_report")
 @NoArgsConstructor
 @AllArgsConstructor
@@ -93,6 +97,10 @@ public class BarracksReport {
     @Builder.Default
     private List<BarracksReportAttachment> attachments = new ArrayList<>();
 
+    // 마지막으로 닉네임별 집계에 반영된 기여값 (BarracksReportStatsListener)
+    @Transient
+    private BarracksReportStatsService.Contribution countedContribution;
+
     @PrePersist
     public void onCreate() {
         LocalDateTime now = LocalDateTime.now();
@@ -6,6 +6,9 @@ import com.example.jokerweb.security.RequireNexonLinked;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,8 +29,13 @@ public class BarracksReportController {
     }
 
     @GetMapping
-    public ResponseEntity<List<BarracksReportResponse>> list() {
-        return ResponseEntity.ok(service.list());
+    public ResponseEntity<List<BarracksReportResponse>> list(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100),
+                Sort.by(Sort.Direction.DESC, "createdAt"));
+        return ResponseEntity.ok(service.list(pageable));
     }
 
     @GetMapping("/{id}")
@@ -1,7 +1,11 @@
 package com.example.jokerweb.community;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,21 +17,42 @@ import java.util.Optional;
 @Repository
 public interface BarracksReportRepository extends JpaRepository<BarracksReport, Long>, JpaSpecificationExecutor<BarracksReport> {
 
-    List<BarracksReport> findByTargetNicknameContainingIgnoreCaseOrderByCreatedAtDesc(String targetNickname);
-
-    List<BarracksReport> findAllByOrderByCreatedAtDesc();
+    // 목록 (idx_barracks_report_nickname_created, reporter 함께 로딩)
+    @EntityGraph(attributePaths = {"reporter"})
+    Page<BarracksReport> findAllBy(Pageable pageable);
+
+    // 닉네임 접두어 검색 (LIKE 'prefix%'로 인덱스 사용, 대소문자는 컬럼 collation이 무시)
+    @EntityGraph(attributePaths = {"reporter"})
+    Page<BarracksReport> findByTargetNicknameStartingWith(String prefix, Pageable pageable);
+
+    // 제보 누적 건수가 기준 이상인 대상의 제보 (집계 테이블 기준)
+    @EntityGraph(attributePaths = {"reporter"})
+    @Query(value = "SELECT br FROM BarracksReport br JOIN BarracksReportTargetStats s ON s.targetNickname = br.targetNickname "
+            + "WHERE br.isDeleted = false AND s.barracksCount >= :minCount",
+            countQuery = "SELECT COUNT(br) FROM BarracksReport br JOIN BarracksReportTargetStats s ON s.targetNickname = br.targetNickname "
+            + "WHERE br.isDeleted = false AND s.barracksCount >= :minCount")
+    Page<BarracksReport> findVisibleByTargetReportCount(@Param("minCount") int minCount, Pageable pageable);
+
+    // 같은 닉네임 제보들의 정지 상태 일괄 갱신 (집계 대상 컬럼이 아니므로 리스너를 거치지 않아도 됨)
+    @Modifying
+    @Query("UPDATE BarracksReport br SET br.banStatus = :banStatus, br.banCheckedAt = :checkedAt "
+            + "WHERE br.targetNickname = :targetNickname AND br.isDeleted = false")
+    int updateBanStatusByTargetNickname(@Param("targetNickname") String targetNickname,
+                                        @Param("banStatus") String banStatus,
+                                        @Param("checkedAt") LocalDateTime checkedAt);
 
     @Query("SELECT COUNT(br) FROM BarracksReport br WHERE br.status = :status AND br.processedAt BETWEEN :start AND :end")
     long countByStatusAndProcessedAtBetween(@Param("status") String status, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
-    @Query(value = "SELECT COALESCE(m.nickname, '익명'), br.created_at FROM barracks_report br LEFT JOIN member m ON br.reporter_id = m.id WHERE br.is_deleted = false ORDER BY br.created_at DESC LIMIT :limit", nativeQuery = true)
-    List<Object[]> findRecentReports(@Param("limit") int limit);
-
     @Query("SELECT COUNT(br) FROM BarracksReport br WHERE br.reporter.id = :reporterId")
     long countByReporterId(@Param("reporterId") Long reporterId);
 
+    // 여러 회원의 신고 수를 한 번에 조회 (관리자 회원 목록 N+1 방지)
+    @Query("SELECT br.reporter.id, COUNT(br) FROM BarracksReport br WHERE br.reporter.id IN :reporterIds GROUP BY br.reporter.id")
+    List<Object[]> countByReporterIdIn(@Param("reporterIds") java.util.Collection<Long> reporterIds);
+
     @Query("SELECT COUNT(br) FROM BarracksReport br WHERE br.targetNickname = :targetNickname")
     long countByTargetNickname(@Param("targetNickname") String targetNickname);
 
@@ -8,9 +8,11 @@ import com.example.jokerweb.member.MemberRepository;
 import com.example.jokerweb.nexon.NxOpenApiClient;
 import com.example.jokerweb.nexon.dto.UserBasicResponse;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,11 +22,15 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class BarracksReportService {
 
+    // 목록에 노출할 최소 제보 건수 (대상 닉네임 기준)
+    private static final int MIN_VISIBLE_REPORT_COUNT = 5;
+
     private final BarracksReportRepository repository;
     private final MemberRepository memberRepository;
     private final AuthService authService;
     private final NxOpenApiClient nxClient;
     private final BarracksLookupService barracksLookupService;
+    private final BarracksReportTargetStatsRepository statsRepository;
 
     @Transactional
     public BarracksReportResponse create(String authorization, BarracksReportCreateRequest req) {
@@ -49,12 +55,13 @@ public class BarracksReportService {
         // 병영주소와 닉네임/OUiD 일치 여부 검증
         validateTargetIdentity(req);
 
-        // 해당 닉네임에 대한 전체 제보 건수 계산
-        Long totalCount = repository.countByTargetNicknameAndReportTypeNot(req.getTargetNickname());
+        // 해당 닉네임에 대한 전체 제보 건수 (집계 테이블 PK 조회, 저장 시 리스너가 +1)
+        String targetNickname = BarracksReportStatsService.normalizeNickname(req.getTargetNickname());
+        int totalCount = barracksCount(targetNickname);
         
         BarracksReport report = BarracksReport.builder()
                 .reporter(reporter)
-                .targetNickname(req.getTargetNickname())
+                .targetNickname(targetNickname)
                 .targetOuid(req.getTargetOuid())
                 .barracksAddress(req.getBarracksAddress())
                 .reportType(req.getReportType())
@@ -63,38 +70,28 @@ public class BarracksReportService {
                 .isAnonymous(Boolean.TRUE.equals(req.getAnonymous()))
                 .status("pending")
                 .reportCount(1)
-                .totalReportCount(totalCount.intValue() + 1) // 새 제보 포함
+                .totalReportCount(totalCount + 1) // 새 제보 포함
                 .build();
         
         BarracksReport savedReport = repository.save(report);
         
-        // 같은 닉네임의 다른 제보들의 totalReportCount도 업데이트
-        updateTotalReportCountForNickname(req.getTargetNickname());
-        
         return BarracksReportResponse.from(savedReport);
     }
-    
-    @Transactional
-    public void updateTotalReportCountForNickname(String targetNickname) {
-        Long totalCount = repository.countByTargetNicknameAndReportTypeNot(targetNickname);
-        repository.findAll().stream()
-                .filter(r -> targetNickname.equals(r.getTargetNickname()) && !Boolean.TRUE.equals(r.getIsDeleted()))
-                .forEach(r -> {
-                    r.setTotalReportCount(totalCount.intValue());
-                    repository.save(r);
-                });
-    }
 
+    /**
+     * 제보 목록 (대상 닉네임의 제보가 5건 이상인 것만 노출, 최신순)
+     */
     @Transactional(readOnly = true)
-    public List<BarracksReportResponse> list() {
-        return repository.findAll().stream()
-                .filter(r -> !Boolean.TRUE.equals(r.getIsDeleted()))
-                .filter(r -> {
-                    // 제보 5건 이상인 것만 노출
-                    Integer totalCount = r.getTotalReportCount();
-                    return totalCount != null && totalCount >= 5;
-                })
-                .map(BarracksReportResponse::from)
+    public List<BarracksReportResponse> list(Pageable pageable) {
+        List<BarracksReport> reports = repository.findVisibleByTargetReportCount(MIN_VISIBLE_REPORT_COUNT,
+                pageable).getContent();
+        Map<String, Integer> totals = statsRepository.findByTargetNicknameIn(
+                        reports.stream().map(BarracksReport::getTargetNickname).distinct().toList()).stream()
+                .collect(Collectors.toMap(BarracksReportTargetStats::getTargetNickname,
+                        BarracksReportTargetStats::getBarracksCount));
+        return reports.stream()
+                .map(r -> BarracksReportResponse.from(r,
+                        totals.getOrDefault(r.getTargetNickname(), r.getTotalReportCount())))
                 .collect(Collectors.toList());
     }
 
@@ -105,17 +102,25 @@ public class BarracksReportService {
         if (Boolean.TRUE.equals(report.getIsDeleted())) {
             throw new IllegalArgumentException("삭제된 신고입니다.");
         }
-        return BarracksReportResponse.from(report);
+        return BarracksReportResponse.from(report, barracksCount(report.getTargetNickname()));
     }
 
     @Transactional(readOnly = true)
     public Long getBarracksReportCount(String targetNickname) {
-        return repository.countByTargetNicknameAndReportTypeNot(targetNickname);
+        return (long) barracksCount(targetNickname);
     }
 
     @Transactional(readOnly = true)
     public Long getTrollReportCount(String targetNickname) {
-        return repository.countByTargetNicknameAndReportType(targetNickname, "troll");
+        return statsRepository.findById(BarracksReportStatsService.normalizeNickname(targetNickname))
+                .map(stats -> (long) stats.getTrollCount())
+                .orElse(0L);
+    }
+
+    private int barracksCount(String targetNickname) {
+        return statsRepository.findById(BarracksReportStatsService.normalizeNickname(targetNickname))
+                .map(BarracksReportTargetStats::getBarracksCount)
+                .orElse(0);
     }
 
     /**
@@ -159,7 +164,7 @@ public class BarracksReportService {
      * 서든어택 API를 통해 유저 정보를 조회하여 정지 상태를 판단
      */
     @Transactional
-    @Async
+    @Async("nexonBackfillExecutor")
     public void checkAndUpdateBanStatus(String targetNickname, String targetOuid) {
         try {
             // OUID가 없으면 닉네임으로 조회
@@ -177,19 +182,12 @@ public class BarracksReportService {
             
             String banStatus = determineBanStatus(userBasic);
             
-            // 해당 닉네임의 모든 제보에 정지 상태 업데이트
-            List<BarracksReport> reports = repository.findAll().stream()
-                    .filter(r -> targetNickname.equals(r.getTargetNickname()) && !Boolean.TRUE.equals(r.getIsDeleted()))
-                    .collect(Collectors.toList());
-            
-            java.time.LocalDateTime now = java.time.LocalDateTime.now();
-            for (BarracksReport report : reports) {
-                report.setBanStatus(banStatus);
-                report.setBanCheckedAt(now);
-                repository.save(report);
-            }
+            // 해당 닉네임의 모든 제보에 정지 상태 업데이트 (UPDATE 1번)
+            int updated = repository.updateBanStatusByTargetNickname(targetNickname, banStatus,
+                    java.time.LocalDateTime.now());
             
-            log.info("정지 상태 업데이트 완료: targetNickname={}, banStatus={}", targetNickname, banStatus);
+            log.info("정지 상태 업데이트 완료: targetNickname={}, banStatus={}, reports={}",
+                    targetNickname, banStatus, updated);
         } catch (Exception e) {
             log.error("정지 상태 확인 중 오류 발생: targetNickname={}, error={}", targetNickname, e.getMessage(), e);
         }
@@ -225,21 +223,12 @@ public class BarracksReportService {
         BarracksReport report = repository.findById(reportId)
                 .orElseThrow(() -> new IllegalArgumentException("신고를 찾을 수 없습니다."));
         
+        java.time.LocalDateTime now = java.time.LocalDateTime.now();
         report.setBanStatus(banStatus);
-        report.setBanCheckedAt(java.time.LocalDateTime.now());
+        report.setBanCheckedAt(now);
         repository.save(report);
         
         // 같은 닉네임의 다른 제보들도 업데이트
-        List<BarracksReport> sameNicknameReports = repository.findAll().stream()
-                .filter(r -> report.getTargetNickname().equals(r.getTargetNickname()) 
-                        && !r.getId().equals(reportId)
-                        && !Boolean.TRUE.equals(r.getIsDeleted()))
-                .collect(Collectors.toList());
-        
-        for (BarracksReport r : sameNicknameReports) {
-            r.setBanStatus(banStatus);
-            r.setBanCheckedAt(java.time.LocalDateTime.now());
-            repository.save(r);
-        }
+        repository.updateBanStatusByTargetNickname(report.getTargetNickname(), banStatus, now);
     }
 }
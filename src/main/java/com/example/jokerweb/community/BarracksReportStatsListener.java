@@ -0,0 +1,41 @@
+package com.example.jokerweb.community;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 제보 저장/수정/삭제 시 닉네임별 집계 증감
+ * 로딩 시점의 기여값을 엔티티에 기억해 두고, 변경 후 기여값과의 차이만 반영한다.
+ * 상태 변경(pending → 처리)과 소프트 삭제(is_deleted)도 같은 경로로 집계에 반영된다.
+ * JPQL 일괄 UPDATE는 리스너를 거치지 않으므로 집계 대상 컬럼(닉네임/종류/상태/삭제)은 엔티티로 수정해야 한다.
+ */
+public class BarracksReportStatsListener {
+
+    private final ObjectProvider<BarracksReportStatsService> statsService;
+
+    public BarracksReportStatsListener(ObjectProvider<BarracksReportStatsService> statsService) {
+        this.statsService = statsService;
+    }
+
+    @PostLoad
+    public void onLoad(BarracksReport report) {
+        report.setCountedContribution(BarracksReportStatsService.Contribution.of(report));
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(BarracksReport report) {
+        BarracksReportStatsService.Contribution after = BarracksReportStatsService.Contribution.of(report);
+        statsService.ifAvailable(service -> service.apply(report.getCountedContribution(), after));
+        report.setCountedContribution(after);
+    }
+
+    @PostRemove
+    public void onRemove(BarracksReport report) {
+        statsService.ifAvailable(service -> service.apply(report.getCountedContribution(), null));
+        report.setCountedContribution(null);
+    }
+}
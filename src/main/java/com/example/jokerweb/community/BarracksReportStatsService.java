@@ -0,0 +1,81 @@
+package com.example.jokerweb.community;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 제보 대상 닉네임별 집계 갱신
+ * 제보 1건이 집계에 기여하는 값(Contribution)의 전/후 차이만큼 barracks_report_target_stats를 증감한다.
+ * BarracksReportStatsListener가 저장/수정/삭제 시점에 호출하므로 제보 변경과 같은 트랜잭션에서 반영된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BarracksReportStatsService {
+
+    public static final String TROLL = "troll";
+
+    private static final String UPSERT = """
+            INSERT INTO barracks_report_target_stats
+                (target_nickname, barracks_count, troll_count, pending_count, last_reported_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                barracks_count = barracks_count + VALUES(barracks_count),
+                troll_count = troll_count + VALUES(troll_count),
+                pending_count = pending_count + VALUES(pending_count),
+                last_reported_at = GREATEST(COALESCE(last_reported_at, VALUES(last_reported_at)),
+                                            COALESCE(VALUES(last_reported_at), last_reported_at)),
+                updated_at = VALUES(updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 집계/검색 키로 쓰는 닉네임 정규화 (앞뒤 공백 제거, 대소문자는 컬럼 collation이 무시)
+     */
+    public static String normalizeNickname(String nickname) {
+        return nickname != null ? nickname.strip() : null;
+    }
+
+    /**
+     * 제보 1건이 집계에 기여하는 값 (삭제된 제보는 기여하지 않음)
+     */
+    public record Contribution(String targetNickname, int barracks, int troll, int pending, LocalDateTime reportedAt) {
+
+        public static Contribution of(BarracksReport report) {
+            if (report.getTargetNickname() == null || Boolean.TRUE.equals(report.getIsDeleted())) {
+                return null;
+            }
+            boolean troll = TROLL.equals(report.getReportType());
+            return new Contribution(report.getTargetNickname(), troll ? 0 : 1, troll ? 1 : 0,
+                    "pending".equals(report.getStatus()) ? 1 : 0, report.getCreatedAt());
+        }
+    }
+
+    /**
+     * 변경 전/후 기여값 차이 반영 (닉네임이 바뀌면 이전 닉네임에서 빼고 새 닉네임에 더함)
+     */
+    public void apply(Contribution before, Contribution after) {
+        if (before != null && after != null && before.targetNickname().equals(after.targetNickname())) {
+            if (before.barracks() != after.barracks() || before.troll() != after.troll()
+                    || before.pending() != after.pending()) {
+                upsert(after.targetNickname(), after.barracks() - before.barracks(), after.troll() - before.troll(),
+                        after.pending() - before.pending(), null);
+            }
+            return;
+        }
+        if (before != null) {
+            upsert(before.targetNickname(), -before.barracks(), -before.troll(), -before.pending(), null);
+        }
+        if (after != null) {
+            upsert(after.targetNickname(), after.barracks(), after.troll(), after.pending(), after.reportedAt());
+        }
+    }
+
+    private void upsert(String targetNickname, int barracks, int troll, int pending, LocalDateTime reportedAt) {
+        jdbcTemplate.update(UPSERT, targetNickname, barracks, troll, pending,
+                reportedAt != null ? Timestamp.valueOf(reportedAt) : null, Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.jokerweb.community;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 제보 대상 닉네임별 집계 (읽기 전용, 증감은 BarracksReportStatsService가 JDBC upsert로 처리)
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "barracks_report_target_stats",
+        indexes = @Index(name = "idx_barracks_target_stats_count", columnList = "barracks_count"))
+public class BarracksReportTargetStats {
+
+    @Id
+    @Column(name = "target_nickname", length = 64)
+    private String targetNickname;
+
+    @Column(name = "barracks_count", nullable = false)
+    private int barracksCount;
+
+    @Column(name = "troll_count", nullable = false)
+    private int trollCount;
+
+    @Column(name = "pending_count", nullable = false)
+    private int pendingCount;
+
+    @Column(name = "last_reported_at")
+    private LocalDateTime lastReportedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,10 @@
+package com.example.jokerweb.community;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BarracksReportTargetStatsRepository extends JpaRepository<BarracksReportTargetStats, String> {
+
+    List<BarracksReportTargetStats> findByTargetNicknameIn(Collection<String> targetNicknames);
+}
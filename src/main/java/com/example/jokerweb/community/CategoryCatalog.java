@@ -0,0 +1,158 @@
+package com.example.jokerweb.community;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+/**
+ * 게시판 카테고리 카탈로그 (이름/ID → 읽기·쓰기 허용 여부)
+ * 게시글 목록/상세/작성/댓글 요청마다 category 테이블을 조회하지 않도록 전체 카테고리(수십 행)를 불변 스냅샷으로 들고 있는다.
+ * 관리자 변경 시 CategoryChangedEvent로 세대 번호를 올려 다음 조회에서 다시 읽고,
+ * spring.data.redis.host가 설정된 경우에만 공유 버전(category:catalog:version)도 올려 다른 서버 인스턴스가 version-poll-ms 안에 다시 읽게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryCatalog {
+
+    static final String VERSION_KEY = "category:catalog:version";
+
+    /** category 테이블 조회 실패 시 빈 카탈로그로 두고 이 시간 뒤 다시 시도 */
+    private static final long FAILED_LOAD_RETRY_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final CategoryRepository categoryRepository;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+
+    // RedisAutoConfiguration은 호스트가 없어도 템플릿을 만들므로 설정 여부로 판단한다 (미설정 시 localhost 접속 시도 방지)
+    @Value("${spring.data.redis.host:}")
+    private String redisHost;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+    private volatile String lastSharedVersion;
+
+    public record Entry(Long id, String name, int displayOrder, boolean canRead, boolean canWrite) {
+    }
+
+    private record Snapshot(long generation, Map<String, Entry> byName, Map<Long, Entry> byId,
+                            boolean complete, long loadedAtNanos) {
+    }
+
+    public Optional<Entry> findByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current().byName().get(name.toLowerCase(Locale.ROOT)));
+    }
+
+    public Optional<Entry> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    // 트랜잭션 커밋 이후에 올려야 커밋 전 데이터로 스냅샷이 다시 채워지지 않는다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        generation.incrementAndGet();
+        StringRedisTemplate redis = sharedRedis();
+        if (redis == null) {
+            return;
+        }
+        try {
+            Long shared = redis.opsForValue().increment(VERSION_KEY);
+            lastSharedVersion = shared != null ? shared.toString() : null;
+        } catch (DataAccessException e) {
+            log.warn("카테고리 카탈로그 공유 버전 갱신 실패 (다른 서버는 다음 변경 때 반영): error={}", e.getMessage());
+        }
+        log.debug("카테고리 카탈로그 무효화: categoryId={}", event.categoryId() != null ? event.categoryId() : "ALL");
+    }
+
+    /**
+     * 다른 서버 인스턴스에서 올린 공유 버전 확인 (Redis 미설정 시 아무것도 하지 않음)
+     */
+    @Scheduled(fixedDelayString = "${category.catalog.version-poll-ms:10000}",
+            initialDelayString = "${category.catalog.version-poll-ms:10000}")
+    public void pollSharedVersion() {
+        StringRedisTemplate redis = sharedRedis();
+        if (redis == null) {
+            return;
+        }
+        try {
+            String shared = redis.opsForValue().get(VERSION_KEY);
+            if (shared != null && !shared.equals(lastSharedVersion)) {
+                lastSharedVersion = shared;
+                generation.incrementAndGet();
+            }
+        } catch (DataAccessException e) {
+            log.debug("카테고리 카탈로그 공유 버전 조회 실패: error={}", e.getMessage());
+        }
+    }
+
+    private StringRedisTemplate sharedRedis() {
+        return StringUtils.hasText(redisHost) ? redisTemplate.getIfAvailable() : null;
+    }
+
+    private Snapshot current() {
+        long expected = generation.get();
+        Snapshot loaded = snapshot;
+        if (usable(loaded, expected)) {
+            return loaded;
+        }
+        reloadLock.lock();
+        try {
+            loaded = snapshot;
+            if (usable(loaded, expected)) {
+                return loaded;
+            }
+            loaded = load(expected);
+            snapshot = loaded;
+            return loaded;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private static boolean usable(Snapshot loaded, long expected) {
+        return loaded != null && loaded.generation() == expected
+                && (loaded.complete() || System.nanoTime() - loaded.loadedAtNanos() < FAILED_LOAD_RETRY_NANOS);
+    }
+
+    private Snapshot load(long expected) {
+        try {
+            List<Category> categories = categoryRepository.findAllByOrderByDisplayOrderAsc();
+            Map<String, Entry> byName = new HashMap<>();
+            Map<Long, Entry> byId = new HashMap<>();
+            for (Category category : categories) {
+                Entry entry = new Entry(category.getId(), category.getName(),
+                        category.getDisplayOrder() != null ? category.getDisplayOrder() : 0,
+                        Boolean.TRUE.equals(category.getCanRead()),
+                        Boolean.TRUE.equals(category.getCanWrite()));
+                byName.put(category.getName().toLowerCase(Locale.ROOT), entry);
+                byId.put(category.getId(), entry);
+            }
+            return new Snapshot(expected, Map.copyOf(byName), Map.copyOf(byId), true, System.nanoTime());
+        } catch (Exception e) {
+            // category 테이블이 없거나 조회 실패 시 제한 없음으로 취급
+            log.debug("카테고리 카탈로그 로드 실패 (제한 없음으로 진행): error={}", e.getMessage());
+            return new Snapshot(expected, Map.of(), Map.of(), false, System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.jokerweb.community;
+
+/**
+ * 카테고리가 추가/수정/삭제/재정렬되었음을 알리는 이벤트 (CategoryCatalog 무효화용)
+ */
+public record CategoryChangedEvent(Long categoryId) {
+
+    public static CategoryChangedEvent all() {
+        return new CategoryChangedEvent(null);
+    }
+}
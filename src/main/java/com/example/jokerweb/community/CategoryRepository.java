@@ -3,6 +3,7 @@ package com.example.jokerweb.community;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +14,8 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     
     List<Category> findAllByOrderByDisplayOrderAsc();
     
+    long countByIdIn(Collection<Long> ids);
+    
     @Query("SELECT MAX(c.displayOrder) FROM Category c")
     Integer findMaxDisplayOrder();
 }
@@ -1,11 +1,14 @@
 package com.example.jokerweb.community;
 
+import com.example.jokerweb.activity.ActivityEntityListener;
 import com.example.jokerweb.member.Member;
+import com.example.jokerweb.stats.TrafficRollupEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners({TrafficRollupEntityListener.class, ActivityEntityListener.class})
 @Table(name = "comment")
 @Getter
 @Setter
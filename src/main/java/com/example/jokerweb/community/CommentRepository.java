@@ -26,6 +26,14 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId AND c.isDeleted = false")
     long countByPostIdAndIsDeletedFalse(@Param("postId") Long postId);
 
+    // 여러 게시글의 댓글 수를 한 번에 조회 (목록 화면 N+1 방지)
+    @Query("SELECT c.post.id, COUNT(c) FROM Comment c WHERE c.post.id IN :postIds AND c.isDeleted = false GROUP BY c.post.id")
+    List<Object[]> countByPostIdIn(@Param("postIds") java.util.Collection<Long> postIds);
+
+    // 신고 대상 댓글 일괄 조회 (관리자 신고 목록, author/post 포함)
+    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.author LEFT JOIN FETCH c.post WHERE c.id IN :ids")
+    List<Comment> findAllWithAuthorAndPostByIdIn(@Param("ids") java.util.Collection<Long> ids);
+
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
     @Query("SELECT CASE WHEN c.author IS NOT NULL THEN c.author.nickname ELSE '익명' END, c.createdAt FROM Comment c WHERE c.isDeleted = false ORDER BY c.createdAt DESC")
@@ -34,6 +42,16 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.author IS NOT NULL AND c.author.id = :authorId")
     long countByAuthorId(@Param("authorId") Long authorId);
 
+    // 여러 회원의 댓글 수를 한 번에 조회 (관리자 회원 목록 N+1 방지)
+    @Query("SELECT c.author.id, COUNT(c) FROM Comment c WHERE c.author.id IN :authorIds GROUP BY c.author.id")
+    List<Object[]> countByAuthorIdIn(@Param("authorIds") java.util.Collection<Long> authorIds);
+
     @Query("SELECT COALESCE(SUM(c.likes), 0) FROM Comment c WHERE c.author IS NOT NULL AND c.author.id = :authorId")
     Long sumLikesByAuthorId(@Param("authorId") Long authorId);
+
+    // 관리자 일괄 조치용 소프트 삭제
+    @org.springframework.data.jpa.repository.Modifying(clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.isDeleted = true, c.deletedAt = :now, c.updatedAt = :now "
+            + "WHERE c.id IN :ids AND (c.isDeleted = false OR c.isDeleted IS NULL)")
+    int softDeleteByIdIn(@Param("ids") java.util.Collection<Long> ids, @Param("now") LocalDateTime now);
 }
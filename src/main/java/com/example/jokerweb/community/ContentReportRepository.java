@@ -1,12 +1,17 @@
 package com.example.jokerweb.community;
 
+import com.example.jokerweb.member.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ContentReportRepository extends JpaRepository<ContentReport, Long>, JpaSpecificationExecutor<ContentReport> {
@@ -16,6 +21,17 @@ public interface ContentReportRepository extends JpaRepository<ContentReport, Lo
     Page<ContentReport> findByTargetTypeOrderByCreatedAtDesc(String targetType, Pageable pageable);
     
     List<ContentReport> findByTargetTypeAndTargetId(String targetType, Long targetId);
+
+    long countByTargetTypeAndTargetId(String targetType, Long targetId);
+
+    // 여러 대상의 신고 수를 한 번에 조회 (idx_content_report_target(target_type, target_id, ...) 인덱스만 읽음)
+    @Query("SELECT cr.targetId, COUNT(cr) FROM ContentReport cr WHERE cr.targetType = :targetType AND cr.targetId IN :targetIds GROUP BY cr.targetId")
+    List<Object[]> countByTargetTypeAndTargetIdIn(@Param("targetType") String targetType, @Param("targetIds") Collection<Long> targetIds);
+
+    // 관리자 신고 목록 (신고자/처리자 함께 로딩)
+    @Override
+    @EntityGraph(attributePaths = {"reporter", "processedBy"})
+    Page<ContentReport> findAll(Specification<ContentReport> spec, Pageable pageable);
     
     @Query("SELECT cr FROM ContentReport cr WHERE cr.targetType = :targetType AND cr.targetId = :targetId AND cr.status = 'pending'")
     List<ContentReport> findPendingReportsByTarget(@Param("targetType") String targetType, @Param("targetId") Long targetId);
@@ -31,4 +47,18 @@ public interface ContentReportRepository extends JpaRepository<ContentReport, Lo
     
     @Query("SELECT COUNT(cr) FROM ContentReport cr WHERE cr.reporter.id = :reporterId")
     long countByReporterId(@Param("reporterId") Long reporterId);
+
+    // 관리자 일괄 처리용: 아직 처리되지 않은(pending, processing) 신고의 id, 대상 종류, 대상 id
+    @Query("SELECT cr.id, cr.targetType, cr.targetId FROM ContentReport cr "
+            + "WHERE cr.id IN :ids AND cr.status IN ('pending', 'processing')")
+    List<Object[]> findOpenTargetsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 미처리 신고 일괄 처리 (이미 처리된 신고는 그대로 둠)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ContentReport cr SET cr.status = :status, cr.processedBy = :admin, cr.processedAt = :now, "
+            + "cr.adminNotes = :adminNotes, cr.updatedAt = :now "
+            + "WHERE cr.id IN :ids AND cr.status IN ('pending', 'processing')")
+    int processOpenByIdIn(@Param("ids") Collection<Long> ids, @Param("status") String status,
+                          @Param("admin") Member admin, @Param("adminNotes") String adminNotes,
+                          @Param("now") LocalDateTime now);
 }
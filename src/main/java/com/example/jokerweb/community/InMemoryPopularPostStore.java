@@ -0,0 +1,125 @@
+package com.example.jokerweb.community;
+
+import com.example.jokerweb.community.dto.PostResponse;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기글 랭킹 메모리 저장소 (Redis가 설정되지 않았을 때 사용)
+ * 쓰기는 단일 락으로 직렬화하고, 읽기는 락 없이 정렬된 집합의 앞부분만 순회한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${spring.data.redis.host:}'.isBlank()")
+public class InMemoryPopularPostStore implements PopularPostStore {
+
+    private static final Comparator<Ranked> BY_SCORE_DESC = Comparator
+            .comparingDouble(Ranked::score).reversed()
+            .thenComparing(Comparator.comparingLong(Ranked::postId).reversed());
+
+    private record Ranked(double score, long postId) {
+    }
+
+    private final Map<Long, PopularPost> posts = new ConcurrentHashMap<>();
+    private final Map<Long, Ranked> ranks = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<Ranked>> boards = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @Override
+    public void upsert(PopularPost post, int topK) {
+        if (post.postId() == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            detach(post.postId());
+            Ranked ranked = new Ranked(post.score(), post.postId());
+            posts.put(post.postId(), post);
+            ranks.put(post.postId(), ranked);
+            board(ALL_BOARD).add(ranked);
+            board(post.category()).add(ranked);
+            trim(ALL_BOARD, topK);
+            trim(post.category(), topK);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            detach(postId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<PostResponse> top(String board, int limit) {
+        NavigableSet<Ranked> ranked = boards.get(board != null ? board : ALL_BOARD);
+        if (ranked == null || limit <= 0) {
+            return List.of();
+        }
+        List<PostResponse> result = new ArrayList<>(Math.min(limit, ranked.size()));
+        Iterator<Ranked> it = ranked.iterator();
+        while (it.hasNext() && result.size() < limit) {
+            PopularPost post = posts.get(it.next().postId());
+            if (post != null) {
+                result.add(post.toResponse());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return posts.isEmpty();
+    }
+
+    private NavigableSet<Ranked> board(String board) {
+        return boards.computeIfAbsent(board != null ? board : "", key -> new ConcurrentSkipListSet<>(BY_SCORE_DESC));
+    }
+
+    private void detach(Long postId) {
+        PopularPost previous = posts.remove(postId);
+        Ranked ranked = ranks.remove(postId);
+        if (previous != null && ranked != null) {
+            board(ALL_BOARD).remove(ranked);
+            board(previous.category()).remove(ranked);
+        }
+    }
+
+    // topK를 넘는 하위 항목 제거 (다른 랭킹에도 없으면 스냅샷까지 정리)
+    private void trim(String boardKey, int topK) {
+        NavigableSet<Ranked> board = board(boardKey);
+        while (board.size() > topK) {
+            Ranked evicted = board.pollLast();
+            if (evicted == null) {
+                break;
+            }
+            PopularPost post = posts.get(evicted.postId());
+            if (post == null) {
+                continue;
+            }
+            String otherKey = ALL_BOARD.equals(boardKey) ? post.category() : ALL_BOARD;
+            if (!board(otherKey).contains(evicted)) {
+                posts.remove(evicted.postId());
+                ranks.remove(evicted.postId());
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.jokerweb.community;
+
+import com.example.jokerweb.community.dto.PostResponse;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 인기글 랭킹 항목 (게시글 응답 스냅샷 + 반응 카운터)
+ *
+ * 점수는 반응량의 로그값에 작성 시각을 더한 시간 감쇠 점수로,
+ * 기준 시각(SCORE_EPOCH)에 고정되어 있어 반응이 없는 동안에는 점수가 변하지 않는다.
+ * 따라서 이벤트가 발생한 게시글만 다시 정렬하면 되고, 오래된 게시글은 새 게시글에 자연스럽게 밀려난다.
+ */
+public record PopularPost(PostResponse snapshot, int views, int likes, long comments) {
+
+    static final double LIKE_WEIGHT = 3.0;
+    static final double COMMENT_WEIGHT = 2.0;
+    static final double VIEW_WEIGHT = 0.1;
+
+    /** 점수 기준 시각 (2024-01-01T00:00:00Z) */
+    static final long SCORE_EPOCH_SECONDS = 1_704_067_200L;
+
+    /** 반응량이 10배 차이 나는 게시글이 같은 점수가 되는 작성 시각 차이 (12.5시간) */
+    static final double DECAY_SECONDS = 45_000d;
+
+    public static PopularPost of(PostResponse response) {
+        return new PopularPost(response,
+                response.getViews() != null ? response.getViews() : 0,
+                response.getLikes() != null ? response.getLikes() : 0,
+                response.getCommentCount() != null ? response.getCommentCount() : 0L);
+    }
+
+    public Long postId() {
+        return snapshot.getId();
+    }
+
+    public String category() {
+        return snapshot.getCategory();
+    }
+
+    public PopularPost withViews(int views) {
+        return new PopularPost(snapshot, views, likes, comments);
+    }
+
+    public double engagement() {
+        return likes * LIKE_WEIGHT + comments * COMMENT_WEIGHT + views * VIEW_WEIGHT;
+    }
+
+    public double score() {
+        return score(engagement(), snapshot.getCreatedAt());
+    }
+
+    static double score(double engagement, LocalDateTime createdAt) {
+        double magnitude = Math.log10(Math.max(1d, engagement));
+        long createdSeconds = createdAt != null
+                ? createdAt.atZone(ZoneId.systemDefault()).toEpochSecond()
+                : SCORE_EPOCH_SECONDS;
+        return magnitude + (createdSeconds - SCORE_EPOCH_SECONDS) / DECAY_SECONDS;
+    }
+
+    /**
+     * 최신 카운터를 반영한 응답 생성
+     */
+    public PostResponse toResponse() {
+        return snapshot.toBuilder()
+                .views(views)
+                .likes(likes)
+                .commentCount(comments)
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.jokerweb.community;
+
+/**
+ * 인기글 랭킹 변경 (트랜잭션 커밋 후 PopularPostService가 저장소에 반영)
+ * post가 null이면 랭킹에서 제거한다.
+ */
+public record PopularPostChangedEvent(Long postId, PopularPost post) {
+
+    public static PopularPostChangedEvent upsert(PopularPost post) {
+        return new PopularPostChangedEvent(post.postId(), post);
+    }
+
+    public static PopularPostChangedEvent removal(Long postId) {
+        return new PopularPostChangedEvent(postId, null);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.jokerweb.community;
+
+import com.example.jokerweb.admin.service.AuthorizationService;
+import com.example.jokerweb.common.CountRows;
+import com.example.jokerweb.community.dto.PostResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 인기 게시판 랭킹 서비스
+ * 좋아요/댓글/조회 이벤트가 발생할 때마다 해당 게시글의 시간 감쇠 점수만 갱신하고,
+ * 인기 게시판 조회는 post 테이블을 읽지 않고 저장소의 상위 topK개를 그대로 반환한다.
+ * 랭킹 변경은 PopularPostChangedEvent로 발행해 트랜잭션 커밋 후에 반영한다 (롤백된 글/조회가 랭킹에 남지 않도록).
+ * 랭킹 갱신 실패는 게시글 기능에 영향을 주지 않도록 로그만 남긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularPostService {
+
+    private final PopularPostStore store;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final AuthorizationService authorizationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${community.popular.top-k:100}")
+    private int topK;
+
+    /** 랭킹 진입 최소 반응량 (좋아요 3, 댓글 2, 조회 0.1 가중치 합) */
+    @Value("${community.popular.min-engagement:1.0}")
+    private double minEngagement;
+
+    @Value("${community.popular.warm-up-days:7}")
+    private int warmUpDays;
+
+    @Value("${community.popular.warm-up-limit:500}")
+    private int warmUpLimit;
+
+    /**
+     * 게시글 상세 조회로 조회수가 증가했을 때 (조회 응답에 +1 반영)
+     */
+    public void recordView(PostResponse response) {
+        if (response == null) {
+            return;
+        }
+        PopularPost post = PopularPost.of(response);
+        eventPublisher.publishEvent(PopularPostChangedEvent.upsert(post.withViews(post.views() + 1)));
+    }
+
+    /**
+     * 좋아요/댓글/수정 등으로 게시글 상태가 바뀌었을 때 스냅샷과 점수 갱신
+     */
+    public void refresh(Post post) {
+        if (post == null || post.getId() == null) {
+            return;
+        }
+        if (Boolean.TRUE.equals(post.getIsDeleted())) {
+            remove(post.getId());
+            return;
+        }
+        try {
+            long commentCount = commentRepository.countByPostIdAndIsDeletedFalse(post.getId());
+            refresh(PostResponse.from(post, commentCount, null, authorizationService));
+        } catch (Exception e) {
+            log.warn("인기글 랭킹 갱신 실패: postId={}, error={}", post.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 이미 만들어진 응답으로 스냅샷과 점수 갱신 (게시글 수정 등)
+     */
+    public void refresh(PostResponse response) {
+        if (response != null) {
+            eventPublisher.publishEvent(PopularPostChangedEvent.upsert(PopularPost.of(response)));
+        }
+    }
+
+    public void remove(Long postId) {
+        if (postId != null) {
+            eventPublisher.publishEvent(PopularPostChangedEvent.removal(postId));
+        }
+    }
+
+    // 스냅샷은 트랜잭션 안에서 만들어 이벤트에 담고, 저장소 반영만 커밋 후에 한다 (트랜잭션 밖 호출은 즉시 반영)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(PopularPostChangedEvent event) {
+        if (event.post() != null) {
+            offer(event.post());
+            return;
+        }
+        try {
+            store.remove(event.postId());
+        } catch (Exception e) {
+            log.warn("인기글 랭킹 제거 실패: postId={}, error={}", event.postId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 인기글 목록 (category가 null이면 전체 게시판)
+     */
+    public List<PostResponse> top(String category, int limit) {
+        try {
+            return store.top(category, Math.min(limit, topK));
+        } catch (Exception e) {
+            log.warn("인기글 랭킹 조회 실패: category={}, error={}", category, e.getMessage());
+            return List.of();
+        }
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    /**
+     * 서버 시작 시 랭킹이 비어 있으면 최근 게시글로 초기 랭킹 구성
+     * (Redis 사용 시에는 기존 랭킹이 유지되므로 최초 1회만 수행된다)
+     */
+    @Async("aggregationExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            if (!store.isEmpty()) {
+                return;
+            }
+            List<Post> posts = postRepository.findPopularCandidatesWithAuthor(
+                    LocalDateTime.now().minusDays(warmUpDays), PageRequest.of(0, warmUpLimit));
+            if (posts.isEmpty()) {
+                return;
+            }
+            Map<Long, Long> commentCounts = CountRows.toCountMap(
+                    commentRepository.countByPostIdIn(posts.stream().map(Post::getId).toList()));
+            for (Post post : posts) {
+                offer(PopularPost.of(PostResponse.from(post, commentCounts.getOrDefault(post.getId(), 0L),
+                        null, authorizationService)));
+            }
+            log.info("인기글 랭킹 초기화 완료: candidates={}", posts.size());
+        } catch (Exception e) {
+            log.warn("인기글 랭킹 초기화 실패: error={}", e.getMessage());
+        }
+    }
+
+    private void offer(PopularPost post) {
+        try {
+            // 좋아요 취소 등으로 최소 반응량 아래로 내려가면 랭킹에서 제외
+            if (post.engagement() < minEngagement) {
+                store.remove(post.postId());
+                return;
+            }
+            store.upsert(post, topK);
+        } catch (Exception e) {
+            log.warn("인기글 랭킹 갱신 실패: postId={}, error={}", post.postId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.jokerweb.community;
+
+import com.example.jokerweb.community.dto.PostResponse;
+import java.util.List;
+
+/**
+ * 인기글 랭킹 저장소
+ * 게시판(카테고리)별, 그리고 전체 게시판에 대해 점수 상위 topK개만 유지한다.
+ */
+public interface PopularPostStore {
+
+    /** 전체 게시판 랭킹 키 */
+    String ALL_BOARD = "_all";
+
+    /**
+     * 게시글 스냅샷을 저장하고 카테고리/전체 랭킹에 반영 (topK 밖으로 밀리면 제외)
+     */
+    void upsert(PopularPost post, int topK);
+
+    void remove(Long postId);
+
+    /**
+     * 점수 순 상위 게시글 (board가 null이면 전체 게시판)
+     */
+    List<PostResponse> top(String board, int limit);
+
+    boolean isEmpty();
+}
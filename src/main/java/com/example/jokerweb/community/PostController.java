@@ -12,7 +12,12 @@ import com.example.jokerweb.security.RequireNexonLinked;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -22,6 +27,11 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class PostController {
 
+    // 게시판 규칙은 배포 시에만 바뀌므로 짧게 캐시하고 이후 ETag로 재검증
+    private static final CacheControl BOARD_RULES_CACHE_CONTROL = CacheControl.maxAge(10, TimeUnit.MINUTES)
+            .cachePublic()
+            .mustRevalidate();
+
     private final PostService postService;
     private final AuthService authService;
 
@@ -42,6 +52,25 @@ public class PostController {
         return ResponseEntity.ok(postService.list(category));
     }
 
+    @GetMapping("/popular")
+    public ResponseEntity<List<PostResponse>> popular(
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(defaultValue = "30") int limit
+    ) {
+        return ResponseEntity.ok(postService.popular(category, Math.min(Math.max(limit, 1), 100)));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<Page<PostResponse>> search(
+            @RequestParam("q") String query,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 50));
+        return ResponseEntity.ok(postService.search(query, category, pageable));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<PostResponse> detail(
             @PathVariable Long id,
@@ -233,9 +262,13 @@ public class PostController {
         return ResponseEntity.ok().build();
     }
 
+    // 미리 만든 응답과 고정 ETag: If-None-Match가 같으면 본문 없이 304
     @GetMapping("/rules")
     public ResponseEntity<List<BoardRuleResponse>> rules() {
-        return ResponseEntity.ok(postService.getBoardRules());
+        return ResponseEntity.ok()
+                .eTag(postService.getBoardRulesEtag())
+                .cacheControl(BOARD_RULES_CACHE_CONTROL)
+                .body(postService.getBoardRules());
     }
 
     // 게시글 좋아요/비추천 상태 조회
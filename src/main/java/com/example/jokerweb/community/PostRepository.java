@@ -30,9 +30,6 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p.category, COUNT(p) FROM Post p WHERE p.isDeleted = false GROUP BY p.category")
     List<Object[]> countByCategory();
 
-    @Query(value = "SELECT COALESCE(m.nickname, '익명'), p.created_at FROM post p LEFT JOIN member m ON p.author_id = m.id WHERE p.is_deleted = false ORDER BY p.created_at DESC LIMIT :limit", nativeQuery = true)
-    List<Object[]> findRecentPosts(@Param("limit") int limit);
-
     @Query("SELECT p FROM Post p WHERE p.isDeleted = false AND " +
            "(:category IS NULL OR p.category = :category) AND " +
            "(:search IS NULL OR p.title LIKE %:search% OR p.content LIKE %:search% OR (p.author IS NOT NULL AND p.author.nickname LIKE %:search%))")
@@ -41,6 +38,10 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT COUNT(p) FROM Post p WHERE p.author IS NOT NULL AND p.author.id = :authorId")
     long countByAuthorId(@Param("authorId") Long authorId);
 
+    // 여러 회원의 게시글 수를 한 번에 조회 (관리자 회원 목록 N+1 방지)
+    @Query("SELECT p.author.id, COUNT(p) FROM Post p WHERE p.author.id IN :authorIds GROUP BY p.author.id")
+    List<Object[]> countByAuthorIdIn(@Param("authorIds") java.util.Collection<Long> authorIds);
+
     @Query("SELECT COALESCE(SUM(p.likes), 0) FROM Post p WHERE p.author IS NOT NULL AND p.author.id = :authorId")
     Long sumLikesByAuthorId(@Param("authorId") Long authorId);
     
@@ -63,9 +64,34 @@ public interface PostRepository extends JpaRepository<Post, Long> {
            "(:search IS NULL OR p.title LIKE %:search% OR p.content LIKE %:search% OR (p.author IS NOT NULL AND p.author.nickname LIKE %:search%))")
     Page<Post> searchPostsWithAuthor(@Param("category") String category, @Param("search") String search, Pageable pageable);
     
+    // 검색 결과 id 목록으로 게시글 일괄 조회 (author 포함)
+    @EntityGraph(attributePaths = {"author"})
+    @Query("SELECT p FROM Post p WHERE p.id IN :ids")
+    List<Post> findAllWithAuthorByIdIn(@Param("ids") java.util.Collection<Long> ids);
+    
+    // 검색 색인 재생성용 id 커서 기반 배치 조회
+    @EntityGraph(attributePaths = {"author"})
+    @Query("SELECT p FROM Post p WHERE p.id > :lastId AND p.isDeleted = false ORDER BY p.id ASC")
+    List<Post> findIndexBatchWithAuthor(@Param("lastId") Long lastId, Pageable pageable);
+    
+    // 인기글 랭킹 초기화용 최근 게시글 조회 (반응 많은 순)
+    @EntityGraph(attributePaths = {"author"})
+    @Query("SELECT p FROM Post p WHERE p.isDeleted = false AND p.createdAt >= :since ORDER BY p.likes DESC, p.views DESC")
+    List<Post> findPopularCandidatesWithAuthor(@Param("since") LocalDateTime since, Pageable pageable);
+    
     // 조회수 원자적 증가 (동시성 문제 방지)
     @Query("UPDATE Post p SET p.views = COALESCE(p.views, 0) + 1 WHERE p.id = :id AND (p.isDeleted = false OR p.isDeleted IS NULL)")
     @org.springframework.data.jpa.repository.Modifying(clearAutomatically = true)
     @org.springframework.transaction.annotation.Transactional
     int incrementViews(@Param("id") Long id);
+
+    // 관리자 일괄 조치용: 아직 삭제되지 않은 대상의 id와 제목 (활동 기록 요약에 사용)
+    @Query("SELECT p.id, p.title FROM Post p WHERE p.id IN :ids AND (p.isDeleted = false OR p.isDeleted IS NULL)")
+    List<Object[]> findActiveTitlesByIdIn(@Param("ids") java.util.Collection<Long> ids);
+
+    // 일괄 소프트 삭제 (엔티티 리스너는 insert 시점만 쓰므로 거치지 않아도 됨)
+    @org.springframework.data.jpa.repository.Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET p.isDeleted = true, p.deletedAt = :now, p.updatedAt = :now "
+            + "WHERE p.id IN :ids AND (p.isDeleted = false OR p.isDeleted IS NULL)")
+    int softDeleteByIdIn(@Param("ids") java.util.Collection<Long> ids, @Param("now") LocalDateTime now);
 }
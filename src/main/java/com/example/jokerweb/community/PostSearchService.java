@@ -0,0 +1,238 @@
+package com.example.jokerweb.community;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * 게시글 전문 검색 서비스
+ * post_search_token 역색인을 사용해 LIKE '%q%' 전체 스캔 없이 검색한다.
+ * 색인은 게시글 작성/수정/삭제 경로에서 같은 트랜잭션으로 동기화된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    private static final int TITLE_WEIGHT = 5;
+    private static final int AUTHOR_WEIGHT = 3;
+    private static final int CONTENT_WEIGHT = 1;
+    private static final int MAX_WEIGHT = Short.MAX_VALUE;
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostRepository postRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 게시글 색인 (기존 토큰을 지우고 다시 저장)
+     * 색인 실패가 게시글 저장을 막지 않도록 예외는 로그만 남긴다.
+     */
+    public void index(Post post) {
+        if (post == null || post.getId() == null) {
+            return;
+        }
+        if (Boolean.TRUE.equals(post.getIsDeleted())) {
+            remove(post.getId());
+            return;
+        }
+        try {
+            Map<String, Integer> weights = buildWeights(post);
+            jdbcTemplate.update("DELETE FROM post_search_token WHERE post_id = ?", post.getId());
+            if (weights.isEmpty()) {
+                return;
+            }
+            String category = post.getCategory() != null ? post.getCategory() : "";
+            List<Object[]> rows = new ArrayList<>(weights.size());
+            weights.forEach((token, weight) -> rows.add(new Object[]{token, post.getId(), category, weight}));
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO post_search_token (token, post_id, category, weight) VALUES (?, ?, ?, ?)", rows);
+        } catch (DataAccessException e) {
+            log.warn("게시글 검색 색인 실패: postId={}, error={}", post.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글 색인 제거 (삭제/스팸 처리 시)
+     */
+    public void remove(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("DELETE FROM post_search_token WHERE post_id = ?", postId);
+        } catch (DataAccessException e) {
+            log.warn("게시글 검색 색인 제거 실패: postId={}, error={}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 게시글 색인을 한 번에 제거 (관리자 일괄 삭제)
+     */
+    public void removeAll(Collection<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("DELETE FROM post_search_token WHERE post_id IN ("
+                    + String.join(",", Collections.nCopies(postIds.size(), "?")) + ")", postIds.toArray());
+        } catch (DataAccessException e) {
+            log.warn("게시글 검색 색인 일괄 제거 실패: size={}, error={}", postIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 카테고리 이동 시 비정규화된 카테고리 컬럼 갱신
+     */
+    public void updateCategory(Long postId, String category) {
+        if (postId == null || category == null) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("UPDATE post_search_token SET category = ? WHERE post_id = ?", category, postId);
+        } catch (DataAccessException e) {
+            log.warn("게시글 검색 색인 카테고리 갱신 실패: postId={}, error={}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 검색어에 포함된 모든 토큰을 가진 게시글을 가중치 합계 순으로 조회
+     * 색인을 사용할 수 없는 검색어(1글자)나 색인 테이블 오류 시에는 기존 LIKE 검색으로 대체한다.
+     *
+     * @param query    검색어
+     * @param category 카테고리 (null이면 전체)
+     * @param pageable 페이지 정보 (정렬은 점수 순으로 고정)
+     * @return author가 로드된 게시글 페이지
+     */
+    public Page<Post> search(String query, String category, Pageable pageable) {
+        List<String> tokens = PostSearchTokenizer.queryTokens(query);
+        String normalizedCategory = StringUtils.hasText(category) ? category.toLowerCase() : null;
+        if (tokens.isEmpty()) {
+            return postRepository.searchPostsWithAuthor(normalizedCategory, query, PageRequest.of(
+                    pageable.getPageNumber(), pageable.getPageSize()));
+        }
+
+        try {
+            return searchIndex(tokens, normalizedCategory, pageable);
+        } catch (DataAccessException e) {
+            log.warn("검색 색인 조회 실패, LIKE 검색으로 대체: query={}, error={}", query, e.getMessage());
+            return postRepository.searchPostsWithAuthor(normalizedCategory, query, PageRequest.of(
+                    pageable.getPageNumber(), pageable.getPageSize()));
+        }
+    }
+
+    /**
+     * 전체 게시글 색인 재생성 (최초 도입 시 기존 게시글 backfill 용도)
+     * 500건 단위로 id 순서대로 읽어 배치마다 별도 트랜잭션으로 색인한다.
+     */
+    @Async("aggregationExecutor")
+    public void rebuildIndex() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long lastId = 0L;
+        long indexed = 0L;
+        long startedAt = System.currentTimeMillis();
+        log.info("게시글 검색 색인 재생성 시작");
+        while (true) {
+            final long cursor = lastId;
+            List<Post> batch = postRepository.findIndexBatchWithAuthor(cursor, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            tx.executeWithoutResult(status -> batch.forEach(this::index));
+            indexed += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        log.info("게시글 검색 색인 재생성 완료: posts={}, elapsed={}ms", indexed, System.currentTimeMillis() - startedAt);
+    }
+
+    private Page<Post> searchIndex(List<String> tokens, String category, Pageable pageable) {
+        long total = countMatches(tokens, category);
+        if (total == 0L) {
+            return Page.empty(pageable);
+        }
+        List<Long> ids = rankedPostIds(tokens, category, pageable.getPageSize(), pageable.getOffset());
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        // 점수 순서를 유지하며 게시글 로드 (삭제 직후 색인 정리 전 게시글은 제외)
+        Map<Long, Post> postsById = postRepository.findAllWithAuthorByIdIn(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> ordered = ids.stream()
+                .map(postsById::get)
+                .filter(p -> p != null && !Boolean.TRUE.equals(p.getIsDeleted()))
+                .toList();
+        return new PageImpl<>(ordered, pageable, total);
+    }
+
+    long countMatches(List<String> tokens, String category) {
+        List<Object> params = new ArrayList<>();
+        String matched = matchedQuery(tokens, category, params);
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (" + matched + ") matched", Long.class, params.toArray());
+        return total != null ? total : 0L;
+    }
+
+    List<Long> rankedPostIds(List<String> tokens, String category, int limit, long offset) {
+        List<Object> params = new ArrayList<>();
+        String matched = matchedQuery(tokens, category, params);
+        params.add(limit);
+        params.add(offset);
+        return jdbcTemplate.query(
+                matched + " ORDER BY score DESC, t.post_id DESC LIMIT ? OFFSET ?",
+                (rs, rowNum) -> rs.getLong("post_id"),
+                params.toArray());
+    }
+
+    // 모든 검색 토큰을 포함한 게시글만 남기도록 토큰 수로 HAVING 필터링
+    private String matchedQuery(List<String> tokens, String category, List<Object> params) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT t.post_id, SUM(t.weight) AS score FROM post_search_token t WHERE t.token IN (")
+                .append(String.join(",", Collections.nCopies(tokens.size(), "?")))
+                .append(")");
+        params.addAll(tokens);
+        if (category != null) {
+            sql.append(" AND t.category = ?");
+            params.add(category);
+        }
+        sql.append(" GROUP BY t.post_id HAVING COUNT(*) = ?");
+        params.add(tokens.size());
+        return sql.toString();
+    }
+
+    static Map<String, Integer> buildWeights(Post post) {
+        Map<String, Integer> weights = new HashMap<>();
+        PostSearchTokenizer.tokenize(post.getTitle())
+                .forEach((token, count) -> weights.merge(token, count * TITLE_WEIGHT, Integer::sum));
+        if (post.getAuthor() != null && !Boolean.TRUE.equals(post.getIsAnonymous())) {
+            PostSearchTokenizer.tokenize(post.getAuthor().getNickname())
+                    .forEach((token, count) -> weights.merge(token, count * AUTHOR_WEIGHT, Integer::sum));
+        }
+        PostSearchTokenizer.tokenizeHtml(post.getContent())
+                .forEach((token, count) -> {
+                    if (weights.size() < PostSearchTokenizer.MAX_TOKENS_PER_POST || weights.containsKey(token)) {
+                        weights.merge(token, count * CONTENT_WEIGHT, Integer::sum);
+                    }
+                });
+        weights.replaceAll((token, weight) -> Math.min(weight, MAX_WEIGHT));
+        return weights;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.jokerweb.community;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 검색용 2-gram 토크나이저
+ * 한글은 형태소 분석 없이도 2-gram으로 부분 일치 검색이 가능하므로
+ * 문자/숫자 연속 구간을 2글자 단위로 잘라 색인한다.
+ */
+public final class PostSearchTokenizer {
+
+    /** 게시글 하나가 가질 수 있는 최대 토큰 수 (긴 본문으로 인한 색인 폭증 방지) */
+    public static final int MAX_TOKENS_PER_POST = 2_000;
+
+    /** 검색어에서 사용할 최대 토큰 수 (과도한 IN 절 방지) */
+    public static final int MAX_QUERY_TOKENS = 16;
+
+    private static final int GRAM_SIZE = 2;
+    private static final Pattern TAG_PATTERN = Pattern.compile("<[^>]*>");
+    private static final Pattern ENTITY_PATTERN = Pattern.compile("&[a-zA-Z#0-9]+;");
+
+    private PostSearchTokenizer() {
+    }
+
+    /**
+     * 문서 텍스트를 2-gram 토큰과 출현 횟수로 분해
+     */
+    public static Map<String, Integer> tokenize(String text) {
+        Map<String, Integer> grams = new HashMap<>();
+        for (String word : words(text)) {
+            forEachGram(word, gram -> {
+                if (grams.size() < MAX_TOKENS_PER_POST || grams.containsKey(gram)) {
+                    grams.merge(gram, 1, Integer::sum);
+                }
+            });
+        }
+        return grams;
+    }
+
+    /**
+     * HTML 본문에서 태그/엔티티를 제거한 뒤 토큰화
+     */
+    public static Map<String, Integer> tokenizeHtml(String html) {
+        if (html == null || html.isEmpty()) {
+            return Map.of();
+        }
+        String text = ENTITY_PATTERN.matcher(TAG_PATTERN.matcher(html).replaceAll(" ")).replaceAll(" ");
+        return tokenize(text);
+    }
+
+    /**
+     * 검색어를 2-gram 목록으로 변환 (중복 제거, 입력 순서 유지)
+     * 2글자 미만 단어만 있는 검색어는 빈 목록을 반환한다.
+     */
+    public static List<String> queryTokens(String query) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(query)) {
+            forEachGram(word, gram -> {
+                if (grams.size() < MAX_QUERY_TOKENS) {
+                    grams.add(gram);
+                }
+            });
+        }
+        return new ArrayList<>(grams);
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        normalized.codePoints().forEach(cp -> {
+            if (Character.isLetterOrDigit(cp)) {
+                current.appendCodePoint(cp);
+            } else if (current.length() > 0) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        });
+        if (current.length() > 0) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+
+    private static void forEachGram(String word, java.util.function.Consumer<String> consumer) {
+        int[] cps = word.codePoints().toArray();
+        if (cps.length < GRAM_SIZE) {
+            return;
+        }
+        for (int i = 0; i + GRAM_SIZE <= cps.length; i++) {
+            consumer.accept(new String(cps, i, GRAM_SIZE));
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.example.jokerweb.community;
 
 import com.example.jokerweb.admin.service.AuthorizationService;
 import com.example.jokerweb.auth.AuthService;
+import com.example.jokerweb.common.CountRows;
+import com.example.jokerweb.common.HtmlSanitizer;
 import com.example.jokerweb.community.dto.BoardRuleResponse;
 import com.example.jokerweb.community.dto.CommentCreateRequest;
 import com.example.jokerweb.community.dto.CommentResponse;
@@ -9,6 +11,7 @@ import com.example.jokerweb.community.dto.LikeStatusResponse;
 import com.example.jokerweb.community.dto.PostCreateRequest;
 import com.example.jokerweb.community.dto.PostResponse;
 import com.example.jokerweb.community.dto.ReportRequest;
+import com.example.jokerweb.config.HttpCacheConfig;
 import com.example.jokerweb.member.Member;
 import java.time.LocalDateTime;
 import java.util.Comparator;
@@ -16,13 +19,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.regex.Pattern;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -38,24 +42,21 @@ public class PostService {
     private final CommentRepository commentRepository;
     private final AuthService authService;
     private final AuthorizationService authorizationService;
-    private final CategoryRepository categoryRepository;
+    private final CategoryCatalog categoryCatalog;
     private final PostLikeRepository postLikeRepository;
     private final CommentLikeRepository commentLikeRepository;
     private final PostDislikeRepository postDislikeRepository;
     private final CommentDislikeRepository commentDislikeRepository;
     private final ContentReportRepository contentReportRepository;
     private final PostViewHistoryRepository postViewHistoryRepository;
+    private final PostSearchService postSearchService;
+    private final PopularPostService popularPostService;
     private final PasswordEncoder passwordEncoder;
 
     // 조회수 중복 증가 방지를 위한 임시 캐시 (최근 1초 이내 동일 요청 무시)
     private final ConcurrentHashMap<String, Long> viewCountCache = new ConcurrentHashMap<>();
     private static final long VIEW_COUNT_CACHE_TTL = 1000L; // 1초
 
-    private static final Pattern TAG_PATTERN = Pattern.compile("<[^>]*>");
-    private static final Pattern IMG_PATTERN = Pattern.compile("<img\\b", Pattern.CASE_INSENSITIVE);
-    private static final Pattern LINK_PATTERN = Pattern.compile("<a\\b", Pattern.CASE_INSENSITIVE);
-    private static final Pattern YOUTUBE_PATTERN = Pattern.compile("youtube\\.com|youtu\\.be", Pattern.CASE_INSENSITIVE);
-    private static final Pattern TABLE_PATTERN = Pattern.compile("<table\\b", Pattern.CASE_INSENSITIVE);
 
     private record BoardRule(
             String category,
@@ -191,6 +192,18 @@ public class PostService {
             )
     );
 
+    // 게시판 규칙은 배포 단위로만 바뀌므로 응답과 ETag를 한 번만 만든다
+    private static final List<BoardRuleResponse> BOARD_RULE_RESPONSES = BOARD_RULES.values().stream()
+            .sorted(Comparator.comparing(BoardRule::category))
+            .map(PostService::toBoardRuleResponse)
+            .toList();
+
+    private static final String BOARD_RULES_ETAG = HttpCacheConfig.EtagUtils.generateEtag(
+            BOARD_RULES.values().stream()
+                    .sorted(Comparator.comparing(BoardRule::category))
+                    .map(BoardRule::toString)
+                    .collect(Collectors.joining("\n")));
+
     @Transactional
     public PostResponse create(String authorization, PostCreateRequest req, String clientIp) {
         try {
@@ -214,7 +227,10 @@ public class PostService {
             validateWritePermission(normalizedCategory, rule);
         }
         
-        validateContent(req, rule);
+        validateTitle(req.getTitle(), rule);
+        
+        // XSS 방지를 위한 내용 정제 + 게시판 규칙 검증 (허용 목록 기반, 본문 1회 순회)
+        String sanitizedContent = sanitizeContent(req.getContent(), rule);
         
         // 익명 게시글 여부 확인 (allowAnonymous가 true인 경우에만 허용)
         boolean isAnonymous = Boolean.TRUE.equals(req.getAnonymous()) && rule.allowAnonymous();
@@ -224,9 +240,6 @@ public class PostService {
             isAnonymous = true;
         }
         
-        // XSS 방지를 위한 내용 정제 (위험한 스크립트 태그만 제거, HTML은 유지)
-        String sanitizedContent = com.example.jokerweb.common.SecurityUtils.sanitizeScriptTags(req.getContent());
-        
         Post.PostBuilder postBuilder = Post.builder()
                 .author(author)
                 .category(normalizedCategory)
@@ -249,6 +262,7 @@ public class PostService {
         }
         
         Post saved = postRepository.save(postBuilder.build());
+        postSearchService.index(saved);
             try {
         return PostResponse.from(saved, 0L, null, authorizationService);
             } catch (Exception e) {
@@ -267,14 +281,8 @@ public class PostService {
     public List<PostResponse> list(String category) {
         String normalized = category == null ? null : category.toLowerCase();
         if ("popular".equals(normalized)) {
-            Sort popularSort = Sort.by(
-                    Sort.Order.desc("likes"),
-                    Sort.Order.desc("views"),
-                    Sort.Order.desc("createdAt")
-            );
-            return postRepository.findByIsDeletedFalse(popularSort).stream()
-                    .map(p -> PostResponse.from(p, commentRepository.countByPostIdAndIsDeletedFalse(p.getId()), null, authorizationService))
-                    .toList();
+            // 인기 게시판은 미리 계산된 랭킹에서 바로 반환 (post 테이블 조회 없음)
+            return popularPostService.top(null, popularPostService.getTopK());
         }
 
         Sort sort = Sort.by(
@@ -285,9 +293,55 @@ public class PostService {
         List<Post> posts = (normalized == null || normalized.isBlank())
                 ? postRepository.findByIsDeletedFalse(sort)
                 : postRepository.findByCategoryAndIsDeletedFalse(normalized, sort);
+        Map<Long, Long> commentCounts = countComments(posts);
+        preloadAuthorRoles(posts);
         return posts.stream()
-                .map(p -> PostResponse.from(p, commentRepository.countByPostIdAndIsDeletedFalse(p.getId()), null, authorizationService))
+                .map(p -> PostResponse.from(p, commentCounts.getOrDefault(p.getId(), 0L), null, authorizationService))
+                .toList();
+    }
+
+    // 게시판별 인기글 (시간 감쇠 점수 순)
+    public List<PostResponse> popular(String category, int limit) {
+        String normalized = StringUtils.hasText(category) ? category.toLowerCase() : null;
+        if (normalized != null) {
+            validateReadPermission(normalized);
+        }
+        return popularPostService.top(normalized, limit);
+    }
+
+    // 게시글 검색 (n-gram 색인 기반, 점수 순 정렬)
+    @Transactional(readOnly = true)
+    public Page<PostResponse> search(String query, String category, Pageable pageable) {
+        if (!StringUtils.hasText(query)) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (StringUtils.hasText(category)) {
+            validateReadPermission(category.toLowerCase());
+        }
+        Page<Post> posts = postSearchService.search(query.trim(), category, pageable);
+        Map<Long, Long> commentCounts = countComments(posts.getContent());
+        preloadAuthorRoles(posts.getContent());
+        return posts.map(p -> PostResponse.from(p, commentCounts.getOrDefault(p.getId(), 0L), null, authorizationService));
+    }
+
+    // 작성자 관리자 여부 확인 전에 작성자들의 권한 스냅샷을 한 번에 로딩
+    private void preloadAuthorRoles(List<Post> posts) {
+        List<Long> authorIds = posts.stream()
+                .filter(p -> p.getAuthor() != null)
+                .map(p -> p.getAuthor().getId())
+                .distinct()
                 .toList();
+        if (!authorIds.isEmpty()) {
+            authorizationService.rolesFor(authorIds);
+        }
+    }
+
+    private Map<Long, Long> countComments(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+        return CountRows.toCountMap(commentRepository.countByPostIdIn(postIds));
     }
 
     @Transactional(readOnly = true)
@@ -352,7 +406,9 @@ public class PostService {
             
             // 조회수 증가는 별도 트랜잭션에서 처리 (비동기)
             try {
-                incrementViewCountAsync(id, clientIp, memberId);
+                if (incrementViewCountAsync(id, clientIp, memberId)) {
+                    popularPostService.recordView(response);
+                }
             } catch (Exception e) {
                 // 조회수 증가 실패해도 게시글은 반환 (조회수만 증가하지 않음)
                 log.warn("조회수 증가 중 오류 발생 (무시하고 계속 진행): postId={}, error={}", id, e.getMessage());
@@ -440,10 +496,11 @@ public class PostService {
     // 조회수 증가 (별도 트랜잭션)
     // 요청이 들어올 때마다 무조건 1씩 증가시킨다.
     // 단, 동일한 요청이 1초 이내에 중복으로 들어오는 경우는 무시한다.
+    // 실제로 증가했으면 true 반환 (인기글 랭킹 반영용)
     @Transactional(propagation = org.springframework.transaction.annotation.Propagation.REQUIRES_NEW)
-    public void incrementViewCountAsync(Long postId, String clientIp, Long memberId) {
+    public boolean incrementViewCountAsync(Long postId, String clientIp, Long memberId) {
         if (postId == null) {
-            return;
+            return false;
         }
         
         // 중복 요청 방지: postId + clientIp + memberId 조합으로 캐시 키 생성
@@ -455,9 +512,10 @@ public class PostService {
         if (lastViewTime != null && (currentTime - lastViewTime) < VIEW_COUNT_CACHE_TTL) {
             log.debug("중복 조회수 증가 요청 무시: postId={}, clientIp={}, memberId={}, interval={}ms", 
                     postId, clientIp, memberId, currentTime - lastViewTime);
-            return;
+            return false;
         }
         
+        boolean incremented = false;
         try {
             int updated = postRepository.incrementViews(postId);
             if (updated == 0) {
@@ -465,6 +523,7 @@ public class PostService {
             } else {
                 // 조회수 증가 성공 시 캐시에 타임스탬프 저장
                 viewCountCache.put(cacheKey, currentTime);
+                incremented = true;
                 log.debug("조회수 증가 완료: postId={}, clientIp={}, memberId={}", postId, clientIp, memberId);
             }
         } catch (Exception e) {
@@ -477,6 +536,7 @@ public class PostService {
             long cutoffTime = currentTime - VIEW_COUNT_CACHE_TTL;
             viewCountCache.entrySet().removeIf(entry -> entry.getValue() < cutoffTime);
         }
+        return incremented;
     }
     
     // 조회 기록 저장 시도 (성공 여부 반환)
@@ -580,6 +640,7 @@ public class PostService {
         }
         
         commentRepository.save(commentBuilder.build());
+        popularPostService.refresh(post);
     }
 
     @Transactional(readOnly = true)
@@ -773,14 +834,7 @@ public class PostService {
         }
         
         if (req.getContent() != null) {
-            String content = req.getContent().trim();
-            int contentLength = content.replaceAll("<[^>]+>", "").length(); // HTML 태그 제거 후 길이 계산
-            if (contentLength < rule.minContentLength() || contentLength > rule.maxContentLength()) {
-                throw new IllegalArgumentException(
-                    String.format("본문은 %d자 이상 %d자 이하로 작성해주세요.", rule.minContentLength(), rule.maxContentLength())
-                );
-            }
-            post.setContent(content);
+            post.setContent(sanitizeContent(req.getContent(), rule));
         }
         
         // 익명 게시글 여부 업데이트 (allowAnonymous가 true인 경우에만 허용)
@@ -791,8 +845,11 @@ public class PostService {
         
         post.setUpdatedAt(java.time.LocalDateTime.now());
         Post saved = postRepository.save(post);
+        postSearchService.index(saved);
         long commentCount = commentRepository.countByPostIdAndIsDeletedFalse(postId);
-        return PostResponse.from(saved, commentCount, null, authorizationService);
+        PostResponse response = PostResponse.from(saved, commentCount, null, authorizationService);
+        popularPostService.refresh(response);
+        return response;
     }
 
     /**
@@ -846,14 +903,7 @@ public class PostService {
         }
 
         if (req.getContent() != null) {
-            String content = req.getContent().trim();
-            int contentLength = content.replaceAll("<[^>]+>", "").length(); // HTML 태그 제거 후 길이 계산
-            if (contentLength < rule.minContentLength() || contentLength > rule.maxContentLength()) {
-                throw new IllegalArgumentException(
-                        String.format("본문은 %d자 이상 %d자 이하로 작성해주세요.", rule.minContentLength(), rule.maxContentLength())
-                );
-            }
-            post.setContent(content);
+            post.setContent(sanitizeContent(req.getContent(), rule));
         }
 
         // 익명 게시글 여부는 항상 true 유지 (게스트 글)
@@ -861,8 +911,11 @@ public class PostService {
 
         post.setUpdatedAt(java.time.LocalDateTime.now());
         Post saved = postRepository.save(post);
+        postSearchService.index(saved);
         long commentCount = commentRepository.countByPostIdAndIsDeletedFalse(postId);
-        return PostResponse.from(saved, commentCount, null, authorizationService);
+        PostResponse response = PostResponse.from(saved, commentCount, null, authorizationService);
+        popularPostService.refresh(response);
+        return response;
     }
 
     @Transactional
@@ -892,6 +945,8 @@ public class PostService {
             post.setIsDeleted(true);
             post.setDeletedAt(java.time.LocalDateTime.now());
             postRepository.save(post);
+            postSearchService.remove(postId);
+            popularPostService.remove(postId);
             return;
         }
         
@@ -909,6 +964,8 @@ public class PostService {
             post.setIsDeleted(true);
             post.setDeletedAt(java.time.LocalDateTime.now());
             postRepository.save(post);
+            postSearchService.remove(postId);
+            popularPostService.remove(postId);
             return;
         }
         
@@ -922,6 +979,8 @@ public class PostService {
         post.setIsDeleted(true);
         post.setDeletedAt(java.time.LocalDateTime.now());
         postRepository.save(post);
+        postSearchService.remove(postId);
+        popularPostService.remove(postId);
     }
 
     @Transactional
@@ -987,6 +1046,7 @@ public class PostService {
             comment.setIsDeleted(true);
             comment.setDeletedAt(java.time.LocalDateTime.now());
             commentRepository.save(comment);
+            popularPostService.refresh(comment.getPost());
             return;
         }
         
@@ -1004,6 +1064,7 @@ public class PostService {
             comment.setIsDeleted(true);
             comment.setDeletedAt(java.time.LocalDateTime.now());
             commentRepository.save(comment);
+            popularPostService.refresh(comment.getPost());
             return;
         }
         
@@ -1018,6 +1079,7 @@ public class PostService {
         comment.setIsDeleted(true);
         comment.setDeletedAt(java.time.LocalDateTime.now());
         commentRepository.save(comment);
+        popularPostService.refresh(comment.getPost());
     }
 
     // 어드민 권한 확인
@@ -1110,6 +1172,8 @@ public class PostService {
         post.setIsDeleted(true);
         post.setDeletedAt(java.time.LocalDateTime.now());
         postRepository.save(post);
+        postSearchService.remove(postId);
+        popularPostService.remove(postId);
         // TODO: 삭제 이력 기록 (AdminPostService와 연계)
     }
 
@@ -1129,6 +1193,7 @@ public class PostService {
         comment.setIsDeleted(true);
         comment.setDeletedAt(java.time.LocalDateTime.now());
         commentRepository.save(comment);
+        popularPostService.refresh(comment.getPost());
         // TODO: 삭제 이력 기록
     }
 
@@ -1145,6 +1210,8 @@ public class PostService {
         post.setIsDeleted(true);
         post.setDeletedAt(java.time.LocalDateTime.now());
         postRepository.save(post);
+        postSearchService.remove(postId);
+        popularPostService.remove(postId);
         // TODO: 스팸 처리 이력 기록 및 작성자 제재
     }
 
@@ -1164,32 +1231,37 @@ public class PostService {
         comment.setIsDeleted(true);
         comment.setDeletedAt(java.time.LocalDateTime.now());
         commentRepository.save(comment);
+        popularPostService.refresh(comment.getPost());
         // TODO: 스팸 처리 이력 기록 및 작성자 제재
     }
 
-    @Transactional(readOnly = true)
     public List<BoardRuleResponse> getBoardRules() {
-        return BOARD_RULES.values().stream()
-                .sorted(Comparator.comparing(BoardRule::category))
-                .map(rule -> BoardRuleResponse.builder()
-                        .category(rule.category())
-                        .name(rule.name())
-                        .description(rule.description())
-                        .canRead(rule.canRead())
-                        .canWrite(rule.canWrite())
-                        .minTitleLength(rule.minTitleLength())
-                        .maxTitleLength(rule.maxTitleLength())
-                        .minContentLength(rule.minContentLength())
-                        .maxContentLength(rule.maxContentLength())
-                        .maxMediaCount(rule.maxMediaCount())
-                        .allowAnonymous(rule.allowAnonymous())
-                        .allowLinks(rule.allowLinks())
-                        .allowYoutube(rule.allowYoutube())
-                        .allowTable(rule.allowTable())
-                        .allowCodeBlock(rule.allowCodeBlock())
-                        .notice(rule.notice())
-                        .build())
-                .toList();
+        return BOARD_RULE_RESPONSES;
+    }
+
+    public String getBoardRulesEtag() {
+        return BOARD_RULES_ETAG;
+    }
+
+    private static BoardRuleResponse toBoardRuleResponse(BoardRule rule) {
+        return BoardRuleResponse.builder()
+                .category(rule.category())
+                .name(rule.name())
+                .description(rule.description())
+                .canRead(rule.canRead())
+                .canWrite(rule.canWrite())
+                .minTitleLength(rule.minTitleLength())
+                .maxTitleLength(rule.maxTitleLength())
+                .minContentLength(rule.minContentLength())
+                .maxContentLength(rule.maxContentLength())
+                .maxMediaCount(rule.maxMediaCount())
+                .allowAnonymous(rule.allowAnonymous())
+                .allowLinks(rule.allowLinks())
+                .allowYoutube(rule.allowYoutube())
+                .allowTable(rule.allowTable())
+                .allowCodeBlock(rule.allowCodeBlock())
+                .notice(rule.notice())
+                .build();
     }
 
     // 게시글 좋아요
@@ -1225,6 +1297,7 @@ public class PostService {
         long likeCount = postLikeRepository.countByPostId(postId);
         post.setLikes((int) likeCount);
         postRepository.save(post);
+        popularPostService.refresh(post);
     }
 
     // 게시글 좋아요 취소
@@ -1244,6 +1317,7 @@ public class PostService {
         long likeCount = postLikeRepository.countByPostId(postId);
         post.setLikes((int) likeCount);
         postRepository.save(post);
+        popularPostService.refresh(post);
     }
 
     // 게시글 비추천
@@ -1279,6 +1353,7 @@ public class PostService {
         long likeCount = postLikeRepository.countByPostId(postId);
         post.setLikes((int) likeCount);
         postRepository.save(post);
+        popularPostService.refresh(post);
     }
 
     // 게시글 비추천 취소
@@ -1489,9 +1564,9 @@ public class PostService {
     private void validateWritePermission(String category, BoardRule rule) {
         // category 테이블이 없을 수 있으므로 try-catch로 처리
         try {
-        categoryRepository.findByName(category)
+        categoryCatalog.findByName(category)
                 .ifPresent(cat -> {
-                    if (!Boolean.TRUE.equals(cat.getCanWrite())) {
+                    if (!cat.canWrite()) {
                         throw new IllegalArgumentException("해당 게시판은 현재 글쓰기가 제한되어 있습니다.");
                     }
                 });
@@ -1505,19 +1580,23 @@ public class PostService {
     }
 
     private void validateReadPermission(Post post) {
+        validateReadPermission(post.getCategory());
+    }
+
+    private void validateReadPermission(String category) {
         try {
-            BoardRule rule = getRule(post.getCategory());
+            BoardRule rule = getRule(category);
             // category 테이블이 없을 수 있으므로 try-catch로 처리
             try {
-            categoryRepository.findByName(post.getCategory())
+            categoryCatalog.findByName(category)
                     .ifPresent(cat -> {
-                        if (!Boolean.TRUE.equals(cat.getCanRead())) {
+                        if (!cat.canRead()) {
                             throw new IllegalArgumentException("해당 게시판 읽기가 제한되어 있습니다.");
                         }
                     });
             } catch (Exception e) {
                 // category 테이블이 없거나 조회 실패 시 무시하고 계속 진행
-                log.debug("category 테이블 조회 실패 (무시하고 계속 진행): category={}, error={}", post.getCategory(), e.getMessage());
+                log.debug("category 테이블 조회 실패 (무시하고 계속 진행): category={}, error={}", category, e.getMessage());
             }
             if (!rule.canRead()) {
                 throw new IllegalArgumentException("해당 게시판은 접근이 제한되어 있습니다.");
@@ -1528,47 +1607,42 @@ public class PostService {
         } catch (Exception e) {
             // 기타 예외는 무시하고 기본적으로 읽기 허용
             // 로그만 남기고 계속 진행
-            log.debug("읽기 권한 검증 중 오류 발생 (무시하고 계속 진행): category={}, error={}", post.getCategory(), e.getMessage());
+            log.debug("읽기 권한 검증 중 오류 발생 (무시하고 계속 진행): category={}, error={}", category, e.getMessage());
         }
     }
 
-    private void validateContent(PostCreateRequest req, BoardRule rule) {
-        String title = Objects.requireNonNullElse(req.getTitle(), "").trim();
-        String content = Objects.requireNonNullElse(req.getContent(), "").trim();
-
+    private void validateTitle(String rawTitle, BoardRule rule) {
+        String title = Objects.requireNonNullElse(rawTitle, "").trim();
         if (title.length() < rule.minTitleLength() || title.length() > rule.maxTitleLength()) {
             throw new IllegalArgumentException(
                     "제목은 " + rule.minTitleLength() + "자 이상 " + rule.maxTitleLength() + "자 이하여야 합니다.");
         }
+    }
+
+    // 본문을 정제하면서 같은 순회에서 센 카운터로 게시판 규칙 검증 후 정제된 HTML 반환 (저장된 본문은 다시 정제하지 않음)
+    private String sanitizeContent(String rawContent, BoardRule rule) {
+        HtmlSanitizer.Result result = HtmlSanitizer.sanitize(Objects.requireNonNullElse(rawContent, "").trim());
 
-        String textOnly = stripHtml(content);
-        if (textOnly.length() < rule.minContentLength() || textOnly.length() > rule.maxContentLength()) {
+        if (result.textLength() < rule.minContentLength() || result.textLength() > rule.maxContentLength()) {
             throw new IllegalArgumentException(
                     "본문은 " + rule.minContentLength() + "자 이상 " + rule.maxContentLength() + "자 이하여야 합니다.");
         }
 
-        long imageCount = IMG_PATTERN.matcher(content).results().count();
-        if (imageCount > rule.maxMediaCount()) {
-            throw new IllegalArgumentException("이미지는 최대 " + rule.maxMediaCount() + "개까지 첨부할 수 있습니다.");
+        if (result.mediaCount() > rule.maxMediaCount()) {
+            throw new IllegalArgumentException("이미지/동영상은 최대 " + rule.maxMediaCount() + "개까지 첨부할 수 있습니다.");
         }
 
-        if (!rule.allowLinks() && LINK_PATTERN.matcher(content).find()) {
+        if (!rule.allowLinks() && result.linkCount() > 0) {
             throw new IllegalArgumentException("해당 게시판에서는 링크 첨부가 제한됩니다.");
         }
 
-        if (!rule.allowYoutube() && YOUTUBE_PATTERN.matcher(content).find()) {
+        if (!rule.allowYoutube() && result.youtubeCount() > 0) {
             throw new IllegalArgumentException("해당 게시판에서는 동영상 삽입이 제한됩니다.");
         }
 
-        if (!rule.allowTable() && TABLE_PATTERN.matcher(content).find()) {
+        if (!rule.allowTable() && result.tableCount() > 0) {
             throw new IllegalArgumentException("해당 게시판에서는 표 삽입이 제한됩니다.");
         }
-    }
-
-    private String stripHtml(String raw) {
-        if (raw == null || raw.isEmpty()) {
-            return "";
-        }
-        return TAG_PATTERN.matcher(raw).replaceAll("").trim();
+        return result.html();
     }
 }
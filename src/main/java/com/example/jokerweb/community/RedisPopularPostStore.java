@@ -0,0 +1,130 @@
+package com.example.jokerweb.community;
+
+import com.example.jokerweb.community.dto.PostResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기글 랭킹 Redis 저장소 (spring.data.redis.host 설정 시 사용)
+ * 게시판별 sorted set(popular:board:{board})에 점수를, popular:post:{id}에 응답 스냅샷을 저장해
+ * 여러 서버 인스턴스가 같은 랭킹을 공유한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.data.redis.host")
+public class RedisPopularPostStore implements PopularPostStore {
+
+    private static final String BOARD_KEY_PREFIX = "popular:board:";
+    private static final String POST_KEY_PREFIX = "popular:post:";
+
+    /** 랭킹에서 밀려난 스냅샷은 갱신이 없으면 만료되어 정리된다 */
+    private static final Duration SNAPSHOT_TTL = Duration.ofDays(7);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void upsert(PopularPost post, int topK) {
+        if (post.postId() == null) {
+            return;
+        }
+        String member = post.postId().toString();
+        String previousCategory = cachedCategory(post.postId());
+        try {
+            redisTemplate.opsForValue().set(postKey(post.postId()),
+                    objectMapper.writeValueAsString(post.toResponse()), SNAPSHOT_TTL);
+        } catch (JsonProcessingException e) {
+            log.warn("인기글 스냅샷 직렬화 실패: postId={}, error={}", post.postId(), e.getMessage());
+            return;
+        }
+        if (previousCategory != null && !previousCategory.equals(post.category())) {
+            redisTemplate.opsForZSet().remove(boardKey(previousCategory), member);
+        }
+        double score = post.score();
+        for (String board : List.of(ALL_BOARD, post.category())) {
+            redisTemplate.opsForZSet().add(boardKey(board), member, score);
+            // 점수 하위 항목부터 제거해 topK개만 유지
+            redisTemplate.opsForZSet().removeRange(boardKey(board), 0, -(topK + 1L));
+        }
+    }
+
+    @Override
+    public void remove(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        String member = postId.toString();
+        String category = cachedCategory(postId);
+        redisTemplate.opsForZSet().remove(boardKey(ALL_BOARD), member);
+        if (category != null) {
+            redisTemplate.opsForZSet().remove(boardKey(category), member);
+        }
+        redisTemplate.delete(postKey(postId));
+    }
+
+    @Override
+    public List<PostResponse> top(String board, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Set<String> ids = redisTemplate.opsForZSet()
+                .reverseRange(boardKey(board != null ? board : ALL_BOARD), 0, limit - 1L);
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        List<String> keys = ids.stream().map(id -> POST_KEY_PREFIX + id).toList();
+        List<String> snapshots = redisTemplate.opsForValue().multiGet(keys);
+        if (snapshots == null) {
+            return List.of();
+        }
+        List<PostResponse> result = new ArrayList<>(snapshots.size());
+        for (String json : snapshots) {
+            PostResponse response = parse(json);
+            if (response != null) {
+                result.add(response);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        Long size = redisTemplate.opsForZSet().zCard(boardKey(ALL_BOARD));
+        return size == null || size == 0L;
+    }
+
+    private String cachedCategory(Long postId) {
+        PostResponse previous = parse(redisTemplate.opsForValue().get(postKey(postId)));
+        return previous != null ? previous.getCategory() : null;
+    }
+
+    private PostResponse parse(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, PostResponse.class);
+        } catch (JsonProcessingException e) {
+            log.debug("인기글 스냅샷 역직렬화 실패 (무시): error={}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String boardKey(String board) {
+        return BOARD_KEY_PREFIX + board;
+    }
+
+    private static String postKey(Long postId) {
+        return POST_KEY_PREFIX + postId;
+    }
+}
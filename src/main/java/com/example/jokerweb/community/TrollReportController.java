@@ -7,6 +7,10 @@ import jakarta.validation.Valid;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -35,7 +39,7 @@ public class TrollReportController {
 
         BarracksReport report = BarracksReport.builder()
                 .reporter(member)
-                .targetNickname(request.getTargetName())
+                .targetNickname(BarracksReportStatsService.normalizeNickname(request.getTargetName()))
                 .content(request.getDescription())
                 .title("트롤 신고 - " + request.getTargetName())
                 .reportType("troll")
@@ -46,15 +50,23 @@ public class TrollReportController {
         return ResponseEntity.ok(TrollReportResponse.from(barracksReportRepository.save(report)));
     }
 
+    /**
+     * 제보 목록 (최신순 페이지), targetName은 닉네임 접두어 검색
+     */
     @GetMapping
     public ResponseEntity<List<TrollReportResponse>> list(
-            @RequestParam(name = "targetName", required = false) String targetName
+            @RequestParam(name = "targetName", required = false) String targetName,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size
     ) {
-        List<BarracksReport> reports = (targetName == null || targetName.isBlank())
-                ? barracksReportRepository.findAllByOrderByCreatedAtDesc()
-                : barracksReportRepository.findByTargetNicknameContainingIgnoreCaseOrderByCreatedAtDesc(targetName);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100),
+                Sort.by(Sort.Direction.DESC, "createdAt"));
+        Page<BarracksReport> reports = (targetName == null || targetName.isBlank())
+                ? barracksReportRepository.findAllBy(pageable)
+                : barracksReportRepository.findByTargetNicknameStartingWith(
+                        BarracksReportStatsService.normalizeNickname(targetName), pageable);
 
-        List<TrollReportResponse> responses = reports.stream()
+        List<TrollReportResponse> responses = reports.getContent().stream()
                 .map(TrollReportResponse::from)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(responses);
@@ -24,6 +24,13 @@ public class BarracksReportResponse {
     private Integer totalReportCount;
 
     public static BarracksReportResponse from(BarracksReport report) {
+        return from(report, report.getTotalReportCount());
+    }
+
+    /**
+     * totalReportCount: 닉네임별 집계(barracks_report_target_stats) 기준 전체 제보 건수
+     */
+    public static BarracksReportResponse from(BarracksReport report, Integer totalReportCount) {
         return BarracksReportResponse.builder()
                 .id(report.getId())
                 .targetNickname(report.getTargetNickname())
@@ -38,7 +45,7 @@ public class BarracksReportResponse {
                 .createdAt(report.getCreatedAt())
                 .banStatus(report.getBanStatus())
                 .banCheckedAt(report.getBanCheckedAt())
-                .totalReportCount(report.getTotalReportCount())
+                .totalReportCount(totalReportCount)
                 .build();
     }
 }
@@ -6,9 +6,11 @@ import com.example.jokerweb.common.IpUtils;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 public class PostResponse {
     private Long id;
     private String category;
@@ -1,35 +1,139 @@
 package com.example.jokerweb.config;
 
+import com.example.jokerweb.monitoring.RequestPerfTrace;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * 비동기 처리 설정
- * AccessLog 저장 등 비동기 작업에 사용
+ * 작업 종류별로 크기와 거절 정책이 다른 실행기를 따로 둔다 (접속 로그는 AccessLogPipeline 전용 스레드)
+ * - taskExecutor: 실행기를 지정하지 않은 @Async
+ * - nexonIoExecutor: 요청 처리 중 넥슨 API 병렬 호출
+ * - nexonBackfillExecutor: 매치 상세 백필 등 응답과 무관한 넥슨 API 수집
+ * - dbWriteExecutor: 검색 기록 등 DB 후기록
+ * - activityFeedExecutor: 관리자 대시보드 활동 피드 기록
+ * - aggregationExecutor: 색인 재구성/랭킹 재계산/통계 백필
+ * 각 실행기는 executor.* 메트릭(name 태그)으로 큐 길이, 실행 중 스레드, 대기/실행 시간, 거절 수를 내보낸다.
+ *
+ * spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리와 @Scheduled 스케줄러(Spring Boot 자동 설정)에 더해
+ * 여기서 만드는 실행기도 가상 스레드를 쓴다. 넥슨 API/JPA/FTP 호출처럼 대부분 I/O 대기인 작업이 스레드 풀 크기에 묶이지 않는다.
+ * 이때도 같은 ThreadPoolTaskExecutor에 가상 스레드 팩토리만 바꿔 끼우므로 max-size(동시 실행 한도), queue-capacity,
+ * 거절 정책과 executor.* 메트릭은 플랫폼 스레드 모드와 똑같이 적용된다 (제출한 쪽이 막혀 기다리지 않는다).
  */
 @Slf4j
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
 
+    private final ExecutorProperties executorProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean(name = "taskExecutor")
     @Override
     public Executor getAsyncExecutor() {
+        return createExecutor("async", executorProperties.getGeneral(), false);
+    }
+
+    @Bean(name = "nexonIoExecutor")
+    public Executor nexonIoExecutor() {
+        return createExecutor("nexon-io", executorProperties.getNexonIo(), true);
+    }
+
+    @Bean(name = "nexonBackfillExecutor")
+    public Executor nexonBackfillExecutor() {
+        return createExecutor("nexon-backfill", executorProperties.getNexonBackfill(), false);
+    }
+
+    @Bean(name = "dbWriteExecutor")
+    public Executor dbWriteExecutor() {
+        return createExecutor("db-write", executorProperties.getDbWrite(), false);
+    }
+
+    @Bean(name = "activityFeedExecutor")
+    public Executor activityFeedExecutor() {
+        return createExecutor("activity-feed", executorProperties.getActivityFeed(), false);
+    }
+
+    @Bean(name = "aggregationExecutor")
+    public Executor aggregationExecutor() {
+        return createExecutor("aggregation", executorProperties.getAggregation(), false);
+    }
+
+    private Executor createExecutor(String name, ExecutorProperties.Pool pool, boolean followsRequest) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2); // 기본 스레드 수
-        executor.setMaxPoolSize(5); // 최대 스레드 수
-        executor.setQueueCapacity(100); // 대기 큐 크기
-        executor.setThreadNamePrefix("async-");
+        executor.setCorePoolSize(pool.getCoreSize()); // 기본 스레드 수
+        executor.setMaxPoolSize(pool.getMaxSize()); // 최대 스레드 수
+        executor.setQueueCapacity(pool.getQueueCapacity()); // 대기 큐 크기
+        executor.setThreadNamePrefix(name + "-");
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name(name + "-", 0).factory());
+        }
+        executor.setRejectedExecutionHandler(countingRejection(name, pool.getRejection()));
+        executor.setTaskDecorator(timed(name, followsRequest));
         executor.setWaitForTasksToCompleteOnShutdown(true); // 종료 시 대기
         executor.setAwaitTerminationSeconds(60); // 최대 60초 대기
         executor.initialize();
-        log.info("Async task executor initialized: core={}, max={}, queue={}", 
-                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+        // executor.active/queued/queue.remaining/pool.size/completed
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
+        log.info("Executor {} initialized: core={}, max={}, queue={}, rejection={}, virtual={}",
+                name, pool.getCoreSize(), pool.getMaxSize(), pool.getQueueCapacity(), pool.getRejection(), virtualThreads);
         return executor;
     }
+
+    /**
+     * 큐 대기 시간(제출~시작)과 실행 시간 기록
+     * followsRequest: 요청 스레드가 결과를 기다리는 작업이면 요청 성능 추적(RequestPerfTrace)을 작업 스레드로 넘긴다.
+     * 백필처럼 응답 이후에도 도는 작업은 요청 예산에 섞이지 않도록 넘기지 않는다.
+     */
+    private TaskDecorator timed(String name, boolean followsRequest) {
+        Timer queued = Timer.builder("executor.task.queued").tag("name", name).register(meterRegistry);
+        Timer duration = Timer.builder("executor.task.duration").tag("name", name).register(meterRegistry);
+        return task -> {
+            long submittedAt = System.nanoTime();
+            Runnable traced = followsRequest ? RequestPerfTrace.propagate(task) : task;
+            return () -> {
+                long startedAt = System.nanoTime();
+                queued.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    traced.run();
+                } finally {
+                    duration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
+
+    private RejectedExecutionHandler countingRejection(String name, ExecutorProperties.Rejection rejection) {
+        Counter rejected = meterRegistry.counter("executor.rejected", "name", name);
+        RejectedExecutionHandler delegate = switch (rejection) {
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+        };
+        return (task, executor) -> {
+            rejected.increment();
+            log.debug("Executor {} saturated: policy={}, queued={}", name, rejection, executor.getQueue().size());
+            delegate.rejectedExecution(task, executor);
+        };
+    }
 }
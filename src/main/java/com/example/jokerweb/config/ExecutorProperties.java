@@ -0,0 +1,62 @@
+package com.example.jokerweb.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 작업 종류별 실행기 크기 설정 (async.executors.*)
+ * 큐 길이/실행 중 스레드/대기 시간/거절 수는 executor.* 메트릭(name 태그)으로 확인해 조정한다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "async.executors")
+public class ExecutorProperties {
+
+    /** @Async 기본 실행기 (실행기를 지정하지 않은 작업) */
+    private Pool general = new Pool(2, 5, 100, Rejection.ABORT);
+
+    /** 요청 처리 중 넥슨 API 병렬 호출 (프로필 4종 동시 조회, 전적검색 카테고리별 상세 조회) */
+    private Pool nexonIo = new Pool(4, 16, 32, Rejection.CALLER_RUNS);
+
+    /** 매치 상세 백필 등 응답과 무관한 넥슨 API 수집 작업 (나중에 다시 수집되므로 넘치면 버림) */
+    private Pool nexonBackfill = new Pool(1, 2, 20, Rejection.DISCARD);
+
+    /** 검색 기록 등 DB 후기록 (유실돼도 무방한 기록성 쓰기) */
+    private Pool dbWrite = new Pool(1, 2, 500, Rejection.DISCARD);
+
+    /** 활동 피드 기록 (관리자 대시보드, 넘치면 호출 스레드가 직접 기록해 유실하지 않음) */
+    private Pool activityFeed = new Pool(1, 2, 500, Rejection.CALLER_RUNS);
+
+    /** 검색 색인 재구성, 인기글 랭킹 재계산, 통계 백필 등 집계 작업 */
+    private Pool aggregation = new Pool(1, 2, 10, Rejection.CALLER_RUNS);
+
+    public enum Rejection {
+        /** 호출한 스레드가 직접 실행 (요청 스레드가 느려지는 대신 결과는 보장) */
+        CALLER_RUNS,
+        /** 작업을 버리고 카운트만 남김 */
+        DISCARD,
+        /** 호출한 쪽에 TaskRejectedException */
+        ABORT
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Pool {
+        private int coreSize;
+        private int maxSize;
+        private int queueCapacity;
+        private Rejection rejection;
+
+        public Pool(int coreSize, int maxSize, int queueCapacity, Rejection rejection) {
+            this.coreSize = coreSize;
+            this.maxSize = maxSize;
+            this.queueCapacity = queueCapacity;
+            this.rejection = rejection;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.jokerweb.config;
+
+import com.example.jokerweb.monitoring.PerfTraceCache;
+import com.example.jokerweb.monitoring.PerfTraceProperties;
+import com.example.jokerweb.monitoring.PerfTraceSessionListener;
+import com.example.jokerweb.monitoring.PerfTraceStatementInspector;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 단위 성능 추적 연결
+ * - Hibernate: StatementInspector(쿼리 수/SQL 형태), 세션 이벤트 리스너(JDBC 실행 시간)
+ * - 캐시: @Cacheable 경로의 캐시를 PerfTraceCache로 감싸 히트/미스 집계 (CacheManager 빈과 캐시 메트릭은 그대로)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PerfTraceConfig implements CachingConfigurer {
+
+    private final PerfTraceProperties properties;
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    @Bean
+    public HibernatePropertiesCustomizer perfTraceHibernatePropertiesCustomizer() {
+        return hibernateProperties -> {
+            if (!properties.isEnabled()) {
+                return;
+            }
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new PerfTraceStatementInspector());
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                    PerfTraceSessionListener.class.getName());
+        };
+    }
+
+    @Override
+    public CacheResolver cacheResolver() {
+        return context -> {
+            Collection<String> cacheNames = context.getOperation().getCacheNames();
+            List<Cache> caches = new ArrayList<>(cacheNames.size());
+            for (String cacheName : cacheNames) {
+                Cache cache = cacheManager.getObject().getCache(cacheName);
+                if (cache == null) {
+                    throw new IllegalArgumentException(
+                            "Cannot find cache named '" + cacheName + "' for " + context.getOperation());
+                }
+                caches.add(properties.isEnabled() ? new PerfTraceCache(cache) : cache);
+            }
+            return caches;
+        };
+    }
+}
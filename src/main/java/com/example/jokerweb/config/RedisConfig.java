@@ -137,6 +137,10 @@ public class RedisConfig {
                     RedisCacheConfiguration.defaultCacheConfig()
                         .entryTtl(Duration.ofMinutes(10))
                         .disableCachingNullValues())
+                .withCacheConfiguration("clanDirectory",
+                    RedisCacheConfiguration.defaultCacheConfig()
+                        .entryTtl(Duration.ofSeconds(60))
+                        .disableCachingNullValues())
                 .transactionAware()
                 .build();
     }
@@ -245,6 +249,13 @@ public class RedisConfig {
                 .recordStats()
                 .build());
         
+        // 공개 클랜 목록 첫 페이지: 60초 TTL (생성/인증/삭제/정지 시 전체 무효화)
+        cacheManager.registerCustomCache("clanDirectory", Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(60, TimeUnit.SECONDS)
+                .recordStats()
+                .build());
+        
         return cacheManager;
     }
 }
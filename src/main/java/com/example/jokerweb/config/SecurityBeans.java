@@ -1,5 +1,9 @@
 package com.example.jokerweb.config;
 
+import com.example.jokerweb.auth.password.PasswordCostCalibrator;
+import com.example.jokerweb.auth.password.PasswordHashingProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -8,9 +12,14 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class SecurityBeans {
 
+    /**
+     * BCrypt cost는 기동 시 측정으로 정한다 (auth.password.target-latency, min-cost ~ max-cost)
+     * cost가 올라가면 예전 해시는 로그인 성공 시 다시 해시된다 (PasswordHashingService.needsRehash)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        int cost = PasswordCostCalibrator.calibrate(properties);
+        Gauge.builder("auth.password.cost", () -> cost).register(meterRegistry);
+        return new BCryptPasswordEncoder(cost);
     }
 }
-
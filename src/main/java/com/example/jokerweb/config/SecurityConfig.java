@@ -2,7 +2,9 @@ package com.example.jokerweb.config;
 
 import com.example.jokerweb.logging.AccessLoggingFilter;
 import com.example.jokerweb.logging.TraceIdFilter;
+import com.example.jokerweb.monitoring.PerfTraceFilter;
 import com.example.jokerweb.security.AdminAccessProtectionFilter;
+import com.example.jokerweb.security.AdmissionControlFilter;
 import com.example.jokerweb.security.JwtAuthenticationFilter;
 import com.example.jokerweb.security.NexonLinkGuard;
 import com.example.jokerweb.security.RateLimitingFilter;
@@ -25,9 +27,11 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class SecurityConfig {
 
     private final RateLimitingFilter rateLimitingFilter;
+    private final AdmissionControlFilter admissionControlFilter;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final AccessLoggingFilter accessLoggingFilter;
     private final TraceIdFilter traceIdFilter;
+    private final PerfTraceFilter perfTraceFilter;
     private final NexonLinkGuard nexonLinkGuard;
     private final AdminAccessProtectionFilter adminAccessProtectionFilter;
 
@@ -56,7 +60,9 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(rateLimitingFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(admissionControlFilter, RateLimitingFilter.class)
                 .addFilterBefore(traceIdFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(perfTraceFilter, TraceIdFilter.class)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterAfter(adminAccessProtectionFilter, JwtAuthenticationFilter.class)
                 .addFilterAfter(accessLoggingFilter, AdminAccessProtectionFilter.class);
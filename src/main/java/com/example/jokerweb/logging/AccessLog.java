@@ -16,7 +16,7 @@ public class AccessLog {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "occurred_at")
+    @Column(name = "occurred_at", nullable = false)
     private LocalDateTime occurredAt = LocalDateTime.now();
 
     @ManyToOne(fetch = FetchType.LAZY)
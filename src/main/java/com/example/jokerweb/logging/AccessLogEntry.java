@@ -0,0 +1,29 @@
+package com.example.jokerweb.logging;
+
+import java.time.LocalDateTime;
+
+/**
+ * 링 버퍼에 쌓이는 접속 로그 한 건 (엔티티 대신 불변 값으로 보관)
+ */
+public record AccessLogEntry(
+        LocalDateTime occurredAt,
+        Long memberId,
+        String anonymousId,
+        String clientIp,
+        String userAgent,
+        String requestPath,
+        String httpMethod,
+        Integer responseStatus,
+        String referrer,
+        String traceId
+) {
+
+    public boolean memberFlag() {
+        return memberId != null;
+    }
+
+    /** 버퍼가 붐빌 때 샘플링해도 되는 요청 (정상 처리된 GET) */
+    public boolean sampleable() {
+        return "GET".equals(httpMethod) && responseStatus != null && responseStatus < 400;
+    }
+}
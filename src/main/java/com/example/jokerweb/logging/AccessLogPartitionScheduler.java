@@ -0,0 +1,136 @@
+package com.example.jokerweb.logging;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * access_log 일 단위 파티션 관리
+ * 앞으로 partition-ahead-days일치 파티션을 미리 만들고, 보관 기간이 지난 파티션은 DROP PARTITION으로 즉시 삭제한다.
+ * 파티셔닝되지 않은 테이블(마이그레이션 이전 등)에서는 작은 단위로 나눠 DELETE 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessLogPartitionScheduler {
+
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+    // MariaDB TO_DAYS('1970-01-01')
+    private static final long TO_DAYS_EPOCH_OFFSET = 719_528;
+    private static final int DELETE_CHUNK_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${access-log.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${access-log.partition-ahead-days:7}")
+    private int aheadDays;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    // 매일 새벽 4시
+    @Scheduled(cron = "0 0 4 * * *")
+    public void maintain() {
+        try {
+            Map<String, Long> partitions = loadPartitions();
+            if (partitions.isEmpty()) {
+                deleteOldLogsInChunks();
+                return;
+            }
+            LocalDate today = LocalDate.now();
+            createUpcomingPartitions(partitions, today);
+            dropExpiredPartitions(partitions, today.minusDays(retentionDays));
+        } catch (Exception e) {
+            log.warn("access_log 파티션 관리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 파티션 이름 → 상한(TO_DAYS 값, MAXVALUE는 Long.MAX_VALUE)
+     */
+    private Map<String, Long> loadPartitions() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'access_log' AND PARTITION_NAME IS NOT NULL
+                """);
+        return rows.stream().collect(Collectors.toMap(
+                row -> (String) row.get("PARTITION_NAME"),
+                row -> {
+                    String description = String.valueOf(row.get("PARTITION_DESCRIPTION"));
+                    return "MAXVALUE".equalsIgnoreCase(description) ? Long.MAX_VALUE : Long.parseLong(description);
+                }));
+    }
+
+    // p_future를 쪼개는 방식이라 p_future가 비어 있으면 데이터 이동 없이 끝난다
+    private void createUpcomingPartitions(Map<String, Long> partitions, LocalDate today) {
+        long highestBound = partitions.values().stream()
+                .filter(bound -> bound != Long.MAX_VALUE)
+                .max(Long::compare)
+                .orElse(0L);
+        List<String> definitions = new ArrayList<>();
+        for (int i = 0; i <= aheadDays; i++) {
+            LocalDate day = today.plusDays(i);
+            long upperBound = toDays(day.plusDays(1));
+            if (upperBound <= highestBound) {
+                continue;
+            }
+            definitions.add("PARTITION " + day.format(PARTITION_NAME) + " VALUES LESS THAN (" + upperBound + ")");
+        }
+        if (definitions.isEmpty()) {
+            return;
+        }
+        definitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN MAXVALUE");
+        jdbcTemplate.execute("ALTER TABLE access_log REORGANIZE PARTITION " + FUTURE_PARTITION
+                + " INTO (" + String.join(", ", definitions) + ")");
+        log.info("access_log 파티션 생성: {}개", definitions.size() - 1);
+    }
+
+    // 상한이 보관 시작일 이하인 파티션은 모든 행이 보관 기간을 지난 것
+    private void dropExpiredPartitions(Map<String, Long> partitions, LocalDate retainFrom) {
+        long threshold = toDays(retainFrom);
+        List<String> expired = partitions.entrySet().stream()
+                .filter(e -> e.getValue() <= threshold)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+        if (expired.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE access_log DROP PARTITION " + String.join(", ", expired));
+        log.info("access_log 만료 파티션 삭제: {}", expired);
+    }
+
+    private void deleteOldLogsInChunks() {
+        int deleted;
+        int total = 0;
+        do {
+            deleted = jdbcTemplate.update(
+                    "DELETE FROM access_log WHERE occurred_at < (NOW() - INTERVAL ? DAY) LIMIT " + DELETE_CHUNK_SIZE,
+                    retentionDays);
+            total += deleted;
+        } while (deleted == DELETE_CHUNK_SIZE);
+        if (total > 0) {
+            log.info("access_log 보관 기간 경과 로그 삭제: {}건", total);
+        }
+    }
+
+    private static long toDays(LocalDate date) {
+        return date.toEpochDay() + TO_DAYS_EPOCH_OFFSET;
+    }
+}
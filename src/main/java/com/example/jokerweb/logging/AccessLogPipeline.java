@@ -0,0 +1,230 @@
+package com.example.jokerweb.logging;
+
+import com.example.jokerweb.stats.TrafficRollupService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 접속 로그 적재 파이프라인
+ * 요청 스레드는 링 버퍼에 넣기만 하고, 전용 드레이너 스레드 하나가 batch-size건이 모이거나
+ * flush-interval-ms가 지나면 다중 행 INSERT 한 번으로 기록한다.
+ * 버퍼가 sample-threshold 이상 차면 정상 GET 요청은 1/sample-rate만 남기고,
+ * 가득 차면 버린다. 접속 로그는 통계용이므로 유실을 허용하고 대신 건수를 메트릭으로 남긴다.
+ * 꺼낸 배치는 TrafficRollupService에도 넘겨 PV/UV 롤업을 갱신한다.
+ */
+@Slf4j
+@Component
+public class AccessLogPipeline implements SmartLifecycle {
+
+    private static final String INSERT_PREFIX = "INSERT INTO access_log (occurred_at, member_id, anonymous_id, is_member, "
+            + "client_ip, user_agent, request_path, http_method, response_status, referrer, trace_id, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long STOP_TIMEOUT_MILLIS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrafficRollupService trafficRollupService;
+    private final AccessLogRingBuffer<AccessLogEntry> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int sampleThresholdDepth;
+    private final int sampleRate;
+
+    private final Counter droppedFull;
+    private final Counter droppedSampled;
+    private final Counter droppedError;
+    private final Counter written;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread drainer;
+
+    public AccessLogPipeline(
+            JdbcTemplate jdbcTemplate,
+            TrafficRollupService trafficRollupService,
+            MeterRegistry meterRegistry,
+            @Value("${access-log.buffer-capacity:16384}") int bufferCapacity,
+            @Value("${access-log.batch-size:500}") int batchSize,
+            @Value("${access-log.flush-interval-ms:1000}") long flushIntervalMs,
+            @Value("${access-log.sample-threshold:0.75}") double sampleThreshold,
+            @Value("${access-log.sample-rate:10}") int sampleRate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.trafficRollupService = trafficRollupService;
+        this.buffer = new AccessLogRingBuffer<>(bufferCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(10, flushIntervalMs));
+        this.sampleThresholdDepth = (int) (buffer.capacity() * sampleThreshold);
+        this.sampleRate = Math.max(1, sampleRate);
+
+        Gauge.builder("accesslog.buffer.depth", buffer, AccessLogRingBuffer::size)
+                .description("적재 대기 중인 접속 로그 수")
+                .register(meterRegistry);
+        this.droppedFull = droppedCounter(meterRegistry, "full");
+        this.droppedSampled = droppedCounter(meterRegistry, "sampled");
+        this.droppedError = droppedCounter(meterRegistry, "error");
+        this.written = Counter.builder("accesslog.written").register(meterRegistry);
+        this.flushTimer = Timer.builder("accesslog.flush")
+                .description("접속 로그 배치 INSERT 소요 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private static Counter droppedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("accesslog.dropped").tag("reason", reason).register(registry);
+    }
+
+    /**
+     * 요청 스레드에서 호출: 대기 없이 버퍼에 넣고 반환
+     */
+    public void offer(AccessLogEntry entry) {
+        if (buffer.size() >= sampleThresholdDepth && entry.sampleable()
+                && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            droppedSampled.increment();
+            return;
+        }
+        if (!buffer.offer(entry)) {
+            droppedFull.increment();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        drainer = new Thread(this::drainLoop, "access-log-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+        log.info("Access log pipeline started: capacity={}, batchSize={}, flushIntervalMs={}",
+                buffer.capacity(), batchSize, TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos));
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버(더 높은 phase)가 먼저 멈춘 뒤 남은 로그를 기록하고, DataSource 종료 전에 끝낸다
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void drainLoop() {
+        List<AccessLogEntry> batch = new ArrayList<>(batchSize);
+        long nextFlush = System.nanoTime() + flushIntervalNanos;
+        while (running) {
+            if (buffer.size() >= batchSize || System.nanoTime() - nextFlush >= 0) {
+                // 밀린 로그가 한 배치 이상이면 연속으로 기록
+                int flushed;
+                do {
+                    flushed = flushOnce(batch);
+                } while (flushed == batchSize && running);
+                nextFlush = System.nanoTime() + flushIntervalNanos;
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        // 종료 시 남은 로그 기록
+        int remaining;
+        do {
+            remaining = flushOnce(batch);
+        } while (remaining > 0);
+    }
+
+    private int flushOnce(List<AccessLogEntry> batch) {
+        batch.clear();
+        int size = buffer.drainTo(batch, batchSize);
+        if (size == 0) {
+            return 0;
+        }
+        // 통계 롤업은 INSERT 성공 여부와 관계없이 반영 (대시보드가 DB 장애 중에도 유입량을 보여주도록)
+        try {
+            trafficRollupService.recordAccess(batch);
+        } catch (Exception e) {
+            log.warn("Failed to record access log rollup: {}", e.getMessage());
+        }
+        long started = System.nanoTime();
+        try {
+            jdbcTemplate.update(insertSql(size), ps -> bind(ps, batch));
+            written.increment(size);
+        } catch (Exception e) {
+            // 로깅 실패해도 서비스에는 영향 없도록 해당 배치는 버리고 건수만 남김
+            droppedError.increment(size);
+            log.warn("Failed to write access log batch: size={}, error={}", size, e.getMessage());
+        } finally {
+            flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+        return size;
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+        return sql.toString();
+    }
+
+    private static void bind(PreparedStatement ps, List<AccessLogEntry> batch) throws SQLException {
+        int i = 1;
+        for (AccessLogEntry entry : batch) {
+            Timestamp occurredAt = Timestamp.valueOf(entry.occurredAt());
+            ps.setTimestamp(i++, occurredAt);
+            if (entry.memberId() != null) {
+                ps.setLong(i++, entry.memberId());
+            } else {
+                ps.setNull(i++, Types.BIGINT);
+            }
+            ps.setString(i++, entry.anonymousId());
+            ps.setBoolean(i++, entry.memberFlag());
+            ps.setString(i++, entry.clientIp());
+            ps.setString(i++, entry.userAgent());
+            ps.setString(i++, entry.requestPath());
+            ps.setString(i++, entry.httpMethod());
+            if (entry.responseStatus() != null) {
+                ps.setInt(i++, entry.responseStatus());
+            } else {
+                ps.setNull(i++, Types.INTEGER);
+            }
+            ps.setString(i++, entry.referrer());
+            ps.setString(i++, entry.traceId());
+            ps.setTimestamp(i++, occurredAt);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.jokerweb.logging;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 접속 로그용 고정 크기 링 버퍼 (다중 생산자 / 단일 소비자, lock-free)
+ * 요청 스레드는 offer로 슬롯을 CAS 예약하고, 드레이너 스레드 하나만 drainTo로 꺼낸다.
+ * 가득 차면 기다리지 않고 false를 반환하므로 호출자가 버린 건수를 집계해야 한다.
+ */
+final class AccessLogRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    // 슬롯별 시퀀스: pos면 쓰기 가능, pos + 1이면 읽기 가능
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    AccessLogRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("capacity는 2 이상이어야 합니다.");
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(E element) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 최대 maxElements개를 꺼내 sink에 담는다 (드레이너 스레드 전용)
+     */
+    int drainTo(List<? super E> sink, int maxElements) {
+        long pos = head;
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) (pos & mask);
+            if (sequences.get(index) != pos + 1) {
+                break; // 비었거나 생산자가 아직 쓰는 중
+            }
+            sink.add(slots.get(index));
+            slots.set(index, null);
+            sequences.set(index, pos + capacity);
+            pos++;
+            drained++;
+        }
+        head = pos;
+        return drained;
+    }
+
+    int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
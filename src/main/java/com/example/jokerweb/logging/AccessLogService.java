@@ -1,29 +1,29 @@
 package com.example.jokerweb.logging;
 
 import com.example.jokerweb.member.Member;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 /**
- * AccessLog 비동기 저장 서비스
- * 로깅이 API 응답 시간에 영향을 주지 않도록 비동기 처리
+ * AccessLog / IP 이력 저장 서비스
+ * 로깅이 API 응답 시간에 영향을 주지 않도록 요청 스레드에서는 적재 요청만 한다
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AccessLogService {
 
-    private final AccessLogRepository accessLogRepository;
-    private final MemberIpHistoryRepository memberIpHistoryRepository;
+    private final AccessLogPipeline accessLogPipeline;
+    private final MemberIpHistoryCoalescer memberIpHistoryCoalescer;
 
     /**
-     * AccessLog 비동기 저장
+     * AccessLog 적재 요청 (링 버퍼에 넣고 즉시 반환, 실제 INSERT는 AccessLogPipeline이 묶어서 처리)
      */
-    @Async("taskExecutor")
-    public void saveAccessLogAsync(
+    public void record(
             Member member,
             String anonymousId,
             String clientIp,
@@ -33,46 +33,35 @@ public class AccessLogService {
             Integer responseStatus,
             String referrer) {
         try {
-            AccessLog log = new AccessLog();
-            log.setMember(member);
-            log.setAnonymousId(anonymousId);
-            log.setMemberFlag(member != null);
-            log.setClientIp(StringUtils.hasText(clientIp) ? clientIp : "0.0.0.0");
-            log.setUserAgent(userAgent);
-            log.setRequestPath(requestPath);
-            log.setHttpMethod(httpMethod);
-            log.setResponseStatus(responseStatus);
-            log.setReferrer(referrer);
-            accessLogRepository.save(log);
+            accessLogPipeline.offer(new AccessLogEntry(
+                    LocalDateTime.now(),
+                    member != null ? member.getId() : null,
+                    truncate(anonymousId, 64),
+                    StringUtils.hasText(clientIp) ? truncate(clientIp, 64) : "0.0.0.0",
+                    userAgent,
+                    truncate(requestPath, 512),
+                    truncate(httpMethod, 8),
+                    responseStatus,
+                    truncate(referrer, 512),
+                    truncate(MDC.get("traceId"), 64)));
         } catch (Exception e) {
             // 로깅 실패해도 API 응답에는 영향 없도록 예외는 로그만 남김
-            log.warn("Failed to save access log: {}", e.getMessage());
+            log.warn("Failed to enqueue access log: {}", e.getMessage());
         }
     }
 
+    // 다중 행 INSERT에서 한 행의 길이 초과로 배치 전체가 실패하지 않도록 컬럼 길이에 맞춤
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
     /**
-     * Member IP History 비동기 저장/업데이트
+     * Member IP History 갱신 (같은 회원/IP 반복 접속은 MemberIpHistoryCoalescer가 병합해 주기적으로 반영)
      */
-    @Async("taskExecutor")
-    public void saveMemberIpHistoryAsync(Member member, String clientIp) {
-        try {
-            if (member == null || !StringUtils.hasText(clientIp) || clientIp.equals("0.0.0.0")) {
-                return;
-            }
-
-            memberIpHistoryRepository.findByMemberIdAndClientIp(member.getId(), clientIp)
-                    .ifPresentOrElse(entry -> {
-                        entry.touch();
-                        memberIpHistoryRepository.save(entry);
-                    }, () -> {
-                        MemberIpHistory entry = new MemberIpHistory();
-                        entry.setMember(member);
-                        entry.setClientIp(clientIp);
-                        memberIpHistoryRepository.save(entry);
-                    });
-        } catch (Exception e) {
-            // 로깅 실패해도 API 응답에는 영향 없도록 예외는 로그만 남김
-            log.warn("Failed to save member IP history: {}", e.getMessage());
+    public void recordMemberIp(Member member, String clientIp) {
+        if (member == null || !StringUtils.hasText(clientIp) || clientIp.equals("0.0.0.0")) {
+            return;
         }
+        memberIpHistoryCoalescer.touch(member.getId(), truncate(clientIp, 64), LocalDateTime.now());
     }
 }
@@ -2,6 +2,7 @@ package com.example.jokerweb.logging;
 
 import com.example.jokerweb.common.IpUtils;
 import com.example.jokerweb.member.Member;
+import com.example.jokerweb.security.MemberPrincipalCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -11,8 +12,6 @@ import java.io.IOException;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -51,8 +50,8 @@ public class AccessLoggingFilter extends OncePerRequestFilter {
         // Proceed the chain first to capture status
         filterChain.doFilter(request, response);
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        Member member = (auth != null && auth.getPrincipal() instanceof Member) ? (Member) auth.getPrincipal() : null;
+        // JwtAuthenticationFilter가 details에 저장한 회원 (principal은 회원 ID 문자열)
+        Member member = MemberPrincipalCache.current().orElse(null);
 
         // 쿠키 동의가 있을 때만 실제 접속자 정보 수집
         final String clientIp;
@@ -74,8 +73,8 @@ public class AccessLoggingFilter extends OncePerRequestFilter {
 
         String method = request.getMethod();
 
-        // 비동기로 AccessLog 저장 (응답 시간에 영향 없음)
-        accessLogService.saveAccessLogAsync(
+        // AccessLog 적재 요청 (버퍼에 넣기만 하므로 응답 시간에 영향 없음)
+        accessLogService.record(
                 member,
                 anonId,
                 clientIp,
@@ -86,9 +85,9 @@ public class AccessLoggingFilter extends OncePerRequestFilter {
                 referrer
         );
 
-        // Track member IP history (쿠키 동의가 있고 실제 IP가 있을 때만) - 비동기 처리
+        // Track member IP history (쿠키 동의가 있고 실제 IP가 있을 때만) - 메모리에서 병합 후 주기적으로 반영
         if (member != null && hasConsent && StringUtils.hasText(clientIp) && !clientIp.equals("0.0.0.0")) {
-            accessLogService.saveMemberIpHistoryAsync(member, clientIp);
+            accessLogService.recordMemberIp(member, clientIp);
         }
     }
 
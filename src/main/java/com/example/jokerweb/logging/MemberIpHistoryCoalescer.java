@@ -0,0 +1,121 @@
+package com.example.jokerweb.logging;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 IP 이력 last_seen 갱신 병합기
+ * 같은 (회원, IP) 요청은 flush 주기 동안 메모리에서 처음/마지막 시각만 남기고,
+ * 주기마다 uk_member_ip 기준 INSERT ... ON DUPLICATE KEY UPDATE 한 번의 배치로 반영한다.
+ * 요청마다 SELECT + UPDATE 하던 것을 (회원, IP)당 주기별 1행으로 줄인다.
+ * 맵은 교체하지 않고 키 단위로 remove 해 가져가므로 flush 도중 들어온 갱신도 유실되지 않는다.
+ * 실패한 배치는 max-retries번까지 다시 시도하고, 되돌릴 때도 max-pending 상한을 지킨다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberIpHistoryCoalescer {
+
+    private static final String UPSERT = """
+            INSERT INTO member_ip_history (member_id, client_ip, first_seen_at, last_seen_at) VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE last_seen_at = GREATEST(last_seen_at, VALUES(last_seen_at))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${access-log.ip-history-max-pending:100000}")
+    private int maxPending = 100_000;
+
+    @Value("${access-log.ip-history-max-retries:3}")
+    private int maxRetries = 3;
+
+    record Key(Long memberId, String clientIp) {
+    }
+
+    /**
+     * 대기 중인 (회원, IP)의 처음/마지막 확인 시각과 실패한 반영 횟수
+     */
+    record Seen(LocalDateTime first, LocalDateTime last, int failures) {
+
+        Seen merge(Seen other) {
+            return new Seen(first.isBefore(other.first) ? first : other.first,
+                    last.isAfter(other.last) ? last : other.last,
+                    Math.max(failures, other.failures));
+        }
+    }
+
+    private final Map<Key, Seen> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 스레드에서 호출: 메모리 맵 갱신만 한다
+     */
+    public void touch(Long memberId, String clientIp, LocalDateTime seenAt) {
+        offer(new Key(memberId, clientIp), new Seen(seenAt, seenAt, 0));
+    }
+
+    @Scheduled(fixedDelayString = "${access-log.ip-history-flush-interval-ms:60000}",
+            initialDelayString = "${access-log.ip-history-flush-interval-ms:60000}")
+    public void flush() {
+        Map<Key, Seen> batch = new HashMap<>();
+        for (Key key : pending.keySet()) {
+            Seen seen = pending.remove(key);
+            if (seen != null) {
+                batch.put(key, seen);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        batch.forEach((key, seen) -> rows.add(new Object[]{key.memberId(), key.clientIp(),
+                Timestamp.valueOf(seen.first()), Timestamp.valueOf(seen.last())}));
+        try {
+            jdbcTemplate.batchUpdate(UPSERT, rows);
+            log.debug("회원 IP 이력 반영: {}건", rows.size());
+        } catch (Exception e) {
+            // 로깅 실패해도 서비스에는 영향 없도록 로그만 남기고, 재시도 한도 안의 행만 다음 주기로 되돌린다
+            log.warn("Failed to flush member IP history: size={}, error={}", rows.size(), e.getMessage());
+            int dropped = 0;
+            for (Map.Entry<Key, Seen> entry : batch.entrySet()) {
+                Seen seen = entry.getValue();
+                if (seen.failures() + 1 >= maxRetries) {
+                    dropped++;
+                    continue;
+                }
+                offer(entry.getKey(), new Seen(seen.first(), seen.last(), seen.failures() + 1));
+            }
+            if (dropped > 0) {
+                log.warn("회원 IP 이력 재시도 한도 초과로 버림: {}건", dropped);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    int pendingSize() {
+        return pending.size();
+    }
+
+    // 이미 대기 중인 키는 갱신하고, 새 키는 상한 내에서만 받는다 (다음 접속 때 다시 기록됨)
+    private void offer(Key key, Seen seen) {
+        if (!pending.containsKey(key) && pending.size() >= maxPending) {
+            return;
+        }
+        pending.merge(key, seen, Seen::merge);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.jokerweb.logging;
 
+import com.example.jokerweb.monitoring.RequestPerfTrace;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Component;
 /**
  * Slow Query 로깅 인터셉터
  * Repository 메서드와 JdbcTemplate 실행 시간을 측정하고 임계값을 초과하면 경고 로그 출력
+ * JdbcTemplate 호출은 Hibernate StatementInspector를 거치지 않으므로 여기서 요청 성능 추적(RequestPerfTrace)에도 더한다.
  */
 @Slf4j
 @Aspect
@@ -40,6 +42,23 @@ public class SlowQueryInterceptor {
     @Pointcut("execution(* jakarta.persistence.EntityManager.*(..))")
     public void entityManagerMethods() {}
 
+    @Around("jdbcTemplateMethods()")
+    public Object traceJdbcTemplate(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (RequestPerfTrace.current() == null) {
+            return joinPoint.proceed();
+        }
+        Object[] args = joinPoint.getArgs();
+        if (args.length > 0 && args[0] instanceof String sql) {
+            RequestPerfTrace.recordStatement(sql);
+        }
+        long startedAt = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RequestPerfTrace.recordDbTime(System.nanoTime() - startedAt);
+        }
+    }
+
     @Around("repositoryMethods() || jdbcTemplateMethods() || entityManagerMethods()")
     public Object logSlowQuery(ProceedingJoinPoint joinPoint) throws Throwable {
         long startTime = System.currentTimeMillis();
@@ -11,10 +11,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -30,6 +32,9 @@ public class MatchService {
     private final MatchMetaRepository matchMetaRepository;
     private final MatchPlayerRepository matchPlayerRepository;
     private final PlayerRepository playerRepository;
+    // 같은 클래스 안에서 호출하면 @Async 프록시를 거치지 않으므로 백필은 실행기에 직접 넘긴다
+    @Qualifier("nexonBackfillExecutor")
+    private final Executor nexonBackfillExecutor;
 
     /**
      * 프론트엔드의 모드 값을 Nexon API의 실제 값으로 변환
@@ -252,7 +257,7 @@ public class MatchService {
 
             // 배치로 비동기 처리
             if (!newIds.isEmpty()) {
-                fetchAndSaveMatchDetailsBatchAsync(newIds);
+                nexonBackfillExecutor.execute(() -> fetchAndSaveMatchDetailsBatchAsync(newIds));
             }
             
             return response;
@@ -316,7 +321,7 @@ public class MatchService {
 
             // 배치로 비동기 처리
             if (!newIds.isEmpty()) {
-                fetchAndSaveMatchDetailsBatchAsync(newIds);
+                nexonBackfillExecutor.execute(() -> fetchAndSaveMatchDetailsBatchAsync(newIds));
             }
             
             return response;
@@ -380,7 +385,7 @@ public class MatchService {
 
             // 배치로 비동기 처리
             if (!newIds.isEmpty()) {
-                fetchAndSaveMatchDetailsBatchAsync(newIds);
+                nexonBackfillExecutor.execute(() -> fetchAndSaveMatchDetailsBatchAsync(newIds));
             }
             
             return response;
@@ -486,7 +491,7 @@ public class MatchService {
 
         // 배치로 비동기 처리
         if (!newIds.isEmpty()) {
-            fetchAndSaveMatchDetailsBatchAsync(newIds);
+            nexonBackfillExecutor.execute(() -> fetchAndSaveMatchDetailsBatchAsync(newIds));
         }
         
         return response;
@@ -569,7 +574,7 @@ public class MatchService {
     /**
      * 비동기로 매치 상세 정보를 조회하고 저장
      */
-    @Async
+    @Async("nexonBackfillExecutor")
     public CompletableFuture<Void> fetchAndSaveMatchDetailAsync(String matchId) {
         try {
             fetchAndSaveMatchDetail(matchId);
@@ -583,7 +588,7 @@ public class MatchService {
     /**
      * 여러 매치 상세 정보를 배치로 비동기 처리 (메모리 최적화)
      */
-    @Async
+    @Async("nexonBackfillExecutor")
     public CompletableFuture<Void> fetchAndSaveMatchDetailsBatchAsync(List<String> matchIds) {
         if (matchIds == null || matchIds.isEmpty()) {
             return CompletableFuture.completedFuture(null);
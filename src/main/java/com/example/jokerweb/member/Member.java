@@ -1,7 +1,11 @@
 package com.example.jokerweb.member;
 
+import com.example.jokerweb.activity.ActivityEntityListener;
+import com.example.jokerweb.auth.service.RegistrationAvailabilityListener;
+import com.example.jokerweb.stats.TrafficRollupEntityListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -19,6 +23,8 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
+@EntityListeners({TrafficRollupEntityListener.class, ActivityEntityListener.class,
+        RegistrationAvailabilityListener.class})
 @Table(name = "member")
 public class Member {
 
@@ -2,10 +2,7 @@ package com.example.jokerweb.member;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long>, JpaSpecificationExecutor<Member> {
@@ -19,8 +16,5 @@ public interface MemberRepository extends JpaRepository<Member, Long>, JpaSpecif
     Optional<Member> findByOuid(String ouid);
     
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
-    
-    @Query(value = "SELECT m.nickname, m.created_at FROM member m ORDER BY m.created_at DESC LIMIT :limit", nativeQuery = true)
-    List<Object[]> findRecentMembers(@Param("limit") int limit);
 }
 
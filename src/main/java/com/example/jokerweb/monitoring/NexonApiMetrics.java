@@ -0,0 +1,119 @@
+package com.example.jokerweb.monitoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Nexon API 호출 Micrometer 메트릭
+ * - nexon.api.requests: HTTP 요청 1회당 지연 시간 (endpoint, key, outcome, retry 태그, p50/p95/p99 + 히스토그램)
+ * - nexon.api.ratelimiter.wait: NexonApiRateLimiter permit 대기 시간
+ * - nexon.api.key.cooldown: 429 Retry-After로 쉬고 있는 키의 남은 시간(초)
+ * ApiMetricsService(1시간 단위 합계)와 달리 누적 값이라 /actuator/metrics, /actuator/prometheus에서 구간별로 본다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NexonApiMetrics {
+
+    private static final String API_PREFIX = "/suddenattack/v1/";
+    private static final String META_PREFIX = "/static/suddenattack/meta/";
+    private static final int MAX_RETRY_TAG = 3;
+
+    private final MeterRegistry meterRegistry;
+
+    // 키 번호(1부터) → 쿨다운 종료 시각(ms)
+    private final Map<Integer, AtomicLong> cooldownUntil = new ConcurrentHashMap<>();
+
+    /**
+     * HTTP 요청 1회 기록
+     * @param keyNumber API 키 번호 (1부터, 알 수 없으면 0)
+     * @param retry 같은 호출 안에서 몇 번째 재시도인지 (첫 시도는 0)
+     */
+    public void recordRequest(String endpoint, int keyNumber, String outcome, int retry, long elapsedNanos) {
+        Timer.builder("nexon.api.requests")
+                .description("Nexon Open API HTTP 요청 지연 시간")
+                .tag("endpoint", endpoint)
+                .tag("key", String.valueOf(keyNumber))
+                .tag("outcome", outcome)
+                .tag("retry", retry >= MAX_RETRY_TAG ? MAX_RETRY_TAG + "+" : String.valueOf(retry))
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(10))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRateLimiterWait(long elapsedNanos) {
+        Timer.builder("nexon.api.ratelimiter.wait")
+                .description("Nexon API 초당 호출 제한 대기 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 키별 쿨다운 게이지 등록 (기동 시 1회)
+     */
+    public void registerKeys(int keyCount) {
+        for (int keyNumber = 1; keyNumber <= keyCount; keyNumber++) {
+            AtomicLong until = cooldownUntil.computeIfAbsent(keyNumber, k -> new AtomicLong());
+            Gauge.builder("nexon.api.key.cooldown", until,
+                            u -> Math.max(0, u.get() - System.currentTimeMillis()) / 1000.0)
+                    .description("429 응답 후 키를 다시 쓰기까지 남은 시간")
+                    .baseUnit("seconds")
+                    .tag("key", String.valueOf(keyNumber))
+                    .register(meterRegistry);
+        }
+    }
+
+    public void startKeyCooldown(int keyNumber, int retryAfterSeconds) {
+        AtomicLong until = cooldownUntil.get(keyNumber);
+        if (until != null) {
+            until.set(System.currentTimeMillis() + retryAfterSeconds * 1000L);
+        }
+    }
+
+    /**
+     * 요청 경로 → endpoint 태그 (id, user-basic, match, match-detail, metadata 등)
+     */
+    public static String endpointOf(String path) {
+        if (path == null) {
+            return "unknown";
+        }
+        if (path.startsWith(META_PREFIX)) {
+            return "metadata";
+        }
+        if (path.startsWith(API_PREFIX)) {
+            return path.substring(API_PREFIX.length()).replace('/', '-').replace('_', '-');
+        }
+        return "unknown";
+    }
+
+    public static String outcomeOf(int status) {
+        if (status == 429) {
+            return "429";
+        }
+        if (status >= 500) {
+            return "5xx";
+        }
+        if (status >= 400) {
+            return "4xx";
+        }
+        return "success";
+    }
+
+    public static String outcomeOf(IOException e) {
+        return e instanceof SocketTimeoutException || e instanceof HttpTimeoutException ? "timeout" : "io-error";
+    }
+}
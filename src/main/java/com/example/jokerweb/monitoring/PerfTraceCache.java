@@ -0,0 +1,78 @@
+package com.example.jokerweb.monitoring;
+
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+
+/**
+ * @Cacheable 조회 결과(히트/미스)를 현재 요청 추적에 더하는 Cache 래퍼
+ * CacheManager 빈은 그대로 두고 캐시 어노테이션 경로(PerfTraceConfig의 CacheResolver)에서만 감싼다.
+ */
+public class PerfTraceCache implements Cache {
+
+    private final Cache delegate;
+
+    public PerfTraceCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = delegate.get(key);
+        if (value != null) {
+            RequestPerfTrace.recordCacheHit();
+        } else {
+            RequestPerfTrace.recordCacheMiss();
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.jokerweb.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청 단위 성능 추적 필터 (TraceIdFilter 다음에 실행)
+ * 요청 동안 RequestPerfTrace를 걸어 두고, 끝나면 Server-Timing 헤더와 한 줄짜리 추적 로그를 남긴다.
+ * - 예산 초과(쿼리 수, 같은 SQL 반복, 넥슨 호출 수): WARN
+ * - 느린 요청: INFO, 그 외: DEBUG
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PerfTraceFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private final PerfTraceProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (RequestPerfTrace.Scope scope = RequestPerfTrace.open(MDC.get("traceId"))) {
+            filterChain.doFilter(request, response);
+
+            RequestPerfTrace trace = scope.trace();
+            // 본문이 없는 응답 등 PerfTraceResponseAdvice를 거치지 않은 경우
+            if (properties.isServerTimingHeader() && !response.isCommitted() && !response.containsHeader(SERVER_TIMING)) {
+                response.setHeader(SERVER_TIMING, trace.toServerTiming());
+            }
+            report(request, response, trace);
+        }
+    }
+
+    private void report(HttpServletRequest request, HttpServletResponse response, RequestPerfTrace trace) {
+        List<String> violations = violations(trace);
+        Optional<Map.Entry<String, Long>> repeated = trace.mostRepeatedStatement();
+        String line = String.format(java.util.Locale.ROOT,
+                "perf traceId=%s method=%s path=%s status=%d elapsedMs=%.1f dbQueries=%d dbMs=%.1f "
+                        + "nexonCalls=%d nexonMs=%.1f cacheHits=%d cacheMisses=%d maxRepeat=%d",
+                trace.traceId(), request.getMethod(), request.getRequestURI(), response.getStatus(),
+                trace.elapsedMillis(), trace.statementCount(), trace.dbMillis(),
+                trace.nexonCallCount(), trace.nexonMillis(), trace.cacheHitCount(), trace.cacheMissCount(),
+                repeated.map(Map.Entry::getValue).orElse(0L));
+
+        if (!violations.isEmpty()) {
+            log.warn("{} violations={} repeatedSql=\"{}\"", line, violations,
+                    repeated.map(Map.Entry::getKey).orElse(""));
+            if (properties.isFailOnViolation()) {
+                throw new IllegalStateException("요청 성능 예산 초과: " + request.getMethod() + " "
+                        + request.getRequestURI() + " " + violations);
+            }
+        } else if (trace.elapsedMillis() >= properties.getSlowRequestMs()) {
+            log.info(line);
+        } else if (log.isDebugEnabled()) {
+            log.debug(line);
+        }
+    }
+
+    List<String> violations(RequestPerfTrace trace) {
+        List<String> violations = new ArrayList<>(3);
+        if (properties.getMaxStatements() > 0 && trace.statementCount() > properties.getMaxStatements()) {
+            violations.add("dbQueries>" + properties.getMaxStatements());
+        }
+        if (properties.getMaxRepeatedStatements() > 0) {
+            trace.mostRepeatedStatement()
+                    .filter(e -> e.getValue() > properties.getMaxRepeatedStatements())
+                    .ifPresent(e -> violations.add("repeatedSql>" + properties.getMaxRepeatedStatements()));
+        }
+        if (properties.getMaxNexonCalls() > 0 && trace.nexonCallCount() > properties.getMaxNexonCalls()) {
+            violations.add("nexonCalls>" + properties.getMaxNexonCalls());
+        }
+        return violations;
+    }
+}
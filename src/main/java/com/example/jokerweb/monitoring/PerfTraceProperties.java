@@ -0,0 +1,37 @@
+package com.example.jokerweb.monitoring;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 단위 성능 추적 설정 (perf-trace.*)
+ * 예산(0이면 검사 안 함)을 넘긴 요청은 WARN 로그를 남기고, fail-on-violation이면 예외로 실패시킨다 (테스트용).
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "perf-trace")
+public class PerfTraceProperties {
+
+    private boolean enabled = true;
+
+    /** Server-Timing 응답 헤더 추가 여부 */
+    private boolean serverTimingHeader = true;
+
+    /** 요청당 SQL 수 상한 */
+    private int maxStatements = 100;
+
+    /** 같은 형태의 SQL 반복 상한 (N+1 감지) */
+    private int maxRepeatedStatements = 20;
+
+    /** 요청당 넥슨 API 호출 수 상한 */
+    private int maxNexonCalls = 0;
+
+    /** 이 시간을 넘긴 요청은 예산 안이어도 INFO로 추적 로그를 남김 (ms) */
+    private long slowRequestMs = 3000;
+
+    /** 예산 초과 시 요청을 실패시킴 (테스트에서 N+1 회귀를 잡기 위한 용도) */
+    private boolean failOnViolation = false;
+}
@@ -0,0 +1,37 @@
+package com.example.jokerweb.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전에 Server-Timing 헤더를 붙인다
+ * 본문이 쓰이면 응답이 커밋되어 PerfTraceFilter에서는 헤더를 더 붙일 수 없기 때문
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class PerfTraceResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final PerfTraceProperties properties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return properties.isEnabled() && properties.isServerTimingHeader();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestPerfTrace trace = RequestPerfTrace.current();
+        if (trace != null) {
+            response.getHeaders().set(PerfTraceFilter.SERVER_TIMING, trace.toServerTiming());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.jokerweb.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션의 JDBC 실행 시간을 현재 요청의 DB 시간에 더한다
+ * hibernate.session.events.auto로 세션마다 새로 만들어지므로 시작 시각을 필드에 둬도 된다.
+ */
+public class PerfTraceSessionListener implements SessionEventListener {
+
+    private long executeStartedAt;
+    private long batchStartedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestPerfTrace.recordDbTime(System.nanoTime() - executeStartedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestPerfTrace.recordDbTime(System.nanoTime() - batchStartedAt);
+    }
+}
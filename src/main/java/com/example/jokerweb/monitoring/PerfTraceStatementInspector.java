@@ -0,0 +1,15 @@
+package com.example.jokerweb.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL마다 현재 요청의 쿼리 수와 SQL 형태별 반복 횟수를 센다 (SQL은 바꾸지 않음)
+ */
+public class PerfTraceStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestPerfTrace.recordStatement(sql);
+        return sql;
+    }
+}
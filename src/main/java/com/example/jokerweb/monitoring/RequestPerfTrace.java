@@ -0,0 +1,218 @@
+package com.example.jokerweb.monitoring;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 단위 성능 추적 (TraceIdFilter의 traceId 기준)
+ * 한 요청 동안 실행된 SQL 수/시간, 넥슨 API 호출 수/시간, 캐시 히트/미스를 모은다.
+ * 요청 스레드의 ThreadLocal에 걸리고, AsyncConfig 실행기로 넘긴 작업에도 이어진다.
+ * 값은 여러 스레드에서 동시에 더해질 수 있으므로 LongAdder로 누적한다.
+ *
+ * 테스트에서는 open()으로 범위를 열어 쿼리 수를 직접 확인할 수 있다.
+ * <pre>
+ * try (RequestPerfTrace.Scope scope = RequestPerfTrace.open("test")) {
+ *     service.call();
+ *     assertTrue(scope.trace().statementCount() <= 3);
+ * }
+ * </pre>
+ */
+public final class RequestPerfTrace {
+
+    private static final ThreadLocal<RequestPerfTrace> CURRENT = new ThreadLocal<>();
+
+    // 요청당 보관할 SQL 형태 수 상한 (동적 SQL이 많아도 메모리가 무한히 늘지 않게)
+    private static final int MAX_STATEMENT_SHAPES = 500;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String traceId;
+    private final long startedAt = System.nanoTime();
+    private final LongAdder statementCount = new LongAdder();
+    private final LongAdder dbNanos = new LongAdder();
+    private final LongAdder nexonCalls = new LongAdder();
+    private final LongAdder nexonNanos = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final Map<String, LongAdder> statementShapes = new ConcurrentHashMap<>();
+
+    private RequestPerfTrace(String traceId) {
+        this.traceId = traceId;
+    }
+
+    /**
+     * 현재 스레드에 새 추적을 건다. 반환된 Scope를 닫으면 이전 상태로 돌아간다.
+     */
+    public static Scope open(String traceId) {
+        RequestPerfTrace previous = CURRENT.get();
+        RequestPerfTrace trace = new RequestPerfTrace(traceId);
+        CURRENT.set(trace);
+        return new Scope(trace, previous);
+    }
+
+    public static RequestPerfTrace current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 제출 시점의 추적을 작업 실행 스레드로 넘기는 래퍼 (추적 중이 아니면 그대로 반환)
+     */
+    public static Runnable propagate(Runnable task) {
+        RequestPerfTrace trace = CURRENT.get();
+        if (trace == null) {
+            return task;
+        }
+        return () -> {
+            RequestPerfTrace previous = CURRENT.get();
+            CURRENT.set(trace);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    public static void recordStatement(String sql) {
+        RequestPerfTrace trace = CURRENT.get();
+        if (trace == null) {
+            return;
+        }
+        trace.statementCount.increment();
+        String shape = normalize(sql);
+        LongAdder counter = trace.statementShapes.get(shape);
+        if (counter == null) {
+            if (trace.statementShapes.size() >= MAX_STATEMENT_SHAPES) {
+                return;
+            }
+            counter = trace.statementShapes.computeIfAbsent(shape, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    public static void recordDbTime(long elapsedNanos) {
+        RequestPerfTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.dbNanos.add(elapsedNanos);
+        }
+    }
+
+    public static void recordNexonCall(long elapsedNanos) {
+        RequestPerfTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.nexonCalls.increment();
+            trace.nexonNanos.add(elapsedNanos);
+        }
+    }
+
+    public static void recordCacheHit() {
+        RequestPerfTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.cacheHits.increment();
+        }
+    }
+
+    public static void recordCacheMiss() {
+        RequestPerfTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.cacheMisses.increment();
+        }
+    }
+
+    /**
+     * 바인딩 값만 다른 SQL을 같은 형태로 묶는다 (리터럴 → ?, IN (?, ?, ?) → IN (?))
+     */
+    static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    public String traceId() {
+        return traceId;
+    }
+
+    public long statementCount() {
+        return statementCount.sum();
+    }
+
+    public long nexonCallCount() {
+        return nexonCalls.sum();
+    }
+
+    public long cacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    public long cacheMissCount() {
+        return cacheMisses.sum();
+    }
+
+    public double dbMillis() {
+        return dbNanos.sum() / 1_000_000.0;
+    }
+
+    public double nexonMillis() {
+        return nexonNanos.sum() / 1_000_000.0;
+    }
+
+    public double elapsedMillis() {
+        return (System.nanoTime() - startedAt) / 1_000_000.0;
+    }
+
+    /**
+     * 가장 많이 반복된 SQL 형태와 횟수 (N+1 판단용)
+     */
+    public Optional<Map.Entry<String, Long>> mostRepeatedStatement() {
+        return statementShapes.entrySet().stream()
+                .map(e -> Map.entry(e.getKey(), e.getValue().sum()))
+                .max(Comparator.comparingLong(Map.Entry::getValue));
+    }
+
+    /**
+     * Server-Timing 헤더 값
+     */
+    public String toServerTiming() {
+        return String.format(Locale.ROOT,
+                "db;dur=%.1f;desc=\"%d queries\", nexon;dur=%.1f;desc=\"%d calls\", cache;desc=\"%d hit %d miss\", app;dur=%.1f",
+                dbMillis(), statementCount(), nexonMillis(), nexonCallCount(), cacheHitCount(), cacheMissCount(),
+                elapsedMillis());
+    }
+
+    private static void restore(RequestPerfTrace previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final RequestPerfTrace trace;
+        private final RequestPerfTrace previous;
+
+        private Scope(RequestPerfTrace trace, RequestPerfTrace previous) {
+            this.trace = trace;
+            this.previous = previous;
+        }
+
+        public RequestPerfTrace trace() {
+            return trace;
+        }
+
+        @Override
+        public void close() {
+            restore(previous);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.jokerweb.nexon;
 
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -18,40 +17,40 @@ public class NexonApiRateLimiter {
     // 초당 최대 8회 요청 허용
     private static final int MAX_PERMITS_PER_SECOND = 8;
     
-    // 현재 초의 카운터와 타임스탬프
-    private final AtomicInteger currentSecondCount = new AtomicInteger(0);
-    private final AtomicLong currentSecond = new AtomicLong(System.currentTimeMillis() / 1000);
+    // 현재 초와 그 초에 나간 permit 수 (lock으로 보호)
+    // synchronized 대신 ReentrantLock을 써서 가상 스레드가 대기 중 캐리어 스레드에 고정(pinning)되지 않게 한다
+    private final ReentrantLock lock = new ReentrantLock();
+    private long currentSecond = System.currentTimeMillis() / 1000;
+    private int currentSecondCount = 0;
     
     /**
      * API 호출 전에 permit 획득
+     * 이번 초의 permit이 모두 나갔으면 다음 초까지 잠금 밖에서 대기한 뒤 다시 시도한다.
      * @throws InterruptedException 대기 중 인터럽트 발생 시
      */
     public void acquire() throws InterruptedException {
-        long now = System.currentTimeMillis() / 1000;
-        long current = currentSecond.get();
-        
-        // 새로운 초가 시작되면 카운터 리셋
-        if (now > current) {
-            synchronized (this) {
-                // Double-check locking
-                if (now > currentSecond.get()) {
-                    currentSecond.set(now);
-                    currentSecondCount.set(0);
+        while (true) {
+            long waitTime;
+            lock.lock();
+            try {
+                long nowMillis = System.currentTimeMillis();
+                long now = nowMillis / 1000;
+                // 새로운 초가 시작되면 카운터 리셋
+                if (now > currentSecond) {
+                    currentSecond = now;
+                    currentSecondCount = 0;
                 }
+                if (currentSecondCount < MAX_PERMITS_PER_SECOND) {
+                    currentSecondCount++;
+                    return;
+                }
+                // 초과된 경우 다음 초까지 대기
+                waitTime = (currentSecond + 1) * 1000 - nowMillis;
+            } finally {
+                lock.unlock();
             }
-        }
-        
-        // 현재 초의 카운터 증가
-        int count = currentSecondCount.incrementAndGet();
-        
-        if (count > MAX_PERMITS_PER_SECOND) {
-            // 초과된 경우 다음 초까지 대기
-            long waitTime = 1000 - (System.currentTimeMillis() % 1000);
             if (waitTime > 0) {
                 Thread.sleep(waitTime);
-                // 다음 초로 이동
-                currentSecond.set(System.currentTimeMillis() / 1000);
-                currentSecondCount.set(1);
             }
         }
     }
@@ -1,7 +1,10 @@
 package com.example.jokerweb.nexon;
 
+import com.example.jokerweb.monitoring.NexonApiMetrics;
+import com.example.jokerweb.monitoring.RequestPerfTrace;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
+import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
@@ -11,7 +14,10 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRequest;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.HttpClientErrorException;
@@ -37,11 +43,15 @@ public class NxOpenApiClient {
     private final NexonApiRateLimiter rateLimiter;
     private final ObjectMapper objectMapper;
     private final com.example.jokerweb.monitoring.ApiMetricsService metricsService;
+    private final NexonApiMetrics nexonApiMetrics;
 
     private RestClient restClient;
     private List<String> apiKeys;
     private final AtomicInteger currentKeyIndex = new AtomicInteger(0);
 
+    // 키 로테이션 중 몇 번째 시도인지 (요청 인터셉터의 retry 태그용, RestClient는 호출 스레드에서 동기 실행)
+    private static final ThreadLocal<Integer> ROTATION_ATTEMPT = new ThreadLocal<>();
+
     @Value("${nxopen.api.base-url}")
     private String baseUrl;
 
@@ -81,16 +91,41 @@ public class NxOpenApiClient {
         }
         
         log.info("Nexon API 키 로테이션 초기화 완료: 총 {}개의 API 키 사용", apiKeys.size());
+        nexonApiMetrics.registerKeys(apiKeys.size());
         
         this.restClient = restClientBuilder
                 .baseUrl(baseUrl)
                 .defaultHeader("Accept", MediaType.APPLICATION_JSON_VALUE)
                 .requestInterceptor((request, body, execution) -> {
                     request.getHeaders().setAccept(MediaType.parseMediaTypes(MediaType.APPLICATION_JSON_VALUE));
-                    return execution.execute(request, body);
+                    return executeTimed(request, body, execution);
                 })
                 .build();
     }
+
+    /**
+     * HTTP 요청 1회를 endpoint/키/결과/재시도 횟수별로 기록
+     */
+    private ClientHttpResponse executeTimed(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String endpoint = NexonApiMetrics.endpointOf(request.getURI().getPath());
+        int keyNumber = apiKeys.indexOf(request.getHeaders().getFirst("x-nxopen-api-key")) + 1;
+        Integer attempt = ROTATION_ATTEMPT.get();
+        int retry = attempt != null ? attempt : 0;
+        long startedAt = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            nexonApiMetrics.recordRequest(endpoint, keyNumber, NexonApiMetrics.outcomeOf(response.getStatusCode().value()),
+                    retry, System.nanoTime() - startedAt);
+            return response;
+        } catch (IOException e) {
+            nexonApiMetrics.recordRequest(endpoint, keyNumber, NexonApiMetrics.outcomeOf(e),
+                    retry, System.nanoTime() - startedAt);
+            throw e;
+        } finally {
+            RequestPerfTrace.recordNexonCall(System.nanoTime() - startedAt);
+        }
+    }
     
     
     /**
@@ -107,8 +142,10 @@ public class NxOpenApiClient {
             String currentKey = apiKeys.get(currentIndex);
             
             try {
+                ROTATION_ATTEMPT.set(attempts);
                 return apiCall.apply(currentKey);
             } catch (NexonApiRateLimitException e) {
+                nexonApiMetrics.startKeyCooldown(currentIndex + 1, e.getRetryAfterSeconds());
                 attempts++;
                 lastException = e;
                 if (attempts < apiKeys.size()) {
@@ -129,6 +166,8 @@ public class NxOpenApiClient {
             } catch (Exception e) {
                 // 429가 아닌 다른 에러는 즉시 전파
                 throw e;
+            } finally {
+                ROTATION_ATTEMPT.remove();
             }
         }
         
@@ -550,7 +589,9 @@ public class NxOpenApiClient {
      */
     private <T> T executeWithRateLimit(java.util.function.Supplier<T> apiCall) {
         try {
+            long waitStartedAt = System.nanoTime();
             rateLimiter.acquire();
+            nexonApiMetrics.recordRateLimiterWait(System.nanoTime() - waitStartedAt);
             try {
                 return apiCall.get();
             } finally {
@@ -24,9 +24,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -45,6 +47,8 @@ public class SuddenAttackMatchService {
     private final NxOpenApiClient nxOpenApiClient;
     private final MatchSummaryRepository matchSummaryRepository;
     private final MetadataService metadataService;
+    @Qualifier("nexonIoExecutor")
+    private final Executor nexonIoExecutor;
     
     // Final 시즌 시작일: 2024년 12월 12일 00:00:00 KST
     private static final Instant FINAL_SEASON_START = ZonedDateTime.of(2024, 12, 12, 0, 0, 0, 0, 
@@ -464,16 +468,17 @@ public class SuddenAttackMatchService {
                     clanRankedMatchIds.size(), clanMatchIds.size());
 
             // 3. 각 카테고리별로 매치 상세 정보 배치 조회 (비동기)
+            // 같은 클래스 안의 호출은 @Async 프록시를 거치지 않으므로 nexonIoExecutor에 직접 넘긴다
             boolean useKstTime = useKst != null && useKst;
             
             CompletableFuture<List<MatchDetailSummaryResponse>> rankedSoloFuture = 
-                    fetchMatchDetailsBatch(rankedSoloMatchIds, useKstTime);
+                    fetchMatchDetailsBatchOn(rankedSoloMatchIds, useKstTime);
             CompletableFuture<List<MatchDetailSummaryResponse>> rankedPartyFuture = 
-                    fetchMatchDetailsBatch(rankedPartyMatchIds, useKstTime);
+                    fetchMatchDetailsBatchOn(rankedPartyMatchIds, useKstTime);
             CompletableFuture<List<MatchDetailSummaryResponse>> clanRankedFuture = 
-                    fetchMatchDetailsBatch(clanRankedMatchIds, useKstTime);
+                    fetchMatchDetailsBatchOn(clanRankedMatchIds, useKstTime);
             CompletableFuture<List<MatchDetailSummaryResponse>> clanMatchFuture = 
-                    fetchMatchDetailsBatch(clanMatchIds, useKstTime);
+                    fetchMatchDetailsBatchOn(clanMatchIds, useKstTime);
 
             // 4. 모든 비동기 작업 완료 대기
             CompletableFuture.allOf(rankedSoloFuture, rankedPartyFuture, clanRankedFuture, clanMatchFuture).join();
@@ -640,6 +645,17 @@ public class SuddenAttackMatchService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * fetchMatchDetailsBatch를 nexonIoExecutor에서 실행 (전적검색 카테고리별 병렬 조회용)
+     */
+    private CompletableFuture<List<MatchDetailSummaryResponse>> fetchMatchDetailsBatchOn(
+            List<String> matchIds, boolean useKst) {
+        if (matchIds == null || matchIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        return CompletableFuture.supplyAsync(() -> fetchMatchDetailsBatch(matchIds, useKst).join(), nexonIoExecutor);
+    }
+
     /**
      * 매치 상세 정보 배치 조회 (비동기)
      * 
@@ -647,7 +663,7 @@ public class SuddenAttackMatchService {
      * @param useKst KST 시간대 사용 여부
      * @return 매치 상세 정보 리스트 (실패한 항목은 제외)
      */
-    @Async
+    @Async("nexonIoExecutor")
     public CompletableFuture<List<MatchDetailSummaryResponse>> fetchMatchDetailsBatch(
             List<String> matchIds,
             boolean useKst
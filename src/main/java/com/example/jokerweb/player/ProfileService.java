@@ -10,9 +10,11 @@ import com.example.jokerweb.nexon.dto.UserRecentInfoResponse;
 import com.example.jokerweb.nexon.dto.UserTierResponse;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.scheduling.annotation.Async;
@@ -30,6 +32,8 @@ public class ProfileService {
     private final PlayerRankRepository playerRankRepository;
     private final MatchService matchService;
     private final InsightService insightService;
+    @Qualifier("nexonIoExecutor")
+    private final Executor nexonIoExecutor;
 
     @Cacheable(cacheNames = "profile", key = "#ouid", unless = "#result == null")
     public PlayerProfileResponse fetchAndSaveProfile(String ouid) {
@@ -42,7 +46,7 @@ public class ProfileService {
                     log.warn("getUserBasic 실패: ouid={}, error={}", ouid, e.getMessage());
                     return null;
                 }
-            });
+            }, nexonIoExecutor);
         
         CompletableFuture<UserRankResponse> rankFuture = CompletableFuture
             .supplyAsync(() -> {
@@ -52,7 +56,7 @@ public class ProfileService {
                     log.warn("getUserRank 실패: ouid={}, error={}", ouid, e.getMessage());
                     return null;
                 }
-            });
+            }, nexonIoExecutor);
         
         CompletableFuture<UserTierResponse> tierFuture = CompletableFuture
             .supplyAsync(() -> {
@@ -62,7 +66,7 @@ public class ProfileService {
                     log.warn("getUserTier 실패: ouid={}, error={}", ouid, e.getMessage());
                     return null;
                 }
-            });
+            }, nexonIoExecutor);
         
         CompletableFuture<UserRecentInfoResponse> recentFuture = CompletableFuture
             .supplyAsync(() -> {
@@ -72,7 +76,7 @@ public class ProfileService {
                     log.warn("getUserRecentInfo 실패: ouid={}, error={}", ouid, e.getMessage());
                     return null;
                 }
-            });
+            }, nexonIoExecutor);
         
         // 모든 API 호출 완료 대기 (최대 10초 타임아웃)
         UserBasicResponse basic = null;
@@ -268,7 +272,7 @@ public class ProfileService {
      * 비동기로 매치 정보를 조회하여 상세 정보까지 저장
      * 전적 검색 시 자동으로 연계 조회되도록 함
      */
-    @Async
+    @Async("nexonBackfillExecutor")
     public void fetchMatchesAsync(String ouid) {
         try {
             log.debug("전적 검색 연계: 매치 정보 조회 시작: ouid={}", ouid);
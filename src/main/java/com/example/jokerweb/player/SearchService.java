@@ -68,7 +68,7 @@ public class SearchService {
     /**
      * 검색 기록 저장 또는 업데이트 (비동기 - 응답 속도 향상)
      */
-    @Async
+    @Async("dbWriteExecutor")
     @Transactional
     public void recordSearchAsync(String nickname, String ouid) {
         recordSearch(nickname, ouid);
@@ -1,15 +1,18 @@
 package com.example.jokerweb.security;
 
 import com.example.jokerweb.common.IpUtils;
+import com.example.jokerweb.security.bruteforce.AdminAccessAuditWriter;
+import com.example.jokerweb.security.bruteforce.AttackTrackingProperties;
+import com.example.jokerweb.security.bruteforce.AttackTrackingStore;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -18,8 +21,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 /**
  * 어드민 페이지 접근 보호 필터
- * - 비인가 사용자가 어드민 페이지 접속 시도 시 추적
- * - 2회 이상 시도 시 IP 차단 및 홈페이지로 리다이렉트
+ * - 비인가 사용자가 어드민 페이지 접속 시도 시 IP별, 로그인 계정별로 추적 (AttackTrackingStore)
+ * - 윈도(기본 1시간) 안에서 max-attempts(기본 2)회째 시도부터 차단 및 홈페이지로 리다이렉트
+ * - 차단 판단은 메모리/Redis 카운터로만 하고, 감사 로그는 AdminAccessAuditWriter가 배치로 기록
  */
 @Slf4j
 @Component
@@ -27,43 +31,45 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class AdminAccessProtectionFilter extends OncePerRequestFilter {
 
     private static final String ADMIN_PATH_PREFIX = "/admin";
-    private static final int MAX_ATTEMPTS = 2;
-    private static final int BLOCK_DURATION_HOURS = 24;
-
-    private final AdminAccessAttemptRepository attemptRepository;
+    private final AttackTrackingStore attackTrackingStore;
+    private final AdminAccessAuditWriter auditWriter;
+    private final AttackTrackingProperties properties;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
         String requestPath = request.getRequestURI();
-        String clientIp = extractClientIp(request);
 
         // 어드민 페이지 접근인지 확인
         if (isAdminPageAccess(requestPath)) {
             Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            boolean hasAdminRole = hasAdminRole(auth);
-            
+            boolean authenticated = auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken);
+
             // 인증되지 않았거나 ADMIN 역할이 없는 경우
-            if (auth == null || !hasAdminRole) {
-                // 최근 1시간 내 시도 횟수 확인
-                LocalDateTime since = LocalDateTime.now().minusHours(1);
-                long attemptCount = attemptRepository.countFailedAttemptsSince(clientIp, since);
+            if (!authenticated || !hasAdminRole(auth)) {
+                String clientIp = extractClientIp(request);
+                // IP 기준 + 로그인 상태면 계정 기준으로도 집계 (IP를 바꿔 가며 시도하는 계정도 차단)
+                int maxAttempts = properties.getMaxAttempts();
+                double attempts = attackTrackingStore.recordAttempt("ip:" + clientIp, properties.getWindow(), maxAttempts);
+                if (authenticated) {
+                    attempts = Math.max(attempts, attackTrackingStore.recordAttempt(
+                            "account:" + auth.getName(), properties.getWindow(), maxAttempts));
+                }
+                boolean blocked = attempts >= maxAttempts;
 
-                // 접속 시도 기록
-                AdminAccessAttempt attempt = AdminAccessAttempt.builder()
-                        .clientIp(clientIp)
-                        .userAgent(request.getHeader(HttpHeaders.USER_AGENT))
-                        .requestPath(requestPath)
-                        .hasAuth(false)
-                        .blocked(attemptCount >= MAX_ATTEMPTS - 1)
-                        .attemptedAt(LocalDateTime.now())
-                        .build();
-                attemptRepository.save(attempt);
+                // 차단 직전까지와 처음 차단된 시도만 행으로 남기고, 이후 반복 시도는 건수만 집계
+                if (attempts < maxAttempts + 1) {
+                    auditWriter.record(clientIp, request.getHeader(HttpHeaders.USER_AGENT), requestPath,
+                            authenticated, blocked);
+                    if (blocked) {
+                        log.warn("차단된 IP가 어드민 페이지 접근 시도: IP={}, Path={}", clientIp, requestPath);
+                    }
+                } else {
+                    auditWriter.recordSuppressed();
+                }
 
-                // 2회 이상 시도한 경우 차단
-                if (attemptCount >= MAX_ATTEMPTS - 1) {
-                    log.warn("차단된 IP가 어드민 페이지 접근 시도: IP={}, Path={}", clientIp, requestPath);
+                if (blocked) {
                     response.sendRedirect("/");
                     return;
                 }
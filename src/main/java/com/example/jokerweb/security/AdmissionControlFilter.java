@@ -0,0 +1,69 @@
+package com.example.jokerweb.security;
+
+import com.example.jokerweb.security.admission.AdaptiveConcurrencyLimiter;
+import com.example.jokerweb.security.admission.AdmissionClasses;
+import com.example.jokerweb.security.admission.AdmissionProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 무거운 엔드포인트(전적검색, 플레이어 분석/비교) 동시 실행 제한 필터
+ * 넥슨 API 대기로 오래 걸리는 요청이 Tomcat 스레드를 모두 차지하지 않도록 클래스별 적응형 한도 안에서만 실행하고,
+ * 한도가 차면 잠깐 대기 후 503 + Retry-After로 바로 돌려보낸다. 그 외 요청은 그대로 통과한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final AdmissionClasses admissionClasses;
+    private final AdmissionProperties admissionProperties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        AdmissionClasses.Admission admission = admissionProperties.isEnabled()
+                ? admissionClasses.resolve(request.getRequestURI())
+                : null;
+        if (admission == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AdaptiveConcurrencyLimiter limiter = admission.limiter();
+        AdaptiveConcurrencyLimiter.Outcome outcome = limiter.acquire(admission.maxWaitNanos());
+        if (outcome != AdaptiveConcurrencyLimiter.Outcome.ACQUIRED) {
+            (outcome == AdaptiveConcurrencyLimiter.Outcome.QUEUE_FULL ? admission.queueFull() : admission.timeout())
+                    .increment();
+            log.warn("Admission rejected (class: {}, reason: {}, limit: {})",
+                    limiter.getName(), outcome, limiter.currentLimit());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(admission.retryAfterSeconds()));
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write(
+                "{\"message\":\"요청이 많아 잠시 처리할 수 없습니다. 잠시 후 다시 시도해주세요.\",\"code\":\"SERVER_BUSY\"}"
+            );
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limiter.release(System.nanoTime() - startedAt, failed);
+        }
+    }
+}
@@ -1,9 +1,7 @@
 package com.example.jokerweb.security;
 
-import com.example.jokerweb.admin.role.MemberRole;
-import com.example.jokerweb.admin.role.MemberRoleRepository;
+import com.example.jokerweb.admin.service.AuthorizationService;
 import com.example.jokerweb.member.Member;
-import com.example.jokerweb.member.MemberRepository;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -28,8 +26,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenService tokenService;
-    private final MemberRepository memberRepository;
-    private final MemberRoleRepository memberRoleRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final AuthorizationService authorizationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -38,9 +36,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (StringUtils.hasText(authHeader) && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring("Bearer ".length());
             try {
+                // 검증된 claims와 회원 정보는 캐시에서 조회 (인증에 DB 조회 없음)
                 Claims claims = tokenService.parse(token);
                 Long memberId = Long.parseLong(claims.getSubject());
-                Optional<Member> memberOpt = memberRepository.findById(memberId);
+                Optional<Member> memberOpt = memberPrincipalCache.find(memberId);
                 memberOpt.ifPresent(member -> {
                     List<SimpleGrantedAuthority> authorities = resolveAuthorities(member.getId());
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
@@ -63,16 +62,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 기본 사용자 롤
         roles.add("USER");
 
-        // roleEntity.name 과 role 문자열 컬럼을 모두 존중
-        List<MemberRole> activeRoles = memberRoleRepository.findActiveRolesByMemberId(memberId);
-        for (MemberRole mr : activeRoles) {
-            if (mr.getRoleEntity() != null && mr.getRoleEntity().getName() != null) {
-                roles.add(mr.getRoleEntity().getName());
-            }
-            if (mr.getRole() != null && !mr.getRole().isBlank()) {
-                roles.add(mr.getRole());
-            }
-        }
+        // roleEntity.name 과 role 문자열 컬럼을 모두 존중 (캐시된 권한 스냅샷 사용)
+        roles.addAll(authorizationService.snapshot(memberId).authorityNames());
 
         return roles.stream()
                 .map(String::toUpperCase)
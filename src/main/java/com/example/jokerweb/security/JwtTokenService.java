@@ -1,11 +1,19 @@
 package com.example.jokerweb.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
 import javax.crypto.SecretKey;
@@ -16,8 +24,34 @@ import org.springframework.util.StringUtils;
 @Component
 public class JwtTokenService {
 
+    /** 검증된 토큰 캐시 최대 보관 시간 (토큰 만료가 더 빠르면 만료 시각까지만) */
+    private static final Duration MAX_CLAIMS_CACHE_TTL = Duration.ofMinutes(10);
+    private static final long MAX_CLAIMS_CACHE_SIZE = 20_000;
+
     private final SecretKey secretKey;
     private final long accessTokenSeconds;
+    private final JwtParser parser;
+
+    // 토큰 SHA-256 해시 → 서명/만료 검증이 끝난 claims
+    private final Cache<String, Claims> verifiedClaims = Caffeine.newBuilder()
+            .maximumSize(MAX_CLAIMS_CACHE_SIZE)
+            .expireAfter(new Expiry<String, Claims>() {
+                @Override
+                public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                    return ttlNanos(claims);
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                    return ttlNanos(claims);
+                }
+
+                @Override
+                public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
 
     public JwtTokenService(
             @Value("${security.jwt.secret:TEST_JWT_SECRET_012345678901234567890}") String secret,
@@ -25,6 +59,10 @@ public class JwtTokenService {
     ) {
         this.secretKey = Keys.hmacShaKeyFor(ensureLength(secret).getBytes(StandardCharsets.UTF_8));
         this.accessTokenSeconds = accessTokenSeconds;
+        // 파서는 불변이며 스레드 안전하므로 한 번만 생성해 재사용
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
     }
 
     public String generateToken(Long memberId, String email) {
@@ -46,12 +84,38 @@ public class JwtTokenService {
                 .compact();
     }
 
+    /**
+     * 토큰 서명/만료 검증 후 claims 반환
+     * 같은 토큰은 만료 전까지 캐시된 claims를 반환하며, 검증 실패한 토큰은 캐시하지 않는다.
+     */
     public Claims parse(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        String key = hash(token);
+        Claims cached = verifiedClaims.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        verifiedClaims.put(key, claims);
+        return claims;
+    }
+
+    private static long ttlNanos(Claims claims) {
+        long ttl = MAX_CLAIMS_CACHE_TTL.toNanos();
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            long untilExpiry = Duration.between(Instant.now(), expiration.toInstant()).toNanos();
+            ttl = Math.min(ttl, Math.max(untilExpiry, 0L));
+        }
+        return ttl;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
     }
 
     private static String ensureLength(String secret) {
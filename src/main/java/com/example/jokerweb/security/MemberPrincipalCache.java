@@ -0,0 +1,75 @@
+package com.example.jokerweb.security;
+
+import com.example.jokerweb.member.Member;
+import com.example.jokerweb.member.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인증된 회원 정보 단기 캐시
+ * JWT 인증마다 member 테이블을 조회하지 않도록 회원 엔티티를 짧게 보관한다.
+ * 캐시된 Member는 요청 간에 공유되므로 읽기 전용으로만 사용하고,
+ * 회원 정보를 수정할 때는 다시 조회한 뒤 저장하고 evict 해야 한다.
+ * 트랜잭션 안에서 evict 하면 커밋 전 동시 요청이 옛 값을 다시 채울 수 있으므로 커밋 후에 한 번 더 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberPrincipalCache {
+
+    private static final long TTL_SECONDS = 30;
+    private static final long MAX_SIZE = 10_000;
+
+    private final MemberRepository memberRepository;
+
+    private final Cache<Long, Member> members = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(TTL_SECONDS, TimeUnit.SECONDS)
+            .build();
+
+    public Optional<Member> find(Long memberId) {
+        if (memberId == null) {
+            return Optional.empty();
+        }
+        Member cached = members.getIfPresent(memberId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Member> loaded = memberRepository.findById(memberId);
+        loaded.ifPresent(member -> members.put(memberId, member));
+        return loaded;
+    }
+
+    public void evict(Long memberId) {
+        if (memberId == null) {
+            return;
+        }
+        members.invalidate(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    members.invalidate(memberId);
+                }
+            });
+        }
+    }
+
+    /**
+     * JwtAuthenticationFilter가 SecurityContext에 저장한 현재 요청의 회원
+     */
+    public static Optional<Member> current() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getDetails() instanceof Member member) {
+            return Optional.of(member);
+        }
+        return Optional.empty();
+    }
+}
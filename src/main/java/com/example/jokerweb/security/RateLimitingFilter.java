@@ -1,18 +1,19 @@
 package com.example.jokerweb.security;
 
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import com.example.jokerweb.common.IpUtils;
+import com.example.jokerweb.security.ratelimit.RateLimitPolicies;
+import com.example.jokerweb.security.ratelimit.RateLimitPolicy;
+import com.example.jokerweb.security.ratelimit.RateLimitProperties;
+import com.example.jokerweb.security.ratelimit.RateLimitStore;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -22,22 +23,18 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * IP 기반 Rate Limiting 필터
  * - 익명 사용자: 분당 100회 요청
  * - 인증 사용자: 분당 500회 요청
+ * - 회원가입/로그인/관리자 API 등 경로별 한도는 security.rate-limit.routes로 선언
+ * 버킷은 RateLimitStore(기본 Caffeine, Redis 설정 시 공유 저장소)에 보관한다.
  */
 @Slf4j
 @Component
 @Order(1) // TraceIdFilter보다 먼저 실행
+@RequiredArgsConstructor
 public class RateLimitingFilter extends OncePerRequestFilter {
 
-    private final Map<String, Bucket> cache = new ConcurrentHashMap<>();
-    
-    // 익명 사용자: 분당 100회
-    private static final int ANONYMOUS_REQUESTS_PER_MINUTE = 100;
-    
-    // 인증 사용자: 분당 500회
-    private static final int AUTHENTICATED_REQUESTS_PER_MINUTE = 500;
-    
-    // 회원가입 엔드포인트: IP당 1시간에 5회
-    private static final int REGISTER_REQUESTS_PER_HOUR = 5;
+    private final RateLimitStore rateLimitStore;
+    private final RateLimitPolicies rateLimitPolicies;
+    private final RateLimitProperties rateLimitProperties;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -46,7 +43,7 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         String path = request.getRequestURI();
         
         // 정적 리소스나 헬스체크는 제외
-        if (shouldSkipRateLimit(path)) {
+        if (!rateLimitProperties.isEnabled() || shouldSkipRateLimit(path)) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -54,18 +51,21 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         String clientKey = getClientKey(request);
         boolean isAuthenticated = isAuthenticated(request);
         
-        Bucket bucket = resolveBucket(clientKey, isAuthenticated);
-        
-        if (bucket.tryConsume(1)) {
-            filterChain.doFilter(request, response);
-        } else {
-            log.warn("Rate limit exceeded for {} (authenticated: {})", clientKey, isAuthenticated);
-            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-            response.setContentType("application/json");
-            response.getWriter().write(
-                String.format("{\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\",\"code\":\"RATE_LIMIT_EXCEEDED\"}")
-            );
+        for (RateLimitPolicy policy : rateLimitPolicies.resolve(request.getMethod(), path, isAuthenticated)) {
+            RateLimitStore.Result result = rateLimitStore.tryConsume(clientKey, policy);
+            if (!result.allowed()) {
+                log.warn("Rate limit exceeded for {} (policy: {}, authenticated: {})", clientKey, policy.name(), isAuthenticated);
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(result.retryAfterSeconds()));
+                response.setContentType("application/json");
+                response.setCharacterEncoding("UTF-8");
+                response.getWriter().write(
+                    "{\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\",\"code\":\"RATE_LIMIT_EXCEEDED\"}"
+                );
+                return;
+            }
         }
+        filterChain.doFilter(request, response);
     }
     
     private boolean shouldSkipRateLimit(String path) {
@@ -77,44 +77,16 @@ public class RateLimitingFilter extends OncePerRequestFilter {
     }
     
     private String getClientKey(HttpServletRequest request) {
-        // X-Forwarded-For 헤더에서 IP 추출
-        String xff = request.getHeader("X-Forwarded-For");
-        if (StringUtils.hasText(xff)) {
-            return xff.split(",")[0].trim();
-        }
-        return request.getRemoteAddr();
+        // 접속 로그와 같은 규칙으로 실제 클라이언트 IPv4 추출 (형식이 잘못된 헤더 값은 키로 쓰지 않음)
+        String clientIp = IpUtils.extractClientIp(
+                request.getHeader("X-Forwarded-For"),
+                request.getHeader("X-Real-IP"),
+                request.getRemoteAddr());
+        return StringUtils.hasText(clientIp) ? clientIp : request.getRemoteAddr();
     }
     
     private boolean isAuthenticated(HttpServletRequest request) {
         String authHeader = request.getHeader("Authorization");
         return StringUtils.hasText(authHeader) && authHeader.startsWith("Bearer ");
     }
-    
-    private Bucket resolveBucket(String clientKey, boolean isAuthenticated) {
-        String bucketKey = clientKey + ":" + (isAuthenticated ? "auth" : "anon");
-        
-        return cache.computeIfAbsent(bucketKey, key -> {
-            int requestsPerMinute = isAuthenticated 
-                ? AUTHENTICATED_REQUESTS_PER_MINUTE 
-                : ANONYMOUS_REQUESTS_PER_MINUTE;
-            
-            Refill refill = Refill.intervally(requestsPerMinute, Duration.ofMinutes(1));
-            Bandwidth limit = Bandwidth.classic(requestsPerMinute, refill);
-            return Bucket.builder()
-                .addLimit(limit)
-                .build();
-        });
-    }
-    
-    private Bucket resolveRegisterBucket(String clientKey) {
-        String bucketKey = clientKey + ":register";
-        
-        return cache.computeIfAbsent(bucketKey, key -> {
-            Refill refill = Refill.intervally(REGISTER_REQUESTS_PER_HOUR, Duration.ofHours(1));
-            Bandwidth limit = Bandwidth.classic(REGISTER_REQUESTS_PER_HOUR, refill);
-            return Bucket.builder()
-                .addLimit(limit)
-                .build();
-        });
-    }
-}
\ No newline at end of file
+}
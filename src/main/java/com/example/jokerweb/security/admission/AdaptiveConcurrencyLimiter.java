@@ -0,0 +1,194 @@
+package com.example.jokerweb.security.admission;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD 방식의 적응형 동시 실행 한도
+ * - 응답이 지연 목표 안에 끝나고 한도를 절반 이상 쓰고 있으면 한도를 한 바퀴(limit건)마다 1씩 올린다
+ * - 지연 목표를 넘기거나 서버 오류/예외로 끝나면 한도를 backoffRatio 배로 줄인다
+ * 지연 목표는 최근 latencyWindow건 성공 응답의 백분위(latencyPercentile) × latencyHeadroom이며, 설정한 목표보다 짧아지지 않는다.
+ * 업스트림이 원래 수십 초 걸리는 경로도 평소 분포보다 느려질 때만 한도를 줄인다.
+ * 표본이 모이기 전에는 지연을 신호로 쓰지 않는다 (latencyWindow가 0이면 설정한 목표를 고정으로 사용).
+ * 한도가 찼을 때는 대기열(maxQueue) 안에서 deadline까지만 기다리고, 그 외에는 즉시 거절한다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+    private final double latencyPercentile;
+    private final double latencyHeadroom;
+    // 최근 성공 응답 지연 (원형 버퍼, 잠금 안에서만 접근)
+    private final long[] samples;
+    private final int minSamples;
+    private final int recomputeEvery;
+    private int sampleCount;
+    private int sampleIndex;
+    // 측정 분포로 계산한 지연 목표 (표본 부족 시 0), 게이지에서 잠금 없이 읽음
+    private volatile long measuredTargetNanos;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition released = lock.newCondition();
+
+    // 게이지에서 잠금 없이 읽음
+    private volatile double limit;
+    private int inFlight;
+    private int waiting;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      int maxQueue, long latencyTargetNanos, double backoffRatio) {
+        this(name, initialLimit, minLimit, maxLimit, maxQueue, latencyTargetNanos, backoffRatio, 0, 0.95, 1.0);
+    }
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      int maxQueue, long latencyTargetNanos, double backoffRatio,
+                                      int latencyWindow, double latencyPercentile, double latencyHeadroom) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("동시 실행 한도 범위가 올바르지 않습니다: " + name);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio는 0과 1 사이여야 합니다: " + name);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = Math.max(0, maxQueue);
+        this.latencyTargetNanos = latencyTargetNanos;
+        this.backoffRatio = backoffRatio;
+        if (latencyPercentile <= 0 || latencyPercentile > 1 || latencyHeadroom < 1) {
+            throw new IllegalArgumentException("지연 목표 백분위/여유 비율이 올바르지 않습니다: " + name);
+        }
+        this.limit = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+        this.latencyPercentile = latencyPercentile;
+        this.latencyHeadroom = latencyHeadroom;
+        this.samples = new long[Math.max(0, latencyWindow)];
+        this.minSamples = Math.min(samples.length, 20);
+        this.recomputeEvery = Math.max(1, samples.length / 10);
+    }
+
+    public enum Outcome {
+        ACQUIRED,
+        /** 대기열까지 가득 차 바로 거절 */
+        QUEUE_FULL,
+        /** 대기열에서 deadline까지 자리가 나지 않음 */
+        TIMEOUT
+    }
+
+    /**
+     * 실행 자리를 얻는다. ACQUIRED를 받은 호출자는 반드시 release를 호출해야 한다.
+     */
+    public Outcome acquire(long maxWaitNanos) {
+        lock.lock();
+        try {
+            if (inFlight < currentLimit()) {
+                inFlight++;
+                return Outcome.ACQUIRED;
+            }
+            if (waiting >= maxQueue || maxWaitNanos <= 0) {
+                return Outcome.QUEUE_FULL;
+            }
+            waiting++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= currentLimit()) {
+                    if (remaining <= 0) {
+                        return Outcome.TIMEOUT;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                inFlight++;
+                return Outcome.ACQUIRED;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Outcome.TIMEOUT;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실행 종료 보고
+     * @param latencyNanos 처리 시간
+     * @param failed 서버 오류/예외로 끝났는지 여부
+     */
+    public void release(long latencyNanos, boolean failed) {
+        lock.lock();
+        try {
+            // 한도를 절반도 쓰지 않는 상태에서의 성공은 한도가 충분하다는 근거가 되지 못함
+            boolean saturated = inFlight * 2 >= currentLimit();
+            inFlight--;
+            boolean slow = latencyNanos > latencyTargetNanos();
+            if (!failed) {
+                recordSample(latencyNanos);
+            }
+            if (failed || slow) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (saturated) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 지연 목표 (적응형인데 표본이 모이기 전이면 Long.MAX_VALUE)
+     */
+    public long latencyTargetNanos() {
+        if (samples.length == 0) {
+            return latencyTargetNanos;
+        }
+        long measured = measuredTargetNanos;
+        return measured > 0 ? Math.max(latencyTargetNanos, measured) : Long.MAX_VALUE;
+    }
+
+    private void recordSample(long latencyNanos) {
+        if (samples.length == 0) {
+            return;
+        }
+        samples[sampleIndex] = latencyNanos;
+        sampleIndex = (sampleIndex + 1) % samples.length;
+        sampleCount++;
+        if (sampleCount >= minSamples && sampleCount % recomputeEvery == 0) {
+            long[] sorted = Arrays.copyOf(samples, Math.min(sampleCount, samples.length));
+            Arrays.sort(sorted);
+            int index = Math.max(0, (int) Math.ceil(latencyPercentile * sorted.length) - 1);
+            measuredTargetNanos = (long) (sorted[index] * latencyHeadroom);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int currentLimit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int waiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
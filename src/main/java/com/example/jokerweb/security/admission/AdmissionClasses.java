@@ -0,0 +1,72 @@
+package com.example.jokerweb.security.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * 요청 경로 → 동시 실행 제한 클래스 결정 (AdmissionProperties를 기동 시 한 번 limiter로 변환)
+ * 클래스별 한도/실행 중/대기 중 게이지와 거절 카운터를 admission.* 메트릭으로 노출한다.
+ */
+@Component
+public class AdmissionClasses {
+
+    public record Admission(AdaptiveConcurrencyLimiter limiter, List<String> patterns, long maxWaitNanos,
+                            long retryAfterSeconds, Counter queueFull, Counter timeout) {
+    }
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<Admission> admissions;
+
+    public AdmissionClasses(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.admissions = properties.getClasses().stream()
+                .map(endpointClass -> {
+                    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                            endpointClass.getName(),
+                            endpointClass.getInitialLimit(),
+                            endpointClass.getMinLimit(),
+                            endpointClass.getMaxLimit(),
+                            endpointClass.getMaxQueue(),
+                            endpointClass.getLatencyTarget().toNanos(),
+                            endpointClass.getBackoffRatio(),
+                            endpointClass.getLatencyWindow(),
+                            endpointClass.getLatencyPercentile(),
+                            endpointClass.getLatencyHeadroom());
+                    String name = endpointClass.getName();
+                    Gauge.builder("admission.limit", limiter, AdaptiveConcurrencyLimiter::currentLimit)
+                            .tag("class", name).register(meterRegistry);
+                    Gauge.builder("admission.inflight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                            .tag("class", name).register(meterRegistry);
+                    Gauge.builder("admission.queued", limiter, AdaptiveConcurrencyLimiter::waiting)
+                            .tag("class", name).register(meterRegistry);
+                    // 표본이 모이기 전(목표 없음)에는 NaN
+                    Gauge.builder("admission.latency.target", limiter, l -> l.latencyTargetNanos() == Long.MAX_VALUE
+                                    ? Double.NaN : l.latencyTargetNanos() / 1e9)
+                            .tag("class", name).baseUnit("seconds").register(meterRegistry);
+                    return new Admission(limiter,
+                            List.copyOf(endpointClass.getPatterns()),
+                            endpointClass.getMaxWait().toNanos(),
+                            Math.max(1, endpointClass.getRetryAfter().toSeconds()),
+                            meterRegistry.counter("admission.rejected", "class", name, "reason", "queue_full"),
+                            meterRegistry.counter("admission.rejected", "class", name, "reason", "timeout"));
+                })
+                .toList();
+    }
+
+    /**
+     * 경로가 속한 첫 번째 클래스, 제한 대상이 아니면 null
+     */
+    public Admission resolve(String path) {
+        for (Admission admission : admissions) {
+            for (String pattern : admission.patterns()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return admission;
+                }
+            }
+        }
+        return null;
+    }
+}
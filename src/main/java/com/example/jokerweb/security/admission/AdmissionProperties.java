@@ -0,0 +1,75 @@
+package com.example.jokerweb.security.admission;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 무거운 엔드포인트 동시 실행 제한 설정 (security.admission.*)
+ * classes에 해당하지 않는 요청(커뮤니티, 프로필 등)은 제한 없이 통과한다.
+ * 대기 중인 요청도 Tomcat 스레드를 잡고 있으므로 클래스별 max-limit + max-queue 합이
+ * server.tomcat.threads.max보다 충분히 작아야 가벼운 요청이 밀리지 않는다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "security.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+
+    private List<EndpointClass> classes = new ArrayList<>(List.of(
+            // 전적검색: 최근 200게임 상세를 넥슨 API에서 모음
+            new EndpointClass("match-history", List.of("/api/sa/matches/history"),
+                    3, 1, 5, 2, Duration.ofSeconds(1), Duration.ofSeconds(8), Duration.ofSeconds(5)),
+            // 맵/시간대/랭크전 분석, 플레이어 비교
+            new EndpointClass("player-analytics", List.of("/api/player/insights/**", "/api/player/compare"),
+                    3, 1, 5, 2, Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(5))
+    ));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class EndpointClass {
+        private String name;
+        /** Ant 스타일 경로 패턴 */
+        private List<String> patterns = new ArrayList<>();
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        /** 한도가 찼을 때 기다릴 수 있는 요청 수 */
+        private int maxQueue;
+        /** 대기열에서 기다리는 최대 시간 */
+        private Duration maxWait;
+        /** 최소 지연 목표 (측정 분포로 계산한 목표가 이보다 짧으면 이 값을 씀) */
+        private Duration latencyTarget;
+        /** 지연 목표 계산에 쓰는 최근 성공 응답 수 (0이면 latencyTarget을 고정 목표로 사용) */
+        private int latencyWindow = 200;
+        /** 지연 목표 백분위 */
+        private double latencyPercentile = 0.95;
+        /** 백분위 지연에 곱하는 여유 비율, 이 값을 넘긴 응답은 과부하 신호로 보고 한도를 줄임 */
+        private double latencyHeadroom = 1.5;
+        /** 거절 시 Retry-After 값 */
+        private Duration retryAfter;
+        /** 과부하 신호 시 한도에 곱하는 비율 */
+        private double backoffRatio = 0.8;
+
+        public EndpointClass(String name, List<String> patterns, int initialLimit, int minLimit, int maxLimit,
+                             int maxQueue, Duration maxWait, Duration latencyTarget, Duration retryAfter) {
+            this.name = name;
+            this.patterns = new ArrayList<>(patterns);
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.maxQueue = maxQueue;
+            this.maxWait = maxWait;
+            this.latencyTarget = latencyTarget;
+            this.retryAfter = retryAfter;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.jokerweb.security.bruteforce;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 어드민 무단 접근 감사 로그(admin_access_attempt) 배치 기록기
+ * 요청 스레드는 메모리 큐에 넣기만 하고, 주기마다 batch-size 단위 INSERT 배치로 반영한다.
+ * 이미 차단된 키의 반복 시도는 행으로 남기지 않고 건수만 세어 flush 때 로그로 요약한다.
+ * 큐가 가득 차면 새 행은 버리고 건수만 집계하므로 공격량과 상관없이 DB 쓰기는 주기당 큐 크기 이하로 제한된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdminAccessAuditWriter {
+
+    private static final String INSERT = """
+            INSERT INTO admin_access_attempt (client_ip, user_agent, request_path, has_auth, is_blocked, attempted_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final int MAX_USER_AGENT_LENGTH = 512;
+    private static final int MAX_PATH_LENGTH = 512;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AttackTrackingProperties properties;
+
+    record Row(String clientIp, String userAgent, String requestPath, boolean hasAuth, boolean blocked,
+               LocalDateTime attemptedAt) {
+    }
+
+    private final ConcurrentLinkedQueue<Row> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    /**
+     * 요청 스레드에서 호출: 큐에 넣기만 한다 (DB 접근 없음)
+     */
+    public void record(String clientIp, String userAgent, String requestPath, boolean hasAuth, boolean blocked) {
+        if (queued.incrementAndGet() > properties.getAuditQueueCapacity()) {
+            queued.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+        queue.add(new Row(clientIp, truncate(userAgent, MAX_USER_AGENT_LENGTH), truncate(requestPath, MAX_PATH_LENGTH),
+                hasAuth, blocked, LocalDateTime.now()));
+    }
+
+    /**
+     * 이미 차단된 상태에서의 반복 시도: 행 대신 건수만 센다
+     */
+    public void recordSuppressed() {
+        suppressed.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${security.admin-access.audit-flush-interval-ms:5000}",
+            initialDelayString = "${security.admin-access.audit-flush-interval-ms:5000}")
+    public void flush() {
+        long suppressedCount = suppressed.getAndSet(0);
+        long droppedCount = dropped.getAndSet(0);
+        if (suppressedCount > 0 || droppedCount > 0) {
+            log.warn("어드민 페이지 차단 후 반복 시도: {}건 (감사 로그 생략), 큐 초과로 버린 기록: {}건",
+                    suppressedCount, droppedCount);
+        }
+
+        int batchSize = Math.max(1, properties.getAuditBatchSize());
+        List<Object[]> rows = new ArrayList<>(Math.min(batchSize, queued.get()));
+        Row row;
+        while ((row = queue.poll()) != null) {
+            queued.decrementAndGet();
+            rows.add(new Object[]{row.clientIp(), row.userAgent(), row.requestPath(), row.hasAuth(), row.blocked(),
+                    Timestamp.valueOf(row.attemptedAt())});
+            if (rows.size() >= batchSize) {
+                write(rows);
+                rows = new ArrayList<>(batchSize);
+            }
+        }
+        if (!rows.isEmpty()) {
+            write(rows);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    int pendingSize() {
+        return queued.get();
+    }
+
+    private void write(List<Object[]> rows) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT, rows);
+            log.debug("어드민 접근 감사 로그 반영: {}건", rows.size());
+        } catch (Exception e) {
+            // 기록 실패해도 차단 판단은 메모리에서 하므로 이번 배치만 버리고 로그를 남김
+            log.warn("Failed to flush admin access attempts: size={}, error={}", rows.size(), e.getMessage());
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.jokerweb.security.bruteforce;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 어드민 페이지 무단 접근 추적 설정 (security.admin-access.*)
+ * IP/계정별 슬라이딩 윈도 시도 횟수가 max-attempts에 닿으면 차단하고, 감사 로그는 배치로 기록한다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "security.admin-access")
+public class AttackTrackingProperties {
+
+    /** 윈도 안에서 이 횟수째 시도부터 차단 */
+    private int maxAttempts = 2;
+
+    private Duration window = Duration.ofHours(1);
+
+    /**
+     * max-attempts가 이 값 이하면 키마다 최근 시도 시각(max-attempts+1개)을 보관해 정확히 센다.
+     * 더 크면 키당 상수 메모리인 슬라이딩 윈도 추정을 쓴다 (윈도 경계 부근에서 1회 안팎 과소 추정될 수 있음).
+     */
+    private int exactMaxAttempts = 20;
+
+    /** 로컬 저장소에 보관할 최대 키(IP/계정) 수 */
+    private int maxTrackedKeys = 100_000;
+
+    /** flush 전까지 쌓아 둘 감사 로그 최대 건수 (초과분은 버리고 집계만) */
+    private int auditQueueCapacity = 10_000;
+
+    private int auditBatchSize = 500;
+}
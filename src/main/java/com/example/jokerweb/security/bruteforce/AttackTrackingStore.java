@@ -0,0 +1,17 @@
+package com.example.jokerweb.security.bruteforce;
+
+import java.time.Duration;
+
+/**
+ * 무단 접근 시도 카운터 저장소
+ * 기본은 노드별 Caffeine 저장소(LocalAttackTrackingStore)이고, Redis 설정 시 노드 간 공유 저장소를 사용한다.
+ */
+public interface AttackTrackingStore {
+
+    /**
+     * key의 시도 1회를 기록하고 window 동안의 시도 횟수(이번 시도 포함)를 돌려준다
+     * maxAttempts가 exact-max-attempts 이하면 최근 maxAttempts+1개 시각으로 정확히 세고(그 이상은 maxAttempts+1로 포화),
+     * 그보다 크면 고정 윈도 2개로 추정한다.
+     */
+    double recordAttempt(String key, Duration window, int maxAttempts);
+}
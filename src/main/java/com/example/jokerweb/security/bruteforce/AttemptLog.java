@@ -0,0 +1,35 @@
+package com.example.jokerweb.security.bruteforce;
+
+/**
+ * 최근 시도 시각을 정해진 개수만큼 그대로 보관하는 카운터
+ * 임계치가 작을 때 SlidingWindowCounter 대신 쓴다. 근사하지 않으므로 윈도 경계를 사이에 둔 두 시도도
+ * (예: 윈도 1시간에서 12:59, 13:01) 정확히 2회로 센다. 보관 개수를 넘는 오래된 시각은 덮어쓴다.
+ */
+final class AttemptLog {
+
+    private final long[] times;
+    private int next;
+    private int size;
+
+    AttemptLog(int capacity) {
+        this.times = new long[capacity];
+    }
+
+    /**
+     * 시도 1회를 기록하고 window 안의 시도 횟수를 돌려준다 (최대 capacity)
+     */
+    synchronized int record(long nowMillis, long windowMillis) {
+        times[next] = nowMillis;
+        next = (next + 1) % times.length;
+        if (size < times.length) {
+            size++;
+        }
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (nowMillis - times[i] < windowMillis) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.jokerweb.security.bruteforce;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 로컬 시도 카운터 (Caffeine + AttemptLog/SlidingWindowCounter)
+ * 키 수는 max-tracked-keys로 제한되고, 윈도 2개 동안 시도가 없던 키는 횟수가 0이므로 만료시킨다.
+ * Redis 저장소가 장애일 때의 대체 저장소로도 쓰인다.
+ */
+@Component
+public class LocalAttackTrackingStore implements AttackTrackingStore {
+
+    private final int exactMaxAttempts;
+    private final LongSupplier clock;
+    private final Cache<String, AttemptLog> logs;
+    private final Cache<String, SlidingWindowCounter> counters;
+
+    @Autowired
+    public LocalAttackTrackingStore(AttackTrackingProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+
+    LocalAttackTrackingStore(AttackTrackingProperties properties, LongSupplier clock) {
+        this.exactMaxAttempts = properties.getExactMaxAttempts();
+        this.clock = clock;
+        this.logs = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedKeys())
+                .expireAfterAccess(properties.getWindow().multipliedBy(2))
+                .build();
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedKeys())
+                .expireAfterAccess(properties.getWindow().multipliedBy(2))
+                .build();
+    }
+
+    @Override
+    public double recordAttempt(String key, Duration window, int maxAttempts) {
+        long now = clock.getAsLong();
+        if (maxAttempts <= exactMaxAttempts) {
+            return logs.get(key, k -> new AttemptLog(maxAttempts + 1)).record(now, window.toMillis());
+        }
+        return counters.get(key, k -> new SlidingWindowCounter()).increment(now, window.toMillis());
+    }
+
+    long estimatedSize() {
+        logs.cleanUp();
+        counters.cleanUp();
+        return logs.estimatedSize() + counters.estimatedSize();
+    }
+}
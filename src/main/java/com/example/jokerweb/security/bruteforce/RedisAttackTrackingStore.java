@@ -0,0 +1,78 @@
+package com.example.jokerweb.security.bruteforce;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 시도 카운터 (spring.data.redis.host 설정 시 사용)
+ * 임계치가 작으면 키별 sorted set에 시도 시각을 최근 maxAttempts+1개까지 넣어 윈도 안의 개수를 정확히 세고,
+ * 크면 윈도 번호별 키에 INCR하고 직전 윈도 키를 함께 읽어 로컬 저장소와 같은 방식으로 추정한다. 둘 다 Lua로 원자 처리한다.
+ * 여러 서버 인스턴스에 나눠 들어오는 시도도 한 카운터로 합쳐진다.
+ * Redis 호출이 실패하면 요청을 막지 않도록 로컬 저장소로 대신 판단한다.
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.data.redis.host")
+public class RedisAttackTrackingStore implements AttackTrackingStore {
+
+    private static final String KEY_PREFIX = "attack:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('INCR', KEYS[1])
+            if current == 1 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            end
+            local previous = tonumber(redis.call('GET', KEYS[2]) or '0')
+            return {current, previous}
+            """, List.class);
+
+    // ARGV: 현재 시각, 만료 기준 시각(현재 - 윈도), 윈도(ms), 보관 개수, 멤버(같은 ms의 시도가 겹치지 않도록 난수 포함)
+    private static final RedisScript<Long> RECORD_EXACT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[2])
+            redis.call('ZADD', KEYS[1], ARGV[1], ARGV[5])
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[4]) + 1))
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return redis.call('ZCARD', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LocalAttackTrackingStore fallback;
+    private final AttackTrackingProperties properties;
+
+    @Override
+    public double recordAttempt(String key, Duration window, int maxAttempts) {
+        long windowMillis = window.toMillis();
+        long now = System.currentTimeMillis();
+        long index = now / windowMillis;
+        try {
+            if (maxAttempts <= properties.getExactMaxAttempts()) {
+                Long count = redisTemplate.execute(RECORD_EXACT_SCRIPT, List.of(KEY_PREFIX + key + ":log"),
+                        String.valueOf(now), String.valueOf(now - windowMillis), String.valueOf(windowMillis),
+                        String.valueOf(maxAttempts + 1),
+                        now + ":" + ThreadLocalRandom.current().nextLong());
+                return count != null ? count : 0;
+            }
+            List<?> reply = redisTemplate.execute(RECORD_SCRIPT,
+                    List.of(KEY_PREFIX + key + ":" + index, KEY_PREFIX + key + ":" + (index - 1)),
+                    String.valueOf(windowMillis * 2));
+            long current = ((Number) reply.get(0)).longValue();
+            long previous = ((Number) reply.get(1)).longValue();
+            return SlidingWindowCounter.estimate(previous, current, now, windowMillis);
+        } catch (Exception e) {
+            log.debug("Redis 시도 카운터 실패, 로컬 저장소 사용: {}", e.getMessage());
+            return fallback.recordAttempt(key, window, maxAttempts);
+        }
+    }
+}
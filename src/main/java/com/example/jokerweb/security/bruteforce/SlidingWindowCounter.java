@@ -0,0 +1,32 @@
+package com.example.jokerweb.security.bruteforce;
+
+/**
+ * 고정 윈도 2개로 근사하는 슬라이딩 윈도 카운터
+ * 현재 윈도 횟수 + 직전 윈도 횟수 × (직전 윈도가 슬라이딩 구간에 겹치는 비율)로 추정해 키당 상수 메모리만 쓴다.
+ * 윈도 경계는 epoch 기준으로 정렬하므로 Redis 저장소와 같은 윈도 번호를 쓴다.
+ */
+final class SlidingWindowCounter {
+
+    private long windowIndex = Long.MIN_VALUE;
+    private long current;
+    private long previous;
+
+    /**
+     * 시도 1회를 더하고 추정 횟수를 돌려준다
+     */
+    synchronized double increment(long nowMillis, long windowMillis) {
+        long index = nowMillis / windowMillis;
+        if (index != windowIndex) {
+            previous = index == windowIndex + 1 ? current : 0;
+            current = 0;
+            windowIndex = index;
+        }
+        current++;
+        return estimate(previous, current, nowMillis, windowMillis);
+    }
+
+    static double estimate(long previous, long current, long nowMillis, long windowMillis) {
+        double elapsed = (double) (nowMillis % windowMillis) / windowMillis;
+        return previous * (1.0 - elapsed) + current;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.jokerweb.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 로컬 Rate Limit 저장소 (Caffeine + Bucket4j)
+ * 버킷 수는 max-buckets로 제한되고, 정책 period 동안 접근이 없던 버킷은 어차피 가득 찬 상태이므로 만료시킨다.
+ * IP를 바꿔 가며 요청해도 메모리가 무한히 늘지 않는다.
+ * Redis 저장소가 장애일 때의 대체 저장소로도 쓰인다.
+ */
+@Component
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private record Entry(Bucket bucket, long ttlNanos) {
+    }
+
+    private final Cache<String, Entry> buckets;
+
+    public LocalRateLimitStore(RateLimitProperties properties) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttlNanos();
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public Result tryConsume(String clientKey, RateLimitPolicy policy) {
+        Entry entry = buckets.get(policy.name() + ":" + clientKey, key -> new Entry(
+                Bucket.builder()
+                        .addLimit(Bandwidth.builder()
+                                .capacity(policy.capacity())
+                                .refillIntervally(policy.capacity(), policy.period())
+                                .build())
+                        .build(),
+                policy.period().toNanos()));
+        ConsumptionProbe probe = entry.bucket().tryConsumeAndReturnRemaining(1);
+        if (probe.isConsumed()) {
+            return new Result(true, probe.getRemainingTokens(), 0);
+        }
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill() + 999_999_999L));
+        return new Result(false, 0, retryAfter);
+    }
+
+    long estimatedSize() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.jokerweb.security.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+/**
+ * 요청에 적용할 Rate Limit 정책 결정 (RateLimitProperties를 기동 시 한 번 정책 객체로 변환)
+ */
+@Component
+public class RateLimitPolicies {
+
+    private record RoutePolicy(String method, String pattern, RateLimitPolicy policy) {
+    }
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final RateLimitPolicy anonymous;
+    private final RateLimitPolicy authenticated;
+    private final List<RoutePolicy> routes;
+
+    public RateLimitPolicies(RateLimitProperties properties) {
+        this.anonymous = new RateLimitPolicy("anon",
+                properties.getAnonymous().getCapacity(), properties.getAnonymous().getPeriod());
+        this.authenticated = new RateLimitPolicy("auth",
+                properties.getAuthenticated().getCapacity(), properties.getAuthenticated().getPeriod());
+        this.routes = properties.getRoutes().stream()
+                .map(route -> new RoutePolicy(
+                        StringUtils.hasText(route.getMethod()) ? route.getMethod().toUpperCase() : null,
+                        route.getPattern(),
+                        new RateLimitPolicy("route-" + route.getName(), route.getCapacity(), route.getPeriod())))
+                .toList();
+    }
+
+    /**
+     * 경로별 정책(일치하는 첫 번째) → 등급별 정책 순서로 반환
+     */
+    public List<RateLimitPolicy> resolve(String method, String path, boolean isAuthenticated) {
+        List<RateLimitPolicy> policies = new ArrayList<>(2);
+        for (RoutePolicy route : routes) {
+            if ((route.method() == null || route.method().equalsIgnoreCase(method))
+                    && pathMatcher.match(route.pattern(), path)) {
+                policies.add(route.policy());
+                break;
+            }
+        }
+        policies.add(isAuthenticated ? authenticated : anonymous);
+        return policies;
+    }
+}
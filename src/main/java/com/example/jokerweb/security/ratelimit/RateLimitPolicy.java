@@ -0,0 +1,17 @@
+package com.example.jokerweb.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 토큰 버킷 정책: period마다 capacity개가 한꺼번에 다시 채워진다
+ *
+ * @param name 저장소 키 접두어로 쓰이는 정책 이름
+ */
+public record RateLimitPolicy(String name, int capacity, Duration period) {
+
+    public RateLimitPolicy {
+        if (name == null || name.isBlank() || capacity <= 0 || period == null || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("올바르지 않은 Rate Limit 정책입니다: " + name);
+        }
+    }
+}
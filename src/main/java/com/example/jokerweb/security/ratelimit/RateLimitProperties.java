@@ -0,0 +1,77 @@
+package com.example.jokerweb.security.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Rate Limit 정책 설정 (security.rate-limit.*)
+ * 모든 요청에 익명/인증 등급별 한도가 적용되고, routes에 해당하는 요청은 경로별 한도가 추가로 적용된다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** 로컬 저장소에 보관할 최대 버킷 수 */
+    private int maxBuckets = 100_000;
+
+    /** 익명 사용자: 분당 100회 */
+    private Limit anonymous = new Limit(100, Duration.ofMinutes(1));
+
+    /** 인증 사용자: 분당 500회 */
+    private Limit authenticated = new Limit(500, Duration.ofMinutes(1));
+
+    private List<Route> routes = new ArrayList<>(List.of(
+            // 회원가입: IP당 1시간에 5회
+            new Route("register", "POST", "/api/auth/register", 5, Duration.ofHours(1)),
+            // 로그인: IP당 분당 20회
+            new Route("login", "POST", "/api/auth/login", 20, Duration.ofMinutes(1)),
+            // 가입 폼 중복 확인(입력마다 호출): IP당 분당 60회
+            new Route("availability", "GET", "/api/auth/check-*", 60, Duration.ofMinutes(1)),
+            // 관리자 API: IP당 분당 120회
+            new Route("admin", null, "/api/admin/**", 120, Duration.ofMinutes(1))
+    ));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Limit {
+        private int capacity;
+        private Duration period;
+
+        public Limit(int capacity, Duration period) {
+            this.capacity = capacity;
+            this.period = period;
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Route {
+        private String name;
+        /** 비어 있으면 모든 메서드 */
+        private String method;
+        /** Ant 스타일 경로 패턴 */
+        private String pattern;
+        private int capacity;
+        private Duration period;
+
+        public Route(String name, String method, String pattern, int capacity, Duration period) {
+            this.name = name;
+            this.method = method;
+            this.pattern = pattern;
+            this.capacity = capacity;
+            this.period = period;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.jokerweb.security.ratelimit;
+
+/**
+ * Rate Limit 버킷 저장소
+ * 기본은 노드별 Caffeine 저장소(LocalRateLimitStore)이고, Redis 설정 시 노드 간 공유 저장소를 사용한다.
+ */
+public interface RateLimitStore {
+
+    /**
+     * clientKey의 policy 버킷에서 토큰 1개 소비
+     */
+    Result tryConsume(String clientKey, RateLimitPolicy policy);
+
+    /**
+     * @param retryAfterSeconds 거부된 경우 다음 충전까지 남은 초 (허용 시 0)
+     */
+    record Result(boolean allowed, long remaining, long retryAfterSeconds) {
+    }
+}
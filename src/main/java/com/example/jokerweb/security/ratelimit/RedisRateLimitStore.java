@@ -0,0 +1,61 @@
+package com.example.jokerweb.security.ratelimit;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Rate Limit 저장소 (spring.data.redis.host 설정 시 사용)
+ * 여러 서버 인스턴스가 같은 버킷을 공유해 스케일 아웃해도 한도가 늘어나지 않는다.
+ * LocalRateLimitStore와 같은 "period마다 한꺼번에 충전" 의미를 첫 요청 시점부터 시작하는
+ * 고정 윈도 카운터(INCR + PEXPIRE, Lua로 원자 처리)로 구현한다.
+ * Redis 호출이 실패하면 요청을 막지 않도록 로컬 저장소로 대신 판단한다.
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.data.redis.host")
+public class RedisRateLimitStore implements RateLimitStore {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CONSUME_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('INCR', KEYS[1])
+            local ttl = redis.call('PTTL', KEYS[1])
+            if current == 1 or ttl < 0 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[1])
+                ttl = tonumber(ARGV[1])
+            end
+            return {current, ttl}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LocalRateLimitStore fallback;
+
+    @Override
+    public Result tryConsume(String clientKey, RateLimitPolicy policy) {
+        try {
+            List<?> reply = redisTemplate.execute(CONSUME_SCRIPT,
+                    List.of(KEY_PREFIX + policy.name() + ":" + clientKey),
+                    String.valueOf(policy.period().toMillis()));
+            long current = ((Number) reply.get(0)).longValue();
+            long ttlMillis = ((Number) reply.get(1)).longValue();
+            if (current <= policy.capacity()) {
+                return new Result(true, policy.capacity() - current, 0);
+            }
+            return new Result(false, 0, Math.max(1, (ttlMillis + 999) / 1000));
+        } catch (Exception e) {
+            // Redis 장애 시 로그 폭주를 막기 위해 debug로만 남기고 로컬 버킷으로 판단
+            log.debug("Redis rate limit 실패, 로컬 저장소 사용: {}", e.getMessage());
+            return fallback.tryConsume(clientKey, policy);
+        }
+    }
+}
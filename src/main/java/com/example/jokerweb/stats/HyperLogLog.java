@@ -0,0 +1,140 @@
+package com.example.jokerweb.stats;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 고유 방문자 수 추정용 HyperLogLog 스케치
+ * 2^precision 바이트 레지스터만으로 중복 제거 개수를 추정한다 (precision 12 → 4KB, 표준오차 약 1.6%).
+ * 스케치끼리 merge하면 기간 합집합의 추정치가 되므로 시간/일 단위로 저장해 두고 조회 시 합친다.
+ * 스레드 안전하지 않으므로 공유 시 호출자가 동기화해야 한다.
+ */
+public final class HyperLogLog {
+
+    public static final int DEFAULT_PRECISION = 12;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("precision은 4~16 사이여야 합니다.");
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.precision = Integer.numberOfTrailingZeros(registers.length);
+        this.registers = registers;
+    }
+
+    /**
+     * toBytes()로 저장한 레지스터 복원
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length < 16 || Integer.bitCount(bytes.length) != 1 || bytes.length > (1 << 16)) {
+            throw new IllegalArgumentException("올바르지 않은 HyperLogLog 레지스터입니다.");
+        }
+        return new HyperLogLog(bytes.clone());
+    }
+
+    public void offer(String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        long hash = hash64(value.getBytes(StandardCharsets.UTF_8));
+        int index = (int) (hash >>> (64 - precision));
+        // 인덱스로 쓴 상위 비트를 제외한 나머지에서 선행 0 개수 + 1 (센티널 비트로 최대값 제한)
+        long rest = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("precision이 다른 스케치는 합칠 수 없습니다.");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha = switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+        double estimate = alpha * m * m / sum;
+        // 작은 범위는 linear counting이 더 정확하다
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public boolean isEmpty() {
+        for (byte register : registers) {
+            if (register != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public byte[] toBytes() {
+        return registers.clone();
+    }
+
+    public HyperLogLog copy() {
+        return new HyperLogLog(registers.clone());
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    // FNV-1a 64비트 + MurmurHash3 fmix64 (짧은 IP 문자열도 상위 비트가 고르게 퍼지도록)
+    private static long hash64(byte[] bytes) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof HyperLogLog other && Arrays.equals(registers, other.registers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(registers);
+    }
+}
@@ -1,8 +1,6 @@
 package com.example.jokerweb.stats;
 
 import com.example.jokerweb.community.BarracksReportRepository;
-import com.example.jokerweb.logging.AccessLogRepository;
-import com.example.jokerweb.member.MemberRepository;
 import com.example.jokerweb.stats.dto.PublicStatsResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,28 +8,26 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PublicStatsService {
 
-    private final MemberRepository memberRepository;
-    private final AccessLogRepository accessLogRepository;
+    private final TrafficRollupService trafficRollupService;
     private final BarracksReportRepository barracksReportRepository;
 
     public PublicStatsResponse getPublicStats() {
         try {
-            // 오늘의 시작과 끝 시간
+            // 오늘의 시작과 끝 시간 (일 단위 롤업 버킷)
             LocalDate today = LocalDate.now();
             LocalDateTime todayStart = today.atStartOfDay();
-            LocalDateTime todayEnd = today.atTime(LocalTime.MAX);
+            LocalDateTime todayEnd = today.plusDays(1).atStartOfDay();
 
             // 오늘 가입자 수
             long todaySignups = 0;
             try {
-                todaySignups = memberRepository.countByCreatedAtBetween(todayStart, todayEnd);
+                todaySignups = trafficRollupService.sum(TrafficMetric.SIGNUP, TrafficGranularity.DAY, todayStart, todayEnd);
             } catch (Exception e) {
                 log.warn("오늘 가입자 수 조회 실패: {}", e.getMessage());
             }
@@ -39,15 +35,15 @@ public class PublicStatsService {
             // 오늘 방문수 (occurredAt 기준)
             long todayVisits = 0;
             try {
-                todayVisits = accessLogRepository.countByOccurredAtBetween(todayStart, todayEnd);
+                todayVisits = trafficRollupService.sum(TrafficMetric.PAGE_VIEW, TrafficGranularity.DAY, todayStart, todayEnd);
             } catch (Exception e) {
                 log.warn("오늘 방문수 조회 실패: {}", e.getMessage());
             }
 
-            // 총 방문수 (누적)
+            // 총 방문수 (누적, 접속 로그 보관 기간과 무관하게 일 단위 롤업 합계)
             long totalVisits = 0;
             try {
-                totalVisits = accessLogRepository.count();
+                totalVisits = trafficRollupService.total(TrafficMetric.PAGE_VIEW);
             } catch (Exception e) {
                 log.warn("총 방문수 조회 실패: {}", e.getMessage());
             }
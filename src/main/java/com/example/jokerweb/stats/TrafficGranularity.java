@@ -0,0 +1,34 @@
+package com.example.jokerweb.stats;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 롤업 버킷 단위와 보관 기간 (DAY는 누적 통계용으로 삭제하지 않는다)
+ */
+public enum TrafficGranularity {
+    MINUTE(ChronoUnit.MINUTES, 2),
+    HOUR(ChronoUnit.HOURS, 90),
+    DAY(ChronoUnit.DAYS, 0);
+
+    private final ChronoUnit unit;
+    private final int retentionDays;
+
+    TrafficGranularity(ChronoUnit unit, int retentionDays) {
+        this.unit = unit;
+        this.retentionDays = retentionDays;
+    }
+
+    public LocalDateTime bucketOf(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public LocalDateTime next(LocalDateTime bucket) {
+        return bucket.plus(1, unit);
+    }
+
+    /** 0이면 영구 보관 */
+    public int retentionDays() {
+        return retentionDays;
+    }
+}
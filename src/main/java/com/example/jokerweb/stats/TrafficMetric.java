@@ -0,0 +1,22 @@
+package com.example.jokerweb.stats;
+
+/**
+ * 시간대별 롤업으로 집계하는 카운터 종류 (traffic_rollup.metric 값)
+ */
+public enum TrafficMetric {
+    PAGE_VIEW("pv"),
+    SIGNUP("signup"),
+    POST("post"),
+    COMMENT("comment"),
+    REPORT("report");
+
+    private final String code;
+
+    TrafficMetric(String code) {
+        this.code = code;
+    }
+
+    public String code() {
+        return code;
+    }
+}
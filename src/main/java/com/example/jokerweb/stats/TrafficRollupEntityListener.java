@@ -0,0 +1,37 @@
+package com.example.jokerweb.stats;
+
+import com.example.jokerweb.community.BarracksReport;
+import com.example.jokerweb.community.Comment;
+import com.example.jokerweb.community.Post;
+import com.example.jokerweb.member.Member;
+import jakarta.persistence.PostPersist;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 가입/게시글/댓글/신고 저장 시 롤업 카운터 증가
+ * Hibernate가 Spring 빈 컨테이너로 생성하므로 생성자 주입을 받을 수 있다.
+ * 저장 직후(커밋 전) 호출되므로 롤백된 건도 집계될 수 있지만 통계 용도로는 허용한다.
+ */
+public class TrafficRollupEntityListener {
+
+    private final ObjectProvider<TrafficRollupService> trafficRollupService;
+
+    public TrafficRollupEntityListener(ObjectProvider<TrafficRollupService> trafficRollupService) {
+        this.trafficRollupService = trafficRollupService;
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        TrafficMetric metric = switch (entity) {
+            case Member member -> TrafficMetric.SIGNUP;
+            case Post post -> TrafficMetric.POST;
+            case Comment comment -> TrafficMetric.COMMENT;
+            case BarracksReport report -> TrafficMetric.REPORT;
+            default -> null;
+        };
+        if (metric != null) {
+            trafficRollupService.ifAvailable(service -> service.increment(metric, LocalDateTime.now()));
+        }
+    }
+}
@@ -0,0 +1,489 @@
+package com.example.jokerweb.stats;
+
+import com.example.jokerweb.logging.AccessLogEntry;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * 트래픽/활동 통계 롤업 서비스
+ * 접속 로그 드레이너와 엔티티 저장 이벤트가 메모리 카운터/HyperLogLog에 증분을 쌓고,
+ * flush-interval-ms마다 traffic_rollup(분/시간/일 카운터)과 traffic_unique_sketch(시간/일 UV)에 반영한다.
+ * 대시보드와 공개 통계는 원본 테이블 대신 이 롤업(최대 수백 행)과 아직 반영되지 않은 메모리 증분을 합쳐 읽는다.
+ * flush 중인 배치는 커밋될 때까지 inFlight로 조회에 포함된다. 배치 교체와 커밋~inFlight 해제 구간은 publishSeq를
+ * 홀수로 두어, 그 구간과 겹친 조회는 다시 읽는다 (DB 쓰기 동안 조회를 막지 않는다).
+ * 롤업 테이블이 비어 있는 첫 기동 시에는 원본 테이블에서 backfill-days만큼 1회 채운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrafficRollupService {
+
+    /**
+     * 고유값 스케치 종류 (traffic_unique_sketch.kind 값)
+     */
+    public enum UniqueKind {
+        VISITOR("ip"),
+        MEMBER("member");
+
+        private final String code;
+
+        UniqueKind(String code) {
+            this.code = code;
+        }
+
+        public String code() {
+            return code;
+        }
+    }
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final String BACKFILL_MARKER = "_backfill";
+    private static final String NO_CONSENT_IP = "0.0.0.0";
+    private static final int MAX_READ_ATTEMPTS = 20;
+    private static final long READ_RETRY_NANOS = 1_000_000L;
+
+    private static final String UPSERT_COUNTER = """
+            INSERT INTO traffic_rollup (granularity, bucket_start, metric, value) VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE value = value + VALUES(value)
+            """;
+    private static final String SELECT_SKETCH_FOR_UPDATE = """
+            SELECT registers FROM traffic_unique_sketch
+            WHERE granularity = ? AND kind = ? AND bucket_start = ? FOR UPDATE
+            """;
+    private static final String UPSERT_SKETCH = """
+            INSERT INTO traffic_unique_sketch (granularity, bucket_start, kind, registers) VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE registers = VALUES(registers)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${stats.rollup.backfill-days:30}")
+    private int backfillDays;
+
+    // 이 시각 이전 데이터는 backfill, 이후는 실시간 증분으로 집계해 중복을 막는다
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private final AtomicReference<Pending> pending = new AtomicReference<>(new Pending());
+    // DB에 쓰는 중인 배치 (커밋 전까지 조회에 포함)
+    private volatile Pending inFlight = new Pending();
+
+    // 기록 스레드는 읽기 락, 배치 교체는 쓰기 락 (교체 후 이전 배치에 늦게 도착하는 증분 방지)
+    private final ReadWriteLock recordLock = new ReentrantReadWriteLock();
+    // 홀수면 배치가 pending → inFlight → DB로 옮겨지는 중 (flush 스레드만 변경)
+    private final AtomicLong publishSeq = new AtomicLong();
+
+    private record CounterKey(TrafficGranularity granularity, LocalDateTime bucket, TrafficMetric metric) {
+    }
+
+    private record SketchKey(TrafficGranularity granularity, LocalDateTime bucket, UniqueKind kind) {
+    }
+
+    private static final class Pending {
+        final Map<CounterKey, AtomicLong> counters = new ConcurrentHashMap<>();
+        final Map<SketchKey, HyperLogLog> sketches = new ConcurrentHashMap<>();
+
+        void add(TrafficMetric metric, LocalDateTime at, long delta) {
+            for (TrafficGranularity granularity : TrafficGranularity.values()) {
+                addBucket(granularity, granularity.bucketOf(at), metric, delta);
+            }
+        }
+
+        void addBucket(TrafficGranularity granularity, LocalDateTime bucket, TrafficMetric metric, long delta) {
+            counters.computeIfAbsent(new CounterKey(granularity, bucket, metric), k -> new AtomicLong())
+                    .addAndGet(delta);
+        }
+
+        // 분 단위 UV는 보관하지 않는다 (스케치 1개가 4KB)
+        void offer(UniqueKind kind, LocalDateTime at, String value) {
+            offerBucket(TrafficGranularity.HOUR, TrafficGranularity.HOUR.bucketOf(at), kind, value);
+            offerBucket(TrafficGranularity.DAY, TrafficGranularity.DAY.bucketOf(at), kind, value);
+        }
+
+        void offerBucket(TrafficGranularity granularity, LocalDateTime bucket, UniqueKind kind, String value) {
+            HyperLogLog sketch = sketches.computeIfAbsent(new SketchKey(granularity, bucket, kind), k -> new HyperLogLog());
+            synchronized (sketch) {
+                sketch.offer(value);
+            }
+        }
+
+        void mergeSketch(SketchKey key, HyperLogLog other) {
+            HyperLogLog sketch = sketches.computeIfAbsent(key, k -> new HyperLogLog());
+            synchronized (sketch) {
+                sketch.merge(other);
+            }
+        }
+
+        boolean isEmpty() {
+            return counters.isEmpty() && sketches.isEmpty();
+        }
+    }
+
+    /**
+     * 게시글/댓글/가입/신고 등 도메인 이벤트 1건 반영
+     */
+    public void increment(TrafficMetric metric, LocalDateTime at) {
+        recordLock.readLock().lock();
+        try {
+            pending.get().add(metric, at != null ? at : LocalDateTime.now(), 1);
+        } finally {
+            recordLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 접속 로그 배치 반영 (AccessLogPipeline 드레이너 스레드에서 호출)
+     */
+    public void recordAccess(List<AccessLogEntry> entries) {
+        recordLock.readLock().lock();
+        try {
+            Pending target = pending.get();
+            for (AccessLogEntry entry : entries) {
+                LocalDateTime at = entry.occurredAt();
+                target.add(TrafficMetric.PAGE_VIEW, at, 1);
+                // 쿠키 동의가 없으면 IP가 수집되지 않으므로 UV에서 제외
+                if (StringUtils.hasText(entry.clientIp()) && !NO_CONSENT_IP.equals(entry.clientIp())) {
+                    target.offer(UniqueKind.VISITOR, at, entry.clientIp());
+                }
+                if (entry.memberId() != null) {
+                    target.offer(UniqueKind.MEMBER, at, entry.memberId().toString());
+                }
+            }
+        } finally {
+            recordLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * [from, to) 구간 합계
+     */
+    public long sum(TrafficMetric metric, TrafficGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        return readConsistent(() -> {
+            Long stored = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(SUM(value), 0) FROM traffic_rollup "
+                            + "WHERE granularity = ? AND metric = ? AND bucket_start >= ? AND bucket_start < ?",
+                    Long.class, granularity.name(), metric.code(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+            long total = stored != null ? stored : 0L;
+            for (Pending batch : List.of(inFlight, pending.get())) {
+                for (Map.Entry<CounterKey, AtomicLong> e : batch.counters.entrySet()) {
+                    CounterKey key = e.getKey();
+                    if (key.granularity() == granularity && key.metric() == metric
+                            && !key.bucket().isBefore(from) && key.bucket().isBefore(to)) {
+                        total += e.getValue().get();
+                    }
+                }
+            }
+            return total;
+        });
+    }
+
+    /**
+     * 일 단위 누적 합계 (전체 기간)
+     */
+    public long total(TrafficMetric metric) {
+        return sum(metric, TrafficGranularity.DAY, EPOCH, LocalDateTime.now().plusDays(1));
+    }
+
+    /**
+     * [from, to) 구간의 버킷별 값 (값이 없는 버킷은 0)
+     */
+    public Map<LocalDateTime, Long> series(TrafficMetric metric, TrafficGranularity granularity,
+                                           LocalDateTime from, LocalDateTime to) {
+        return readConsistent(() -> {
+            Map<LocalDateTime, Long> series = new LinkedHashMap<>();
+            for (LocalDateTime bucket = granularity.bucketOf(from); bucket.isBefore(to); bucket = granularity.next(bucket)) {
+                series.put(bucket, 0L);
+            }
+            jdbcTemplate.query(
+                    "SELECT bucket_start, value FROM traffic_rollup "
+                            + "WHERE granularity = ? AND metric = ? AND bucket_start >= ? AND bucket_start < ?",
+                    rs -> {
+                        long value = rs.getLong(2);
+                        series.computeIfPresent(rs.getTimestamp(1).toLocalDateTime(), (k, v) -> v + value);
+                    },
+                    granularity.name(), metric.code(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+            for (Pending batch : List.of(inFlight, pending.get())) {
+                for (Map.Entry<CounterKey, AtomicLong> e : batch.counters.entrySet()) {
+                    CounterKey key = e.getKey();
+                    if (key.granularity() == granularity && key.metric() == metric) {
+                        series.computeIfPresent(key.bucket(), (k, v) -> v + e.getValue().get());
+                    }
+                }
+            }
+            return series;
+        });
+    }
+
+    /**
+     * [from, to) 구간 고유 방문자/회원 추정치 (버킷 스케치 합집합)
+     */
+    public long uniques(UniqueKind kind, TrafficGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        return readConsistent(() -> {
+            HyperLogLog union = new HyperLogLog();
+            jdbcTemplate.query(
+                    "SELECT registers FROM traffic_unique_sketch "
+                            + "WHERE granularity = ? AND kind = ? AND bucket_start >= ? AND bucket_start < ?",
+                    rs -> {
+                        union.merge(HyperLogLog.fromBytes(rs.getBytes(1)));
+                    },
+                    granularity.name(), kind.code(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+            for (Pending batch : List.of(inFlight, pending.get())) {
+                for (Map.Entry<SketchKey, HyperLogLog> e : batch.sketches.entrySet()) {
+                    SketchKey key = e.getKey();
+                    if (key.granularity() == granularity && key.kind() == kind
+                            && !key.bucket().isBefore(from) && key.bucket().isBefore(to)) {
+                        synchronized (e.getValue()) {
+                            union.merge(e.getValue());
+                        }
+                    }
+                }
+            }
+            return union.estimate();
+        });
+    }
+
+    // DB와 메모리를 읽는 동안 배치 이동(publishSeq 변경)이 겹치면 다시 읽는다 (이동 구간은 커밋 1회 정도로 짧다)
+    private <T> T readConsistent(Supplier<T> read) {
+        for (int attempt = 1; ; attempt++) {
+            long seq = publishSeq.get();
+            if ((seq & 1) == 0 || attempt >= MAX_READ_ATTEMPTS) {
+                T value = read.get();
+                if (publishSeq.get() == seq || attempt >= MAX_READ_ATTEMPTS) {
+                    return value;
+                }
+            } else {
+                LockSupport.parkNanos(READ_RETRY_NANOS);
+            }
+        }
+    }
+
+    /**
+     * 메모리에 쌓인 증분을 DB에 반영 (실패 시 다음 주기에 다시 시도)
+     */
+    @Scheduled(fixedDelayString = "${stats.rollup.flush-interval-ms:60000}",
+            initialDelayString = "${stats.rollup.flush-interval-ms:60000}")
+    public void flush() {
+        Pending batch;
+        startPublish();
+        recordLock.writeLock().lock();
+        try {
+            // 쓰기 락을 얻은 시점에는 이전 배치에 증분을 쌓던 기록 스레드가 모두 끝나 있다
+            batch = pending.getAndSet(new Pending());
+            inFlight = batch;
+        } finally {
+            recordLock.writeLock().unlock();
+            finishPublish();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        // 트랜잭션으로 써야 일부 행만 커밋된 채 실패했을 때 배치 전체를 되돌려도 이중 집계되지 않는다
+        commitInFlight(() -> writeCounters(batch),
+                () -> batch.counters.forEach((key, value) ->
+                        pending.get().addBucket(key.granularity(), key.bucket(), key.metric(), value.get())),
+                batch.counters::clear,
+                "트래픽 롤업 카운터 반영 실패 (다음 주기에 재시도): {}");
+        commitInFlight(() -> writeSketches(batch),
+                () -> batch.sketches.forEach((key, sketch) -> pending.get().mergeSketch(key, sketch)),
+                batch.sketches::clear,
+                "고유 방문자 스케치 반영 실패 (다음 주기에 재시도): {}");
+    }
+
+    /**
+     * inFlight 일부(카운터 또는 스케치)를 한 트랜잭션으로 쓰고 해제한다.
+     * 커밋 직전부터 해제(실패 시 pending으로 되돌린 뒤 해제)까지를 publishSeq 홀수 구간으로 표시한다.
+     */
+    private void commitInFlight(Runnable write, Runnable requeue, Runnable release, String failureMessage) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                write.run();
+                startPublish();
+            });
+        } catch (Exception e) {
+            log.warn(failureMessage, e.getMessage());
+            startPublish();
+            recordLock.readLock().lock();
+            try {
+                requeue.run();
+            } finally {
+                recordLock.readLock().unlock();
+            }
+        } finally {
+            release.run();
+            finishPublish();
+        }
+    }
+
+    private void startPublish() {
+        if ((publishSeq.get() & 1) == 0) {
+            publishSeq.incrementAndGet();
+        }
+    }
+
+    private void finishPublish() {
+        if ((publishSeq.get() & 1) == 1) {
+            publishSeq.incrementAndGet();
+        }
+    }
+
+    private void writeCounters(Pending batch) {
+        List<Object[]> rows = new ArrayList<>(batch.counters.size());
+        batch.counters.forEach((key, value) -> {
+            long delta = value.get();
+            if (delta != 0) {
+                rows.add(new Object[]{key.granularity().name(), Timestamp.valueOf(key.bucket()), key.metric().code(), delta});
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_COUNTER, rows);
+        }
+    }
+
+    // 여러 인스턴스가 같은 버킷을 갱신할 수 있으므로 행 잠금 후 레지스터를 합쳐서 저장
+    private void writeSketches(Pending batch) {
+        if (batch.sketches.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> batch.sketches.forEach((key, sketch) -> {
+            HyperLogLog merged;
+            synchronized (sketch) {
+                merged = sketch.copy();
+            }
+            Timestamp bucket = Timestamp.valueOf(key.bucket());
+            List<byte[]> stored = jdbcTemplate.query(SELECT_SKETCH_FOR_UPDATE, (rs, i) -> rs.getBytes(1),
+                    key.granularity().name(), key.kind().code(), bucket);
+            if (!stored.isEmpty()) {
+                merged.merge(HyperLogLog.fromBytes(stored.get(0)));
+            }
+            jdbcTemplate.update(UPSERT_SKETCH, key.granularity().name(), bucket, key.kind().code(), merged.toBytes());
+        }));
+    }
+
+    /**
+     * 보관 기간이 지난 분/시간 버킷 삭제 (매일 새벽 4시 20분)
+     */
+    @Scheduled(cron = "0 20 4 * * *")
+    public void deleteExpiredBuckets() {
+        for (TrafficGranularity granularity : TrafficGranularity.values()) {
+            if (granularity.retentionDays() <= 0) {
+                continue;
+            }
+            Timestamp threshold = Timestamp.valueOf(LocalDateTime.now().minusDays(granularity.retentionDays()));
+            try {
+                int counters = jdbcTemplate.update(
+                        "DELETE FROM traffic_rollup WHERE granularity = ? AND bucket_start < ?", granularity.name(), threshold);
+                int sketches = jdbcTemplate.update(
+                        "DELETE FROM traffic_unique_sketch WHERE granularity = ? AND bucket_start < ?", granularity.name(), threshold);
+                log.info("트래픽 롤업 정리: granularity={}, counters={}, sketches={}", granularity, counters, sketches);
+            } catch (Exception e) {
+                log.warn("트래픽 롤업 정리 실패: granularity={}, error={}", granularity, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 첫 기동 시 원본 테이블에서 최근 backfill-days 롤업 생성 (마커 행으로 인스턴스 간 1회만 실행)
+     */
+    @Async("aggregationExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnce() {
+        try {
+            int claimed = jdbcTemplate.update(
+                    "INSERT IGNORE INTO traffic_rollup (granularity, bucket_start, metric, value) VALUES (?, ?, ?, 0)",
+                    TrafficGranularity.DAY.name(), Timestamp.valueOf(EPOCH), BACKFILL_MARKER);
+            if (claimed == 0) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("트래픽 롤업 초기 집계 마커 확보 실패: {}", e.getMessage());
+            return;
+        }
+        try {
+            LocalDateTime from = TrafficGranularity.DAY.bucketOf(startedAt.minusDays(backfillDays));
+            backfill(from, startedAt);
+        } catch (Exception e) {
+            log.warn("트래픽 롤업 초기 집계 실패 (마커 해제, 다음 기동 시 재시도): {}", e.getMessage());
+            releaseBackfillMarker();
+        }
+    }
+
+    private void releaseBackfillMarker() {
+        try {
+            jdbcTemplate.update("DELETE FROM traffic_rollup WHERE granularity = ? AND bucket_start = ? AND metric = ?",
+                    TrafficGranularity.DAY.name(), Timestamp.valueOf(EPOCH), BACKFILL_MARKER);
+        } catch (Exception e) {
+            log.warn("트래픽 롤업 초기 집계 마커 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    private void backfill(LocalDateTime from, LocalDateTime to) {
+        long started = System.currentTimeMillis();
+        Pending batch = new Pending();
+        backfillCounter(batch, TrafficMetric.PAGE_VIEW, "access_log", "occurred_at", from, to);
+        backfillCounter(batch, TrafficMetric.SIGNUP, "member", "created_at", from, to);
+        backfillCounter(batch, TrafficMetric.POST, "post", "created_at", from, to);
+        backfillCounter(batch, TrafficMetric.COMMENT, "comment", "created_at", from, to);
+        backfillCounter(batch, TrafficMetric.REPORT, "barracks_report", "created_at", from, to);
+        backfillUniques(batch, UniqueKind.VISITOR, "client_ip", "client_ip <> '" + NO_CONSENT_IP + "'", from, to);
+        backfillUniques(batch, UniqueKind.MEMBER, "member_id", "member_id IS NOT NULL", from, to);
+        // 카운터만 반영된 채 실패하면 마커 해제 후 재실행 시 이중 집계되므로 한 트랜잭션으로 쓴다
+        transactionTemplate.executeWithoutResult(status -> {
+            writeCounters(batch);
+            writeSketches(batch);
+        });
+        log.info("트래픽 롤업 초기 집계 완료: from={}, counters={}, sketches={}, {}ms",
+                from, batch.counters.size(), batch.sketches.size(), System.currentTimeMillis() - started);
+    }
+
+    // 분 단위는 보관 기간이 짧아 시간/일 단위만 채운다
+    private void backfillCounter(Pending batch, TrafficMetric metric, String table, String column,
+                                 LocalDateTime from, LocalDateTime to) {
+        jdbcTemplate.query(
+                "SELECT DATE_FORMAT(" + column + ", '%Y-%m-%d %H:00:00') AS bucket, COUNT(*) FROM " + table
+                        + " WHERE " + column + " >= ? AND " + column + " < ? GROUP BY bucket",
+                rs -> {
+                    LocalDateTime hour = parseBucket(rs.getString(1));
+                    long count = rs.getLong(2);
+                    batch.addBucket(TrafficGranularity.HOUR, hour, metric, count);
+                    batch.addBucket(TrafficGranularity.DAY, TrafficGranularity.DAY.bucketOf(hour), metric, count);
+                },
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    private void backfillUniques(Pending batch, UniqueKind kind, String column, String condition,
+                                 LocalDateTime from, LocalDateTime to) {
+        jdbcTemplate.query(
+                "SELECT DISTINCT DATE_FORMAT(occurred_at, '%Y-%m-%d %H:00:00'), " + column + " FROM access_log"
+                        + " WHERE occurred_at >= ? AND occurred_at < ? AND " + condition,
+                rs -> {
+                    batch.offer(kind, parseBucket(rs.getString(1)), rs.getString(2));
+                },
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    private static LocalDateTime parseBucket(String value) {
+        return LocalDateTime.parse(value.replace(' ', 'T'));
+    }
+}
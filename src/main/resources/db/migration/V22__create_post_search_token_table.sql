@@ -0,0 +1,15 @@
+-- 게시글 검색용 n-gram 역색인 테이블
+-- MariaDB FULLTEXT는 ngram 파서를 지원하지 않아 한글 부분 일치 검색이 불가능하므로
+-- 애플리케이션에서 제목/본문/작성자 닉네임을 2-gram으로 분해해 저장한다.
+-- (PostSearchService가 게시글 작성/수정/삭제 시 동기화)
+
+CREATE TABLE IF NOT EXISTS post_search_token (
+    token VARCHAR(4) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL COMMENT '정규화된 2-gram 토큰',
+    post_id BIGINT NOT NULL COMMENT '게시글 ID',
+    category VARCHAR(32) NOT NULL COMMENT '게시글 카테고리 (카테고리 필터용 비정규화 컬럼)',
+    weight SMALLINT NOT NULL COMMENT '랭킹 가중치 (제목 > 닉네임 > 본문 출현 빈도)',
+    PRIMARY KEY (token, post_id),
+    INDEX idx_post_search_token_category (token, category, post_id),
+    INDEX idx_post_search_token_post (post_id),
+    CONSTRAINT fk_post_search_token_post FOREIGN KEY (post_id) REFERENCES post(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='게시글 n-gram 검색 색인';
@@ -0,0 +1,20 @@
+-- 트래픽/활동 통계 롤업 테이블
+-- 관리자 대시보드와 공개 통계가 access_log, member, post 등을 매번 COUNT하지 않도록
+-- 분/시간/일 단위 카운터와 고유 방문자 HyperLogLog 스케치를 미리 집계해 둔다.
+-- (TrafficRollupService가 1분마다 증분을 반영, 분 단위는 2일·시간 단위는 90일 보관, 일 단위는 영구 보관)
+
+CREATE TABLE IF NOT EXISTS traffic_rollup (
+    granularity VARCHAR(8) NOT NULL COMMENT '버킷 단위 (MINUTE, HOUR, DAY)',
+    bucket_start DATETIME NOT NULL COMMENT '버킷 시작 시각',
+    metric VARCHAR(16) NOT NULL COMMENT '지표 (pv, signup, post, comment, report)',
+    value BIGINT NOT NULL DEFAULT 0 COMMENT '누적 값',
+    PRIMARY KEY (granularity, metric, bucket_start)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='트래픽/활동 카운터 롤업';
+
+CREATE TABLE IF NOT EXISTS traffic_unique_sketch (
+    granularity VARCHAR(8) NOT NULL COMMENT '버킷 단위 (HOUR, DAY)',
+    bucket_start DATETIME NOT NULL COMMENT '버킷 시작 시각',
+    kind VARCHAR(16) NOT NULL COMMENT '고유값 종류 (ip: 방문자, member: 활성 회원)',
+    registers VARBINARY(4096) NOT NULL COMMENT 'HyperLogLog 레지스터 (precision 12)',
+    PRIMARY KEY (granularity, kind, bucket_start)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='고유 방문자 HyperLogLog 스케치';
@@ -0,0 +1,35 @@
+-- access_log 일 단위 RANGE 파티셔닝
+-- 30일 보관 정리를 대량 DELETE 대신 DROP PARTITION으로 처리해 insert 경로가 멈추지 않게 한다.
+-- 이후 파티션 생성/삭제는 AccessLogPartitionScheduler가 매일 수행한다.
+-- (파티션 키는 모든 유니크 키에 포함되어야 하므로 PK를 (id, occurred_at)으로 변경)
+
+UPDATE access_log SET occurred_at = COALESCE(created_at, CURRENT_TIMESTAMP) WHERE occurred_at IS NULL;
+
+-- 통계는 traffic_rollup으로 옮겨져 access_log에는 회원별 최근 접속 조회용 인덱스만 남긴다
+ALTER TABLE access_log
+    DROP INDEX IF EXISTS idx_access_log_time,
+    DROP INDEX IF EXISTS idx_access_log_member,
+    DROP INDEX IF EXISTS idx_access_log_anon,
+    DROP INDEX IF EXISTS idx_access_log_occurred_at_desc,
+    DROP INDEX IF EXISTS idx_access_log_created_at_desc,
+    DROP INDEX IF EXISTS idx_access_log_response_status,
+    DROP INDEX IF EXISTS idx_access_log_request_path;
+
+-- TO_DAYS 파티션 함수는 TIMESTAMP 컬럼을 지원하지 않으므로 DATETIME으로 변경
+ALTER TABLE access_log
+    MODIFY occurred_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, occurred_at),
+    ADD INDEX idx_access_log_member_time (member_id, occurred_at);
+
+-- 오늘 이전 데이터는 p_history 하나에 두고 (보관 기간이 지나면 통째로 삭제), 오늘 파티션과 MAXVALUE 파티션 생성
+SET @today = CURRENT_DATE;
+SET @sql_partition = CONCAT(
+    'ALTER TABLE access_log PARTITION BY RANGE (TO_DAYS(occurred_at)) (',
+    'PARTITION p_history VALUES LESS THAN (', TO_DAYS(@today), '), ',
+    'PARTITION p', DATE_FORMAT(@today, '%Y%m%d'), ' VALUES LESS THAN (', TO_DAYS(@today + INTERVAL 1 DAY), '), ',
+    'PARTITION p_future VALUES LESS THAN MAXVALUE)');
+
+PREPARE stmt_partition FROM @sql_partition;
+EXECUTE stmt_partition;
+DEALLOCATE PREPARE stmt_partition;
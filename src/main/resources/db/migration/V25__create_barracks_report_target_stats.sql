@@ -0,0 +1,33 @@
+-- 병영/트롤 제보 대상 닉네임별 집계
+-- 제보 등록/상태 변경/삭제 시 BarracksReportStatsListener가 같은 트랜잭션에서 증감해
+-- 제보 등록, 목록, 제보 수 조회가 barracks_report 전체를 읽지 않도록 한다.
+
+CREATE TABLE IF NOT EXISTS barracks_report_target_stats (
+    target_nickname VARCHAR(64) NOT NULL COMMENT '제보 대상 닉네임',
+    barracks_count INT NOT NULL DEFAULT 0 COMMENT '삭제되지 않은 제보 수 (troll 제외)',
+    troll_count INT NOT NULL DEFAULT 0 COMMENT '삭제되지 않은 troll 제보 수',
+    pending_count INT NOT NULL DEFAULT 0 COMMENT '처리 대기(pending) 제보 수',
+    last_reported_at DATETIME NULL COMMENT '마지막 제보 시각',
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (target_nickname),
+    INDEX idx_barracks_target_stats_count (barracks_count)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='제보 대상 닉네임별 집계';
+
+-- 기존 제보로 초기값 채우기
+INSERT INTO barracks_report_target_stats (target_nickname, barracks_count, troll_count, pending_count, last_reported_at)
+SELECT target_nickname,
+       COALESCE(SUM(report_type <> 'troll'), 0),
+       COALESCE(SUM(report_type = 'troll'), 0),
+       COALESCE(SUM(status = 'pending'), 0),
+       MAX(created_at)
+FROM barracks_report
+WHERE is_deleted = false
+GROUP BY target_nickname
+ON DUPLICATE KEY UPDATE
+    barracks_count = VALUES(barracks_count),
+    troll_count = VALUES(troll_count),
+    pending_count = VALUES(pending_count),
+    last_reported_at = VALUES(last_reported_at);
+
+-- 목록/검색: 닉네임 접두어 검색 + 최신순 (utf8mb4_unicode_ci라 대소문자 무시)
+CREATE INDEX IF NOT EXISTS idx_barracks_report_nickname_created ON barracks_report(target_nickname, created_at DESC);
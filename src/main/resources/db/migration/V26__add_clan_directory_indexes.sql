@@ -0,0 +1,7 @@
+-- 공개 클랜 목록 키셋 페이지네이션용 인덱스 (ClanDirectoryService)
+-- 최신순은 기존 idx_clan_status (status, created_at DESC)를 사용한다.
+
+-- 인원순
+CREATE INDEX IF NOT EXISTS idx_clan_status_members ON clan(status, member_count DESC);
+-- 인증 클랜 우선 최신순
+CREATE INDEX IF NOT EXISTS idx_clan_status_verified ON clan(status, is_verified, created_at DESC);
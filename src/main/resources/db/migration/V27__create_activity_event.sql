@@ -0,0 +1,39 @@
+-- 관리자 대시보드 활동 피드 이벤트
+-- 가입/게시글/댓글/신고/관리자 조치가 커밋된 뒤 ActivityFeedService가 한 행씩 남긴다.
+-- 피드는 id 내림차순 키셋(id < ?)으로 읽는다. id는 INSERT 순서라 동시 기록 시 created_at 순서와 어긋날 수 있다.
+
+CREATE TABLE IF NOT EXISTS activity_event (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    type VARCHAR(32) NOT NULL COMMENT 'member, post, comment, report, moderation',
+    actor_id BIGINT NULL COMMENT '행위자 회원 ID',
+    actor_name VARCHAR(100) NULL COMMENT '행위자 닉네임 (기록 시점)',
+    target_id BIGINT NULL COMMENT '대상 ID (회원/게시글/댓글/신고)',
+    summary VARCHAR(255) NULL COMMENT '요약 (게시글 제목, 제보 대상 닉네임, 조치 내용 등)',
+    created_at DATETIME NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_activity_event_type_id (type, id),
+    INDEX idx_activity_event_created (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='활동 피드 이벤트';
+
+-- 최근 30일 데이터로 초기 피드 채우기 (시간순으로 넣어 id 순서와 맞춘다)
+INSERT INTO activity_event (type, actor_id, actor_name, target_id, summary, created_at)
+SELECT type, actor_id, actor_name, target_id, summary, created_at
+FROM (
+    SELECT 'member' AS type, m.id AS actor_id, m.nickname AS actor_name, m.id AS target_id,
+           NULL AS summary, m.created_at
+    FROM member m
+    WHERE m.created_at >= NOW() - INTERVAL 30 DAY
+    UNION ALL
+    SELECT 'post', p.author_id, COALESCE(m.nickname, '익명'), p.id, LEFT(p.title, 255), p.created_at
+    FROM post p LEFT JOIN member m ON p.author_id = m.id
+    WHERE p.created_at >= NOW() - INTERVAL 30 DAY
+    UNION ALL
+    SELECT 'comment', c.author_id, COALESCE(m.nickname, '익명'), c.id, NULL, c.created_at
+    FROM comment c LEFT JOIN member m ON c.author_id = m.id
+    WHERE c.created_at >= NOW() - INTERVAL 30 DAY
+    UNION ALL
+    SELECT 'report', br.reporter_id, COALESCE(m.nickname, '익명'), br.id, br.target_nickname, br.created_at
+    FROM barracks_report br LEFT JOIN member m ON br.reporter_id = m.id
+    WHERE br.created_at >= NOW() - INTERVAL 30 DAY
+) recent
+ORDER BY created_at, type, target_id;
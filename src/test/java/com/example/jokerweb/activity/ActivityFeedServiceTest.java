@@ -0,0 +1,96 @@
+package com.example.jokerweb.activity;
+
+import com.example.jokerweb.community.Post;
+import com.example.jokerweb.community.PostRepository;
+import com.example.jokerweb.member.Member;
+import com.example.jokerweb.member.MemberRepository;
+import com.example.jokerweb.monitoring.RequestPerfTrace;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 저장 이벤트가 피드에 기록되고, 키셋 페이지를 끝까지 넘기면 id 내림차순으로 한 번씩 나오는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ActivityFeedServiceTest {
+
+    @Autowired
+    private ActivityFeedService feedService;
+
+    @Autowired
+    private ActivityEventRepository eventRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Test
+    void testFeedIsTimeOrderedAndPaginated() throws Exception {
+        long before = eventRepository.count();
+        Member author = new Member();
+        author.setEmail("feed-author@example.com");
+        author.setPasswordHash("hash");
+        author.setNickname("feed-author");
+        memberRepository.save(author);
+        for (int i = 0; i < 4; i++) {
+            postRepository.save(Post.builder()
+                    .author(author)
+                    .category("free")
+                    .title("feed-post-" + i)
+                    .content("content")
+                    .build());
+        }
+        awaitEvents(before + 5);
+
+        List<ActivityEntry> walked = walk(EnumSet.allOf(ActivityType.class), 2);
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < walked.size(); i++) {
+            assertTrue(ids.add(walked.get(i).id()));
+            if (i > 0) {
+                assertTrue(walked.get(i - 1).id() > walked.get(i).id());
+            }
+        }
+        assertEquals(eventRepository.count(), walked.size());
+
+        List<ActivityEntry> posts = walk(EnumSet.of(ActivityType.POST), 3);
+        assertTrue(posts.stream().allMatch(entry -> entry.type() == ActivityType.POST));
+        assertEquals("feed-post-3", posts.get(0).summary());
+        assertEquals("feed-author", posts.get(0).actorName());
+
+        // 최신 페이지는 링에서 쿼리 없이 응답
+        try (RequestPerfTrace.Scope scope = RequestPerfTrace.open("feed")) {
+            assertEquals(5, feedService.feed(EnumSet.allOf(ActivityType.class), null, 5).items().size());
+            assertEquals(0, scope.trace().statementCount());
+        }
+    }
+
+    private List<ActivityEntry> walk(Set<ActivityType> types, int size) {
+        List<ActivityEntry> walked = new ArrayList<>();
+        Long cursor = null;
+        do {
+            ActivityFeedService.Page page = feedService.feed(types, cursor, size);
+            walked.addAll(page.items());
+            cursor = page.nextBefore();
+        } while (cursor != null);
+        return walked;
+    }
+
+    // 기록은 커밋 후 activityFeedExecutor에서 비동기로 일어난다
+    private void awaitEvents(long expected) throws InterruptedException {
+        for (int i = 0; i < 100 && eventRepository.count() < expected; i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(eventRepository.count() >= expected);
+    }
+}
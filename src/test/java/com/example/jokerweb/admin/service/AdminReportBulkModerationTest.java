@@ -0,0 +1,182 @@
+package com.example.jokerweb.admin.service;
+
+import com.example.jokerweb.admin.dto.BulkModerationRequest;
+import com.example.jokerweb.admin.dto.BulkModerationResponse;
+import com.example.jokerweb.community.Comment;
+import com.example.jokerweb.community.CommentRepository;
+import com.example.jokerweb.community.ContentReport;
+import com.example.jokerweb.community.ContentReportRepository;
+import com.example.jokerweb.community.Post;
+import com.example.jokerweb.community.PostRepository;
+import com.example.jokerweb.member.Member;
+import com.example.jokerweb.member.MemberRepository;
+import com.example.jokerweb.monitoring.RequestPerfTrace;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 신고 일괄 처리의 쿼리 수가 건수와 무관하고, 대상 삭제/처리 상태가 반영되는지 확인 (게시글 일괄 조치 포함)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AdminReportBulkModerationTest {
+
+    @Autowired
+    private AdminReportService adminReportService;
+
+    @Autowired
+    private AdminPostService adminPostService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ContentReportRepository reportRepository;
+
+    private Member admin;
+    private Member reporter;
+
+    @BeforeEach
+    void setUp() {
+        admin = member("bulk-admin");
+        reporter = member("bulk-reporter");
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                String.valueOf(admin.getId()), null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testApproveQueryCountIndependentOfReportCount() {
+        long small = approveAndCountQueries(reports(2));
+        long large = approveAndCountQueries(reports(30));
+
+        assertEquals(small, large, "신고 건수에 따라 쿼리 수가 달라지면 건별 처리");
+        assertTrue(large <= 8, "신고 일괄 승인 쿼리 수: " + large);
+    }
+
+    @Test
+    void testApproveDeletesTargetsAndSkipsProcessedReports() {
+        List<ContentReport> reports = reports(3);
+        List<Long> ids = reports.stream().map(ContentReport::getId).toList();
+
+        BulkModerationResponse first = adminReportService.bulkProcessReports(request(ids, "approve"));
+        assertEquals(3, first.getProcessed());
+        for (ContentReport report : reports) {
+            ContentReport reloaded = reportRepository.findById(report.getId()).orElseThrow();
+            assertEquals("resolved", reloaded.getStatus());
+            assertNotNull(reloaded.getProcessedAt());
+            if ("post".equals(report.getTargetType())) {
+                assertTrue(postRepository.findById(report.getTargetId()).orElseThrow().getIsDeleted());
+            } else {
+                assertTrue(commentRepository.findById(report.getTargetId()).orElseThrow().getIsDeleted());
+            }
+        }
+
+        // 이미 처리된 신고는 다시 처리하지 않음
+        BulkModerationResponse second = adminReportService.bulkProcessReports(request(ids, "reject"));
+        assertEquals(0, second.getProcessed());
+        assertEquals(ids, second.getSkippedIds());
+        assertEquals("resolved", reportRepository.findById(ids.get(0)).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testRejectsUnknownActionAndOversizedBatch() {
+        assertThrows(IllegalArgumentException.class,
+                () -> adminReportService.bulkProcessReports(request(List.of(1L), "delete")));
+        List<Long> tooMany = new ArrayList<>();
+        for (long i = 1; i <= BulkModeration.MAX_IDS + 1; i++) {
+            tooMany.add(i);
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> adminReportService.bulkProcessReports(request(tooMany, "approve")));
+    }
+
+    @Test
+    void testPostBulkRejectsHide() {
+        Post post = postRepository.save(Post.builder()
+                .author(reporter)
+                .category("free")
+                .title("bulk-hide")
+                .content("content")
+                .build());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> adminPostService.bulkModerate(request(List.of(post.getId()), "hide")));
+        assertFalse(postRepository.findById(post.getId()).orElseThrow().getIsDeleted());
+
+        assertEquals(1, adminPostService.bulkModerate(request(List.of(post.getId()), "delete")).getProcessed());
+        assertTrue(postRepository.findById(post.getId()).orElseThrow().getIsDeleted());
+    }
+
+    private long approveAndCountQueries(List<ContentReport> reports) {
+        List<Long> ids = reports.stream().map(ContentReport::getId).toList();
+        try (RequestPerfTrace.Scope scope = RequestPerfTrace.open("admin-report-bulk")) {
+            BulkModerationResponse response = adminReportService.bulkProcessReports(request(ids, "approve"));
+            assertEquals(ids.size(), response.getProcessed());
+            return scope.trace().statementCount();
+        }
+    }
+
+    // 게시글 신고와 댓글 신고를 번갈아 만든다
+    private List<ContentReport> reports(int count) {
+        List<ContentReport> reports = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Post post = postRepository.save(Post.builder()
+                    .author(reporter)
+                    .category("free")
+                    .title("bulk-post-" + i)
+                    .content("content")
+                    .build());
+            ContentReport.ContentReportBuilder report = ContentReport.builder()
+                    .reporter(reporter)
+                    .reportReason("spam");
+            if (i % 2 == 0) {
+                report.targetType("post").targetId(post.getId());
+            } else {
+                Comment comment = commentRepository.save(Comment.builder()
+                        .post(post)
+                        .author(reporter)
+                        .content("spam comment")
+                        .build());
+                report.targetType("comment").targetId(comment.getId());
+            }
+            reports.add(reportRepository.save(report.build()));
+        }
+        return reports;
+    }
+
+    private Member member(String nickname) {
+        String email = nickname + "@example.com";
+        return memberRepository.findByEmail(email).orElseGet(() -> {
+            Member member = new Member();
+            member.setEmail(email);
+            member.setPasswordHash("hash");
+            member.setNickname(nickname);
+            return memberRepository.save(member);
+        });
+    }
+
+    private static BulkModerationRequest request(List<Long> ids, String action) {
+        return BulkModerationRequest.builder().ids(ids).action(action).reason("spam wave").build();
+    }
+}
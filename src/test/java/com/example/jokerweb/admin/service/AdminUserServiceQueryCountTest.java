@@ -0,0 +1,63 @@
+package com.example.jokerweb.admin.service;
+
+import com.example.jokerweb.admin.dto.UserListResponse;
+import com.example.jokerweb.member.Member;
+import com.example.jokerweb.member.MemberRepository;
+import com.example.jokerweb.monitoring.RequestPerfTrace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 관리자 회원 목록의 쿼리 수가 페이지 크기와 무관한지 확인 (N+1 회귀 방지)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AdminUserServiceQueryCountTest {
+
+    private static final String PREFIX = "gridqc";
+
+    @Autowired
+    private AdminUserService adminUserService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @BeforeEach
+    void setUp() {
+        if (memberRepository.existsByEmail(PREFIX + "0@example.com")) {
+            return;
+        }
+        for (int i = 0; i < 45; i++) {
+            Member member = new Member();
+            member.setEmail(PREFIX + i + "@example.com");
+            member.setPasswordHash("hash");
+            member.setNickname(PREFIX + i);
+            memberRepository.save(member);
+        }
+    }
+
+    @Test
+    void testQueryCountIndependentOfPageSize() {
+        // 권한 스냅샷 캐시가 섞이지 않도록 서로 겹치지 않는 페이지를 비교
+        long small = countQueries(PageRequest.of(0, 5, Sort.by("id")), 5);
+        long large = countQueries(PageRequest.of(1, 20, Sort.by("id")), 20);
+
+        assertEquals(small, large, "페이지 크기에 따라 쿼리 수가 달라지면 N+1");
+        assertTrue(large > 0 && large <= 10, "회원 목록 한 페이지 쿼리 수: " + large);
+    }
+
+    private long countQueries(PageRequest pageable, int expectedRows) {
+        try (RequestPerfTrace.Scope scope = RequestPerfTrace.open("admin-user-grid")) {
+            Page<UserListResponse> page = adminUserService.getUsers(null, null, PREFIX, null, null, pageable);
+            assertEquals(expectedRows, page.getContent().size());
+            return scope.trace().statementCount();
+        }
+    }
+}
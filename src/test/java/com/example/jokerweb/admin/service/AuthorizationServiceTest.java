@@ -0,0 +1,94 @@
+package com.example.jokerweb.admin.service;
+
+import com.example.jokerweb.admin.role.MemberRole;
+import com.example.jokerweb.admin.role.MemberRoleRepository;
+import com.example.jokerweb.admin.role.MemberSuspensionRepository;
+import com.example.jokerweb.admin.role.Role;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorizationServiceTest {
+
+    @Mock
+    private MemberRoleRepository memberRoleRepository;
+
+    @Mock
+    private MemberSuspensionRepository memberSuspensionRepository;
+
+    @InjectMocks
+    private AuthorizationService authorizationService;
+
+    @Test
+    void testSnapshotIsCachedUntilPermissionChanged() {
+        when(memberRoleRepository.findActiveRolesByMemberIdIn(anyCollection()))
+                .thenReturn(List.of(memberRole(1L, role("ADMIN", "관리자"), null)));
+        when(memberRoleRepository.findPermissionsByMemberIdIn(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, "post", "delete"}));
+        when(memberSuspensionRepository.findActiveSuspensions(anyCollection(), any())).thenReturn(List.of());
+
+        assertTrue(authorizationService.hasRole(1L, "ADMIN"));
+        assertTrue(authorizationService.hasPermission(1L, "post", "delete"));
+        assertEquals("관리자", authorizationService.snapshot(1L).gradeName());
+        verify(memberRoleRepository, times(1)).findActiveRolesByMemberIdIn(anyCollection());
+
+        // 역할이 회수되면 커밋 후 이벤트로 무효화되어 다음 조회에서 다시 읽는다
+        when(memberRoleRepository.findActiveRolesByMemberIdIn(anyCollection())).thenReturn(List.of());
+        when(memberRoleRepository.findPermissionsByMemberIdIn(anyCollection())).thenReturn(List.of());
+        authorizationService.onPermissionChanged(new MemberPermissionChangedEvent(1L));
+
+        assertFalse(authorizationService.hasRole(1L, "ADMIN"));
+        assertFalse(authorizationService.hasPermission(1L, "post", "delete"));
+        verify(memberRoleRepository, times(2)).findActiveRolesByMemberIdIn(anyCollection());
+    }
+
+    @Test
+    void testBatchLoadsOnlyMissingMembers() {
+        when(memberRoleRepository.findActiveRolesByMemberIdIn(anyCollection())).thenReturn(List.of());
+        when(memberRoleRepository.findPermissionsByMemberIdIn(anyCollection())).thenReturn(List.of());
+        when(memberSuspensionRepository.findActiveSuspensions(anyCollection(), any())).thenReturn(List.of());
+
+        authorizationService.snapshot(1L);
+        Map<Long, MemberPermissionSnapshot> snapshots = authorizationService.snapshots(List.of(1L, 2L, 3L));
+
+        assertEquals(Set.of(1L, 2L, 3L), snapshots.keySet());
+        verify(memberRoleRepository).findActiveRolesByMemberIdIn(List.of(1L));
+        verify(memberRoleRepository).findActiveRolesByMemberIdIn(argThat(ids -> Set.copyOf(ids).equals(Set.of(2L, 3L))));
+        verify(memberRoleRepository, times(2)).findActiveRolesByMemberIdIn(anyCollection());
+    }
+
+    @Test
+    void testLegacyRoleColumnGrantsAuthorityButNotRole() {
+        when(memberRoleRepository.findActiveRolesByMemberIdIn(anyCollection()))
+                .thenReturn(List.of(memberRole(1L, null, "ADMIN")));
+        when(memberRoleRepository.findPermissionsByMemberIdIn(anyCollection())).thenReturn(List.of());
+        when(memberSuspensionRepository.findActiveSuspensions(anyCollection(), any())).thenReturn(List.of());
+
+        MemberPermissionSnapshot snapshot = authorizationService.snapshot(1L);
+
+        // hasRole은 role 테이블 기준 (기존 동작), role 컬럼은 Spring Security 권한으로만 쓰인다
+        assertFalse(authorizationService.hasRole(1L, "ADMIN"));
+        assertEquals(Set.of("ADMIN"), snapshot.authorityNames());
+        assertNull(snapshot.gradeName());
+    }
+
+    private static Role role(String name, String displayName) {
+        return Role.builder().name(name).displayName(displayName).build();
+    }
+
+    private static MemberRole memberRole(Long memberId, Role role, String legacyRole) {
+        return MemberRole.builder().memberId(memberId).roleEntity(role).role(legacyRole).build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.jokerweb.auth;
+
+import com.example.jokerweb.admin.role.MemberRoleRepository;
+import com.example.jokerweb.auth.password.PasswordHashingService;
+import com.example.jokerweb.member.Member;
+import com.example.jokerweb.member.MemberRepository;
+import com.example.jokerweb.nexon.NxOpenApiClient;
+import com.example.jokerweb.nexon.dto.UserBasicResponse;
+import com.example.jokerweb.security.JwtTokenService;
+import com.example.jokerweb.security.MemberPrincipalCache;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private JwtTokenService jwtTokenService;
+
+    @Mock
+    private MemberRoleRepository memberRoleRepository;
+
+    @Mock
+    private NxOpenApiClient nxOpenApiClient;
+
+    @Mock
+    private MemberPrincipalCache memberPrincipalCache;
+
+    @InjectMocks
+    private AuthService authService;
+
+    @Test
+    void testLoginEvictsCachedPrincipal() {
+        Member member = member();
+        member.setPasswordHash("hash");
+        when(memberRepository.findByEmail("a@example.com")).thenReturn(Optional.of(member));
+        when(passwordHashingService.matches("password1!", "hash")).thenReturn(true);
+        when(memberRoleRepository.findActiveRolesByMemberId(1L)).thenReturn(List.of());
+        when(jwtTokenService.generateToken(eq(1L), anyString(), anyList())).thenReturn("token");
+
+        LoginRequest request = new LoginRequest();
+        request.setEmail("a@example.com");
+        request.setPassword("password1!");
+        authService.login(request, "1.1.1.1");
+
+        verify(memberPrincipalCache).evict(1L);
+    }
+
+    @Test
+    void testLinkNexonUpdatesFreshMemberAndEvictsCachedPrincipal() {
+        Member cached = member();
+        Member fresh = member();
+        when(jwtTokenService.parse("token")).thenReturn(Jwts.claims().setSubject("1"));
+        when(memberPrincipalCache.find(1L)).thenReturn(Optional.of(cached));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(fresh));
+        UserBasicResponse basic = new UserBasicResponse();
+        basic.setClanName("clan");
+        when(nxOpenApiClient.getUserBasic("ouid-1")).thenReturn(basic);
+        when(memberRoleRepository.findActiveRolesByMemberId(1L)).thenReturn(List.of());
+
+        LinkNexonRequest request = new LinkNexonRequest();
+        request.setNickname("nick");
+        request.setOuid("ouid-1");
+        assertTrue(authService.linkNexon("Bearer token", request).isPresent());
+
+        // 공유되는 캐시 엔티티는 수정하지 않고, 다시 조회한 엔티티를 저장한 뒤 캐시를 비운다
+        assertNull(cached.getClanName());
+        assertEquals("clan", fresh.getClanName());
+        verify(memberRepository).save(fresh);
+        verify(memberPrincipalCache).evict(1L);
+    }
+
+    private static Member member() {
+        return Member.builder().id(1L).email("a@example.com").nickname("nick").build();
+    }
+}
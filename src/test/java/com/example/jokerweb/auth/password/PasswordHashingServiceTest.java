@@ -0,0 +1,85 @@
+package com.example.jokerweb.auth.password;
+
+import com.example.jokerweb.auth.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PasswordHashingServiceTest {
+
+    @Test
+    void testChooseCostStaysWithinTargetAndBounds() {
+        long ms = 1_000_000;
+        assertEquals(11, PasswordCostCalibrator.chooseCost(60 * ms, 10, 14, 150 * ms)); // 60 → 120ms
+        assertEquals(10, PasswordCostCalibrator.chooseCost(200 * ms, 10, 14, 150 * ms)); // 느린 장비도 min-cost 유지
+        assertEquals(14, PasswordCostCalibrator.chooseCost(1 * ms, 10, 14, 150 * ms));
+    }
+
+    @Test
+    void testLegacyHashNeedsRehash() {
+        String legacy = new BCryptPasswordEncoder(4).encode("password1!");
+        PasswordHashingService service = service(new BCryptPasswordEncoder(5), new PasswordHashingProperties());
+        try {
+            assertTrue(service.matches("password1!", legacy));
+            assertTrue(service.needsRehash(legacy));
+            assertFalse(service.needsRehash(service.encode("password1!")));
+            assertFalse(service.needsRehash("not-a-bcrypt-hash"));
+            assertFalse(service.matches("password1!", null));
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void testRejectsWhenPoolAndQueueAreFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = mock(PasswordEncoder.class);
+        when(slow.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "hash";
+        });
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        properties.setQueueTimeout(Duration.ofMillis(50));
+        PasswordHashingService service = service(slow, properties);
+        try {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("a"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> service.encode("b"));
+            while (!queued.isDone() && service.queuedTasks() == 0) {
+                Thread.onSpinWait();
+            }
+
+            // 스레드 1개 + 큐 1개가 찼으므로 바로 거절
+            assertThrows(PasswordHashingBusyException.class, () -> service.encode("c"));
+
+            Thread.sleep(100);
+            release.countDown();
+            assertEquals("hash", running.get(5, TimeUnit.SECONDS));
+            // 큐에서 queue-timeout 넘게 기다린 작업은 실행하지 않음
+            Exception expired = assertThrows(Exception.class, () -> queued.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(PasswordHashingBusyException.class, expired.getCause());
+            verify(slow, times(1)).encode(any());
+        } finally {
+            release.countDown();
+            service.shutdown();
+        }
+    }
+
+    private static PasswordHashingService service(PasswordEncoder encoder, PasswordHashingProperties properties) {
+        return new PasswordHashingService(encoder, properties, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.jokerweb.auth.service;
+
+import com.example.jokerweb.auth.service.RegistrationAvailabilityService.Field;
+import com.example.jokerweb.member.Member;
+import com.example.jokerweb.member.MemberRepository;
+import com.example.jokerweb.monitoring.RequestPerfTrace;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 필터에 없는 값은 쿼리 없이 사용 가능, 가입된 값(대소문자 무관)과 새로 저장된 회원 값은 사용 중으로 답하는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RegistrationAvailabilityServiceTest {
+
+    @Autowired
+    private RegistrationAvailabilityService availabilityService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void testFastPathAndDatabaseFallback() {
+        memberRepository.save(member("avail-existing@example.com", "avail-existing"));
+        availabilityService.rebuild();
+
+        try (RequestPerfTrace.Scope scope = RequestPerfTrace.open("availability")) {
+            for (int i = 0; i < 50; i++) {
+                assertFalse(availabilityService.isTaken(Field.EMAIL, "avail-free-" + i + "@example.com"));
+            }
+            // 오탐(1%) 외에는 DB 조회 없음
+            assertTrue(scope.trace().statementCount() <= 3);
+        }
+
+        assertTrue(availabilityService.isTaken(Field.EMAIL, " avail-existing@example.com "));
+        assertTrue(availabilityService.isTaken(Field.NICKNAME, "avail-existing"));
+
+        // 필터 재생성 없이 저장 즉시 반영
+        memberRepository.save(member("avail-new@example.com", "avail-new"));
+        assertTrue(availabilityService.isTaken(Field.EMAIL, "avail-new@example.com"));
+    }
+
+    @Test
+    void testKeyFoldsCaseAndAccents() {
+        assertEquals(RegistrationAvailabilityService.key(Field.NICKNAME, "Café"),
+                RegistrationAvailabilityService.key(Field.NICKNAME, " cafe "));
+        assertNotEquals(RegistrationAvailabilityService.key(Field.NICKNAME, "joker"),
+                RegistrationAvailabilityService.key(Field.EMAIL, "joker"));
+    }
+
+    @Test
+    void testKeyFoldsExpansionsLikeUnicodeCi() {
+        // NFKD + 결합 문자 제거로는 묶이지 않던 값들
+        assertEquals(RegistrationAvailabilityService.key(Field.NICKNAME, "straße"),
+                RegistrationAvailabilityService.key(Field.NICKNAME, "STRASSE"));
+        assertEquals(RegistrationAvailabilityService.key(Field.NICKNAME, "\uFB01re"),
+                RegistrationAvailabilityService.key(Field.NICKNAME, "fire"));
+        assertEquals(RegistrationAvailabilityService.key(Field.NICKNAME, "Æsir"),
+                RegistrationAvailabilityService.key(Field.NICKNAME, "aesir"));
+        assertEquals(RegistrationAvailabilityService.key(Field.NICKNAME, "ＪＯＫＥＲ"),
+                RegistrationAvailabilityService.key(Field.NICKNAME, "joker"));
+        assertNotEquals(RegistrationAvailabilityService.key(Field.NICKNAME, "조커"),
+                RegistrationAvailabilityService.key(Field.NICKNAME, "조거"));
+    }
+
+    @Test
+    void testMemberSavedDuringCountIsInRebuiltFilter() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        RegistrationAvailabilityService service = new RegistrationAvailabilityService(mock(MemberRepository.class), jdbcTemplate);
+        ReflectionTestUtils.setField(service, "expectedMembers", 1000L);
+        ReflectionTestUtils.setField(service, "falsePositiveRate", 0.01);
+        // COUNT 조회와 전체 로드 사이에 각각 가입이 커밋된 경우
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenAnswer(invocation -> {
+            service.add("during-count@example.com", "during-count", null);
+            return 0L;
+        });
+        doAnswer(invocation -> {
+            service.add("during-load@example.com", "during-load", null);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        service.rebuild();
+        service.add("after-load@example.com", "after-load", null);
+
+        // 셋 다 필터에 있으므로 "확실히 없음"으로 답하지 않고 DB로 확인한다
+        service.isTaken(Field.NICKNAME, "during-count");
+        service.isTaken(Field.NICKNAME, "during-load");
+        service.isTaken(Field.NICKNAME, "after-load");
+        assertEquals(0, service.fastPathHits());
+        assertEquals(3, service.databaseChecks());
+    }
+
+    private static Member member(String email, String nickname) {
+        Member member = new Member();
+        member.setEmail(email);
+        member.setPasswordHash("hash");
+        member.setNickname(nickname);
+        return member;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.jokerweb.clan;
+
+import com.example.jokerweb.member.Member;
+import com.example.jokerweb.member.MemberRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 커서를 따라 끝까지 넘겼을 때 정렬 키가 같은 클랜도 빠짐/중복 없이 한 번씩 나오는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ClanDirectoryServiceTest {
+
+    private static final int CLAN_COUNT = 11;
+
+    @Autowired
+    private ClanDirectoryService directoryService;
+
+    @Autowired
+    private ClanRepository clanRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void testCursorWalksEveryClanOnceForEachOrder() {
+        Member master = new Member();
+        master.setEmail("directory-master@example.com");
+        master.setPasswordHash("hash");
+        master.setNickname("directory-master");
+        memberRepository.save(master);
+
+        // 생성 시각/인원 수가 겹치도록 시드 (id로 순서 결정)
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < CLAN_COUNT; i++) {
+            clanRepository.save(Clan.builder()
+                    .clanName("directory-clan-" + i)
+                    .barracksAddress("directory-barracks-" + i)
+                    .master(master)
+                    .status("suspended")
+                    .isVerified(i % 3 == 0)
+                    .memberCount(i % 4)
+                    .createdAt(createdAt.plusMinutes(i / 2))
+                    .build());
+        }
+
+        for (ClanDirectoryService.Order order : ClanDirectoryService.Order.values()) {
+            List<ClanDirectoryEntry> walked = walk(order);
+            Set<Long> ids = new HashSet<>();
+            walked.forEach(entry -> ids.add(entry.id()));
+            assertEquals(CLAN_COUNT, walked.size(), order.name());
+            assertEquals(CLAN_COUNT, ids.size(), order.name());
+            assertEquals("directory-master", walked.get(0).masterNickname());
+        }
+
+        List<ClanDirectoryEntry> verifiedFirst = walk(ClanDirectoryService.Order.VERIFIED);
+        assertTrue(verifiedFirst.subList(0, 4).stream().allMatch(ClanDirectoryEntry::verified));
+        assertTrue(verifiedFirst.subList(4, CLAN_COUNT).stream().noneMatch(ClanDirectoryEntry::verified));
+    }
+
+    @Test
+    void testMalformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> directoryService.page("active", ClanDirectoryService.Order.RECENT, "not-a-cursor", 20));
+    }
+
+    private List<ClanDirectoryEntry> walk(ClanDirectoryService.Order order) {
+        List<ClanDirectoryEntry> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            ClanDirectoryPage page = directoryService.page("suspended", order, cursor, 3);
+            walked.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return walked;
+    }
+}
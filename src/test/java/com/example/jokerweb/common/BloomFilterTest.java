@@ -0,0 +1,42 @@
+package com.example.jokerweb.common;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void testNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("member-" + i + "@example.com");
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("member-" + i + "@example.com"));
+        }
+        assertEquals(10_000, filter.insertions());
+    }
+
+    @Test
+    void testFalsePositiveRateNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("taken-" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("free-" + i)) {
+                falsePositives++;
+            }
+        }
+        // 목표 1%, 여유를 두고 2% 미만
+        assertTrue(falsePositives < 2_000, "falsePositives=" + falsePositives);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1.0));
+        assertFalse(new BloomFilter(100, 0.01).mightContain(null));
+    }
+}
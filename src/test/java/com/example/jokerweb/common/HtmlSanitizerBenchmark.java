@@ -0,0 +1,113 @@
+package com.example.jokerweb.common;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 본문 정제 벤치마크: 기존 replaceAll 6회 + 규칙 검증 정규식 vs HtmlSanitizer 1회 순회
+ *
+ * 실행: gradle benchmark --tests '*HtmlSanitizerBenchmark' -Dbench.contentBytes=8192
+ */
+@Tag("benchmark")
+class HtmlSanitizerBenchmark {
+
+    private static final Pattern TAG_PATTERN = Pattern.compile("<[^>]*>");
+    private static final Pattern IMG_PATTERN = Pattern.compile("<img\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern LINK_PATTERN = Pattern.compile("<a\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern YOUTUBE_PATTERN = Pattern.compile("youtube\\.com|youtu\\.be", Pattern.CASE_INSENSITIVE);
+    private static final Pattern TABLE_PATTERN = Pattern.compile("<table\\b", Pattern.CASE_INSENSITIVE);
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 10;
+    private static final int OPS_PER_ROUND = 2_000;
+
+    // 측정 결과가 최적화로 사라지지 않도록 누적
+    private long sink;
+
+    @Test
+    void compareLegacyRegexWithSinglePass() {
+        int contentBytes = Integer.getInteger("bench.contentBytes", 8 * 1024);
+        String[] posts = new String[16];
+        Random random = new Random(42);
+        for (int i = 0; i < posts.length; i++) {
+            posts[i] = buildPost(random, contentBytes);
+        }
+
+        double[] legacy = measure(posts, this::legacy);
+        double[] singlePass = measure(posts, this::singlePass);
+        System.out.printf("content=%dB legacy p50=%7.1fus p95=%7.1fus | single-pass p50=%7.1fus p95=%7.1fus (sink=%d)%n",
+                posts[0].length(), legacy[0], legacy[1], singlePass[0], singlePass[1], sink);
+    }
+
+    // PostService.create의 기존 처리: 규칙 검증 정규식 5종 + sanitizeScriptTags
+    private void legacy(String content) {
+        String trimmed = content.trim();
+        int textLength = TAG_PATTERN.matcher(trimmed).replaceAll("").trim().length();
+        long images = IMG_PATTERN.matcher(trimmed).results().count();
+        boolean links = LINK_PATTERN.matcher(trimmed).find();
+        boolean youtube = YOUTUBE_PATTERN.matcher(trimmed).find();
+        boolean tables = TABLE_PATTERN.matcher(trimmed).find();
+        String sanitized = legacySanitizeScriptTags(content);
+        sink += textLength + images + (links ? 1 : 0) + (youtube ? 1 : 0) + (tables ? 1 : 0) + sanitized.length();
+    }
+
+    // 기존 SecurityUtils.sanitizeScriptTags (현재는 HtmlSanitizer로 위임)
+    private static String legacySanitizeScriptTags(String input) {
+        return input
+                .replaceAll("(?i)<script[^>]*>.*?</script>", "")
+                .replaceAll("(?i)javascript:", "")
+                .replaceAll("(?i)onerror\\s*=", "")
+                .replaceAll("(?i)onclick\\s*=", "")
+                .replaceAll("(?i)onload\\s*=", "")
+                .replaceAll("(?i)onmouseover\\s*=", "");
+    }
+
+    private void singlePass(String content) {
+        HtmlSanitizer.Result result = HtmlSanitizer.sanitize(content.trim());
+        sink += result.textLength() + result.mediaCount() + result.linkCount() + result.youtubeCount()
+                + result.tableCount() + result.html().length();
+    }
+
+    // 라운드별 평균 1회 처리 시간(us)의 p50/p95
+    private double[] measure(String[] posts, java.util.function.Consumer<String> op) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            run(posts, op);
+        }
+        double[] micros = new double[MEASURE_ROUNDS];
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long started = System.nanoTime();
+            run(posts, op);
+            micros[round] = (System.nanoTime() - started) / 1_000.0 / OPS_PER_ROUND;
+        }
+        Arrays.sort(micros);
+        return new double[]{micros[MEASURE_ROUNDS / 2], micros[(int) Math.ceil(MEASURE_ROUNDS * 0.95) - 1]};
+    }
+
+    private void run(String[] posts, java.util.function.Consumer<String> op) {
+        for (int i = 0; i < OPS_PER_ROUND; i++) {
+            op.accept(posts[i % posts.length]);
+        }
+    }
+
+    // 에디터가 만드는 형태의 본문 (문단, 서식, 링크, 이미지, 표, 유튜브)
+    private String buildPost(Random random, int targetBytes) {
+        String[] blocks = {
+                "<p>오늘 랭크전 <strong>듀오</strong> 구합니다. 저녁 9시 이후 접속 가능하고 <em>스나이퍼</em> 주로 합니다.</p>",
+                "<p><span style=\"color: #958DF1\">보급 상자</span> 확률 정리했습니다 &amp; 참고하세요.</p>",
+                "<p><a target=\"_blank\" rel=\"noopener noreferrer nofollow\" class=\"text-blue-500 hover:underline\" href=\"https://example.com/guide?id=42\">공략 링크</a></p>",
+                "<p><img src=\"https://files.example.com/uploads/2025/06/screenshot.png\" alt=\"스크린샷\"></p>",
+                "<table style=\"min-width: 75px\"><colgroup><col style=\"min-width: 25px\"></colgroup><tbody><tr><th colspan=\"1\" rowspan=\"1\"><p>맵</p></th><td colspan=\"1\" rowspan=\"1\"><p>승률</p></td></tr></tbody></table>",
+                "<div data-youtube-video=\"\"><iframe width=\"640\" height=\"480\" allowfullscreen=\"true\" src=\"https://www.youtube.com/embed/dQw4w9WgXcQ?controls=1\"></iframe></div>",
+                "<ul><li><p>제보 1</p></li><li><p>제보 2</p></li></ul><blockquote><p>인용문</p></blockquote>"
+        };
+        StringBuilder sb = new StringBuilder(targetBytes + 256);
+        while (sb.length() * 2 < targetBytes) { // 한글 비중을 감안한 대략적인 바이트 크기
+            sb.append(blocks[random.nextInt(blocks.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.jokerweb.common;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HtmlSanitizerTest {
+
+    @Test
+    void testKeepsEditorMarkup() {
+        String input = "<p>안녕 <strong>하세요</strong> <span style=\"color: #958DF1\">색상</span></p>";
+        HtmlSanitizer.Result result = HtmlSanitizer.sanitize(input);
+        assertEquals(input, result.html());
+        assertEquals("안녕 하세요 색상".length(), result.textLength());
+    }
+
+    @Test
+    void testRemovesScriptAndEventHandlers() {
+        HtmlSanitizer.Result result = HtmlSanitizer.sanitize(
+                "<script>alert('XSS')</script><p onclick=\"x()\">Hello</p><img src=x onerror=alert(1)>");
+        assertEquals("<p>Hello</p><img src=\"x\">", result.html());
+        assertEquals(5, result.textLength());
+    }
+
+    @Test
+    void testRemovesJavascriptUrlsIncludingEncodedSchemes() {
+        assertEquals("<a>a</a>", HtmlSanitizer.sanitize("<a href=\"javascript:alert(1)\">a</a>").html());
+        assertEquals("<a>b</a>", HtmlSanitizer.sanitize("<a href=\"java&#x09;script&colon;alert(1)\">b</a>").html());
+        assertEquals("<a href=\"https://example.com/?a=1&amp;b=2\">c</a>",
+                HtmlSanitizer.sanitize("<a href=\"https://example.com/?a=1&amp;b=2\">c</a>").html());
+    }
+
+    @Test
+    void testAllowsOnlyYoutubeIframes() {
+        HtmlSanitizer.Result youtube = HtmlSanitizer.sanitize(
+                "<div data-youtube-video=\"\"><iframe src=\"https://www.youtube.com/embed/abc\" allowfullscreen=\"true\">x</iframe></div>");
+        assertEquals("<div data-youtube-video=\"\"><iframe src=\"https://www.youtube.com/embed/abc\" allowfullscreen=\"true\"></iframe></div>",
+                youtube.html());
+        assertEquals(1, youtube.videoCount());
+        assertEquals(1, youtube.youtubeCount());
+
+        HtmlSanitizer.Result other = HtmlSanitizer.sanitize("<iframe src=\"https://evil.example/\">fallback</iframe>after");
+        assertEquals("after", other.html());
+        assertEquals(0, other.videoCount());
+    }
+
+    @Test
+    void testCountsRuleRelevantElements() {
+        HtmlSanitizer.Result result = HtmlSanitizer.sanitize(
+                "<p><img src=\"/files/a.png\"><img src=\"data:image/png;base64,AAAA\"><img src=\"data:text/html,x\"></p>" +
+                "<a href=\"https://youtu.be/abc\">영상</a><table><tbody><tr><td>1</td></tr></tbody></table>");
+        assertEquals(2, result.imageCount());
+        assertEquals(1, result.linkCount());
+        assertEquals(1, result.youtubeCount());
+        assertEquals(1, result.tableCount());
+    }
+
+    @Test
+    void testBalancesTagsAndEscapesStrayBrackets() {
+        assertEquals("<p><strong>a &lt; b</strong></p>", HtmlSanitizer.sanitize("<p><strong>a < b</p>").html());
+        assertEquals("<p>x</p>", HtmlSanitizer.sanitize("<p>x</p></div><!-- c -->").html());
+        assertEquals("", HtmlSanitizer.sanitize("<p title=\"unterminated").html());
+    }
+
+    @Test
+    void testNull() {
+        assertEquals("", HtmlSanitizer.sanitize(null).html());
+        assertEquals(0, HtmlSanitizer.sanitize("   ").textLength());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.jokerweb.community;
+
+import com.example.jokerweb.member.Member;
+import com.example.jokerweb.member.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 제보 저장/상태 변경/삭제가 닉네임별 집계에 반영되는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BarracksReportStatsTest {
+
+    @Autowired
+    private BarracksReportRepository reportRepository;
+
+    @Autowired
+    private BarracksReportTargetStatsRepository statsRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void testStatsFollowInsertStatusChangeAndDelete() {
+        Member reporter = new Member();
+        reporter.setEmail("stats-reporter@example.com");
+        reporter.setPasswordHash("hash");
+        reporter.setNickname("stats-reporter");
+        memberRepository.save(reporter);
+
+        BarracksReport first = reportRepository.save(report(reporter, "cheater"));
+        reportRepository.save(report(reporter, "cheater"));
+        reportRepository.save(report(reporter, BarracksReportStatsService.TROLL));
+        assertStats(2, 1, 3);
+
+        // 처리 완료: 제보 수는 그대로, 대기 건수만 감소
+        BarracksReport loaded = reportRepository.findById(first.getId()).orElseThrow();
+        loaded.setStatus("resolved");
+        reportRepository.save(loaded);
+        assertStats(2, 1, 2);
+
+        // 소프트 삭제: 집계에서 제외
+        loaded = reportRepository.findById(first.getId()).orElseThrow();
+        loaded.setIsDeleted(true);
+        reportRepository.save(loaded);
+        assertStats(1, 1, 2);
+    }
+
+    private void assertStats(int barracks, int troll, int pending) {
+        BarracksReportTargetStats stats = statsRepository.findById("stats-target").orElseThrow();
+        assertEquals(barracks, stats.getBarracksCount());
+        assertEquals(troll, stats.getTrollCount());
+        assertEquals(pending, stats.getPendingCount());
+        assertNotNull(stats.getLastReportedAt());
+    }
+
+    private static BarracksReport report(Member reporter, String reportType) {
+        return BarracksReport.builder()
+                .reporter(reporter)
+                .targetNickname("stats-target")
+                .barracksAddress("https://barracks.sa.nexon.com/1/match")
+                .reportType(reportType)
+                .title("제보")
+                .content("내용")
+                .status("pending")
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.jokerweb.community;
+
+import com.example.jokerweb.admin.dto.ReorderCategoriesRequest;
+import com.example.jokerweb.admin.service.AdminCategoryService;
+import com.example.jokerweb.monitoring.RequestPerfTrace;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 카탈로그가 반복 조회에 쿼리를 쓰지 않고, 변경 이벤트 이후에는 새 값을 읽는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CategoryCatalogTest {
+
+    @Autowired
+    private CategoryCatalog catalog;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private AdminCategoryService adminCategoryService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testLookupsAreServedFromSnapshotUntilChanged() {
+        Category category = categoryRepository.save(Category.builder()
+                .name("catalog-locked")
+                .displayOrder(900)
+                .canWrite(false)
+                .build());
+        eventPublisher.publishEvent(new CategoryChangedEvent(category.getId()));
+        assertFalse(catalog.findByName("catalog-locked").orElseThrow().canWrite());
+
+        try (RequestPerfTrace.Scope scope = RequestPerfTrace.open("catalog")) {
+            for (int i = 0; i < 10; i++) {
+                assertTrue(catalog.findByName("Catalog-Locked").isPresent());
+                assertTrue(catalog.findById(category.getId()).isPresent());
+            }
+            assertEquals(0, scope.trace().statementCount());
+        }
+
+        category.setCanWrite(true);
+        categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(category.getId()));
+        assertTrue(catalog.findByName("catalog-locked").orElseThrow().canWrite());
+    }
+
+    @Test
+    void testReorderIsOneUpdate() {
+        Category first = categoryRepository.save(Category.builder().name("catalog-first").displayOrder(901).build());
+        Category second = categoryRepository.save(Category.builder().name("catalog-second").displayOrder(902).build());
+        Category third = categoryRepository.save(Category.builder().name("catalog-third").displayOrder(903).build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("1", null, AuthorityUtils.NO_AUTHORITIES));
+
+        try (RequestPerfTrace.Scope scope = RequestPerfTrace.open("reorder")) {
+            adminCategoryService.reorderCategories(new ReorderCategoriesRequest(
+                    List.of(third.getId(), first.getId(), second.getId())));
+            // 존재 확인 1번 + UPDATE 1번
+            assertEquals(2, scope.trace().statementCount());
+        }
+
+        assertEquals(1, catalog.findById(third.getId()).orElseThrow().displayOrder());
+        assertEquals(2, catalog.findById(first.getId()).orElseThrow().displayOrder());
+        assertEquals(3, catalog.findById(second.getId()).orElseThrow().displayOrder());
+        assertThrows(RuntimeException.class, () -> adminCategoryService.reorderCategories(
+                new ReorderCategoriesRequest(List.of(first.getId(), first.getId()))));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.jokerweb.community;
+
+import com.example.jokerweb.community.dto.PostResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryPopularPostStoreTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private final InMemoryPopularPostStore store = new InMemoryPopularPostStore();
+
+    @Test
+    void testNewerPostOutranksOlderPostWithSameEngagement() {
+        store.upsert(post(1L, "free", NOW.minusDays(2), 10), 10);
+        store.upsert(post(2L, "free", NOW, 10), 10);
+
+        assertEquals(List.of(2L, 1L), ids(store.top(null, 10)));
+    }
+
+    @Test
+    void testOldViralPostDecays() {
+        // 10배 많은 반응도 하루 이상 지나면 새 게시글보다 뒤로 밀린다
+        store.upsert(post(1L, "free", NOW.minusDays(1), 100), 10);
+        store.upsert(post(2L, "free", NOW, 10), 10);
+
+        assertEquals(List.of(2L, 1L), ids(store.top(null, 10)));
+    }
+
+    @Test
+    void testKeepsOnlyTopKPerBoard() {
+        for (long id = 1; id <= 5; id++) {
+            store.upsert(post(id, id % 2 == 0 ? "free" : "ranked", NOW, (int) id), 3);
+        }
+
+        assertEquals(List.of(5L, 4L, 3L), ids(store.top(null, 10)));
+        assertEquals(List.of(4L, 2L), ids(store.top("free", 10)));
+        assertEquals(List.of(5L, 3L, 1L), ids(store.top("ranked", 10)));
+    }
+
+    @Test
+    void testUpsertReordersAndMovesCategory() {
+        store.upsert(post(1L, "free", NOW, 1), 10);
+        store.upsert(post(2L, "free", NOW, 2), 10);
+        store.upsert(post(1L, "ranked", NOW, 5), 10);
+
+        assertEquals(List.of(1L, 2L), ids(store.top(null, 10)));
+        assertEquals(List.of(2L), ids(store.top("free", 10)));
+        assertEquals(5, store.top("ranked", 10).get(0).getLikes());
+    }
+
+    @Test
+    void testRemove() {
+        store.upsert(post(1L, "free", NOW, 1), 10);
+        store.remove(1L);
+
+        assertTrue(store.top(null, 10).isEmpty());
+        assertTrue(store.top("free", 10).isEmpty());
+        assertTrue(store.isEmpty());
+    }
+
+    private static PopularPost post(long id, String category, LocalDateTime createdAt, int likes) {
+        return PopularPost.of(PostResponse.builder()
+                .id(id)
+                .category(category)
+                .title("title" + id)
+                .views(0)
+                .likes(likes)
+                .commentCount(0L)
+                .createdAt(createdAt)
+                .build());
+    }
+
+    private static List<Long> ids(List<PostResponse> responses) {
+        return responses.stream().map(PostResponse::getId).toList();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.jokerweb.community;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 게시글 검색 벤치마크: LIKE '%q%' 전체 스캔 vs post_search_token 색인
+ *
+ * 실행: gradle benchmark -Dbench.posts=1000000 -Dbench.jdbcUrl=jdbc:mariadb://localhost:3306/search_bench
+ * (비어 있는 전용 스키마를 사용할 것. 기본값은 H2 메모리 DB로, 대용량 코퍼스는 MariaDB에서 측정한다.)
+ */
+@Tag("benchmark")
+class PostSearchBenchmark {
+
+    private static final String[] CATEGORIES = {"free", "ranked", "custom", "supply", "duo"};
+    private static final String[] QUERIES = {"랭크전", "듀오 구함", "보급 상자", "스나이퍼", "클랜 모집", "제보"};
+    private static final int INSERT_BATCH = 5_000;
+    private static final int ITERATIONS = 20;
+    private static final int VOCABULARY_SIZE = 20_000;
+    private static final int SYLLABLE_POOL = 800;
+
+    @Test
+    void compareLikeScanWithTokenIndex() {
+        int postCount = Integer.getInteger("bench.posts", 1_000_000);
+        String url = System.getProperty("bench.jdbcUrl", "jdbc:h2:mem:search_bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url,
+                System.getProperty("bench.username", "sa"), System.getProperty("bench.password", ""));
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        PostSearchService searchService = new PostSearchService(jdbc, null, null);
+
+        createSchema(jdbc);
+        long loadStarted = System.nanoTime();
+        loadCorpus(jdbc, postCount);
+        System.out.printf("corpus loaded: posts=%d, tokens=%d, elapsed=%dms%n", postCount,
+                jdbc.queryForObject("SELECT COUNT(*) FROM post_search_token", Long.class),
+                (System.nanoTime() - loadStarted) / 1_000_000);
+
+        for (String query : QUERIES) {
+            String like = "%" + query + "%";
+            long[] likeNanos = measure(() -> {
+                jdbc.queryForObject("SELECT COUNT(*) FROM post WHERE is_deleted = false AND (title LIKE ? OR content LIKE ?)",
+                        Long.class, like, like);
+                jdbc.queryForList("SELECT id FROM post WHERE is_deleted = false AND (title LIKE ? OR content LIKE ?) " +
+                        "ORDER BY id DESC LIMIT 20", Long.class, like, like);
+            });
+            List<String> tokens = PostSearchTokenizer.queryTokens(query);
+            long[] indexNanos = measure(() -> {
+                searchService.countMatches(tokens, null);
+                searchService.rankedPostIds(tokens, null, 20, 0);
+            });
+            System.out.printf("query=%-8s like p50=%6.1fms p95=%6.1fms | index p50=%6.1fms p95=%6.1fms%n", query,
+                    percentile(likeNanos, 50), percentile(likeNanos, 95),
+                    percentile(indexNanos, 50), percentile(indexNanos, 95));
+        }
+    }
+
+    private void createSchema(JdbcTemplate jdbc) {
+        jdbc.execute("CREATE TABLE IF NOT EXISTS post (id BIGINT PRIMARY KEY, category VARCHAR(32) NOT NULL, " +
+                "title VARCHAR(255) NOT NULL, content TEXT NOT NULL, is_deleted BOOLEAN NOT NULL)");
+        jdbc.execute("CREATE TABLE IF NOT EXISTS post_search_token (token VARCHAR(4) NOT NULL, post_id BIGINT NOT NULL, " +
+                "category VARCHAR(32) NOT NULL, weight SMALLINT NOT NULL, PRIMARY KEY (token, post_id))");
+        jdbc.execute("CREATE INDEX IF NOT EXISTS idx_post_search_token_category ON post_search_token (token, category, post_id)");
+    }
+
+    private void loadCorpus(JdbcTemplate jdbc, int postCount) {
+        Random random = new Random(42);
+        String[] vocabulary = buildVocabulary(random);
+        List<Object[]> posts = new ArrayList<>(INSERT_BATCH);
+        List<Object[]> tokens = new ArrayList<>();
+        for (long id = 1; id <= postCount; id++) {
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            Post post = Post.builder()
+                    .id(id)
+                    .category(category)
+                    .title(sentence(random, vocabulary, 3 + random.nextInt(4)))
+                    .content("<p>" + sentence(random, vocabulary, 30 + random.nextInt(30)) + "</p>")
+                    .build();
+            posts.add(new Object[]{id, category, post.getTitle(), post.getContent(), false});
+            final long postId = id;
+            for (Map.Entry<String, Integer> e : PostSearchService.buildWeights(post).entrySet()) {
+                tokens.add(new Object[]{e.getKey(), postId, category, e.getValue()});
+            }
+            if (posts.size() == INSERT_BATCH || id == postCount) {
+                jdbc.batchUpdate("INSERT INTO post (id, category, title, content, is_deleted) VALUES (?, ?, ?, ?, ?)", posts);
+                jdbc.batchUpdate("INSERT INTO post_search_token (token, post_id, category, weight) VALUES (?, ?, ?, ?)", tokens);
+                posts.clear();
+                tokens.clear();
+            }
+        }
+    }
+
+    // 한글 음절 800개로 만든 2~4글자 단어 20,000개 (검색어는 중간 빈도 순위에 배치)
+    private String[] buildVocabulary(Random random) {
+        List<String> words = new ArrayList<>(VOCABULARY_SIZE);
+        while (words.size() < VOCABULARY_SIZE) {
+            StringBuilder word = new StringBuilder();
+            int length = 2 + random.nextInt(3);
+            for (int i = 0; i < length; i++) {
+                word.append((char) (0xAC00 + random.nextInt(SYLLABLE_POOL) * 13));
+            }
+            words.add(word.toString());
+        }
+        for (int i = 0; i < QUERIES.length; i++) {
+            words.set(100 + i * 150, QUERIES[i]);
+        }
+        return words.toArray(String[]::new);
+    }
+
+    // Zipf 분포로 단어 선택 (실제 게시글처럼 소수 단어가 자주 등장)
+    private String sentence(Random random, String[] vocabulary, int wordCount) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            int rank = (int) Math.min(vocabulary.length - 1, Math.floor(Math.pow(vocabulary.length, random.nextDouble())) - 1);
+            sb.append(vocabulary[rank]);
+        }
+        return sb.toString();
+    }
+
+    private long[] measure(Runnable query) {
+        query.run(); // warm-up
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            query.run();
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private double percentile(long[] sortedNanos, int percentile) {
+        int index = Math.min(sortedNanos.length - 1, (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1);
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.jokerweb.community;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostSearchTokenizerTest {
+
+    @Test
+    void testTokenizeKoreanBigrams() {
+        Map<String, Integer> tokens = PostSearchTokenizer.tokenize("랭크전 후기");
+        assertEquals(Map.of("랭크", 1, "크전", 1, "후기", 1), tokens);
+    }
+
+    @Test
+    void testTokenizeNormalizesCaseAndWidth() {
+        Map<String, Integer> tokens = PostSearchTokenizer.tokenize("ＡＢ ab");
+        assertEquals(Map.of("ab", 2), tokens);
+    }
+
+    @Test
+    void testTokenizeHtmlIgnoresTagsAndEntities() {
+        Map<String, Integer> tokens = PostSearchTokenizer.tokenizeHtml("<p class=\"x\">듀오&nbsp;구함</p>");
+        assertEquals(Map.of("듀오", 1, "구함", 1), tokens);
+    }
+
+    @Test
+    void testQueryTokensSkipsSingleCharacterWords() {
+        assertEquals(List.of("보급", "급상", "상자"), PostSearchTokenizer.queryTokens("보급상자 a"));
+        assertTrue(PostSearchTokenizer.queryTokens("a 가").isEmpty());
+        assertTrue(PostSearchTokenizer.queryTokens(null).isEmpty());
+    }
+
+    @Test
+    void testQueryTokensAreBounded() {
+        List<String> tokens = PostSearchTokenizer.queryTokens("abcdefghijklmnopqrstuvwxyz");
+        assertEquals(PostSearchTokenizer.MAX_QUERY_TOKENS, tokens.size());
+    }
+}
@@ -40,6 +40,12 @@ class PostServiceTest {
     @Mock
     private MemberRepository memberRepository;
     
+    @Mock
+    private PostSearchService postSearchService;
+    
+    @Mock
+    private PopularPostService popularPostService;
+    
     @InjectMocks
     private PostService postService;
     
@@ -62,17 +68,15 @@ class PostServiceTest {
     
     @Test
     void testCreatePostWithXssContent() {
-        // XSS 공격 시도
-        validRequest.setContent("<script>alert('XSS')</script>안전한 내용");
+        // XSS 공격 시도 (본문 길이는 보이는 글자 기준이므로 스크립트를 빼고도 10자 이상)
+        validRequest.setContent("<script>alert('XSS')</script>안전한 본문 내용입니다");
         
         when(authService.authenticate(any())).thenReturn(Optional.of(testMember));
-        when(passwordEncoder.encode(any())).thenReturn("hashed");
         when(postRepository.save(any(Post.class))).thenAnswer(invocation -> {
             Post post = invocation.getArgument(0);
             post.setId(1L);
             return post;
         });
-        when(commentRepository.countByPostIdAndIsDeletedFalse(anyLong())).thenReturn(0L);
         
         // 서비스 호출
         var result = assertDoesNotThrow(() -> 
@@ -95,7 +99,6 @@ class PostServiceTest {
             post.setId(1L);
             return post;
         });
-        when(commentRepository.countByPostIdAndIsDeletedFalse(anyLong())).thenReturn(0L);
         
         assertDoesNotThrow(() -> 
                 postService.create("Bearer token", validRequest, "127.0.0.1")
@@ -0,0 +1,116 @@
+package com.example.jokerweb.config;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 블로킹 요청 처리량/동시 요청당 메모리 비교: Tomcat 플랫폼 스레드 풀(prod 20개) vs 요청당 가상 스레드
+ * 요청 하나는 넥슨 API 대기를 흉내 내 bench.latencyMs 동안 블로킹한다.
+ * 메모리는 blocked 상태 스레드 bench.holders개를 띄운 뒤 RSS(/proc/self/status VmRSS)와 GC 후 사용 힙의 증가분을 나눈 값이다.
+ * 플랫폼 스레드 스택은 힙 밖(RSS), 가상 스레드 스택은 힙 안에 잡힌다.
+ *
+ * 실행: gradle benchmark --tests '*VirtualThreadBenchmark' -Dbench.requests=2000 -Dbench.latencyMs=100
+ */
+@Tag("benchmark")
+class VirtualThreadBenchmark {
+
+    @Test
+    void comparePlatformPoolWithVirtualThreads() throws Exception {
+        int requests = Integer.getInteger("bench.requests", 2_000);
+        int latencyMs = Integer.getInteger("bench.latencyMs", 100);
+        int poolSize = Integer.getInteger("bench.poolSize", 20);
+        int holders = Integer.getInteger("bench.holders", 2_000);
+
+        double platform = throughput(Executors.newFixedThreadPool(poolSize), requests, latencyMs);
+        double virtual = throughput(Executors.newVirtualThreadPerTaskExecutor(), requests, latencyMs);
+        System.out.printf("requests=%d latency=%dms | platform(pool=%d) %8.1f req/s | virtual %8.1f req/s%n",
+                requests, latencyMs, poolSize, platform, virtual);
+
+        long[] platformBytes = bytesPerBlockedThread(Thread.ofPlatform().factory(), holders);
+        long[] virtualBytes = bytesPerBlockedThread(Thread.ofVirtual().factory(), holders);
+        System.out.printf("blocked threads=%d | platform rss %6d B heap %6d B | virtual rss %6d B heap %6d B (per request)%n",
+                holders, platformBytes[0], platformBytes[1], virtualBytes[0], virtualBytes[1]);
+    }
+
+    private double throughput(ExecutorService executor, int requests, int latencyMs) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        try (executor) {
+            for (int i = 0; i < requests; i++) {
+                executor.execute(() -> sleep(latencyMs));
+            }
+        }
+        return requests / ((System.nanoTime() - startedAt) / 1e9);
+    }
+
+    private long[] bytesPerBlockedThread(ThreadFactory factory, int count) throws Exception {
+        System.gc();
+        long rssBefore = rssBytes();
+        long heapBefore = usedHeapBytes();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(count);
+        Thread[] threads = new Thread[count];
+        for (int i = 0; i < count; i++) {
+            threads[i] = factory.newThread(() -> {
+                started.countDown();
+                // 요청 처리 중 스택을 어느 정도 쓰는 상태를 흉내 냄
+                blockWithDepth(16, release);
+            });
+            threads[i].start();
+        }
+        started.await(30, TimeUnit.SECONDS);
+        System.gc();
+        long rssAfter = rssBytes();
+        long heapAfter = usedHeapBytes();
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return new long[]{Math.max(0, rssAfter - rssBefore) / count, Math.max(0, heapAfter - heapBefore) / count};
+    }
+
+    private static void blockWithDepth(int depth, CountDownLatch release) {
+        if (depth > 0) {
+            blockWithDepth(depth - 1, release);
+            return;
+        }
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(int millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long usedHeapBytes() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long rssBytes() throws Exception {
+        Path status = Path.of("/proc/self/status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D+", "")) * 1024;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.jokerweb.logging;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogRingBufferTest {
+
+    @Test
+    void testRoundsCapacityUpToPowerOfTwo() {
+        assertEquals(8, new AccessLogRingBuffer<Integer>(5).capacity());
+        assertEquals(16, new AccessLogRingBuffer<Integer>(16).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new AccessLogRingBuffer<Integer>(1));
+    }
+
+    @Test
+    void testRejectsWhenFullAndKeepsOrder() {
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(99));
+        assertEquals(4, buffer.size());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, buffer.drainTo(drained, 3));
+        assertEquals(List.of(0, 1, 2), drained);
+
+        // 비운 만큼 다시 들어가고 순서가 유지된다 (슬롯 재사용)
+        assertTrue(buffer.offer(4));
+        drained.clear();
+        assertEquals(2, buffer.drainTo(drained, 10));
+        assertEquals(List.of(3, 4), drained);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void testConcurrentProducersLoseNothingWhileCapacityAllows() throws Exception {
+        int producers = 4;
+        int perProducer = 5_000;
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(producers * perProducer);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    assertTrue(buffer.offer(base + i));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained, Integer.MAX_VALUE);
+        Set<Integer> unique = new HashSet<>(drained);
+        assertEquals(producers * perProducer, unique.size());
+    }
+}
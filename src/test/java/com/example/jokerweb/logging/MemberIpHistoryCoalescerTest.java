@@ -0,0 +1,93 @@
+package com.example.jokerweb.logging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberIpHistoryCoalescerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private MemberIpHistoryCoalescer coalescer;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRepeatedTouchesFlushAsOneRowWithLatestTime() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+        for (int i = 0; i < 50; i++) {
+            coalescer.touch(1L, "1.1.1.1", base.plusSeconds(i));
+        }
+        coalescer.touch(1L, "1.1.1.1", base); // 늦게 도착한 이전 시각은 무시
+        coalescer.touch(2L, "2.2.2.2", base);
+        assertEquals(2, coalescer.pendingSize());
+
+        coalescer.flush();
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), rows.capture());
+        List<Object[]> flushed = rows.getValue().stream()
+                .sorted(Comparator.comparing(row -> (Long) row[0]))
+                .toList();
+        assertEquals(2, flushed.size());
+        assertEquals(Timestamp.valueOf(base), flushed.get(0)[2]); // first_seen은 주기 내 가장 이른 시각
+        assertEquals(Timestamp.valueOf(base.plusSeconds(49)), flushed.get(0)[3]);
+        assertEquals(0, coalescer.pendingSize());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFailedFlushKeepsLatestTimeForNextCycle() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+        coalescer.touch(1L, "1.1.1.1", base.plusSeconds(30));
+        doThrow(new RuntimeException("db down")).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        coalescer.flush();
+        coalescer.touch(1L, "1.1.1.1", base); // 실패 후 들어온 이전 시각이 되돌린 시각을 덮지 않아야 함
+        assertEquals(1, coalescer.pendingSize());
+
+        reset(jdbcTemplate);
+        coalescer.flush();
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertEquals(Timestamp.valueOf(base.plusSeconds(30)), rows.getValue().get(0)[3]);
+        assertEquals(0, coalescer.pendingSize());
+    }
+
+    @Test
+    void testRowsAreDroppedAfterMaxRetries() {
+        coalescer.touch(1L, "1.1.1.1", LocalDateTime.of(2025, 1, 1, 12, 0));
+        doThrow(new RuntimeException("bad row")).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        coalescer.flush();
+        coalescer.flush();
+        assertEquals(1, coalescer.pendingSize());
+        coalescer.flush();
+
+        assertEquals(0, coalescer.pendingSize());
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void testEmptyFlushSkipsDatabase() {
+        coalescer.flush();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+}
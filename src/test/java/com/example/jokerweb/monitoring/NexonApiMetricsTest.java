@@ -0,0 +1,50 @@
+package com.example.jokerweb.monitoring;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+class NexonApiMetricsTest {
+
+    @Test
+    void testEndpointAndOutcomeTags() {
+        assertEquals("id", NexonApiMetrics.endpointOf("/suddenattack/v1/id"));
+        assertEquals("user-basic", NexonApiMetrics.endpointOf("/suddenattack/v1/user/basic"));
+        assertEquals("user-recent-info", NexonApiMetrics.endpointOf("/suddenattack/v1/user/recent-info"));
+        assertEquals("match-detail", NexonApiMetrics.endpointOf("/suddenattack/v1/match-detail"));
+        assertEquals("metadata", NexonApiMetrics.endpointOf("/static/suddenattack/meta/tier"));
+        assertEquals("unknown", NexonApiMetrics.endpointOf("/maplestory/v1/id"));
+
+        assertEquals("success", NexonApiMetrics.outcomeOf(200));
+        assertEquals("4xx", NexonApiMetrics.outcomeOf(404));
+        assertEquals("429", NexonApiMetrics.outcomeOf(429));
+        assertEquals("5xx", NexonApiMetrics.outcomeOf(503));
+        assertEquals("timeout", NexonApiMetrics.outcomeOf(new SocketTimeoutException("Read timed out")));
+        assertEquals("io-error", NexonApiMetrics.outcomeOf(new IOException("Connection reset")));
+    }
+
+    @Test
+    void testRecordsTaggedTimersAndKeyCooldown() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        NexonApiMetrics metrics = new NexonApiMetrics(registry);
+        metrics.registerKeys(2);
+
+        metrics.recordRequest("match-detail", 2, "429", 0, TimeUnit.MILLISECONDS.toNanos(120));
+        metrics.recordRequest("match-detail", 1, "success", 1, TimeUnit.MILLISECONDS.toNanos(80));
+        metrics.recordRequest("match-detail", 1, "success", 5, TimeUnit.MILLISECONDS.toNanos(80));
+        metrics.startKeyCooldown(2, 30);
+
+        Timer rateLimited = registry.get("nexon.api.requests")
+                .tags("endpoint", "match-detail", "key", "2", "outcome", "429", "retry", "0").timer();
+        assertEquals(1, rateLimited.count());
+        assertEquals(1, registry.get("nexon.api.requests").tags("retry", "3+").timer().count());
+
+        double cooldown = registry.get("nexon.api.key.cooldown").tag("key", "2").gauge().value();
+        assertTrue(cooldown > 25 && cooldown <= 30);
+        assertEquals(0, registry.get("nexon.api.key.cooldown").tag("key", "1").gauge().value());
+    }
+}
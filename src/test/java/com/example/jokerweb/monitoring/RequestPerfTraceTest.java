@@ -0,0 +1,77 @@
+package com.example.jokerweb.monitoring;
+
+import org.junit.jupiter.api.Test;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestPerfTraceTest {
+
+    @Test
+    void testNormalizeGroupsStatementsByShape() {
+        assertEquals("select * from post where id=? and title=?",
+                RequestPerfTrace.normalize("select * from post where id=42 and title='it''s'"));
+        assertEquals("select * from member where id in (?)",
+                RequestPerfTrace.normalize("select *\n  from member where id in (?, ?, ?)"));
+        assertEquals(RequestPerfTrace.normalize("select * from comment where post_id=1"),
+                RequestPerfTrace.normalize("select * from comment where post_id=2"));
+    }
+
+    @Test
+    void testRepeatedStatementDetection() {
+        try (RequestPerfTrace.Scope scope = RequestPerfTrace.open("t1")) {
+            RequestPerfTrace.recordStatement("select * from post order by id desc limit 20");
+            for (int i = 1; i <= 20; i++) {
+                RequestPerfTrace.recordStatement("select * from member where id=" + i);
+            }
+            RequestPerfTrace.recordNexonCall(5_000_000);
+            RequestPerfTrace.recordCacheHit();
+            RequestPerfTrace.recordCacheMiss();
+
+            RequestPerfTrace trace = scope.trace();
+            assertEquals(21, trace.statementCount());
+            Map.Entry<String, Long> repeated = trace.mostRepeatedStatement().orElseThrow();
+            assertEquals("select * from member where id=?", repeated.getKey());
+            assertEquals(20L, repeated.getValue());
+            assertEquals(1, trace.nexonCallCount());
+            assertTrue(trace.toServerTiming().contains("desc=\"21 queries\""));
+            assertTrue(trace.toServerTiming().contains("desc=\"1 hit 1 miss\""));
+        }
+        assertNull(RequestPerfTrace.current());
+    }
+
+    @Test
+    void testRecordingWithoutTraceIsIgnored() {
+        RequestPerfTrace.recordStatement("select 1");
+        RequestPerfTrace.recordNexonCall(1);
+        assertNull(RequestPerfTrace.current());
+    }
+
+    @Test
+    void testPropagateToExecutorThread() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (RequestPerfTrace.Scope scope = RequestPerfTrace.open("t2")) {
+            Runnable task = RequestPerfTrace.propagate(() -> RequestPerfTrace.recordStatement("select 1"));
+            CompletableFuture.runAsync(task, executor).get();
+            assertEquals(1, scope.trace().statementCount());
+
+            // 실행 스레드에는 추적이 남지 않아야 함
+            assertNull(CompletableFuture.supplyAsync(RequestPerfTrace::current, executor).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testNestedScopeRestoresPrevious() {
+        try (RequestPerfTrace.Scope outer = RequestPerfTrace.open("outer")) {
+            try (RequestPerfTrace.Scope inner = RequestPerfTrace.open("inner")) {
+                assertSame(inner.trace(), RequestPerfTrace.current());
+            }
+            assertSame(outer.trace(), RequestPerfTrace.current());
+        }
+        assertNull(RequestPerfTrace.current());
+    }
+}
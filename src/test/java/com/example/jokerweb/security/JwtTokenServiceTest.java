@@ -0,0 +1,48 @@
+package com.example.jokerweb.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenServiceTest {
+
+    private static final String SECRET = "TEST_JWT_SECRET_012345678901234567890";
+
+    @Test
+    void testVerifiedClaimsAreReused() {
+        JwtTokenService service = new JwtTokenService(SECRET, 3600);
+        String token = service.generateToken(1L, "a@example.com");
+
+        Claims first = service.parse(token);
+
+        assertEquals("1", first.getSubject());
+        assertSame(first, service.parse(token));
+    }
+
+    @Test
+    void testCachedClaimsDoNotOutliveTokenExpiry() throws Exception {
+        JwtTokenService service = new JwtTokenService(SECRET, 2);
+        String token = service.generateToken(1L, "a@example.com");
+        assertEquals("1", service.parse(token).getSubject()); // exp는 초 단위로 잘려도 1초 이상 남는다
+
+        Thread.sleep(3_100);
+
+        // 캐시 TTL이 토큰 만료로 제한되지 않으면 만료된 토큰의 claims가 캐시에서 반환된다
+        assertThrows(ExpiredJwtException.class, () -> service.parse(token));
+    }
+
+    @Test
+    void testTamperedTokenIsRejectedEveryTime() {
+        JwtTokenService service = new JwtTokenService(SECRET, 3600);
+        String token = service.generateToken(1L, "a@example.com");
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(SignatureException.class, () -> service.parse(tampered));
+        assertThrows(SignatureException.class, () -> service.parse(tampered));
+        assertEquals("1", service.parse(token).getSubject());
+    }
+}
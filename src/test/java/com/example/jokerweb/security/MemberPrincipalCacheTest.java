@@ -0,0 +1,62 @@
+package com.example.jokerweb.security;
+
+import com.example.jokerweb.member.Member;
+import com.example.jokerweb.member.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberPrincipalCacheTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private MemberPrincipalCache cache;
+
+    @Test
+    void testFindCachesUntilEvicted() {
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member("before")));
+
+        assertEquals("before", cache.find(1L).orElseThrow().getNickname());
+        assertEquals("before", cache.find(1L).orElseThrow().getNickname());
+        verify(memberRepository, times(1)).findById(1L);
+
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member("after")));
+        cache.evict(1L);
+
+        assertEquals("after", cache.find(1L).orElseThrow().getNickname());
+    }
+
+    @Test
+    void testEvictInTransactionAlsoEvictsAfterCommit() {
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member("before")));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(1L);
+            // 커밋 전 다른 요청이 옛 값으로 다시 채운 경우
+            cache.find(1L);
+            when(memberRepository.findById(1L)).thenReturn(Optional.of(member("after")));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals("after", cache.find(1L).orElseThrow().getNickname());
+    }
+
+    private static Member member(String nickname) {
+        return Member.builder().id(1L).email("a@example.com").nickname(nickname).build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.jokerweb.security.admission;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long TARGET = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void testRejectsWhenLimitAndQueueAreFull() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 4, 0, TARGET, 0.5);
+        assertEquals(AdaptiveConcurrencyLimiter.Outcome.ACQUIRED, limiter.acquire(0));
+        assertEquals(AdaptiveConcurrencyLimiter.Outcome.ACQUIRED, limiter.acquire(0));
+        assertEquals(AdaptiveConcurrencyLimiter.Outcome.QUEUE_FULL, limiter.acquire(TimeUnit.SECONDS.toNanos(1)));
+
+        limiter.release(0, false);
+        assertEquals(AdaptiveConcurrencyLimiter.Outcome.ACQUIRED, limiter.acquire(0));
+    }
+
+    @Test
+    void testQueuedRequestTimesOutOrGetsReleasedSlot() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 1, 1, 1, 1, TARGET, 0.5);
+        assertEquals(AdaptiveConcurrencyLimiter.Outcome.ACQUIRED, limiter.acquire(0));
+        assertEquals(AdaptiveConcurrencyLimiter.Outcome.TIMEOUT, limiter.acquire(TimeUnit.MILLISECONDS.toNanos(20)));
+
+        CompletableFuture<AdaptiveConcurrencyLimiter.Outcome> waiter =
+                CompletableFuture.supplyAsync(() -> limiter.acquire(TimeUnit.SECONDS.toNanos(5)));
+        while (limiter.waiting() == 0) {
+            Thread.onSpinWait();
+        }
+        limiter.release(0, false);
+        assertEquals(AdaptiveConcurrencyLimiter.Outcome.ACQUIRED, waiter.get(5, TimeUnit.SECONDS));
+        assertEquals(1, limiter.inFlight());
+    }
+
+    @Test
+    void testLimitShrinksOnSlowResponsesAndGrowsWhenSaturated() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 4, 1, 6, 0, TARGET, 0.5);
+        limiter.acquire(0);
+        limiter.release(TARGET * 2, false);
+        assertEquals(2, limiter.currentLimit());
+        limiter.acquire(0);
+        limiter.release(0, true);
+        assertEquals(1, limiter.currentLimit());
+        limiter.acquire(0);
+        limiter.release(TARGET * 10, false);
+        assertEquals(1, limiter.currentLimit(), "최소 한도 아래로 내려가지 않음");
+
+        // 한도를 채운 상태에서 빠른 응답이 이어지면 한 바퀴마다 1씩 회복
+        for (int i = 0; i < 20; i++) {
+            int limit = limiter.currentLimit();
+            for (int j = 0; j < limit; j++) {
+                assertEquals(AdaptiveConcurrencyLimiter.Outcome.ACQUIRED, limiter.acquire(0));
+            }
+            for (int j = 0; j < limit; j++) {
+                limiter.release(0, false);
+            }
+        }
+        assertEquals(6, limiter.currentLimit(), "최대 한도에서 멈춤");
+    }
+
+    @Test
+    void testLatencyTargetFollowsMeasuredDistribution() {
+        // 업스트림이 원래 30초씩 걸리는 경로: 고정 목표(1초)였다면 매 응답마다 줄어 최소 한도에 머문다
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 3, 1, 5, 0, TARGET, 0.8,
+                20, 0.95, 1.5);
+        long usual = TimeUnit.SECONDS.toNanos(30);
+        assertEquals(Long.MAX_VALUE, limiter.latencyTargetNanos(), "표본이 모이기 전에는 지연을 신호로 쓰지 않음");
+        for (int i = 0; i < 30; i++) {
+            int limit = limiter.currentLimit();
+            for (int j = 0; j < limit; j++) {
+                assertEquals(AdaptiveConcurrencyLimiter.Outcome.ACQUIRED, limiter.acquire(0));
+            }
+            for (int j = 0; j < limit; j++) {
+                limiter.release(usual, false);
+            }
+        }
+        assertEquals(5, limiter.currentLimit());
+        assertEquals(TimeUnit.SECONDS.toNanos(45), limiter.latencyTargetNanos());
+
+        // 평소 분포보다 크게 느려지면 과부하로 보고 줄인다
+        limiter.acquire(0);
+        limiter.release(TimeUnit.SECONDS.toNanos(60), false);
+        assertEquals(4, limiter.currentLimit());
+    }
+}
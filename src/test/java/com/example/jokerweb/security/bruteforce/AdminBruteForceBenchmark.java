@@ -0,0 +1,95 @@
+package com.example.jokerweb.security.bruteforce;
+
+import com.example.jokerweb.security.AdminAccessProtectionFilter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 어드민 무단 접근(크리덴셜 스터핑) 부하 벤치마크
+ * 공격 IP 풀에서 초당 요청 수를 단계적으로 올리며 필터를 호출하고,
+ * 단계마다 요청 처리 지연과 감사 로그 flush에서 실행된 배치 INSERT 수/행 수를 출력한다.
+ * 요청 수가 늘어도 DB 쓰기는 (IP 수 × 2)행과 flush 주기에 묶여 평탄해야 한다.
+ *
+ * 실행: gradle benchmark -Dbench.attackIps=2000 -Dbench.requests=200000
+ */
+@Tag("benchmark")
+class AdminBruteForceBenchmark {
+
+    private static final int THREADS = 8;
+    private static final int STAGES = 4;
+
+    @Test
+    void sustainedCredentialStuffing() throws Exception {
+        int attackIps = Integer.getInteger("bench.attackIps", 2_000);
+        int baseRequests = Integer.getInteger("bench.requests", 200_000);
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:admin_attack_bench;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        AtomicLong batches = new AtomicLong();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource) {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                batches.incrementAndGet();
+                return super.batchUpdate(sql, batchArgs);
+            }
+        };
+        jdbc.execute("CREATE TABLE admin_access_attempt (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "client_ip VARCHAR(64) NOT NULL, user_agent TEXT, request_path VARCHAR(512), has_auth BOOLEAN NOT NULL, " +
+                "is_blocked BOOLEAN NOT NULL, attempted_at TIMESTAMP)");
+
+        AttackTrackingProperties properties = new AttackTrackingProperties();
+        AdminAccessAuditWriter auditWriter = new AdminAccessAuditWriter(jdbc, properties);
+        AdminAccessProtectionFilter filter = new AdminAccessProtectionFilter(
+                new LocalAttackTrackingStore(properties), auditWriter, properties);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int stage = 1; stage <= STAGES; stage++) {
+                int requests = baseRequests * stage;
+                long rowsBefore = jdbc.queryForObject("SELECT COUNT(*) FROM admin_access_attempt", Long.class);
+                long batchesBefore = batches.get();
+                long started = System.nanoTime();
+
+                List<Future<?>> futures = new ArrayList<>(THREADS);
+                for (int t = 0; t < THREADS; t++) {
+                    int offset = t;
+                    futures.add(executor.submit(() -> {
+                        for (int i = offset; i < requests; i += THREADS) {
+                            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/users");
+                            request.setRemoteAddr("10.0." + (i % attackIps) / 250 + "." + (i % attackIps) % 250);
+                            try {
+                                filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+                            } catch (Exception e) {
+                                throw new IllegalStateException(e);
+                            }
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                long elapsedNanos = System.nanoTime() - started;
+                auditWriter.flush();
+
+                long rows = jdbc.queryForObject("SELECT COUNT(*) FROM admin_access_attempt", Long.class) - rowsBefore;
+                System.out.printf("stage=%d requests=%d throughput=%.0f req/s avg=%.2fus | batch inserts=%d rows=%d%n",
+                        stage, requests, requests / (elapsedNanos / 1e9), elapsedNanos / 1e3 / requests,
+                        batches.get() - batchesBefore, rows);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
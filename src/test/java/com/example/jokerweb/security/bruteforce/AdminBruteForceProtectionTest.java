@@ -0,0 +1,145 @@
+package com.example.jokerweb.security.bruteforce;
+
+import com.example.jokerweb.security.AdminAccessProtectionFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class AdminBruteForceProtectionTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private AdminAccessAuditWriter auditWriter;
+    private AdminAccessProtectionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        AttackTrackingProperties properties = new AttackTrackingProperties();
+        properties.setAuditBatchSize(2);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        auditWriter = new AdminAccessAuditWriter(jdbcTemplate, properties);
+        filter = new AdminAccessProtectionFilter(new LocalAttackTrackingStore(properties), auditWriter, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testSlidingWindowEstimateWeightsPreviousWindow() {
+        long window = 1_000;
+        assertEquals(7.0, SlidingWindowCounter.estimate(4, 3, 5_000, window)); // 윈도 시작: 직전 윈도 전체 반영
+        assertEquals(5.0, SlidingWindowCounter.estimate(4, 3, 5_500, window)); // 절반 경과: 직전 윈도 절반 반영
+
+        SlidingWindowCounter counter = new SlidingWindowCounter();
+        counter.increment(5_100, window);
+        counter.increment(5_900, window);
+        assertEquals(2.0, counter.increment(6_500, window), 1e-9);
+        assertEquals(1.0, counter.increment(8_000, window), 1e-9); // 윈도 2개 이상 지나면 초기화
+    }
+
+    @Test
+    void testAttemptsStraddlingWindowBoundaryAreBlocked() throws Exception {
+        AttackTrackingProperties properties = new AttackTrackingProperties();
+        long window = properties.getWindow().toMillis();
+        long boundary = window * 480_000; // 정각(윈도 경계)
+        AtomicLong now = new AtomicLong(boundary - 60_000);
+        filter = new AdminAccessProtectionFilter(
+                new LocalAttackTrackingStore(properties, now::get), auditWriter, properties);
+
+        // 12:59, 13:01 - 고정 윈도 2개 추정으로는 약 1.98회로 max-attempts(2) 미만이 된다
+        assertTrue(SlidingWindowCounter.estimate(1, 1, boundary + 60_000, window) < properties.getMaxAttempts());
+        assertNull(attempt("7.7.7.7").getRedirectedUrl());
+        now.set(boundary + 60_000);
+        assertEquals("/", attempt("7.7.7.7").getRedirectedUrl());
+
+        // 윈도가 지나면 다시 허용
+        now.addAndGet(window);
+        assertNull(attempt("7.7.7.7").getRedirectedUrl());
+    }
+
+    @Test
+    void testAttemptLogCountsOnlyAttemptsInsideWindow() {
+        AttemptLog log = new AttemptLog(3);
+        assertEquals(1, log.record(1_000, 1_000));
+        assertEquals(2, log.record(1_999, 1_000));
+        assertEquals(2, log.record(2_500, 1_000)); // 1_000은 윈도 밖
+        assertEquals(3, log.record(2_600, 1_000));
+        assertEquals(3, log.record(2_700, 1_000)); // 보관 개수에서 포화
+    }
+
+    @Test
+    void testSecondAttemptFromSameIpIsBlockedWithoutDatabaseAccess() throws Exception {
+        assertNull(attempt("1.1.1.1").getRedirectedUrl());
+        assertEquals("/", attempt("1.1.1.1").getRedirectedUrl());
+        assertNull(attempt("2.2.2.2").getRedirectedUrl());
+
+        verifyNoInteractions(jdbcTemplate);
+        assertEquals(3, auditWriter.pendingSize());
+    }
+
+    @Test
+    void testAccountIsBlockedAcrossIps() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "42", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        assertNull(attempt("3.3.3.1").getRedirectedUrl());
+        assertEquals("/", attempt("3.3.3.2").getRedirectedUrl());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRepeatedBlockedAttemptsAreSuppressedAndFlushedInBatches() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            attempt("4.4.4.4");
+        }
+        attempt("5.5.5.5");
+        // 차단 전 1건 + 처음 차단된 1건 + 다른 IP 1건만 행으로 남음
+        assertEquals(3, auditWriter.pendingSize());
+
+        auditWriter.flush();
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), rows.capture());
+        List<Object[]> first = rows.getAllValues().get(0);
+        assertEquals(false, first.get(0)[4]);
+        assertEquals(true, first.get(1)[4]);
+        assertEquals(1, rows.getAllValues().get(1).size());
+        assertEquals(0, auditWriter.pendingSize());
+    }
+
+    @Test
+    void testAdminIsNotTracked() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "1", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+        for (int i = 0; i < 5; i++) {
+            assertNull(attempt("6.6.6.6").getRedirectedUrl());
+        }
+        assertEquals(0, auditWriter.pendingSize());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    private MockHttpServletResponse attempt(String ip) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/users");
+        request.setRemoteAddr(ip);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.jokerweb.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalRateLimitStoreTest {
+
+    private final RateLimitPolicy register = new RateLimitPolicy("register", 3, Duration.ofHours(1));
+
+    @Test
+    void testRejectsAfterCapacityWithRetryAfter() {
+        LocalRateLimitStore store = new LocalRateLimitStore(new RateLimitProperties());
+        for (int i = 0; i < 3; i++) {
+            RateLimitStore.Result result = store.tryConsume("1.2.3.4", register);
+            assertTrue(result.allowed());
+            assertEquals(2 - i, result.remaining());
+        }
+        RateLimitStore.Result rejected = store.tryConsume("1.2.3.4", register);
+        assertFalse(rejected.allowed());
+        assertTrue(rejected.retryAfterSeconds() > 0 && rejected.retryAfterSeconds() <= 3600);
+
+        // 다른 IP, 다른 정책은 별도 버킷
+        assertTrue(store.tryConsume("5.6.7.8", register).allowed());
+        assertTrue(store.tryConsume("1.2.3.4", new RateLimitPolicy("anon", 100, Duration.ofMinutes(1))).allowed());
+    }
+
+    @Test
+    void testBucketCountIsBounded() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxBuckets(100);
+        LocalRateLimitStore store = new LocalRateLimitStore(properties);
+        for (int i = 0; i < 10_000; i++) {
+            store.tryConsume("10.0." + (i / 256) + "." + (i % 256), register);
+        }
+        assertTrue(store.estimatedSize() <= 100);
+    }
+
+    @Test
+    void testRoutePolicyResolvedBeforeTierPolicy() {
+        RateLimitPolicies policies = new RateLimitPolicies(new RateLimitProperties());
+
+        List<RateLimitPolicy> registerPolicies = policies.resolve("POST", "/api/auth/register", false);
+        assertEquals(List.of("route-register", "anon"), registerPolicies.stream().map(RateLimitPolicy::name).toList());
+
+        assertEquals(List.of("route-admin", "auth"),
+                policies.resolve("GET", "/api/admin/users/1", true).stream().map(RateLimitPolicy::name).toList());
+        assertEquals(List.of("anon"),
+                policies.resolve("GET", "/api/auth/register", false).stream().map(RateLimitPolicy::name).toList());
+    }
+}
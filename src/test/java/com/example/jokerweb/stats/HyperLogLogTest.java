@@ -0,0 +1,54 @@
+package com.example.jokerweb.stats;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    void testEstimateWithinErrorBound() {
+        HyperLogLog hll = new HyperLogLog();
+        for (int i = 0; i < 100_000; i++) {
+            hll.offer("10.0." + (i / 256) + "." + (i % 256));
+        }
+        // 중복 입력은 추정치에 영향 없음
+        for (int i = 0; i < 1_000; i++) {
+            hll.offer("10.0.0." + (i % 256));
+        }
+        assertEquals(100_000, hll.estimate(), 100_000 * 0.05);
+    }
+
+    @Test
+    void testSmallCardinalityIsNearlyExact() {
+        HyperLogLog hll = new HyperLogLog();
+        assertTrue(hll.isEmpty());
+        assertEquals(0, hll.estimate());
+        for (int i = 0; i < 50; i++) {
+            hll.offer("member-" + i);
+        }
+        assertEquals(50, hll.estimate(), 1);
+    }
+
+    @Test
+    void testMergeEstimatesUnion() {
+        HyperLogLog monday = new HyperLogLog();
+        HyperLogLog tuesday = new HyperLogLog();
+        for (int i = 0; i < 20_000; i++) {
+            monday.offer("ip-" + i);
+            tuesday.offer("ip-" + (i + 10_000));
+        }
+        monday.merge(tuesday);
+        assertEquals(30_000, monday.estimate(), 30_000 * 0.05);
+        assertThrows(IllegalArgumentException.class, () -> monday.merge(new HyperLogLog(10)));
+    }
+
+    @Test
+    void testBytesRoundTrip() {
+        HyperLogLog hll = new HyperLogLog();
+        hll.offer("127.0.0.1");
+        HyperLogLog restored = HyperLogLog.fromBytes(hll.toBytes());
+        assertEquals(hll, restored);
+        assertEquals(HyperLogLog.DEFAULT_PRECISION, restored.precision());
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[100]));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.jokerweb.stats;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrafficRollupServiceTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final LocalDateTime DAY = TrafficGranularity.DAY.bucketOf(AT);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private TrafficRollupService service;
+
+    // 커밋된 DAY/pv 합계와 현재 트랜잭션에서 쓴(아직 커밋 전) 합계
+    private final AtomicLong committed = new AtomicLong();
+    private final List<Long> staged = new ArrayList<>();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        doAnswer(invocation -> {
+            staged.clear();
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            staged.forEach(committed::addAndGet); // 예외 없이 끝나면 커밋, 예외면 롤백(staged 버림)
+            staged.clear();
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                if ("DAY".equals(row[0]) && TrafficMetric.PAGE_VIEW.code().equals(row[2])) {
+                    staged.add((Long) row[3]);
+                }
+                // 일부 행을 쓴 뒤 실패하는 경우
+                if (failuresLeft.get() > 0 && !staged.isEmpty()) {
+                    failuresLeft.decrementAndGet();
+                    throw new DataAccessResourceFailureException("connection reset");
+                }
+            }
+            return new int[rows.size()];
+        });
+        lenient().when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any(Object[].class)))
+                .thenAnswer(invocation -> committed.get());
+    }
+
+    @Test
+    void testFailedFlushIsRetriedWithoutLossOrDoubleCount() {
+        for (int i = 0; i < 3; i++) {
+            service.increment(TrafficMetric.PAGE_VIEW, AT);
+        }
+        failuresLeft.set(1);
+
+        service.flush();
+
+        assertEquals(0, committed.get()); // 부분 기록은 롤백
+        assertEquals(3, pageViews());
+
+        service.increment(TrafficMetric.PAGE_VIEW, AT);
+        service.flush();
+
+        assertEquals(4, committed.get());
+        assertEquals(4, pageViews());
+
+        service.flush();
+        assertEquals(4, committed.get());
+    }
+
+    @Test
+    void testInFlightBatchStaysVisibleUntilCommit() {
+        service.increment(TrafficMetric.PAGE_VIEW, AT);
+        service.increment(TrafficMetric.PAGE_VIEW, AT);
+        List<Long> seenDuringWrite = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            seenDuringWrite.add(pageViews());
+            List<Object[]> rows = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                if ("DAY".equals(row[0])) {
+                    staged.add((Long) row[3]);
+                }
+            }
+            return new int[rows.size()];
+        });
+
+        service.flush();
+
+        assertEquals(List.of(2L), seenDuringWrite);
+        assertEquals(2, pageViews());
+    }
+
+    private long pageViews() {
+        return service.sum(TrafficMetric.PAGE_VIEW, TrafficGranularity.DAY, DAY, DAY.plusDays(1));
+    }
+}